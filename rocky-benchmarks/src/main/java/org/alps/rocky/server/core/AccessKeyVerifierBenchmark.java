@@ -0,0 +1,51 @@
+package org.alps.rocky.server.core;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 访问密钥验证吞吐量，对比每次计算签名和命中缓存两种情况
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class AccessKeyVerifierBenchmark {
+
+    private static final String NAMESPACE = "game";
+
+    private AccessKeyVerifier verifier;
+    private Map<String, SecretKeySpec> keys;
+    private String accessKey;
+
+    @Setup
+    public void setup() {
+        var secrets = Map.of("k1", "8d1f0c6e2b7a4f9d", "k2", "5e3a9b1c7d2f4e6a");
+        verifier = new AccessKeyVerifier(secrets, null, 10000, Duration.ofSeconds(30));
+        keys = Map.of("k1", AccessKeyVerifier.secretKey("8d1f0c6e2b7a4f9d"),
+                "k2", AccessKeyVerifier.secretKey("5e3a9b1c7d2f4e6a"));
+        accessKey = AccessKeyVerifier.sign("k2", "5e3a9b1c7d2f4e6a", NAMESPACE, 0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        verifier.close();
+    }
+
+    @Benchmark
+    public long verifySignature() {
+        return AccessKeyVerifier.verifySignature(keys, NAMESPACE, accessKey, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public boolean verifyCached() {
+        return verifier.verify(NAMESPACE, accessKey);
+    }
+}
@@ -0,0 +1,61 @@
+package org.alps.rocky.server.core;
+
+import org.alps.core.AlpsSession;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 路由帧从分发到处理器执行的耗时，每次操作向每个session提交64帧并等待全部执行完成
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatcherBenchmark {
+
+    private static final int FRAMES_PER_SESSION = 64;
+
+    /**
+     * 同时发送帧的session数
+     */
+    @Param({"1", "100", "1000"})
+    private int sessions;
+
+    private SessionMailboxDispatcher dispatcher;
+    private AlpsSession[] sessionArray;
+
+    @Setup
+    public void setup() {
+        dispatcher = new SessionMailboxDispatcher(Runtime.getRuntime().availableProcessors(), 256, 32,
+                MailboxOverflowPolicy.DISCARD_NEWEST);
+        sessionArray = new AlpsSession[sessions];
+        for (int i = 0; i < sessions; i++) {
+            sessionArray[i] = Mockito.mock(AlpsSession.class);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.close();
+    }
+
+    @Benchmark
+    public void dispatch(Blackhole blackhole) throws InterruptedException {
+        var latch = new CountDownLatch(sessions * FRAMES_PER_SESSION);
+        for (int i = 0; i < FRAMES_PER_SESSION; i++) {
+            for (AlpsSession session : sessionArray) {
+                dispatcher.dispatch(session, () -> {
+                    blackhole.consume(session);
+                    latch.countDown();
+                });
+            }
+        }
+        latch.await();
+    }
+}
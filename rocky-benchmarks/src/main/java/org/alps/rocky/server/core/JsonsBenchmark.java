@@ -0,0 +1,56 @@
+package org.alps.rocky.server.core;
+
+import org.alps.rocky.server.common.Jsons;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 注册中心节点数据的Jackson序列化
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonsBenchmark {
+
+    /**
+     * 上报数据的条数
+     */
+    @Param({"0", "16"})
+    private int extraSize;
+
+    private RegisterModuleInfo info;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() throws Exception {
+        Map<String, String> extra = new HashMap<>();
+        for (int i = 0; i < extraSize; i++) {
+            extra.put("key" + i, "value" + i);
+        }
+        info = new RegisterModuleInfo("game", "User",
+                new InstanceInfo("prod", "3f6d2a4e-6c1b-4f0e-9a51-2c4d8e7b9a10", "10.0.12.34", 7788, true),
+                extra, true);
+        bytes = Jsons.MAPPER.writeValueAsBytes(info);
+    }
+
+    @Benchmark
+    public byte[] write() throws Exception {
+        return Jsons.MAPPER.writeValueAsBytes(info);
+    }
+
+    @Benchmark
+    public RegisterModuleInfo read() throws Exception {
+        return Jsons.MAPPER.readValue(bytes, RegisterModuleInfo.class);
+    }
+
+    @Benchmark
+    public RegisterModuleInfo roundTrip() throws Exception {
+        return Jsons.MAPPER.readValue(Jsons.MAPPER.writeValueAsBytes(info), RegisterModuleInfo.class);
+    }
+}
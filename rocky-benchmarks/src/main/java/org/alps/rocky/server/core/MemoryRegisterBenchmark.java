@@ -0,0 +1,79 @@
+package org.alps.rocky.server.core;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.alps.rocky.server.config.RockyServerProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 内存注册中心的写入，包括追加变更日志
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoryRegisterBenchmark {
+
+    /**
+     * 已注册的实例数
+     */
+    @Param({"1000"})
+    private int instances;
+
+    private Path dir;
+    private MemoryRegister register;
+    private SuspectInstances suspects;
+    private RegisterInstanceInfo info;
+    private Map<String, String> extra;
+    private int next;
+
+    @Setup
+    public void setup() throws Exception {
+        dir = Files.createTempDirectory("rocky-registry");
+        var properties = new RockyServerProperties();
+        properties.getRegister().setDataDir(dir.toString());
+        var metrics = new RoutingMetrics(new SimpleMeterRegistry());
+        suspects = new SuspectInstances(Duration.ofHours(1));
+        register = new MemoryRegister(properties, new ModuleNotification(metrics), metrics, suspects);
+        for (int i = 0; i < instances; i++) {
+            register.registerInstance(instance(String.valueOf(i))).join();
+        }
+        info = instance("benchmark");
+        extra = Map.of("online", "100", "load", "0.5");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        register.close();
+        suspects.close();
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(e -> e.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void registerAndRemove() {
+        register.registerInstance(info).join();
+        register.removeInstance("game", "benchmark").join();
+    }
+
+    @Benchmark
+    public void updateInstance() {
+        register.updateInstance("game", String.valueOf(next++ % instances), extra, true).join();
+    }
+
+    private static RegisterInstanceInfo instance(String id) {
+        return new RegisterInstanceInfo("game", new InstanceInfo("prod", id, "10.0.12.34", 7788, false),
+                List.of("User", "Order"), Map.of());
+    }
+}
@@ -0,0 +1,56 @@
+package org.alps.rocky.server.core;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 注册中心实例节点数据的编解码，对比protobuf和JSON
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModuleNodeCodecBenchmark {
+
+    @Param({"PROTOBUF", "JSON"})
+    private NodeFormat format;
+
+    /**
+     * 上报数据的条数
+     */
+    @Param({"0", "16"})
+    private int extraSize;
+
+    private ModuleNodeCodec codec;
+    private InstanceState info;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() throws Exception {
+        Map<String, String> extra = new HashMap<>();
+        for (int i = 0; i < extraSize; i++) {
+            extra.put("key" + i, "value" + i);
+        }
+        info = new InstanceState("game",
+                new InstanceInfo("prod", "3f6d2a4e-6c1b-4f0e-9a51-2c4d8e7b9a10", "10.0.12.34", 7788, true),
+                List.of("User", "Order"), extra, true);
+        codec = new ModuleNodeCodec(format);
+        bytes = codec.encode(info);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return codec.encode(info);
+    }
+
+    @Benchmark
+    public InstanceState decode() throws Exception {
+        return ModuleNodeCodec.decode(bytes);
+    }
+}
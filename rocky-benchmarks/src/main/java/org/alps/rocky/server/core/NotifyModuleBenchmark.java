@@ -0,0 +1,79 @@
+package org.alps.rocky.server.core;
+
+import org.alps.rocky.core.proto.RoutingCommon;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 模块变化推送时构建protobuf消息的开销，增量为一个实例状态变化时的全量对比和增量构建
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotifyModuleBenchmark {
+
+    /**
+     * 模块的实例数
+     */
+    @Param({"10", "100", "1000", "10000"})
+    private int instances;
+
+    private ModuleNotifyInfo info;
+    private ModuleNotifyInfo flipped;
+    /**
+     * 只应用一次的模块，用来构建全量
+     */
+    private ModuleState fullState;
+    private ModuleState state;
+    private boolean flip;
+
+    @Setup
+    public void setup() {
+        List<InstanceInfo> list = new ArrayList<>(instances);
+        for (int i = 0; i < instances; i++) {
+            list.add(new InstanceInfo("prod", "instance-" + i, "10.0." + (i >> 8 & 0xff) + "." + (i & 0xff),
+                    7000 + i % 1000, i % 2 == 0));
+        }
+        info = new ModuleNotifyInfo("game", "User", List.copyOf(list), OpsType.Modify);
+        var first = list.get(0);
+        list.set(0, new InstanceInfo(first.profile(), first.instanceId(), first.ip(), first.port(), !first.active()));
+        flipped = new ModuleNotifyInfo("game", "User", List.copyOf(list), OpsType.Modify);
+        fullState = new ModuleState("game", "User", 32);
+        fullState.apply(info);
+        state = new ModuleState("game", "User", 32);
+        state.apply(info);
+    }
+
+    @Benchmark
+    public Object buildModuleInfo() {
+        return fullState.full();
+    }
+
+    @Benchmark
+    public Object buildAndSerialize() {
+        return fullState.full().toByteString();
+    }
+
+    @Benchmark
+    public Object serializeRoutingFrame() {
+        return RoutingPackets.routingFrame(RoutingCommon.FrameType.S_ChangeService, fullState.full());
+    }
+
+    @Benchmark
+    public Object serializeAndDeflate() {
+        return RoutingPackets.deflate(fullState.full().toByteArray());
+    }
+
+    @Benchmark
+    public Object applyAndSerializeDelta() {
+        flip = !flip;
+        state.apply(flip ? flipped : info);
+        return state.delta(state.revision() - 1).toByteString();
+    }
+}
@@ -0,0 +1,33 @@
+package org.alps.rocky.server.core;
+
+import org.alps.rocky.server.common.PathUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 拼接Zookeeper节点路径
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathUtilsBenchmark {
+
+    private String root = "/rocky/infos/modules";
+    private String namespace = "game";
+    private String module = "User";
+    private String instanceId = "3f6d2a4e-6c1b-4f0e-9a51-2c4d8e7b9a10";
+
+    @Benchmark
+    public String twoSegments() {
+        return PathUtils.of(root, namespace);
+    }
+
+    @Benchmark
+    public String fourSegments() {
+        return PathUtils.of(root, namespace, module, instanceId);
+    }
+}
@@ -0,0 +1,85 @@
+package org.alps.rocky.server.core;
+
+import com.google.protobuf.MessageLite;
+import org.alps.rocky.core.RawRoutingFrame;
+import org.alps.rocky.core.proto.RoutingClient;
+import org.alps.rocky.core.proto.RoutingCommon;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 路由帧解码，对比整体解析和只读取帧类型、引用帧内容两种方式
+ * <p>
+ * 使用 {@code -prof gc} 查看每帧分配的内存(gc.alloc.rate.norm)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutingFrameDecodeBenchmark {
+
+    /**
+     * 上报数据的条数
+     */
+    @Param({"0", "16", "128"})
+    private int msgSize;
+
+    private byte[] connectFrame;
+    private byte[] healthFrame;
+
+    @Setup
+    public void setup() {
+        var serviceInfo = RoutingClient.ServiceInfo.newBuilder()
+                .setNamespace("game")
+                .setProfile("prod")
+                .setInstanceId("3f6d2a4e-6c1b-4f0e-9a51-2c4d8e7b9a10")
+                .setIp("10.0.12.34")
+                .setPort(7788)
+                .setAccessKey("access-key")
+                .addModules("User")
+                .addModules("Cross")
+                .addModules("Rank");
+        var healthInfo = RoutingClient.HealthIdleInfo.newBuilder();
+        for (int i = 0; i < msgSize; i++) {
+            serviceInfo.putMsg("key" + i, "value" + i);
+            healthInfo.putMsg("key" + i, "value" + i);
+        }
+        connectFrame = frame(RoutingCommon.FrameType.C_Connect, serviceInfo.build());
+        healthFrame = frame(RoutingCommon.FrameType.C_HealthIdle, healthInfo.build());
+    }
+
+    private static byte[] frame(RoutingCommon.FrameType type, MessageLite message) {
+        return RoutingCommon.RoutingFrame.newBuilder()
+                .setType(type)
+                .setFrame(message.toByteString())
+                .build()
+                .toByteArray();
+    }
+
+    @Benchmark
+    public Object connectParseFrame() throws Exception {
+        var routingFrame = RoutingCommon.RoutingFrame.parseFrom(connectFrame);
+        return RoutingClient.ServiceInfo.parseFrom(routingFrame.getFrame());
+    }
+
+    @Benchmark
+    public Object connectRawFrame() throws Exception {
+        var routingFrame = RawRoutingFrame.parse(connectFrame);
+        return RoutingClient.ServiceInfo.parseFrom(routingFrame.payload());
+    }
+
+    @Benchmark
+    public Object healthParseFrame() throws Exception {
+        var routingFrame = RoutingCommon.RoutingFrame.parseFrom(healthFrame);
+        return RoutingClient.HealthIdleInfo.parseFrom(routingFrame.getFrame());
+    }
+
+    @Benchmark
+    public Object healthRawFrame() throws Exception {
+        var routingFrame = RawRoutingFrame.parse(healthFrame);
+        return RoutingClient.HealthIdleInfo.parseFrom(routingFrame.payload());
+    }
+}
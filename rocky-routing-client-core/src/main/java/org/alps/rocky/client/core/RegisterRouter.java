@@ -2,7 +2,16 @@ package org.alps.rocky.client.core;
 
 /**
  * 可用的注册中心
+ *
+ * @param sessions    连接到路由的实例数，旧版本路由不返回时为0
+ * @param utilization 路由事件循环线程的利用率，0到1
  */
-public record RegisterRouter(String ip, int port) {
+public record RegisterRouter(String ip, int port, int sessions, double utilization) {
 
+    /**
+     * @return 负载，连接数按利用率加权，利用率高的路由即使连接少也会被避开
+     */
+    double load() {
+        return (sessions + 1) * (1 + utilization);
+    }
 }
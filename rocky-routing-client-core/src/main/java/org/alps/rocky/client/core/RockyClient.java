@@ -1,6 +1,7 @@
 package org.alps.rocky.client.core;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.protobuf.ByteString;
 import io.netty.channel.nio.NioEventLoopGroup;
@@ -16,17 +17,23 @@ import org.alps.core.support.AlpsDataBuilder;
 import org.alps.core.support.AlpsMetadataBuilder;
 import org.alps.rocky.core.proto.RoutingClient;
 import org.alps.rocky.core.proto.RoutingCommon;
+import org.alps.rocky.core.proto.RoutingErrors;
+import org.alps.rocky.core.proto.RoutingServer;
 import reactor.core.publisher.Mono;
 
 import java.net.Inet4Address;
 import java.net.URI;
+import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -35,12 +42,17 @@ public class RockyClient {
 
     private final AtomicBoolean active = new AtomicBoolean(false);
     private final FrameListeners frameListeners;
+    private final RockyClientFrameListener frameListener;
     private final String namespace;
     private final String profile;
     private final String instanceId;
     private final int port;
     private final String accessKey;
     private final List<String> supportModules;
+    /**
+     * 订阅的模块，重连时重新发送
+     */
+    private final Set<String> subscriptions = ConcurrentHashMap.newKeySet();
     private AlpsClient client;
     private AlpsSession session;
     private final ScheduledExecutorService healthThread = Executors.newSingleThreadScheduledExecutor();
@@ -48,12 +60,29 @@ public class RockyClient {
     private final RockyModules rockyModules;
     private final AlpsProtobufDataCoder protobufDataCoder = new AlpsProtobufDataCoder();
     private final CountDownLatch countDownLatch = new CountDownLatch(1);
+    private final RockyClientOptions options;
+    /**
+     * 等待合并发送的帧
+     */
+    private final List<RoutingCommon.RoutingFrame> pendingFrames = new ArrayList<>();
+    private boolean flushScheduled;
 
     /**
      * @param routersUrl 路由查询地址
      */
     public RockyClient(String routersUrl, String namespace, String profile,
                        List<String> supportModules, int port, String accessKey, String instanceId) {
+        this(routersUrl, namespace, profile, supportModules, port, accessKey, instanceId, new RockyClientOptions());
+    }
+
+    /**
+     * @param routersUrl 路由查询地址
+     * @param options    可选配置
+     */
+    public RockyClient(String routersUrl, String namespace, String profile,
+                       List<String> supportModules, int port, String accessKey, String instanceId,
+                       RockyClientOptions options) {
+        this.options = options;
         this.frameListeners = new FrameListeners(new RouterDispatcher());
         this.instanceId = instanceId == null ? UUID.randomUUID().toString() : instanceId;
         this.profile = profile;
@@ -62,8 +91,15 @@ public class RockyClient {
         this.namespace = namespace;
         this.supportModules = supportModules;
         this.rockyModules = new RockyModules(this.instanceId);
+        if (options.getSubscriptions() != null) {
+            subscriptions.addAll(options.getSubscriptions());
+        }
+        if (options.isSubscribeOnDemand()) {
+            rockyModules.subscribeOnDemand(this::subscribe, options.getSubscribeTimeout());
+        }
+        this.frameListener = new RockyClientFrameListener(rockyModules, this::onError, this::sendMsg);
+        this.frameListeners.addFrameListener(frameListener);
         start(routersUrl);
-        this.frameListeners.addFrameListener(new RockyClientFrameListener(rockyModules));
     }
 
     void start(String routerUrl) {
@@ -81,8 +117,31 @@ public class RockyClient {
         }).block();
     }
 
+    /**
+     * 处理路由返回的错误
+     */
+    void onError(RoutingServer.ErrorInfo errorInfo) {
+        if (errorInfo.getCode() == RoutingErrors.Code.CONNECT_RETRY_LATER) {
+            // 加上随机延迟，避免被拒绝的客户端同时重试
+            long retryAfter = Math.max(0, errorInfo.getRetryAfterMillis());
+            long delay = retryAfter + ThreadLocalRandom.current().nextLong(retryAfter / 5 + 1);
+            log.warn("router is busy, reconnect after {}ms", delay);
+            healthThread.schedule(() -> {
+                try {
+                    sendConnectMsg();
+                } catch (Exception e) {
+                    log.error("resend connect message error", e);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+            return;
+        }
+        log.error("router return an error. {}", errorInfo.getCode());
+    }
+
     public void close() {
+        flush();
         healthThread.shutdown();
+        frameListener.close();
         client.close();
         countDownLatch.countDown();
     }
@@ -90,10 +149,10 @@ public class RockyClient {
     /**
      * 查询路由地址
      *
-     * @return 所有可用注册地址
+     * @return 命名空间可用的路由地址
      */
     Mono<List<RegisterRouter>> queryRouters(String routerUrl) {
-        String url = routerUrl + "/rocky/routers";
+        String url = routerUrl + "/rocky/routers?load=true&namespace=" + URLEncoder.encode(namespace, StandardCharsets.UTF_8);
         HttpRequest request = HttpRequest.newBuilder()
                 .uri(URI.create(url))
                 .GET()
@@ -104,7 +163,8 @@ public class RockyClient {
                         sink.error(new IllegalStateException("查询路由地址错误"));
                         return;
                     }
-                    var objectMapper = new ObjectMapper();
+                    var objectMapper = new ObjectMapper()
+                            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
                     try {
                         var routers = objectMapper.readValue(response.body(), new TypeReference<ArrayList<RegisterRouter>>() {
                         });
@@ -116,12 +176,25 @@ public class RockyClient {
 
     }
 
+    /**
+     * 随机选择两个路由，连接负载较低的一个，避免所有实例同时涌向负载最低的路由
+     */
     RegisterRouter selectRouter(List<RegisterRouter> routers) {
         if (routers.isEmpty()) {
             throw new IllegalStateException("没有路由可以使用");
         }
-        var random = new Random();
-        return routers.get(random.nextInt() % routers.size());
+        if (routers.size() == 1) {
+            return routers.get(0);
+        }
+        var random = ThreadLocalRandom.current();
+        int first = random.nextInt(routers.size());
+        int second = random.nextInt(routers.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        var a = routers.get(first);
+        var b = routers.get(second);
+        return b.load() < a.load() ? b : a;
     }
 
     void connectRouter(RegisterRouter router) {
@@ -156,15 +229,71 @@ public class RockyClient {
                 .setPort(port)
                 .setAccessKey(accessKey)
                 .addAllModules(supportModules)
+                .setSubscribe(options.getSubscriptions() != null || options.isSubscribeOnDemand())
+                .addAllSubscriptions(subscriptions)
+                .setCompression(options.isCompression())
                 .build();
         sendMsg(RoutingCommon.FrameType.C_Connect, serviceInfo.toByteString());
     }
 
+    /**
+     * 订阅模块，路由推送模块当前的全量信息
+     */
+    void subscribe(String moduleName) {
+        if (subscriptions.add(moduleName)) {
+            sendMsg(RoutingCommon.FrameType.C_Subscribe, RoutingClient.SubscribeInfo.newBuilder()
+                    .addModuleNames(moduleName)
+                    .build()
+                    .toByteString());
+        }
+    }
+
     private void sendMsg(RoutingCommon.FrameType type, ByteString bytes) {
         var routingFrame = RoutingCommon.RoutingFrame.newBuilder()
                 .setType(type)
                 .setFrame(bytes)
                 .build();
+        var batchWindow = options.getBatchWindow();
+        if (batchWindow == null || batchWindow.isZero()) {
+            send(routingFrame);
+            return;
+        }
+        synchronized (pendingFrames) {
+            pendingFrames.add(routingFrame);
+            if (!flushScheduled) {
+                flushScheduled = true;
+                healthThread.schedule(this::flush, batchWindow.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * 发送等待中的帧，多个帧合并为一个批量帧
+     */
+    void flush() {
+        List<RoutingCommon.RoutingFrame> frames;
+        synchronized (pendingFrames) {
+            frames = new ArrayList<>(pendingFrames);
+            pendingFrames.clear();
+            flushScheduled = false;
+        }
+        if (frames.isEmpty()) {
+            return;
+        }
+        if (frames.size() == 1) {
+            send(frames.get(0));
+            return;
+        }
+        var batchInfo = RoutingClient.BatchInfo.newBuilder()
+                .addAllFrames(frames)
+                .build();
+        send(RoutingCommon.RoutingFrame.newBuilder()
+                .setType(RoutingCommon.FrameType.C_Batch)
+                .setFrame(batchInfo.toByteString())
+                .build());
+    }
+
+    private void send(RoutingCommon.RoutingFrame routingFrame) {
         byte[] frameBytes = RoutingFrame.toBytes(routingFrame.toByteArray());
         var alpsMetadata = new AlpsMetadataBuilder()
                 .frameType((byte) AlpsProtocol.AlpsPacket.FrameType.ROUTING_VALUE)
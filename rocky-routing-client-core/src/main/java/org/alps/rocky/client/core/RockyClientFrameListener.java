@@ -1,49 +1,102 @@
 package org.alps.rocky.client.core;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.MessageLite;
 import lombok.extern.slf4j.Slf4j;
 import org.alps.core.AlpsSession;
 import org.alps.core.Frame;
 import org.alps.core.FrameListener;
 import org.alps.core.frame.RoutingFrame;
+import org.alps.rocky.core.RawRoutingFrame;
+import org.alps.rocky.core.proto.RoutingClient;
 import org.alps.rocky.core.proto.RoutingCommon;
 import org.alps.rocky.core.proto.RoutingServer;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 @Slf4j
 public class RockyClientFrameListener implements FrameListener {
-    private final Map<RoutingCommon.FrameType, RouterFrameHandler<? extends MessageLite>> handlers;
+    /**
+     * 按帧类型编号索引的处理器
+     */
+    private final RouterFrameHandler<?>[] handlers;
+    /**
+     * 按到达顺序处理，增量推送依赖之前的版本已经应用
+     */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("rocky-client-frame").factory());
 
-    RockyClientFrameListener(RockyModules rockyClients) {
-        this.handlers = Map.of(
-                RoutingCommon.FrameType.S_ChangeService, new UpdateInfoRouterFrameHandler(rockyClients)
-        );
+    /**
+     * @param sender 向路由发送确认和全量请求
+     */
+    RockyClientFrameListener(RockyModules rockyClients, Consumer<RoutingServer.ErrorInfo> errorListener,
+                             BiConsumer<RoutingCommon.FrameType, ByteString> sender) {
+        this.handlers = handlerTable(Map.of(
+                RoutingCommon.FrameType.S_ChangeService, new UpdateInfoRouterFrameHandler(rockyClients, sender, false),
+                RoutingCommon.FrameType.S_ChangeServiceDeflate, new UpdateInfoRouterFrameHandler(rockyClients, sender, true),
+                RoutingCommon.FrameType.S_Error, new ErrorRouterFrameHandler(errorListener)
+        ));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public void listen(AlpsSession session, Frame frame) {
-        Thread.startVirtualThread(() -> {
+        executor.execute(() -> {
             var rFrame = (RoutingFrame) frame;
             var data = rFrame.frameData();
             if (data == null) {
                 return;
             }
             try {
-                var routingFrame = RoutingCommon.RoutingFrame.parseFrom(data);
-                if (!handlers.containsKey(routingFrame.getType())) {
-                    log.error("router receive an unknown frame type. {}", routingFrame.getType());
+                var routingFrame = RawRoutingFrame.parse(data);
+                var routerFrameHandler = handler(routingFrame.type());
+                if (routerFrameHandler == null) {
+                    log.error("router receive an unknown frame type. {}", routingFrame.type());
                     return;
                 }
-                var routerFrameHandler = (RouterFrameHandler<MessageLite>) handlers.get(routingFrame.getType());
-                routerFrameHandler.handle(session, routerFrameHandler.decode(routingFrame.getFrame()));
+                routerFrameHandler.handle(session, routerFrameHandler.decode(routingFrame.payload()));
             } catch (Exception ex) {
                 log.error("router receive error", ex);
             }
         });
     }
+
+    /**
+     * 处理完已经收到的帧后释放处理器的资源
+     */
+    void close() {
+        executor.execute(() -> {
+            for (RouterFrameHandler<?> handler : handlers) {
+                if (handler != null) {
+                    handler.close();
+                }
+            }
+        });
+        executor.shutdown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private RouterFrameHandler<MessageLite> handler(int type) {
+        if (type < 0 || type >= handlers.length) {
+            return null;
+        }
+        return (RouterFrameHandler<MessageLite>) handlers[type];
+    }
+
+    private static RouterFrameHandler<?>[] handlerTable(Map<RoutingCommon.FrameType, RouterFrameHandler<?>> handlers) {
+        int max = handlers.keySet().stream().mapToInt(RoutingCommon.FrameType::getNumber).max().orElse(-1);
+        var table = new RouterFrameHandler<?>[max + 1];
+        handlers.forEach((type, handler) -> table[type.getNumber()] = handler);
+        return table;
+    }
 }
 
 interface RouterFrameHandler<T extends MessageLite> {
@@ -51,33 +104,112 @@ interface RouterFrameHandler<T extends MessageLite> {
     T decode(ByteString data) throws Exception;
 
     void handle(AlpsSession session, T frame) throws Exception;
+
+    default void close() {
+    }
 }
 
+@Slf4j
 class UpdateInfoRouterFrameHandler implements RouterFrameHandler<RoutingServer.ModuleInfo> {
 
+    /**
+     * 解压后的模块信息最大字节数
+     */
+    static final int MAX_INFLATED_SIZE = 16 * 1024 * 1024;
+
     private final RockyModules rockyClients;
+    private final BiConsumer<RoutingCommon.FrameType, ByteString> sender;
+    private final boolean compressed;
+    /**
+     * 帧在单个线程上按顺序解码，复用同一个解压器
+     */
+    private final Inflater inflater = new Inflater();
 
-    UpdateInfoRouterFrameHandler(RockyModules rockyClients) {
+    /**
+     * @param compressed 帧内容是否为Deflate压缩的模块信息
+     */
+    UpdateInfoRouterFrameHandler(RockyModules rockyClients, BiConsumer<RoutingCommon.FrameType, ByteString> sender,
+                                 boolean compressed) {
         this.rockyClients = rockyClients;
+        this.sender = sender;
+        this.compressed = compressed;
     }
 
 
     @Override
     public RoutingServer.ModuleInfo decode(ByteString data) throws Exception {
+        if (compressed) {
+            inflater.reset();
+            var input = CodedInputStream.newInstance(new InflaterInputStream(data.newInput(), inflater));
+            // 超过上限时抛出异常，不会无限解压
+            input.setSizeLimit(MAX_INFLATED_SIZE);
+            return RoutingServer.ModuleInfo.parseFrom(input);
+        }
         return RoutingServer.ModuleInfo.parseFrom(data);
     }
 
+    /**
+     * 应用后确认版本，增量的版本不连续时请求全量
+     */
     @Override
     public void handle(AlpsSession session, RoutingServer.ModuleInfo frame) throws Exception {
         if (frame.getType() == RoutingServer.OpsType.Delete) {
             rockyClients.unregisterModule(frame.getModuleName());
+        } else if (frame.getDelta()) {
+            List<InstanceInfo> changed = new ArrayList<>();
+            frame.getAddedList().forEach(e -> changed.add(instance(e)));
+            frame.getUpdatedList().forEach(e -> changed.add(instance(e)));
+            if (!rockyClients.applyDelta(frame.getModuleName(), frame.getBaseRevision(), frame.getRevision(), changed,
+                    frame.getRemovedList())) {
+                log.warn("module revision gap, resync. {} {}", frame.getModuleName(), frame.getBaseRevision());
+                sender.accept(RoutingCommon.FrameType.C_Resync, RoutingClient.ResyncInfo.newBuilder()
+                        .addModuleNames(frame.getModuleName())
+                        .build()
+                        .toByteString());
+                return;
+            }
         } else {
             var list = frame.getInstancesList()
                     .stream()
-                    .map(e -> new InstanceInfo(e.getProfile(), e.getInstanceId(), e.getIp(), e.getPort(), e.getActive()))
+                    .map(UpdateInfoRouterFrameHandler::instance)
                     .toList();
-            rockyClients.registerModule(frame.getModuleName(), list);
+            rockyClients.registerModule(frame.getModuleName(), list, frame.getRevision());
+        }
+        // 旧版本的路由不返回版本，也不支持确认
+        if (frame.getRevision() > 0) {
+            sender.accept(RoutingCommon.FrameType.C_Ack, RoutingClient.ModuleAck.newBuilder()
+                    .setModuleName(frame.getModuleName())
+                    .setRevision(frame.getRevision())
+                    .build()
+                    .toByteString());
         }
+    }
+
+    @Override
+    public void close() {
+        inflater.end();
+    }
+
+    private static InstanceInfo instance(RoutingServer.InstanceInfo info) {
+        return new InstanceInfo(info.getProfile(), info.getInstanceId(), info.getIp(), info.getPort(), info.getActive());
+    }
+}
 
+class ErrorRouterFrameHandler implements RouterFrameHandler<RoutingServer.ErrorInfo> {
+
+    private final Consumer<RoutingServer.ErrorInfo> errorListener;
+
+    ErrorRouterFrameHandler(Consumer<RoutingServer.ErrorInfo> errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    @Override
+    public RoutingServer.ErrorInfo decode(ByteString data) throws Exception {
+        return RoutingServer.ErrorInfo.parseFrom(data);
+    }
+
+    @Override
+    public void handle(AlpsSession session, RoutingServer.ErrorInfo frame) throws Exception {
+        errorListener.accept(frame);
     }
 }
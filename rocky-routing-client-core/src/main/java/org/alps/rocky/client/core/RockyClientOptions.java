@@ -0,0 +1,34 @@
+package org.alps.rocky.client.core;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 客户端可选配置
+ */
+@Data
+public class RockyClientOptions {
+
+    /**
+     * 合并发送的等待时间，窗口内的操作合并为一个批量帧发送，为0时立即发送
+     */
+    private Duration batchWindow = Duration.ofMillis(20);
+    /**
+     * 订阅的模块，路由只推送订阅的模块。为空并且不按需订阅时接收命名空间的所有模块
+     */
+    private List<String> subscriptions;
+    /**
+     * 第一次查询没有订阅的模块时订阅
+     */
+    private boolean subscribeOnDemand;
+    /**
+     * 按需订阅时等待路由推送模块的时间
+     */
+    private Duration subscribeTimeout = Duration.ofSeconds(3);
+    /**
+     * 是否接收压缩的模块推送，路由只压缩超过阈值的模块
+     */
+    private boolean compression = true;
+}
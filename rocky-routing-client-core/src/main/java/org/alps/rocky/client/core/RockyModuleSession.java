@@ -24,10 +24,15 @@ public class RockyModuleSession {
     private final StampedLock stampedLock = new StampedLock();
 
     private final AtomicReference<Client> tempClient = new AtomicReference<>(null);
+    /**
+     * 已应用的模块版本，旧版本路由不返回版本时为0
+     */
+    private long revision;
 
-    RockyModuleSession(String moduleName, String instanceId, List<InstanceInfo> infos) {
+    RockyModuleSession(String moduleName, String instanceId, List<InstanceInfo> infos, long revision) {
         this.moduleName = moduleName;
         this.instanceId = instanceId;
+        this.revision = revision;
         var writeLock = stampedLock.writeLock();
         try {
             for (InstanceInfo info : infos) {
@@ -38,9 +43,10 @@ public class RockyModuleSession {
         }
     }
 
-    void update(List<InstanceInfo> infos) {
+    void update(List<InstanceInfo> infos, long revision) {
         var writeLock = stampedLock.writeLock();
         try {
+            this.revision = revision;
             var collect = new HashSet<>(clients.keySet());
             for (InstanceInfo info : infos) {
                 if (clients.containsKey(info.instanceId())) {
@@ -63,6 +69,43 @@ public class RockyModuleSession {
         }
     }
 
+    /**
+     * 应用增量，当前版本早于基准版本时不应用
+     *
+     * @param changed 新增和修改的实例
+     * @param removed 删除的实例ID
+     * @return 版本是否连续，不连续时需要请求全量
+     */
+    boolean apply(long baseRevision, long revision, List<InstanceInfo> changed, List<String> removed) {
+        var writeLock = stampedLock.writeLock();
+        try {
+            if (this.revision < baseRevision) {
+                return false;
+            }
+            if (this.revision >= revision) {
+                return true;
+            }
+            this.revision = revision;
+            for (InstanceInfo info : changed) {
+                var client = clients.get(info.instanceId());
+                if (client == null) {
+                    clients.put(info.instanceId(), new Client(info, moduleName));
+                } else {
+                    client.update(info);
+                }
+            }
+            for (String id : removed) {
+                var client = clients.get(id);
+                if (client != null) {
+                    client.inactive();
+                }
+            }
+            return true;
+        } finally {
+            stampedLock.unlockWrite(writeLock);
+        }
+    }
+
     /**
      * @return 返回一个客户端
      */
@@ -1,7 +1,14 @@
 package org.alps.rocky.client.core;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
 
 /**
  * 所有可连接的服务器信息
@@ -12,25 +19,53 @@ public class RockyModules {
     private final StampedLock stampedLock = new StampedLock();
 
     private Map<String, RockyModuleSession> modules = new HashMap<>();
+    /**
+     * 按需订阅后等待路由推送的模块
+     */
+    private final Map<String, CompletableFuture<RockyModuleSession>> pending = new ConcurrentHashMap<>();
+    /**
+     * 已经订阅但是没有实例的模块，再次请求时不再等待，模块出现后路由会推送
+     */
+    private final Set<String> absent = ConcurrentHashMap.newKeySet();
+    private Consumer<String> subscriber;
+    private long subscribeTimeoutMillis;
 
     RockyModules(String instanceId) {
         this.instanceId = instanceId;
     }
 
+    /**
+     * 开启按需订阅
+     *
+     * @param subscriber 向路由订阅模块
+     * @param timeout    等待路由推送模块的时间
+     */
+    void subscribeOnDemand(Consumer<String> subscriber, Duration timeout) {
+        this.subscriber = subscriber;
+        this.subscribeTimeoutMillis = timeout.toMillis();
+    }
+
     /**
      * 注册模块
      *
      * @param moduleName 模块
      * @param instances  实例
+     * @param revision   模块版本
      */
-    void registerModule(String moduleName, List<InstanceInfo> instances) {
+    void registerModule(String moduleName, List<InstanceInfo> instances, long revision) {
         var writeLock = stampedLock.writeLock();
         try {
             if (!modules.containsKey(moduleName)) {
-                modules.put(moduleName, new RockyModuleSession(moduleName, instanceId, instances));
+                var session = new RockyModuleSession(moduleName, instanceId, instances, revision);
+                modules.put(moduleName, session);
+                absent.remove(moduleName);
+                var future = pending.remove(moduleName);
+                if (future != null) {
+                    future.complete(session);
+                }
             } else {
                 var moduleInfo = modules.get(moduleName);
-                moduleInfo.update(instances);
+                moduleInfo.update(instances, revision);
             }
         } finally {
             stampedLock.unlockWrite(writeLock);
@@ -42,7 +77,12 @@ public class RockyModules {
         try {
             var rockyModuleSession = modules.remove(moduleName);
             if (rockyModuleSession != null) {
-                rockyModuleSession.update(Collections.emptyList());
+                rockyModuleSession.update(Collections.emptyList(), 0);
+            }
+            absent.add(moduleName);
+            var future = pending.remove(moduleName);
+            if (future != null) {
+                future.complete(null);
             }
         } finally {
             stampedLock.unlockWrite(writeLock);
@@ -50,11 +90,53 @@ public class RockyModules {
     }
 
     /**
-     * 请求其他模块
+     * 应用模块的增量
+     *
+     * @return 版本是否连续，没有模块或者不连续时需要请求全量
+     */
+    boolean applyDelta(String moduleName, long baseRevision, long revision, List<InstanceInfo> changed,
+                       List<String> removed) {
+        var session = modules.get(moduleName);
+        return session != null && session.apply(baseRevision, revision, changed, removed);
+    }
+
+    /**
+     * 请求其他模块，开启按需订阅时没有的模块先订阅，等待路由推送。
+     * 路由回复模块没有实例或者等待超时后记录，之后不再等待
      */
     public RockyModuleSession module(String moduleName) {
-        return Optional.ofNullable(modules.get(moduleName))
-                .orElseThrow(() -> new IllegalArgumentException("不存在对应模块" + moduleName));
+        var session = modules.get(moduleName);
+        if (session != null) {
+            return session;
+        }
+        if (subscriber != null && !absent.contains(moduleName)) {
+            var future = new CompletableFuture<RockyModuleSession>();
+            var previous = pending.putIfAbsent(moduleName, future);
+            if (previous == null) {
+                subscriber.accept(moduleName);
+            } else {
+                future = previous;
+            }
+            // 订阅前模块可能已经推送
+            session = modules.get(moduleName);
+            if (session != null) {
+                return session;
+            }
+            try {
+                session = future.get(subscribeTimeoutMillis, TimeUnit.MILLISECONDS);
+                if (session != null) {
+                    return session;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (TimeoutException ex) {
+                absent.add(moduleName);
+                pending.remove(moduleName, future);
+                future.complete(null);
+            } catch (ExecutionException ignored) {
+            }
+        }
+        throw new IllegalArgumentException("不存在对应模块" + moduleName);
     }
 
 }
@@ -1,877 +0,0 @@
-// Generated by the protocol buffer compiler.  DO NOT EDIT!
-// source: RoutingCommon.proto
-
-package org.alps.rocky.core.proto;
-
-public final class RoutingCommon {
-    private RoutingCommon() {
-    }
-
-    public static void registerAllExtensions(
-            com.google.protobuf.ExtensionRegistryLite registry) {
-    }
-
-    public static void registerAllExtensions(
-            com.google.protobuf.ExtensionRegistry registry) {
-        registerAllExtensions(
-                (com.google.protobuf.ExtensionRegistryLite) registry);
-    }
-
-    /**
-     * Protobuf enum {@code rocky.routing.FrameType}
-     */
-    public enum FrameType
-            implements com.google.protobuf.ProtocolMessageEnum {
-        /**
-         * <pre>
-         * 上报信息
-         * </pre>
-         *
-         * <code>C_Connect = 0;</code>
-         */
-        C_Connect(0),
-        /**
-         * <pre>
-         * 心跳
-         * </pre>
-         *
-         * <code>C_HealthIdle = 1;</code>
-         */
-        C_HealthIdle(1),
-        /**
-         * <pre>
-         * 激活
-         * </pre>
-         *
-         * <code>C_Active = 2;</code>
-         */
-        C_Active(2),
-        /**
-         * <pre>
-         * 停机
-         * </pre>
-         *
-         * <code>C_Disable = 3;</code>
-         */
-        C_Disable(3),
-        /**
-         * <code>S_ChangeService = 20;</code>
-         */
-        S_ChangeService(20),
-        UNRECOGNIZED(-1),
-        ;
-
-        /**
-         * <pre>
-         * 上报信息
-         * </pre>
-         *
-         * <code>C_Connect = 0;</code>
-         */
-        public static final int C_Connect_VALUE = 0;
-        /**
-         * <pre>
-         * 心跳
-         * </pre>
-         *
-         * <code>C_HealthIdle = 1;</code>
-         */
-        public static final int C_HealthIdle_VALUE = 1;
-        /**
-         * <pre>
-         * 激活
-         * </pre>
-         *
-         * <code>C_Active = 2;</code>
-         */
-        public static final int C_Active_VALUE = 2;
-        /**
-         * <pre>
-         * 停机
-         * </pre>
-         *
-         * <code>C_Disable = 3;</code>
-         */
-        public static final int C_Disable_VALUE = 3;
-        /**
-         * <code>S_ChangeService = 20;</code>
-         */
-        public static final int S_ChangeService_VALUE = 20;
-
-
-        public final int getNumber() {
-            if (this == UNRECOGNIZED) {
-                throw new java.lang.IllegalArgumentException(
-                        "Can't get the number of an unknown enum value.");
-            }
-            return value;
-        }
-
-        /**
-         * @param value The numeric wire value of the corresponding enum entry.
-         * @return The enum associated with the given numeric wire value.
-         * @deprecated Use {@link #forNumber(int)} instead.
-         */
-        @java.lang.Deprecated
-        public static FrameType valueOf(int value) {
-            return forNumber(value);
-        }
-
-        /**
-         * @param value The numeric wire value of the corresponding enum entry.
-         * @return The enum associated with the given numeric wire value.
-         */
-        public static FrameType forNumber(int value) {
-            switch (value) {
-                case 0:
-                    return C_Connect;
-                case 1:
-                    return C_HealthIdle;
-                case 2:
-                    return C_Active;
-                case 3:
-                    return C_Disable;
-                case 20:
-                    return S_ChangeService;
-                default:
-                    return null;
-            }
-        }
-
-        public static com.google.protobuf.Internal.EnumLiteMap<FrameType>
-        internalGetValueMap() {
-            return internalValueMap;
-        }
-
-        private static final com.google.protobuf.Internal.EnumLiteMap<
-                FrameType> internalValueMap =
-                new com.google.protobuf.Internal.EnumLiteMap<FrameType>() {
-                    public FrameType findValueByNumber(int number) {
-                        return FrameType.forNumber(number);
-                    }
-                };
-
-        public final com.google.protobuf.Descriptors.EnumValueDescriptor
-        getValueDescriptor() {
-            if (this == UNRECOGNIZED) {
-                throw new java.lang.IllegalStateException(
-                        "Can't get the descriptor of an unrecognized enum value.");
-            }
-            return getDescriptor().getValues().get(ordinal());
-        }
-
-        public final com.google.protobuf.Descriptors.EnumDescriptor
-        getDescriptorForType() {
-            return getDescriptor();
-        }
-
-        public static final com.google.protobuf.Descriptors.EnumDescriptor
-        getDescriptor() {
-            return org.alps.rocky.core.proto.RoutingCommon.getDescriptor().getEnumTypes().get(0);
-        }
-
-        private static final FrameType[] VALUES = values();
-
-        public static FrameType valueOf(
-                com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
-            if (desc.getType() != getDescriptor()) {
-                throw new java.lang.IllegalArgumentException(
-                        "EnumValueDescriptor is not for this type.");
-            }
-            if (desc.getIndex() == -1) {
-                return UNRECOGNIZED;
-            }
-            return VALUES[desc.getIndex()];
-        }
-
-        private final int value;
-
-        private FrameType(int value) {
-            this.value = value;
-        }
-
-        // @@protoc_insertion_point(enum_scope:rocky.routing.FrameType)
-    }
-
-    public interface RoutingFrameOrBuilder extends
-            // @@protoc_insertion_point(interface_extends:rocky.routing.RoutingFrame)
-            com.google.protobuf.MessageOrBuilder {
-
-        /**
-         * <code>.rocky.routing.FrameType type = 1;</code>
-         *
-         * @return The enum numeric value on the wire for type.
-         */
-        int getTypeValue();
-
-        /**
-         * <code>.rocky.routing.FrameType type = 1;</code>
-         *
-         * @return The type.
-         */
-        org.alps.rocky.core.proto.RoutingCommon.FrameType getType();
-
-        /**
-         * <code>bytes frame = 2;</code>
-         *
-         * @return The frame.
-         */
-        com.google.protobuf.ByteString getFrame();
-    }
-
-    /**
-     * Protobuf type {@code rocky.routing.RoutingFrame}
-     */
-    public static final class RoutingFrame extends
-            com.google.protobuf.GeneratedMessageV3 implements
-            // @@protoc_insertion_point(message_implements:rocky.routing.RoutingFrame)
-            RoutingFrameOrBuilder {
-        private static final long serialVersionUID = 0L;
-
-        // Use RoutingFrame.newBuilder() to construct.
-        private RoutingFrame(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-            super(builder);
-        }
-
-        private RoutingFrame() {
-            type_ = 0;
-            frame_ = com.google.protobuf.ByteString.EMPTY;
-        }
-
-        @java.lang.Override
-        @SuppressWarnings({"unused"})
-        protected java.lang.Object newInstance(
-                UnusedPrivateParameter unused) {
-            return new RoutingFrame();
-        }
-
-        public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-            return org.alps.rocky.core.proto.RoutingCommon.internal_static_rocky_routing_RoutingFrame_descriptor;
-        }
-
-        @java.lang.Override
-        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-            return org.alps.rocky.core.proto.RoutingCommon.internal_static_rocky_routing_RoutingFrame_fieldAccessorTable
-                    .ensureFieldAccessorsInitialized(
-                            org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.class, org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.Builder.class);
-        }
-
-        public static final int TYPE_FIELD_NUMBER = 1;
-        private int type_ = 0;
-
-        /**
-         * <code>.rocky.routing.FrameType type = 1;</code>
-         *
-         * @return The enum numeric value on the wire for type.
-         */
-        @java.lang.Override
-        public int getTypeValue() {
-            return type_;
-        }
-
-        /**
-         * <code>.rocky.routing.FrameType type = 1;</code>
-         *
-         * @return The type.
-         */
-        @java.lang.Override
-        public org.alps.rocky.core.proto.RoutingCommon.FrameType getType() {
-            org.alps.rocky.core.proto.RoutingCommon.FrameType result = org.alps.rocky.core.proto.RoutingCommon.FrameType.forNumber(type_);
-            return result == null ? org.alps.rocky.core.proto.RoutingCommon.FrameType.UNRECOGNIZED : result;
-        }
-
-        public static final int FRAME_FIELD_NUMBER = 2;
-        private com.google.protobuf.ByteString frame_ = com.google.protobuf.ByteString.EMPTY;
-
-        /**
-         * <code>bytes frame = 2;</code>
-         *
-         * @return The frame.
-         */
-        @java.lang.Override
-        public com.google.protobuf.ByteString getFrame() {
-            return frame_;
-        }
-
-        private byte memoizedIsInitialized = -1;
-
-        @java.lang.Override
-        public final boolean isInitialized() {
-            byte isInitialized = memoizedIsInitialized;
-            if (isInitialized == 1) return true;
-            if (isInitialized == 0) return false;
-
-            memoizedIsInitialized = 1;
-            return true;
-        }
-
-        @java.lang.Override
-        public void writeTo(com.google.protobuf.CodedOutputStream output)
-                throws java.io.IOException {
-            if (type_ != org.alps.rocky.core.proto.RoutingCommon.FrameType.C_Connect.getNumber()) {
-                output.writeEnum(1, type_);
-            }
-            if (!frame_.isEmpty()) {
-                output.writeBytes(2, frame_);
-            }
-            getUnknownFields().writeTo(output);
-        }
-
-        @java.lang.Override
-        public int getSerializedSize() {
-            int size = memoizedSize;
-            if (size != -1) return size;
-
-            size = 0;
-            if (type_ != org.alps.rocky.core.proto.RoutingCommon.FrameType.C_Connect.getNumber()) {
-                size += com.google.protobuf.CodedOutputStream
-                        .computeEnumSize(1, type_);
-            }
-            if (!frame_.isEmpty()) {
-                size += com.google.protobuf.CodedOutputStream
-                        .computeBytesSize(2, frame_);
-            }
-            size += getUnknownFields().getSerializedSize();
-            memoizedSize = size;
-            return size;
-        }
-
-        @java.lang.Override
-        public boolean equals(final java.lang.Object obj) {
-            if (obj == this) {
-                return true;
-            }
-            if (!(obj instanceof org.alps.rocky.core.proto.RoutingCommon.RoutingFrame)) {
-                return super.equals(obj);
-            }
-            org.alps.rocky.core.proto.RoutingCommon.RoutingFrame other = (org.alps.rocky.core.proto.RoutingCommon.RoutingFrame) obj;
-
-            if (type_ != other.type_) return false;
-            if (!getFrame()
-                    .equals(other.getFrame())) return false;
-            if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-            return true;
-        }
-
-        @java.lang.Override
-        public int hashCode() {
-            if (memoizedHashCode != 0) {
-                return memoizedHashCode;
-            }
-            int hash = 41;
-            hash = (19 * hash) + getDescriptor().hashCode();
-            hash = (37 * hash) + TYPE_FIELD_NUMBER;
-            hash = (53 * hash) + type_;
-            hash = (37 * hash) + FRAME_FIELD_NUMBER;
-            hash = (53 * hash) + getFrame().hashCode();
-            hash = (29 * hash) + getUnknownFields().hashCode();
-            memoizedHashCode = hash;
-            return hash;
-        }
-
-        public static org.alps.rocky.core.proto.RoutingCommon.RoutingFrame parseFrom(
-                java.nio.ByteBuffer data)
-                throws com.google.protobuf.InvalidProtocolBufferException {
-            return PARSER.parseFrom(data);
-        }
-
-        public static org.alps.rocky.core.proto.RoutingCommon.RoutingFrame parseFrom(
-                java.nio.ByteBuffer data,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws com.google.protobuf.InvalidProtocolBufferException {
-            return PARSER.parseFrom(data, extensionRegistry);
-        }
-
-        public static org.alps.rocky.core.proto.RoutingCommon.RoutingFrame parseFrom(
-                com.google.protobuf.ByteString data)
-                throws com.google.protobuf.InvalidProtocolBufferException {
-            return PARSER.parseFrom(data);
-        }
-
-        public static org.alps.rocky.core.proto.RoutingCommon.RoutingFrame parseFrom(
-                com.google.protobuf.ByteString data,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws com.google.protobuf.InvalidProtocolBufferException {
-            return PARSER.parseFrom(data, extensionRegistry);
-        }
-
-        public static org.alps.rocky.core.proto.RoutingCommon.RoutingFrame parseFrom(byte[] data)
-                throws com.google.protobuf.InvalidProtocolBufferException {
-            return PARSER.parseFrom(data);
-        }
-
-        public static org.alps.rocky.core.proto.RoutingCommon.RoutingFrame parseFrom(
-                byte[] data,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws com.google.protobuf.InvalidProtocolBufferException {
-            return PARSER.parseFrom(data, extensionRegistry);
-        }
-
-        public static org.alps.rocky.core.proto.RoutingCommon.RoutingFrame parseFrom(java.io.InputStream input)
-                throws java.io.IOException {
-            return com.google.protobuf.GeneratedMessageV3
-                    .parseWithIOException(PARSER, input);
-        }
-
-        public static org.alps.rocky.core.proto.RoutingCommon.RoutingFrame parseFrom(
-                java.io.InputStream input,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws java.io.IOException {
-            return com.google.protobuf.GeneratedMessageV3
-                    .parseWithIOException(PARSER, input, extensionRegistry);
-        }
-
-        public static org.alps.rocky.core.proto.RoutingCommon.RoutingFrame parseDelimitedFrom(java.io.InputStream input)
-                throws java.io.IOException {
-            return com.google.protobuf.GeneratedMessageV3
-                    .parseDelimitedWithIOException(PARSER, input);
-        }
-
-        public static org.alps.rocky.core.proto.RoutingCommon.RoutingFrame parseDelimitedFrom(
-                java.io.InputStream input,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws java.io.IOException {
-            return com.google.protobuf.GeneratedMessageV3
-                    .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-        }
-
-        public static org.alps.rocky.core.proto.RoutingCommon.RoutingFrame parseFrom(
-                com.google.protobuf.CodedInputStream input)
-                throws java.io.IOException {
-            return com.google.protobuf.GeneratedMessageV3
-                    .parseWithIOException(PARSER, input);
-        }
-
-        public static org.alps.rocky.core.proto.RoutingCommon.RoutingFrame parseFrom(
-                com.google.protobuf.CodedInputStream input,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws java.io.IOException {
-            return com.google.protobuf.GeneratedMessageV3
-                    .parseWithIOException(PARSER, input, extensionRegistry);
-        }
-
-        @java.lang.Override
-        public Builder newBuilderForType() {
-            return newBuilder();
-        }
-
-        public static Builder newBuilder() {
-            return DEFAULT_INSTANCE.toBuilder();
-        }
-
-        public static Builder newBuilder(org.alps.rocky.core.proto.RoutingCommon.RoutingFrame prototype) {
-            return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-        }
-
-        @java.lang.Override
-        public Builder toBuilder() {
-            return this == DEFAULT_INSTANCE
-                    ? new Builder() : new Builder().mergeFrom(this);
-        }
-
-        @java.lang.Override
-        protected Builder newBuilderForType(
-                com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-            Builder builder = new Builder(parent);
-            return builder;
-        }
-
-        /**
-         * Protobuf type {@code rocky.routing.RoutingFrame}
-         */
-        public static final class Builder extends
-                com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-                // @@protoc_insertion_point(builder_implements:rocky.routing.RoutingFrame)
-                org.alps.rocky.core.proto.RoutingCommon.RoutingFrameOrBuilder {
-            public static final com.google.protobuf.Descriptors.Descriptor
-            getDescriptor() {
-                return org.alps.rocky.core.proto.RoutingCommon.internal_static_rocky_routing_RoutingFrame_descriptor;
-            }
-
-            @java.lang.Override
-            protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-            internalGetFieldAccessorTable() {
-                return org.alps.rocky.core.proto.RoutingCommon.internal_static_rocky_routing_RoutingFrame_fieldAccessorTable
-                        .ensureFieldAccessorsInitialized(
-                                org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.class, org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.Builder.class);
-            }
-
-            // Construct using org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.newBuilder()
-            private Builder() {
-
-            }
-
-            private Builder(
-                    com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-                super(parent);
-
-            }
-
-            @java.lang.Override
-            public Builder clear() {
-                super.clear();
-                bitField0_ = 0;
-                type_ = 0;
-                frame_ = com.google.protobuf.ByteString.EMPTY;
-                return this;
-            }
-
-            @java.lang.Override
-            public com.google.protobuf.Descriptors.Descriptor
-            getDescriptorForType() {
-                return org.alps.rocky.core.proto.RoutingCommon.internal_static_rocky_routing_RoutingFrame_descriptor;
-            }
-
-            @java.lang.Override
-            public org.alps.rocky.core.proto.RoutingCommon.RoutingFrame getDefaultInstanceForType() {
-                return org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.getDefaultInstance();
-            }
-
-            @java.lang.Override
-            public org.alps.rocky.core.proto.RoutingCommon.RoutingFrame build() {
-                org.alps.rocky.core.proto.RoutingCommon.RoutingFrame result = buildPartial();
-                if (!result.isInitialized()) {
-                    throw newUninitializedMessageException(result);
-                }
-                return result;
-            }
-
-            @java.lang.Override
-            public org.alps.rocky.core.proto.RoutingCommon.RoutingFrame buildPartial() {
-                org.alps.rocky.core.proto.RoutingCommon.RoutingFrame result = new org.alps.rocky.core.proto.RoutingCommon.RoutingFrame(this);
-                if (bitField0_ != 0) {
-                    buildPartial0(result);
-                }
-                onBuilt();
-                return result;
-            }
-
-            private void buildPartial0(org.alps.rocky.core.proto.RoutingCommon.RoutingFrame result) {
-                int from_bitField0_ = bitField0_;
-                if (((from_bitField0_ & 0x00000001) != 0)) {
-                    result.type_ = type_;
-                }
-                if (((from_bitField0_ & 0x00000002) != 0)) {
-                    result.frame_ = frame_;
-                }
-            }
-
-            @java.lang.Override
-            public Builder clone() {
-                return super.clone();
-            }
-
-            @java.lang.Override
-            public Builder setField(
-                    com.google.protobuf.Descriptors.FieldDescriptor field,
-                    java.lang.Object value) {
-                return super.setField(field, value);
-            }
-
-            @java.lang.Override
-            public Builder clearField(
-                    com.google.protobuf.Descriptors.FieldDescriptor field) {
-                return super.clearField(field);
-            }
-
-            @java.lang.Override
-            public Builder clearOneof(
-                    com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-                return super.clearOneof(oneof);
-            }
-
-            @java.lang.Override
-            public Builder setRepeatedField(
-                    com.google.protobuf.Descriptors.FieldDescriptor field,
-                    int index, java.lang.Object value) {
-                return super.setRepeatedField(field, index, value);
-            }
-
-            @java.lang.Override
-            public Builder addRepeatedField(
-                    com.google.protobuf.Descriptors.FieldDescriptor field,
-                    java.lang.Object value) {
-                return super.addRepeatedField(field, value);
-            }
-
-            @java.lang.Override
-            public Builder mergeFrom(com.google.protobuf.Message other) {
-                if (other instanceof org.alps.rocky.core.proto.RoutingCommon.RoutingFrame) {
-                    return mergeFrom((org.alps.rocky.core.proto.RoutingCommon.RoutingFrame) other);
-                } else {
-                    super.mergeFrom(other);
-                    return this;
-                }
-            }
-
-            public Builder mergeFrom(org.alps.rocky.core.proto.RoutingCommon.RoutingFrame other) {
-                if (other == org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.getDefaultInstance()) return this;
-                if (other.type_ != 0) {
-                    setTypeValue(other.getTypeValue());
-                }
-                if (other.getFrame() != com.google.protobuf.ByteString.EMPTY) {
-                    setFrame(other.getFrame());
-                }
-                this.mergeUnknownFields(other.getUnknownFields());
-                onChanged();
-                return this;
-            }
-
-            @java.lang.Override
-            public final boolean isInitialized() {
-                return true;
-            }
-
-            @java.lang.Override
-            public Builder mergeFrom(
-                    com.google.protobuf.CodedInputStream input,
-                    com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                    throws java.io.IOException {
-                if (extensionRegistry == null) {
-                    throw new java.lang.NullPointerException();
-                }
-                try {
-                    boolean done = false;
-                    while (!done) {
-                        int tag = input.readTag();
-                        switch (tag) {
-                            case 0:
-                                done = true;
-                                break;
-                            case 8: {
-                                type_ = input.readEnum();
-                                bitField0_ |= 0x00000001;
-                                break;
-                            } // case 8
-                            case 18: {
-                                frame_ = input.readBytes();
-                                bitField0_ |= 0x00000002;
-                                break;
-                            } // case 18
-                            default: {
-                                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                                    done = true; // was an endgroup tag
-                                }
-                                break;
-                            } // default:
-                        } // switch (tag)
-                    } // while (!done)
-                } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-                    throw e.unwrapIOException();
-                } finally {
-                    onChanged();
-                } // finally
-                return this;
-            }
-
-            private int bitField0_;
-
-            private int type_ = 0;
-
-            /**
-             * <code>.rocky.routing.FrameType type = 1;</code>
-             *
-             * @return The enum numeric value on the wire for type.
-             */
-            @java.lang.Override
-            public int getTypeValue() {
-                return type_;
-            }
-
-            /**
-             * <code>.rocky.routing.FrameType type = 1;</code>
-             *
-             * @param value The enum numeric value on the wire for type to set.
-             * @return This builder for chaining.
-             */
-            public Builder setTypeValue(int value) {
-                type_ = value;
-                bitField0_ |= 0x00000001;
-                onChanged();
-                return this;
-            }
-
-            /**
-             * <code>.rocky.routing.FrameType type = 1;</code>
-             *
-             * @return The type.
-             */
-            @java.lang.Override
-            public org.alps.rocky.core.proto.RoutingCommon.FrameType getType() {
-                org.alps.rocky.core.proto.RoutingCommon.FrameType result = org.alps.rocky.core.proto.RoutingCommon.FrameType.forNumber(type_);
-                return result == null ? org.alps.rocky.core.proto.RoutingCommon.FrameType.UNRECOGNIZED : result;
-            }
-
-            /**
-             * <code>.rocky.routing.FrameType type = 1;</code>
-             *
-             * @param value The type to set.
-             * @return This builder for chaining.
-             */
-            public Builder setType(org.alps.rocky.core.proto.RoutingCommon.FrameType value) {
-                if (value == null) {
-                    throw new NullPointerException();
-                }
-                bitField0_ |= 0x00000001;
-                type_ = value.getNumber();
-                onChanged();
-                return this;
-            }
-
-            /**
-             * <code>.rocky.routing.FrameType type = 1;</code>
-             *
-             * @return This builder for chaining.
-             */
-            public Builder clearType() {
-                bitField0_ = (bitField0_ & ~0x00000001);
-                type_ = 0;
-                onChanged();
-                return this;
-            }
-
-            private com.google.protobuf.ByteString frame_ = com.google.protobuf.ByteString.EMPTY;
-
-            /**
-             * <code>bytes frame = 2;</code>
-             *
-             * @return The frame.
-             */
-            @java.lang.Override
-            public com.google.protobuf.ByteString getFrame() {
-                return frame_;
-            }
-
-            /**
-             * <code>bytes frame = 2;</code>
-             *
-             * @param value The frame to set.
-             * @return This builder for chaining.
-             */
-            public Builder setFrame(com.google.protobuf.ByteString value) {
-                if (value == null) {
-                    throw new NullPointerException();
-                }
-                frame_ = value;
-                bitField0_ |= 0x00000002;
-                onChanged();
-                return this;
-            }
-
-            /**
-             * <code>bytes frame = 2;</code>
-             *
-             * @return This builder for chaining.
-             */
-            public Builder clearFrame() {
-                bitField0_ = (bitField0_ & ~0x00000002);
-                frame_ = getDefaultInstance().getFrame();
-                onChanged();
-                return this;
-            }
-
-            @java.lang.Override
-            public final Builder setUnknownFields(
-                    final com.google.protobuf.UnknownFieldSet unknownFields) {
-                return super.setUnknownFields(unknownFields);
-            }
-
-            @java.lang.Override
-            public final Builder mergeUnknownFields(
-                    final com.google.protobuf.UnknownFieldSet unknownFields) {
-                return super.mergeUnknownFields(unknownFields);
-            }
-
-
-            // @@protoc_insertion_point(builder_scope:rocky.routing.RoutingFrame)
-        }
-
-        // @@protoc_insertion_point(class_scope:rocky.routing.RoutingFrame)
-        private static final org.alps.rocky.core.proto.RoutingCommon.RoutingFrame DEFAULT_INSTANCE;
-
-        static {
-            DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingCommon.RoutingFrame();
-        }
-
-        public static org.alps.rocky.core.proto.RoutingCommon.RoutingFrame getDefaultInstance() {
-            return DEFAULT_INSTANCE;
-        }
-
-        private static final com.google.protobuf.Parser<RoutingFrame>
-                PARSER = new com.google.protobuf.AbstractParser<RoutingFrame>() {
-            @java.lang.Override
-            public RoutingFrame parsePartialFrom(
-                    com.google.protobuf.CodedInputStream input,
-                    com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                    throws com.google.protobuf.InvalidProtocolBufferException {
-                Builder builder = newBuilder();
-                try {
-                    builder.mergeFrom(input, extensionRegistry);
-                } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-                    throw e.setUnfinishedMessage(builder.buildPartial());
-                } catch (com.google.protobuf.UninitializedMessageException e) {
-                    throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-                } catch (java.io.IOException e) {
-                    throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                            .setUnfinishedMessage(builder.buildPartial());
-                }
-                return builder.buildPartial();
-            }
-        };
-
-        public static com.google.protobuf.Parser<RoutingFrame> parser() {
-            return PARSER;
-        }
-
-        @java.lang.Override
-        public com.google.protobuf.Parser<RoutingFrame> getParserForType() {
-            return PARSER;
-        }
-
-        @java.lang.Override
-        public org.alps.rocky.core.proto.RoutingCommon.RoutingFrame getDefaultInstanceForType() {
-            return DEFAULT_INSTANCE;
-        }
-
-    }
-
-    private static final com.google.protobuf.Descriptors.Descriptor
-            internal_static_rocky_routing_RoutingFrame_descriptor;
-    private static final
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-            internal_static_rocky_routing_RoutingFrame_fieldAccessorTable;
-
-    public static com.google.protobuf.Descriptors.FileDescriptor
-    getDescriptor() {
-        return descriptor;
-    }
-
-    private static com.google.protobuf.Descriptors.FileDescriptor
-            descriptor;
-
-    static {
-        java.lang.String[] descriptorData = {
-                "\n\023RoutingCommon.proto\022\rrocky.routing\"E\n\014" +
-                        "RoutingFrame\022&\n\004type\030\001 \001(\0162\030.rocky.routi" +
-                        "ng.FrameType\022\r\n\005frame\030\002 \001(\014*^\n\tFrameType" +
-                        "\022\r\n\tC_Connect\020\000\022\020\n\014C_HealthIdle\020\001\022\014\n\010C_A" +
-                        "ctive\020\002\022\r\n\tC_Disable\020\003\022\023\n\017S_ChangeServic" +
-                        "e\020\024B*\n\031org.alps.rocky.core.protoB\rRoutin" +
-                        "gCommonb\006proto3"
-        };
-        descriptor = com.google.protobuf.Descriptors.FileDescriptor
-                .internalBuildGeneratedFileFrom(descriptorData,
-                        new com.google.protobuf.Descriptors.FileDescriptor[]{
-                        });
-        internal_static_rocky_routing_RoutingFrame_descriptor =
-                getDescriptor().getMessageTypes().get(0);
-        internal_static_rocky_routing_RoutingFrame_fieldAccessorTable = new
-                com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-                internal_static_rocky_routing_RoutingFrame_descriptor,
-                new java.lang.String[]{"Type", "Frame",});
-    }
-
-    // @@protoc_insertion_point(outer_class_scope)
-}
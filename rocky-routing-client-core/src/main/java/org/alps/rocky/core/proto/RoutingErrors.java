@@ -1,162 +0,0 @@
-// Generated by the protocol buffer compiler.  DO NOT EDIT!
-// source: Errors.proto
-
-package org.alps.rocky.core.proto;
-
-public final class RoutingErrors {
-  private RoutingErrors() {}
-  public static void registerAllExtensions(
-      com.google.protobuf.ExtensionRegistryLite registry) {
-  }
-
-  public static void registerAllExtensions(
-      com.google.protobuf.ExtensionRegistry registry) {
-    registerAllExtensions(
-        (com.google.protobuf.ExtensionRegistryLite) registry);
-  }
-  /**
-   * Protobuf enum {@code rocky.routing.Code}
-   */
-  public enum Code
-      implements com.google.protobuf.ProtocolMessageEnum {
-    /**
-     * <pre>
-     * don't use
-     * </pre>
-     *
-     * <code>NONE = 0;</code>
-     */
-    NONE(0),
-    /**
-     * <pre>
-     * 认证不通过
-     * </pre>
-     *
-     * <code>ACCESS_KEY_INVALID = 1000;</code>
-     */
-    ACCESS_KEY_INVALID(1000),
-    UNRECOGNIZED(-1),
-    ;
-
-    /**
-     * <pre>
-     * don't use
-     * </pre>
-     *
-     * <code>NONE = 0;</code>
-     */
-    public static final int NONE_VALUE = 0;
-    /**
-     * <pre>
-     * 认证不通过
-     * </pre>
-     *
-     * <code>ACCESS_KEY_INVALID = 1000;</code>
-     */
-    public static final int ACCESS_KEY_INVALID_VALUE = 1000;
-
-
-    public final int getNumber() {
-      if (this == UNRECOGNIZED) {
-        throw new IllegalArgumentException(
-            "Can't get the number of an unknown enum value.");
-      }
-      return value;
-    }
-
-    /**
-     * @param value The numeric wire value of the corresponding enum entry.
-     * @return The enum associated with the given numeric wire value.
-     * @deprecated Use {@link #forNumber(int)} instead.
-     */
-    @Deprecated
-    public static Code valueOf(int value) {
-      return forNumber(value);
-    }
-
-    /**
-     * @param value The numeric wire value of the corresponding enum entry.
-     * @return The enum associated with the given numeric wire value.
-     */
-    public static Code forNumber(int value) {
-      switch (value) {
-        case 0: return NONE;
-        case 1000: return ACCESS_KEY_INVALID;
-        default: return null;
-      }
-    }
-
-    public static com.google.protobuf.Internal.EnumLiteMap<Code>
-        internalGetValueMap() {
-      return internalValueMap;
-    }
-    private static final com.google.protobuf.Internal.EnumLiteMap<
-        Code> internalValueMap =
-          new com.google.protobuf.Internal.EnumLiteMap<Code>() {
-            public Code findValueByNumber(int number) {
-              return Code.forNumber(number);
-            }
-          };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor
-        getValueDescriptor() {
-      if (this == UNRECOGNIZED) {
-        throw new IllegalStateException(
-            "Can't get the descriptor of an unrecognized enum value.");
-      }
-      return getDescriptor().getValues().get(ordinal());
-    }
-    public final com.google.protobuf.Descriptors.EnumDescriptor
-        getDescriptorForType() {
-      return getDescriptor();
-    }
-    public static final com.google.protobuf.Descriptors.EnumDescriptor
-        getDescriptor() {
-      return RoutingErrors.getDescriptor().getEnumTypes().get(0);
-    }
-
-    private static final Code[] VALUES = values();
-
-    public static Code valueOf(
-        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
-      if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException(
-          "EnumValueDescriptor is not for this type.");
-      }
-      if (desc.getIndex() == -1) {
-        return UNRECOGNIZED;
-      }
-      return VALUES[desc.getIndex()];
-    }
-
-    private final int value;
-
-    private Code(int value) {
-      this.value = value;
-    }
-
-    // @@protoc_insertion_point(enum_scope:rocky.routing.Code)
-  }
-
-
-  public static com.google.protobuf.Descriptors.FileDescriptor
-      getDescriptor() {
-    return descriptor;
-  }
-  private static  com.google.protobuf.Descriptors.FileDescriptor
-      descriptor;
-  static {
-    String[] descriptorData = {
-      "\n\014Errors.proto\022\rrocky.routing*)\n\004Code\022\010\n" +
-      "\004NONE\020\000\022\027\n\022ACCESS_KEY_INVALID\020\350\007B*\n\031org." +
-      "alps.rocky.core.protoB\rRoutingErrorsb\006pr" +
-      "oto3"
-    };
-    descriptor = com.google.protobuf.Descriptors.FileDescriptor
-      .internalBuildGeneratedFileFrom(descriptorData,
-        new com.google.protobuf.Descriptors.FileDescriptor[] {
-        });
-  }
-
-  // @@protoc_insertion_point(outer_class_scope)
-}
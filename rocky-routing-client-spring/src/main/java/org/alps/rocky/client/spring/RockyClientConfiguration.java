@@ -1,6 +1,7 @@
 package org.alps.rocky.client.spring;
 
 import org.alps.rocky.client.core.RockyClient;
+import org.alps.rocky.client.core.RockyClientOptions;
 import org.alps.rocky.client.core.RockyModules;
 import org.alps.starter.AlpsProperties;
 import org.alps.starter.config.AlpsServerProperties;
@@ -20,10 +21,17 @@ public class RockyClientConfiguration {
         Objects.requireNonNull(rockyClientProperties.getRouterRegisterUrl(), "routerRegisterURL");
         Objects.requireNonNull(rockyClientProperties.getNamespace(), "namespace");
         Objects.requireNonNull(rockyClientProperties.getAccessKey(), "accessKey");
+        var options = new RockyClientOptions();
+        options.setBatchWindow(rockyClientProperties.getBatchWindow());
+        options.setSubscriptions(rockyClientProperties.getSubscriptions());
+        options.setSubscribeOnDemand(rockyClientProperties.isSubscribeOnDemand());
+        options.setSubscribeTimeout(rockyClientProperties.getSubscribeTimeout());
+        options.setCompression(rockyClientProperties.isCompression());
         return new RockyClient(rockyClientProperties.getRouterRegisterUrl(), rockyClientProperties.getNamespace(),
                 rockyClientProperties.getProfile(),
                 alpsProperties.getModules(),
-                alpsServerProperties.getPort(), rockyClientProperties.getAccessKey(), rockyClientProperties.getInstanceId());
+                alpsServerProperties.getPort(), rockyClientProperties.getAccessKey(), rockyClientProperties.getInstanceId(),
+                options);
     }
 
     @Bean
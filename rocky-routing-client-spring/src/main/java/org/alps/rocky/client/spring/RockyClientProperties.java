@@ -3,6 +3,9 @@ package org.alps.rocky.client.spring;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.List;
+
 @ConfigurationProperties(RockyClientProperties.PATH)
 @Data
 public class RockyClientProperties {
@@ -29,4 +32,24 @@ public class RockyClientProperties {
      * 访问密钥
      */
     private String accessKey;
+    /**
+     * 合并发送的等待时间，为0时每个操作立即发送
+     */
+    private Duration batchWindow = Duration.ofMillis(20);
+    /**
+     * 订阅的模块，路由只推送订阅的模块。为空并且不按需订阅时接收命名空间的所有模块
+     */
+    private List<String> subscriptions;
+    /**
+     * 第一次查询没有订阅的模块时订阅
+     */
+    private boolean subscribeOnDemand;
+    /**
+     * 按需订阅时等待路由推送模块的时间
+     */
+    private Duration subscribeTimeout = Duration.ofSeconds(3);
+    /**
+     * 是否接收压缩的模块推送
+     */
+    private boolean compression = true;
 }
@@ -0,0 +1,42 @@
+package org.alps.rocky.core;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
+import org.alps.rocky.core.proto.RoutingCommon;
+
+import java.io.IOException;
+
+/**
+ * 只读取帧类型和帧内容的RoutingFrame，帧内容直接引用原始数组不做拷贝，客户端和路由共用
+ *
+ * @param type    帧类型编号
+ * @param payload 帧内容
+ */
+public record RawRoutingFrame(int type, ByteString payload) {
+
+    private static final int TYPE_TAG = RoutingCommon.RoutingFrame.TYPE_FIELD_NUMBER << 3 | WireFormat.WIRETYPE_VARINT;
+    private static final int FRAME_TAG = RoutingCommon.RoutingFrame.FRAME_FIELD_NUMBER << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+    /**
+     * 解析帧，调用方不能再修改data
+     */
+    public static RawRoutingFrame parse(byte[] data) throws IOException {
+        // unsafeWrap得到的输入流是不可变的，开启aliasing后readBytes不会拷贝
+        var input = UnsafeByteOperations.unsafeWrap(data).newCodedInput();
+        input.enableAliasing(true);
+        int type = 0;
+        var payload = ByteString.EMPTY;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (tag == TYPE_TAG) {
+                type = input.readEnum();
+            } else if (tag == FRAME_TAG) {
+                payload = input.readBytes();
+            } else if (!input.skipField(tag)) {
+                break;
+            }
+        }
+        return new RawRoutingFrame(type, payload);
+    }
+}
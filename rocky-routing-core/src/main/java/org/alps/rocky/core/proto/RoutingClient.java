@@ -0,0 +1,7629 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: RoutingClient.proto
+
+package org.alps.rocky.core.proto;
+
+public final class RoutingClient {
+  private RoutingClient() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface ServiceInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:rocky.routing.ServiceInfo)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * 命名空间
+     * </pre>
+     *
+     * <code>string namespace = 1;</code>
+     * @return The namespace.
+     */
+    java.lang.String getNamespace();
+    /**
+     * <pre>
+     * 命名空间
+     * </pre>
+     *
+     * <code>string namespace = 1;</code>
+     * @return The bytes for namespace.
+     */
+    com.google.protobuf.ByteString
+        getNamespaceBytes();
+
+    /**
+     * <pre>
+     * 类型
+     * </pre>
+     *
+     * <code>string profile = 2;</code>
+     * @return The profile.
+     */
+    java.lang.String getProfile();
+    /**
+     * <pre>
+     * 类型
+     * </pre>
+     *
+     * <code>string profile = 2;</code>
+     * @return The bytes for profile.
+     */
+    com.google.protobuf.ByteString
+        getProfileBytes();
+
+    /**
+     * <code>string instanceId = 4;</code>
+     * @return The instanceId.
+     */
+    java.lang.String getInstanceId();
+    /**
+     * <code>string instanceId = 4;</code>
+     * @return The bytes for instanceId.
+     */
+    com.google.protobuf.ByteString
+        getInstanceIdBytes();
+
+    /**
+     * <code>string ip = 5;</code>
+     * @return The ip.
+     */
+    java.lang.String getIp();
+    /**
+     * <code>string ip = 5;</code>
+     * @return The bytes for ip.
+     */
+    com.google.protobuf.ByteString
+        getIpBytes();
+
+    /**
+     * <code>int32 port = 6;</code>
+     * @return The port.
+     */
+    int getPort();
+
+    /**
+     * <pre>
+     * 开通 modules
+     * </pre>
+     *
+     * <code>repeated string modules = 7;</code>
+     * @return A list containing the modules.
+     */
+    java.util.List<java.lang.String>
+        getModulesList();
+    /**
+     * <pre>
+     * 开通 modules
+     * </pre>
+     *
+     * <code>repeated string modules = 7;</code>
+     * @return The count of modules.
+     */
+    int getModulesCount();
+    /**
+     * <pre>
+     * 开通 modules
+     * </pre>
+     *
+     * <code>repeated string modules = 7;</code>
+     * @param index The index of the element to return.
+     * @return The modules at the given index.
+     */
+    java.lang.String getModules(int index);
+    /**
+     * <pre>
+     * 开通 modules
+     * </pre>
+     *
+     * <code>repeated string modules = 7;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the modules at the given index.
+     */
+    com.google.protobuf.ByteString
+        getModulesBytes(int index);
+
+    /**
+     * <pre>
+     * 允许接入routing的 token
+     * </pre>
+     *
+     * <code>string accessKey = 8;</code>
+     * @return The accessKey.
+     */
+    java.lang.String getAccessKey();
+    /**
+     * <pre>
+     * 允许接入routing的 token
+     * </pre>
+     *
+     * <code>string accessKey = 8;</code>
+     * @return The bytes for accessKey.
+     */
+    com.google.protobuf.ByteString
+        getAccessKeyBytes();
+
+    /**
+     * <code>map&lt;string, string&gt; msg = 9;</code>
+     */
+    int getMsgCount();
+    /**
+     * <code>map&lt;string, string&gt; msg = 9;</code>
+     */
+    boolean containsMsg(
+        java.lang.String key);
+    /**
+     * Use {@link #getMsgMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, java.lang.String>
+    getMsg();
+    /**
+     * <code>map&lt;string, string&gt; msg = 9;</code>
+     */
+    java.util.Map<java.lang.String, java.lang.String>
+    getMsgMap();
+    /**
+     * <code>map&lt;string, string&gt; msg = 9;</code>
+     */
+    /* nullable */
+java.lang.String getMsgOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue);
+    /**
+     * <code>map&lt;string, string&gt; msg = 9;</code>
+     */
+    java.lang.String getMsgOrThrow(
+        java.lang.String key);
+
+    /**
+     * <pre>
+     * 为true时只推送subscriptions中的模块，之后可以用C_Subscribe增加
+     * </pre>
+     *
+     * <code>bool subscribe = 10;</code>
+     * @return The subscribe.
+     */
+    boolean getSubscribe();
+
+    /**
+     * <pre>
+     * 订阅的模块
+     * </pre>
+     *
+     * <code>repeated string subscriptions = 11;</code>
+     * @return A list containing the subscriptions.
+     */
+    java.util.List<java.lang.String>
+        getSubscriptionsList();
+    /**
+     * <pre>
+     * 订阅的模块
+     * </pre>
+     *
+     * <code>repeated string subscriptions = 11;</code>
+     * @return The count of subscriptions.
+     */
+    int getSubscriptionsCount();
+    /**
+     * <pre>
+     * 订阅的模块
+     * </pre>
+     *
+     * <code>repeated string subscriptions = 11;</code>
+     * @param index The index of the element to return.
+     * @return The subscriptions at the given index.
+     */
+    java.lang.String getSubscriptions(int index);
+    /**
+     * <pre>
+     * 订阅的模块
+     * </pre>
+     *
+     * <code>repeated string subscriptions = 11;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the subscriptions at the given index.
+     */
+    com.google.protobuf.ByteString
+        getSubscriptionsBytes(int index);
+
+    /**
+     * <pre>
+     * 为true时可以接收S_ChangeServiceDeflate
+     * </pre>
+     *
+     * <code>bool compression = 12;</code>
+     * @return The compression.
+     */
+    boolean getCompression();
+  }
+  /**
+   * <pre>
+   *服务信息
+   * </pre>
+   *
+   * Protobuf type {@code rocky.routing.ServiceInfo}
+   */
+  public static final class ServiceInfo extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:rocky.routing.ServiceInfo)
+      ServiceInfoOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ServiceInfo.newBuilder() to construct.
+    private ServiceInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ServiceInfo() {
+      namespace_ = "";
+      profile_ = "";
+      instanceId_ = "";
+      ip_ = "";
+      modules_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      accessKey_ = "";
+      subscriptions_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ServiceInfo();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_ServiceInfo_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    @java.lang.Override
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 9:
+          return internalGetMsg();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_ServiceInfo_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.alps.rocky.core.proto.RoutingClient.ServiceInfo.class, org.alps.rocky.core.proto.RoutingClient.ServiceInfo.Builder.class);
+    }
+
+    public static final int NAMESPACE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object namespace_ = "";
+    /**
+     * <pre>
+     * 命名空间
+     * </pre>
+     *
+     * <code>string namespace = 1;</code>
+     * @return The namespace.
+     */
+    @java.lang.Override
+    public java.lang.String getNamespace() {
+      java.lang.Object ref = namespace_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        namespace_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * 命名空间
+     * </pre>
+     *
+     * <code>string namespace = 1;</code>
+     * @return The bytes for namespace.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNamespaceBytes() {
+      java.lang.Object ref = namespace_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        namespace_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PROFILE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object profile_ = "";
+    /**
+     * <pre>
+     * 类型
+     * </pre>
+     *
+     * <code>string profile = 2;</code>
+     * @return The profile.
+     */
+    @java.lang.Override
+    public java.lang.String getProfile() {
+      java.lang.Object ref = profile_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        profile_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * 类型
+     * </pre>
+     *
+     * <code>string profile = 2;</code>
+     * @return The bytes for profile.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getProfileBytes() {
+      java.lang.Object ref = profile_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        profile_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INSTANCEID_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object instanceId_ = "";
+    /**
+     * <code>string instanceId = 4;</code>
+     * @return The instanceId.
+     */
+    @java.lang.Override
+    public java.lang.String getInstanceId() {
+      java.lang.Object ref = instanceId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        instanceId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string instanceId = 4;</code>
+     * @return The bytes for instanceId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getInstanceIdBytes() {
+      java.lang.Object ref = instanceId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        instanceId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int IP_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object ip_ = "";
+    /**
+     * <code>string ip = 5;</code>
+     * @return The ip.
+     */
+    @java.lang.Override
+    public java.lang.String getIp() {
+      java.lang.Object ref = ip_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        ip_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string ip = 5;</code>
+     * @return The bytes for ip.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIpBytes() {
+      java.lang.Object ref = ip_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        ip_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PORT_FIELD_NUMBER = 6;
+    private int port_ = 0;
+    /**
+     * <code>int32 port = 6;</code>
+     * @return The port.
+     */
+    @java.lang.Override
+    public int getPort() {
+      return port_;
+    }
+
+    public static final int MODULES_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList modules_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * 开通 modules
+     * </pre>
+     *
+     * <code>repeated string modules = 7;</code>
+     * @return A list containing the modules.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getModulesList() {
+      return modules_;
+    }
+    /**
+     * <pre>
+     * 开通 modules
+     * </pre>
+     *
+     * <code>repeated string modules = 7;</code>
+     * @return The count of modules.
+     */
+    public int getModulesCount() {
+      return modules_.size();
+    }
+    /**
+     * <pre>
+     * 开通 modules
+     * </pre>
+     *
+     * <code>repeated string modules = 7;</code>
+     * @param index The index of the element to return.
+     * @return The modules at the given index.
+     */
+    public java.lang.String getModules(int index) {
+      return modules_.get(index);
+    }
+    /**
+     * <pre>
+     * 开通 modules
+     * </pre>
+     *
+     * <code>repeated string modules = 7;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the modules at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getModulesBytes(int index) {
+      return modules_.getByteString(index);
+    }
+
+    public static final int ACCESSKEY_FIELD_NUMBER = 8;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object accessKey_ = "";
+    /**
+     * <pre>
+     * 允许接入routing的 token
+     * </pre>
+     *
+     * <code>string accessKey = 8;</code>
+     * @return The accessKey.
+     */
+    @java.lang.Override
+    public java.lang.String getAccessKey() {
+      java.lang.Object ref = accessKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        accessKey_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * 允许接入routing的 token
+     * </pre>
+     *
+     * <code>string accessKey = 8;</code>
+     * @return The bytes for accessKey.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getAccessKeyBytes() {
+      java.lang.Object ref = accessKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        accessKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MSG_FIELD_NUMBER = 9;
+    private static final class MsgDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, java.lang.String> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, java.lang.String>newDefaultInstance(
+                  org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_ServiceInfo_MsgEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "");
+    }
+    @SuppressWarnings("serial")
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> msg_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetMsg() {
+      if (msg_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            MsgDefaultEntryHolder.defaultEntry);
+      }
+      return msg_;
+    }
+    public int getMsgCount() {
+      return internalGetMsg().getMap().size();
+    }
+    /**
+     * <code>map&lt;string, string&gt; msg = 9;</code>
+     */
+    @java.lang.Override
+    public boolean containsMsg(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetMsg().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getMsgMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getMsg() {
+      return getMsgMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; msg = 9;</code>
+     */
+    @java.lang.Override
+    public java.util.Map<java.lang.String, java.lang.String> getMsgMap() {
+      return internalGetMsg().getMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; msg = 9;</code>
+     */
+    @java.lang.Override
+    public /* nullable */
+java.lang.String getMsgOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetMsg().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;string, string&gt; msg = 9;</code>
+     */
+    @java.lang.Override
+    public java.lang.String getMsgOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetMsg().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public static final int SUBSCRIBE_FIELD_NUMBER = 10;
+    private boolean subscribe_ = false;
+    /**
+     * <pre>
+     * 为true时只推送subscriptions中的模块，之后可以用C_Subscribe增加
+     * </pre>
+     *
+     * <code>bool subscribe = 10;</code>
+     * @return The subscribe.
+     */
+    @java.lang.Override
+    public boolean getSubscribe() {
+      return subscribe_;
+    }
+
+    public static final int SUBSCRIPTIONS_FIELD_NUMBER = 11;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList subscriptions_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * 订阅的模块
+     * </pre>
+     *
+     * <code>repeated string subscriptions = 11;</code>
+     * @return A list containing the subscriptions.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getSubscriptionsList() {
+      return subscriptions_;
+    }
+    /**
+     * <pre>
+     * 订阅的模块
+     * </pre>
+     *
+     * <code>repeated string subscriptions = 11;</code>
+     * @return The count of subscriptions.
+     */
+    public int getSubscriptionsCount() {
+      return subscriptions_.size();
+    }
+    /**
+     * <pre>
+     * 订阅的模块
+     * </pre>
+     *
+     * <code>repeated string subscriptions = 11;</code>
+     * @param index The index of the element to return.
+     * @return The subscriptions at the given index.
+     */
+    public java.lang.String getSubscriptions(int index) {
+      return subscriptions_.get(index);
+    }
+    /**
+     * <pre>
+     * 订阅的模块
+     * </pre>
+     *
+     * <code>repeated string subscriptions = 11;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the subscriptions at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getSubscriptionsBytes(int index) {
+      return subscriptions_.getByteString(index);
+    }
+
+    public static final int COMPRESSION_FIELD_NUMBER = 12;
+    private boolean compression_ = false;
+    /**
+     * <pre>
+     * 为true时可以接收S_ChangeServiceDeflate
+     * </pre>
+     *
+     * <code>bool compression = 12;</code>
+     * @return The compression.
+     */
+    @java.lang.Override
+    public boolean getCompression() {
+      return compression_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(namespace_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, namespace_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(profile_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, profile_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(instanceId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, instanceId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(ip_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, ip_);
+      }
+      if (port_ != 0) {
+        output.writeInt32(6, port_);
+      }
+      for (int i = 0; i < modules_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, modules_.getRaw(i));
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(accessKey_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 8, accessKey_);
+      }
+      com.google.protobuf.GeneratedMessageV3
+        .serializeStringMapTo(
+          output,
+          internalGetMsg(),
+          MsgDefaultEntryHolder.defaultEntry,
+          9);
+      if (subscribe_ != false) {
+        output.writeBool(10, subscribe_);
+      }
+      for (int i = 0; i < subscriptions_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 11, subscriptions_.getRaw(i));
+      }
+      if (compression_ != false) {
+        output.writeBool(12, compression_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(namespace_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, namespace_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(profile_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, profile_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(instanceId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, instanceId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(ip_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, ip_);
+      }
+      if (port_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, port_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < modules_.size(); i++) {
+          dataSize += computeStringSizeNoTag(modules_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getModulesList().size();
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(accessKey_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(8, accessKey_);
+      }
+      for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+           : internalGetMsg().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+        msg__ = MsgDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(9, msg__);
+      }
+      if (subscribe_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(10, subscribe_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < subscriptions_.size(); i++) {
+          dataSize += computeStringSizeNoTag(subscriptions_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getSubscriptionsList().size();
+      }
+      if (compression_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(12, compression_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.alps.rocky.core.proto.RoutingClient.ServiceInfo)) {
+        return super.equals(obj);
+      }
+      org.alps.rocky.core.proto.RoutingClient.ServiceInfo other = (org.alps.rocky.core.proto.RoutingClient.ServiceInfo) obj;
+
+      if (!getNamespace()
+          .equals(other.getNamespace())) return false;
+      if (!getProfile()
+          .equals(other.getProfile())) return false;
+      if (!getInstanceId()
+          .equals(other.getInstanceId())) return false;
+      if (!getIp()
+          .equals(other.getIp())) return false;
+      if (getPort()
+          != other.getPort()) return false;
+      if (!getModulesList()
+          .equals(other.getModulesList())) return false;
+      if (!getAccessKey()
+          .equals(other.getAccessKey())) return false;
+      if (!internalGetMsg().equals(
+          other.internalGetMsg())) return false;
+      if (getSubscribe()
+          != other.getSubscribe()) return false;
+      if (!getSubscriptionsList()
+          .equals(other.getSubscriptionsList())) return false;
+      if (getCompression()
+          != other.getCompression()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAMESPACE_FIELD_NUMBER;
+      hash = (53 * hash) + getNamespace().hashCode();
+      hash = (37 * hash) + PROFILE_FIELD_NUMBER;
+      hash = (53 * hash) + getProfile().hashCode();
+      hash = (37 * hash) + INSTANCEID_FIELD_NUMBER;
+      hash = (53 * hash) + getInstanceId().hashCode();
+      hash = (37 * hash) + IP_FIELD_NUMBER;
+      hash = (53 * hash) + getIp().hashCode();
+      hash = (37 * hash) + PORT_FIELD_NUMBER;
+      hash = (53 * hash) + getPort();
+      if (getModulesCount() > 0) {
+        hash = (37 * hash) + MODULES_FIELD_NUMBER;
+        hash = (53 * hash) + getModulesList().hashCode();
+      }
+      hash = (37 * hash) + ACCESSKEY_FIELD_NUMBER;
+      hash = (53 * hash) + getAccessKey().hashCode();
+      if (!internalGetMsg().getMap().isEmpty()) {
+        hash = (37 * hash) + MSG_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetMsg().hashCode();
+      }
+      hash = (37 * hash) + SUBSCRIBE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSubscribe());
+      if (getSubscriptionsCount() > 0) {
+        hash = (37 * hash) + SUBSCRIPTIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getSubscriptionsList().hashCode();
+      }
+      hash = (37 * hash) + COMPRESSION_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getCompression());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.ServiceInfo parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ServiceInfo parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ServiceInfo parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ServiceInfo parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ServiceInfo parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ServiceInfo parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ServiceInfo parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ServiceInfo parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.ServiceInfo parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.ServiceInfo parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ServiceInfo parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ServiceInfo parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.alps.rocky.core.proto.RoutingClient.ServiceInfo prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     *服务信息
+     * </pre>
+     *
+     * Protobuf type {@code rocky.routing.ServiceInfo}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:rocky.routing.ServiceInfo)
+        org.alps.rocky.core.proto.RoutingClient.ServiceInfoOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_ServiceInfo_descriptor;
+      }
+
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMapField(
+          int number) {
+        switch (number) {
+          case 9:
+            return internalGetMsg();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMutableMapField(
+          int number) {
+        switch (number) {
+          case 9:
+            return internalGetMutableMsg();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_ServiceInfo_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.alps.rocky.core.proto.RoutingClient.ServiceInfo.class, org.alps.rocky.core.proto.RoutingClient.ServiceInfo.Builder.class);
+      }
+
+      // Construct using org.alps.rocky.core.proto.RoutingClient.ServiceInfo.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        namespace_ = "";
+        profile_ = "";
+        instanceId_ = "";
+        ip_ = "";
+        port_ = 0;
+        modules_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        accessKey_ = "";
+        internalGetMutableMsg().clear();
+        subscribe_ = false;
+        subscriptions_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        compression_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_ServiceInfo_descriptor;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.ServiceInfo getDefaultInstanceForType() {
+        return org.alps.rocky.core.proto.RoutingClient.ServiceInfo.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.ServiceInfo build() {
+        org.alps.rocky.core.proto.RoutingClient.ServiceInfo result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.ServiceInfo buildPartial() {
+        org.alps.rocky.core.proto.RoutingClient.ServiceInfo result = new org.alps.rocky.core.proto.RoutingClient.ServiceInfo(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.alps.rocky.core.proto.RoutingClient.ServiceInfo result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.namespace_ = namespace_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.profile_ = profile_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.instanceId_ = instanceId_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.ip_ = ip_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.port_ = port_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          modules_.makeImmutable();
+          result.modules_ = modules_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.accessKey_ = accessKey_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.msg_ = internalGetMsg();
+          result.msg_.makeImmutable();
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.subscribe_ = subscribe_;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          subscriptions_.makeImmutable();
+          result.subscriptions_ = subscriptions_;
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.compression_ = compression_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.alps.rocky.core.proto.RoutingClient.ServiceInfo) {
+          return mergeFrom((org.alps.rocky.core.proto.RoutingClient.ServiceInfo)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.alps.rocky.core.proto.RoutingClient.ServiceInfo other) {
+        if (other == org.alps.rocky.core.proto.RoutingClient.ServiceInfo.getDefaultInstance()) return this;
+        if (!other.getNamespace().isEmpty()) {
+          namespace_ = other.namespace_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getProfile().isEmpty()) {
+          profile_ = other.profile_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getInstanceId().isEmpty()) {
+          instanceId_ = other.instanceId_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getIp().isEmpty()) {
+          ip_ = other.ip_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (other.getPort() != 0) {
+          setPort(other.getPort());
+        }
+        if (!other.modules_.isEmpty()) {
+          if (modules_.isEmpty()) {
+            modules_ = other.modules_;
+            bitField0_ |= 0x00000020;
+          } else {
+            ensureModulesIsMutable();
+            modules_.addAll(other.modules_);
+          }
+          onChanged();
+        }
+        if (!other.getAccessKey().isEmpty()) {
+          accessKey_ = other.accessKey_;
+          bitField0_ |= 0x00000040;
+          onChanged();
+        }
+        internalGetMutableMsg().mergeFrom(
+            other.internalGetMsg());
+        bitField0_ |= 0x00000080;
+        if (other.getSubscribe() != false) {
+          setSubscribe(other.getSubscribe());
+        }
+        if (!other.subscriptions_.isEmpty()) {
+          if (subscriptions_.isEmpty()) {
+            subscriptions_ = other.subscriptions_;
+            bitField0_ |= 0x00000200;
+          } else {
+            ensureSubscriptionsIsMutable();
+            subscriptions_.addAll(other.subscriptions_);
+          }
+          onChanged();
+        }
+        if (other.getCompression() != false) {
+          setCompression(other.getCompression());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                namespace_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                profile_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 34: {
+                instanceId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 34
+              case 42: {
+                ip_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 42
+              case 48: {
+                port_ = input.readInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 48
+              case 58: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureModulesIsMutable();
+                modules_.add(s);
+                break;
+              } // case 58
+              case 66: {
+                accessKey_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 66
+              case 74: {
+                com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+                msg__ = input.readMessage(
+                    MsgDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableMsg().getMutableMap().put(
+                    msg__.getKey(), msg__.getValue());
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 74
+              case 80: {
+                subscribe_ = input.readBool();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 80
+              case 90: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureSubscriptionsIsMutable();
+                subscriptions_.add(s);
+                break;
+              } // case 90
+              case 96: {
+                compression_ = input.readBool();
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 96
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object namespace_ = "";
+      /**
+       * <pre>
+       * 命名空间
+       * </pre>
+       *
+       * <code>string namespace = 1;</code>
+       * @return The namespace.
+       */
+      public java.lang.String getNamespace() {
+        java.lang.Object ref = namespace_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          namespace_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 命名空间
+       * </pre>
+       *
+       * <code>string namespace = 1;</code>
+       * @return The bytes for namespace.
+       */
+      public com.google.protobuf.ByteString
+          getNamespaceBytes() {
+        java.lang.Object ref = namespace_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          namespace_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 命名空间
+       * </pre>
+       *
+       * <code>string namespace = 1;</code>
+       * @param value The namespace to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNamespace(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        namespace_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 命名空间
+       * </pre>
+       *
+       * <code>string namespace = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNamespace() {
+        namespace_ = getDefaultInstance().getNamespace();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 命名空间
+       * </pre>
+       *
+       * <code>string namespace = 1;</code>
+       * @param value The bytes for namespace to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNamespaceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        namespace_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object profile_ = "";
+      /**
+       * <pre>
+       * 类型
+       * </pre>
+       *
+       * <code>string profile = 2;</code>
+       * @return The profile.
+       */
+      public java.lang.String getProfile() {
+        java.lang.Object ref = profile_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          profile_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 类型
+       * </pre>
+       *
+       * <code>string profile = 2;</code>
+       * @return The bytes for profile.
+       */
+      public com.google.protobuf.ByteString
+          getProfileBytes() {
+        java.lang.Object ref = profile_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          profile_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 类型
+       * </pre>
+       *
+       * <code>string profile = 2;</code>
+       * @param value The profile to set.
+       * @return This builder for chaining.
+       */
+      public Builder setProfile(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        profile_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 类型
+       * </pre>
+       *
+       * <code>string profile = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearProfile() {
+        profile_ = getDefaultInstance().getProfile();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 类型
+       * </pre>
+       *
+       * <code>string profile = 2;</code>
+       * @param value The bytes for profile to set.
+       * @return This builder for chaining.
+       */
+      public Builder setProfileBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        profile_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object instanceId_ = "";
+      /**
+       * <code>string instanceId = 4;</code>
+       * @return The instanceId.
+       */
+      public java.lang.String getInstanceId() {
+        java.lang.Object ref = instanceId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          instanceId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string instanceId = 4;</code>
+       * @return The bytes for instanceId.
+       */
+      public com.google.protobuf.ByteString
+          getInstanceIdBytes() {
+        java.lang.Object ref = instanceId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          instanceId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string instanceId = 4;</code>
+       * @param value The instanceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInstanceId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        instanceId_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string instanceId = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInstanceId() {
+        instanceId_ = getDefaultInstance().getInstanceId();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string instanceId = 4;</code>
+       * @param value The bytes for instanceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInstanceIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        instanceId_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object ip_ = "";
+      /**
+       * <code>string ip = 5;</code>
+       * @return The ip.
+       */
+      public java.lang.String getIp() {
+        java.lang.Object ref = ip_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          ip_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string ip = 5;</code>
+       * @return The bytes for ip.
+       */
+      public com.google.protobuf.ByteString
+          getIpBytes() {
+        java.lang.Object ref = ip_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          ip_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string ip = 5;</code>
+       * @param value The ip to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIp(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ip_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string ip = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIp() {
+        ip_ = getDefaultInstance().getIp();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string ip = 5;</code>
+       * @param value The bytes for ip to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIpBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ip_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private int port_ ;
+      /**
+       * <code>int32 port = 6;</code>
+       * @return The port.
+       */
+      @java.lang.Override
+      public int getPort() {
+        return port_;
+      }
+      /**
+       * <code>int32 port = 6;</code>
+       * @param value The port to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPort(int value) {
+
+        port_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 port = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPort() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        port_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList modules_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureModulesIsMutable() {
+        if (!modules_.isModifiable()) {
+          modules_ = new com.google.protobuf.LazyStringArrayList(modules_);
+        }
+        bitField0_ |= 0x00000020;
+      }
+      /**
+       * <pre>
+       * 开通 modules
+       * </pre>
+       *
+       * <code>repeated string modules = 7;</code>
+       * @return A list containing the modules.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getModulesList() {
+        modules_.makeImmutable();
+        return modules_;
+      }
+      /**
+       * <pre>
+       * 开通 modules
+       * </pre>
+       *
+       * <code>repeated string modules = 7;</code>
+       * @return The count of modules.
+       */
+      public int getModulesCount() {
+        return modules_.size();
+      }
+      /**
+       * <pre>
+       * 开通 modules
+       * </pre>
+       *
+       * <code>repeated string modules = 7;</code>
+       * @param index The index of the element to return.
+       * @return The modules at the given index.
+       */
+      public java.lang.String getModules(int index) {
+        return modules_.get(index);
+      }
+      /**
+       * <pre>
+       * 开通 modules
+       * </pre>
+       *
+       * <code>repeated string modules = 7;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the modules at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getModulesBytes(int index) {
+        return modules_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * 开通 modules
+       * </pre>
+       *
+       * <code>repeated string modules = 7;</code>
+       * @param index The index to set the value at.
+       * @param value The modules to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModules(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureModulesIsMutable();
+        modules_.set(index, value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 开通 modules
+       * </pre>
+       *
+       * <code>repeated string modules = 7;</code>
+       * @param value The modules to add.
+       * @return This builder for chaining.
+       */
+      public Builder addModules(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureModulesIsMutable();
+        modules_.add(value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 开通 modules
+       * </pre>
+       *
+       * <code>repeated string modules = 7;</code>
+       * @param values The modules to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllModules(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureModulesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, modules_);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 开通 modules
+       * </pre>
+       *
+       * <code>repeated string modules = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearModules() {
+        modules_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 开通 modules
+       * </pre>
+       *
+       * <code>repeated string modules = 7;</code>
+       * @param value The bytes of the modules to add.
+       * @return This builder for chaining.
+       */
+      public Builder addModulesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureModulesIsMutable();
+        modules_.add(value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object accessKey_ = "";
+      /**
+       * <pre>
+       * 允许接入routing的 token
+       * </pre>
+       *
+       * <code>string accessKey = 8;</code>
+       * @return The accessKey.
+       */
+      public java.lang.String getAccessKey() {
+        java.lang.Object ref = accessKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          accessKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 允许接入routing的 token
+       * </pre>
+       *
+       * <code>string accessKey = 8;</code>
+       * @return The bytes for accessKey.
+       */
+      public com.google.protobuf.ByteString
+          getAccessKeyBytes() {
+        java.lang.Object ref = accessKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          accessKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 允许接入routing的 token
+       * </pre>
+       *
+       * <code>string accessKey = 8;</code>
+       * @param value The accessKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAccessKey(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        accessKey_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 允许接入routing的 token
+       * </pre>
+       *
+       * <code>string accessKey = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAccessKey() {
+        accessKey_ = getDefaultInstance().getAccessKey();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 允许接入routing的 token
+       * </pre>
+       *
+       * <code>string accessKey = 8;</code>
+       * @param value The bytes for accessKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAccessKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        accessKey_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.MapField<
+          java.lang.String, java.lang.String> msg_;
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetMsg() {
+        if (msg_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              MsgDefaultEntryHolder.defaultEntry);
+        }
+        return msg_;
+      }
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetMutableMsg() {
+        if (msg_ == null) {
+          msg_ = com.google.protobuf.MapField.newMapField(
+              MsgDefaultEntryHolder.defaultEntry);
+        }
+        if (!msg_.isMutable()) {
+          msg_ = msg_.copy();
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return msg_;
+      }
+      public int getMsgCount() {
+        return internalGetMsg().getMap().size();
+      }
+      /**
+       * <code>map&lt;string, string&gt; msg = 9;</code>
+       */
+      @java.lang.Override
+      public boolean containsMsg(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        return internalGetMsg().getMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getMsgMap()} instead.
+       */
+      @java.lang.Override
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String> getMsg() {
+        return getMsgMap();
+      }
+      /**
+       * <code>map&lt;string, string&gt; msg = 9;</code>
+       */
+      @java.lang.Override
+      public java.util.Map<java.lang.String, java.lang.String> getMsgMap() {
+        return internalGetMsg().getMap();
+      }
+      /**
+       * <code>map&lt;string, string&gt; msg = 9;</code>
+       */
+      @java.lang.Override
+      public /* nullable */
+java.lang.String getMsgOrDefault(
+          java.lang.String key,
+          /* nullable */
+java.lang.String defaultValue) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetMsg().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+      }
+      /**
+       * <code>map&lt;string, string&gt; msg = 9;</code>
+       */
+      @java.lang.Override
+      public java.lang.String getMsgOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetMsg().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+      public Builder clearMsg() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        internalGetMutableMsg().getMutableMap()
+            .clear();
+        return this;
+      }
+      /**
+       * <code>map&lt;string, string&gt; msg = 9;</code>
+       */
+      public Builder removeMsg(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        internalGetMutableMsg().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String>
+          getMutableMsg() {
+        bitField0_ |= 0x00000080;
+        return internalGetMutableMsg().getMutableMap();
+      }
+      /**
+       * <code>map&lt;string, string&gt; msg = 9;</code>
+       */
+      public Builder putMsg(
+          java.lang.String key,
+          java.lang.String value) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        if (value == null) { throw new NullPointerException("map value"); }
+        internalGetMutableMsg().getMutableMap()
+            .put(key, value);
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <code>map&lt;string, string&gt; msg = 9;</code>
+       */
+      public Builder putAllMsg(
+          java.util.Map<java.lang.String, java.lang.String> values) {
+        internalGetMutableMsg().getMutableMap()
+            .putAll(values);
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+
+      private boolean subscribe_ ;
+      /**
+       * <pre>
+       * 为true时只推送subscriptions中的模块，之后可以用C_Subscribe增加
+       * </pre>
+       *
+       * <code>bool subscribe = 10;</code>
+       * @return The subscribe.
+       */
+      @java.lang.Override
+      public boolean getSubscribe() {
+        return subscribe_;
+      }
+      /**
+       * <pre>
+       * 为true时只推送subscriptions中的模块，之后可以用C_Subscribe增加
+       * </pre>
+       *
+       * <code>bool subscribe = 10;</code>
+       * @param value The subscribe to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSubscribe(boolean value) {
+
+        subscribe_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 为true时只推送subscriptions中的模块，之后可以用C_Subscribe增加
+       * </pre>
+       *
+       * <code>bool subscribe = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSubscribe() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        subscribe_ = false;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList subscriptions_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureSubscriptionsIsMutable() {
+        if (!subscriptions_.isModifiable()) {
+          subscriptions_ = new com.google.protobuf.LazyStringArrayList(subscriptions_);
+        }
+        bitField0_ |= 0x00000200;
+      }
+      /**
+       * <pre>
+       * 订阅的模块
+       * </pre>
+       *
+       * <code>repeated string subscriptions = 11;</code>
+       * @return A list containing the subscriptions.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getSubscriptionsList() {
+        subscriptions_.makeImmutable();
+        return subscriptions_;
+      }
+      /**
+       * <pre>
+       * 订阅的模块
+       * </pre>
+       *
+       * <code>repeated string subscriptions = 11;</code>
+       * @return The count of subscriptions.
+       */
+      public int getSubscriptionsCount() {
+        return subscriptions_.size();
+      }
+      /**
+       * <pre>
+       * 订阅的模块
+       * </pre>
+       *
+       * <code>repeated string subscriptions = 11;</code>
+       * @param index The index of the element to return.
+       * @return The subscriptions at the given index.
+       */
+      public java.lang.String getSubscriptions(int index) {
+        return subscriptions_.get(index);
+      }
+      /**
+       * <pre>
+       * 订阅的模块
+       * </pre>
+       *
+       * <code>repeated string subscriptions = 11;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the subscriptions at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getSubscriptionsBytes(int index) {
+        return subscriptions_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * 订阅的模块
+       * </pre>
+       *
+       * <code>repeated string subscriptions = 11;</code>
+       * @param index The index to set the value at.
+       * @param value The subscriptions to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSubscriptions(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureSubscriptionsIsMutable();
+        subscriptions_.set(index, value);
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 订阅的模块
+       * </pre>
+       *
+       * <code>repeated string subscriptions = 11;</code>
+       * @param value The subscriptions to add.
+       * @return This builder for chaining.
+       */
+      public Builder addSubscriptions(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureSubscriptionsIsMutable();
+        subscriptions_.add(value);
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 订阅的模块
+       * </pre>
+       *
+       * <code>repeated string subscriptions = 11;</code>
+       * @param values The subscriptions to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllSubscriptions(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureSubscriptionsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, subscriptions_);
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 订阅的模块
+       * </pre>
+       *
+       * <code>repeated string subscriptions = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSubscriptions() {
+        subscriptions_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000200);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 订阅的模块
+       * </pre>
+       *
+       * <code>repeated string subscriptions = 11;</code>
+       * @param value The bytes of the subscriptions to add.
+       * @return This builder for chaining.
+       */
+      public Builder addSubscriptionsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureSubscriptionsIsMutable();
+        subscriptions_.add(value);
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+
+      private boolean compression_ ;
+      /**
+       * <pre>
+       * 为true时可以接收S_ChangeServiceDeflate
+       * </pre>
+       *
+       * <code>bool compression = 12;</code>
+       * @return The compression.
+       */
+      @java.lang.Override
+      public boolean getCompression() {
+        return compression_;
+      }
+      /**
+       * <pre>
+       * 为true时可以接收S_ChangeServiceDeflate
+       * </pre>
+       *
+       * <code>bool compression = 12;</code>
+       * @param value The compression to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCompression(boolean value) {
+
+        compression_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 为true时可以接收S_ChangeServiceDeflate
+       * </pre>
+       *
+       * <code>bool compression = 12;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCompression() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        compression_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:rocky.routing.ServiceInfo)
+    }
+
+    // @@protoc_insertion_point(class_scope:rocky.routing.ServiceInfo)
+    private static final org.alps.rocky.core.proto.RoutingClient.ServiceInfo DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingClient.ServiceInfo();
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.ServiceInfo getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ServiceInfo>
+        PARSER = new com.google.protobuf.AbstractParser<ServiceInfo>() {
+      @java.lang.Override
+      public ServiceInfo parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ServiceInfo> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ServiceInfo> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingClient.ServiceInfo getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface HealthIdleInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:rocky.routing.HealthIdleInfo)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    int getMsgCount();
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    boolean containsMsg(
+        java.lang.String key);
+    /**
+     * Use {@link #getMsgMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, java.lang.String>
+    getMsg();
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    java.util.Map<java.lang.String, java.lang.String>
+    getMsgMap();
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    /* nullable */
+java.lang.String getMsgOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue);
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    java.lang.String getMsgOrThrow(
+        java.lang.String key);
+  }
+  /**
+   * <pre>
+   * 健康心跳请求
+   * </pre>
+   *
+   * Protobuf type {@code rocky.routing.HealthIdleInfo}
+   */
+  public static final class HealthIdleInfo extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:rocky.routing.HealthIdleInfo)
+      HealthIdleInfoOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use HealthIdleInfo.newBuilder() to construct.
+    private HealthIdleInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private HealthIdleInfo() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new HealthIdleInfo();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_HealthIdleInfo_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    @java.lang.Override
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetMsg();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_HealthIdleInfo_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo.class, org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo.Builder.class);
+    }
+
+    public static final int MSG_FIELD_NUMBER = 1;
+    private static final class MsgDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, java.lang.String> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, java.lang.String>newDefaultInstance(
+                  org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_HealthIdleInfo_MsgEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "");
+    }
+    @SuppressWarnings("serial")
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> msg_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetMsg() {
+      if (msg_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            MsgDefaultEntryHolder.defaultEntry);
+      }
+      return msg_;
+    }
+    public int getMsgCount() {
+      return internalGetMsg().getMap().size();
+    }
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    @java.lang.Override
+    public boolean containsMsg(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetMsg().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getMsgMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getMsg() {
+      return getMsgMap();
+    }
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.Map<java.lang.String, java.lang.String> getMsgMap() {
+      return internalGetMsg().getMap();
+    }
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    @java.lang.Override
+    public /* nullable */
+java.lang.String getMsgOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetMsg().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    @java.lang.Override
+    public java.lang.String getMsgOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetMsg().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      com.google.protobuf.GeneratedMessageV3
+        .serializeStringMapTo(
+          output,
+          internalGetMsg(),
+          MsgDefaultEntryHolder.defaultEntry,
+          1);
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+           : internalGetMsg().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+        msg__ = MsgDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(1, msg__);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo)) {
+        return super.equals(obj);
+      }
+      org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo other = (org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo) obj;
+
+      if (!internalGetMsg().equals(
+          other.internalGetMsg())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (!internalGetMsg().getMap().isEmpty()) {
+        hash = (37 * hash) + MSG_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetMsg().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 健康心跳请求
+     * </pre>
+     *
+     * Protobuf type {@code rocky.routing.HealthIdleInfo}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:rocky.routing.HealthIdleInfo)
+        org.alps.rocky.core.proto.RoutingClient.HealthIdleInfoOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_HealthIdleInfo_descriptor;
+      }
+
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMapField(
+          int number) {
+        switch (number) {
+          case 1:
+            return internalGetMsg();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMutableMapField(
+          int number) {
+        switch (number) {
+          case 1:
+            return internalGetMutableMsg();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_HealthIdleInfo_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo.class, org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo.Builder.class);
+      }
+
+      // Construct using org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        internalGetMutableMsg().clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_HealthIdleInfo_descriptor;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo getDefaultInstanceForType() {
+        return org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo build() {
+        org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo buildPartial() {
+        org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo result = new org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.msg_ = internalGetMsg();
+          result.msg_.makeImmutable();
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo) {
+          return mergeFrom((org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo other) {
+        if (other == org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo.getDefaultInstance()) return this;
+        internalGetMutableMsg().mergeFrom(
+            other.internalGetMsg());
+        bitField0_ |= 0x00000001;
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+                msg__ = input.readMessage(
+                    MsgDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableMsg().getMutableMap().put(
+                    msg__.getKey(), msg__.getValue());
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.MapField<
+          java.lang.String, java.lang.String> msg_;
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetMsg() {
+        if (msg_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              MsgDefaultEntryHolder.defaultEntry);
+        }
+        return msg_;
+      }
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetMutableMsg() {
+        if (msg_ == null) {
+          msg_ = com.google.protobuf.MapField.newMapField(
+              MsgDefaultEntryHolder.defaultEntry);
+        }
+        if (!msg_.isMutable()) {
+          msg_ = msg_.copy();
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return msg_;
+      }
+      public int getMsgCount() {
+        return internalGetMsg().getMap().size();
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      @java.lang.Override
+      public boolean containsMsg(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        return internalGetMsg().getMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getMsgMap()} instead.
+       */
+      @java.lang.Override
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String> getMsg() {
+        return getMsgMap();
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      @java.lang.Override
+      public java.util.Map<java.lang.String, java.lang.String> getMsgMap() {
+        return internalGetMsg().getMap();
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      @java.lang.Override
+      public /* nullable */
+java.lang.String getMsgOrDefault(
+          java.lang.String key,
+          /* nullable */
+java.lang.String defaultValue) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetMsg().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      @java.lang.Override
+      public java.lang.String getMsgOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetMsg().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+      public Builder clearMsg() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        internalGetMutableMsg().getMutableMap()
+            .clear();
+        return this;
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      public Builder removeMsg(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        internalGetMutableMsg().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String>
+          getMutableMsg() {
+        bitField0_ |= 0x00000001;
+        return internalGetMutableMsg().getMutableMap();
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      public Builder putMsg(
+          java.lang.String key,
+          java.lang.String value) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        if (value == null) { throw new NullPointerException("map value"); }
+        internalGetMutableMsg().getMutableMap()
+            .put(key, value);
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      public Builder putAllMsg(
+          java.util.Map<java.lang.String, java.lang.String> values) {
+        internalGetMutableMsg().getMutableMap()
+            .putAll(values);
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:rocky.routing.HealthIdleInfo)
+    }
+
+    // @@protoc_insertion_point(class_scope:rocky.routing.HealthIdleInfo)
+    private static final org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo();
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<HealthIdleInfo>
+        PARSER = new com.google.protobuf.AbstractParser<HealthIdleInfo>() {
+      @java.lang.Override
+      public HealthIdleInfo parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<HealthIdleInfo> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<HealthIdleInfo> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface UpServiceInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:rocky.routing.UpServiceInfo)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    int getMsgCount();
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    boolean containsMsg(
+        java.lang.String key);
+    /**
+     * Use {@link #getMsgMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, java.lang.String>
+    getMsg();
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    java.util.Map<java.lang.String, java.lang.String>
+    getMsgMap();
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    /* nullable */
+java.lang.String getMsgOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue);
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    java.lang.String getMsgOrThrow(
+        java.lang.String key);
+  }
+  /**
+   * <pre>
+   * 激活请求
+   * </pre>
+   *
+   * Protobuf type {@code rocky.routing.UpServiceInfo}
+   */
+  public static final class UpServiceInfo extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:rocky.routing.UpServiceInfo)
+      UpServiceInfoOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use UpServiceInfo.newBuilder() to construct.
+    private UpServiceInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private UpServiceInfo() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new UpServiceInfo();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_UpServiceInfo_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    @java.lang.Override
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetMsg();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_UpServiceInfo_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.alps.rocky.core.proto.RoutingClient.UpServiceInfo.class, org.alps.rocky.core.proto.RoutingClient.UpServiceInfo.Builder.class);
+    }
+
+    public static final int MSG_FIELD_NUMBER = 1;
+    private static final class MsgDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, java.lang.String> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, java.lang.String>newDefaultInstance(
+                  org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_UpServiceInfo_MsgEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "");
+    }
+    @SuppressWarnings("serial")
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> msg_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetMsg() {
+      if (msg_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            MsgDefaultEntryHolder.defaultEntry);
+      }
+      return msg_;
+    }
+    public int getMsgCount() {
+      return internalGetMsg().getMap().size();
+    }
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    @java.lang.Override
+    public boolean containsMsg(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetMsg().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getMsgMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getMsg() {
+      return getMsgMap();
+    }
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.Map<java.lang.String, java.lang.String> getMsgMap() {
+      return internalGetMsg().getMap();
+    }
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    @java.lang.Override
+    public /* nullable */
+java.lang.String getMsgOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetMsg().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    @java.lang.Override
+    public java.lang.String getMsgOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetMsg().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      com.google.protobuf.GeneratedMessageV3
+        .serializeStringMapTo(
+          output,
+          internalGetMsg(),
+          MsgDefaultEntryHolder.defaultEntry,
+          1);
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+           : internalGetMsg().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+        msg__ = MsgDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(1, msg__);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.alps.rocky.core.proto.RoutingClient.UpServiceInfo)) {
+        return super.equals(obj);
+      }
+      org.alps.rocky.core.proto.RoutingClient.UpServiceInfo other = (org.alps.rocky.core.proto.RoutingClient.UpServiceInfo) obj;
+
+      if (!internalGetMsg().equals(
+          other.internalGetMsg())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (!internalGetMsg().getMap().isEmpty()) {
+        hash = (37 * hash) + MSG_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetMsg().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.UpServiceInfo parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.UpServiceInfo parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.UpServiceInfo parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.UpServiceInfo parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.UpServiceInfo parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.UpServiceInfo parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.UpServiceInfo parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.UpServiceInfo parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.UpServiceInfo parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.UpServiceInfo parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.UpServiceInfo parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.UpServiceInfo parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.alps.rocky.core.proto.RoutingClient.UpServiceInfo prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 激活请求
+     * </pre>
+     *
+     * Protobuf type {@code rocky.routing.UpServiceInfo}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:rocky.routing.UpServiceInfo)
+        org.alps.rocky.core.proto.RoutingClient.UpServiceInfoOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_UpServiceInfo_descriptor;
+      }
+
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMapField(
+          int number) {
+        switch (number) {
+          case 1:
+            return internalGetMsg();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMutableMapField(
+          int number) {
+        switch (number) {
+          case 1:
+            return internalGetMutableMsg();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_UpServiceInfo_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.alps.rocky.core.proto.RoutingClient.UpServiceInfo.class, org.alps.rocky.core.proto.RoutingClient.UpServiceInfo.Builder.class);
+      }
+
+      // Construct using org.alps.rocky.core.proto.RoutingClient.UpServiceInfo.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        internalGetMutableMsg().clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_UpServiceInfo_descriptor;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.UpServiceInfo getDefaultInstanceForType() {
+        return org.alps.rocky.core.proto.RoutingClient.UpServiceInfo.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.UpServiceInfo build() {
+        org.alps.rocky.core.proto.RoutingClient.UpServiceInfo result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.UpServiceInfo buildPartial() {
+        org.alps.rocky.core.proto.RoutingClient.UpServiceInfo result = new org.alps.rocky.core.proto.RoutingClient.UpServiceInfo(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.alps.rocky.core.proto.RoutingClient.UpServiceInfo result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.msg_ = internalGetMsg();
+          result.msg_.makeImmutable();
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.alps.rocky.core.proto.RoutingClient.UpServiceInfo) {
+          return mergeFrom((org.alps.rocky.core.proto.RoutingClient.UpServiceInfo)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.alps.rocky.core.proto.RoutingClient.UpServiceInfo other) {
+        if (other == org.alps.rocky.core.proto.RoutingClient.UpServiceInfo.getDefaultInstance()) return this;
+        internalGetMutableMsg().mergeFrom(
+            other.internalGetMsg());
+        bitField0_ |= 0x00000001;
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+                msg__ = input.readMessage(
+                    MsgDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableMsg().getMutableMap().put(
+                    msg__.getKey(), msg__.getValue());
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.MapField<
+          java.lang.String, java.lang.String> msg_;
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetMsg() {
+        if (msg_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              MsgDefaultEntryHolder.defaultEntry);
+        }
+        return msg_;
+      }
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetMutableMsg() {
+        if (msg_ == null) {
+          msg_ = com.google.protobuf.MapField.newMapField(
+              MsgDefaultEntryHolder.defaultEntry);
+        }
+        if (!msg_.isMutable()) {
+          msg_ = msg_.copy();
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return msg_;
+      }
+      public int getMsgCount() {
+        return internalGetMsg().getMap().size();
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      @java.lang.Override
+      public boolean containsMsg(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        return internalGetMsg().getMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getMsgMap()} instead.
+       */
+      @java.lang.Override
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String> getMsg() {
+        return getMsgMap();
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      @java.lang.Override
+      public java.util.Map<java.lang.String, java.lang.String> getMsgMap() {
+        return internalGetMsg().getMap();
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      @java.lang.Override
+      public /* nullable */
+java.lang.String getMsgOrDefault(
+          java.lang.String key,
+          /* nullable */
+java.lang.String defaultValue) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetMsg().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      @java.lang.Override
+      public java.lang.String getMsgOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetMsg().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+      public Builder clearMsg() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        internalGetMutableMsg().getMutableMap()
+            .clear();
+        return this;
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      public Builder removeMsg(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        internalGetMutableMsg().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String>
+          getMutableMsg() {
+        bitField0_ |= 0x00000001;
+        return internalGetMutableMsg().getMutableMap();
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      public Builder putMsg(
+          java.lang.String key,
+          java.lang.String value) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        if (value == null) { throw new NullPointerException("map value"); }
+        internalGetMutableMsg().getMutableMap()
+            .put(key, value);
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      public Builder putAllMsg(
+          java.util.Map<java.lang.String, java.lang.String> values) {
+        internalGetMutableMsg().getMutableMap()
+            .putAll(values);
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:rocky.routing.UpServiceInfo)
+    }
+
+    // @@protoc_insertion_point(class_scope:rocky.routing.UpServiceInfo)
+    private static final org.alps.rocky.core.proto.RoutingClient.UpServiceInfo DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingClient.UpServiceInfo();
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.UpServiceInfo getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<UpServiceInfo>
+        PARSER = new com.google.protobuf.AbstractParser<UpServiceInfo>() {
+      @java.lang.Override
+      public UpServiceInfo parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<UpServiceInfo> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UpServiceInfo> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingClient.UpServiceInfo getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DownServiceInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:rocky.routing.DownServiceInfo)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    int getMsgCount();
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    boolean containsMsg(
+        java.lang.String key);
+    /**
+     * Use {@link #getMsgMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, java.lang.String>
+    getMsg();
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    java.util.Map<java.lang.String, java.lang.String>
+    getMsgMap();
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    /* nullable */
+java.lang.String getMsgOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue);
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    java.lang.String getMsgOrThrow(
+        java.lang.String key);
+  }
+  /**
+   * <pre>
+   * 停止请求
+   * </pre>
+   *
+   * Protobuf type {@code rocky.routing.DownServiceInfo}
+   */
+  public static final class DownServiceInfo extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:rocky.routing.DownServiceInfo)
+      DownServiceInfoOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DownServiceInfo.newBuilder() to construct.
+    private DownServiceInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DownServiceInfo() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DownServiceInfo();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_DownServiceInfo_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    @java.lang.Override
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetMsg();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_DownServiceInfo_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.alps.rocky.core.proto.RoutingClient.DownServiceInfo.class, org.alps.rocky.core.proto.RoutingClient.DownServiceInfo.Builder.class);
+    }
+
+    public static final int MSG_FIELD_NUMBER = 1;
+    private static final class MsgDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, java.lang.String> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, java.lang.String>newDefaultInstance(
+                  org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_DownServiceInfo_MsgEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "");
+    }
+    @SuppressWarnings("serial")
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> msg_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetMsg() {
+      if (msg_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            MsgDefaultEntryHolder.defaultEntry);
+      }
+      return msg_;
+    }
+    public int getMsgCount() {
+      return internalGetMsg().getMap().size();
+    }
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    @java.lang.Override
+    public boolean containsMsg(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetMsg().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getMsgMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getMsg() {
+      return getMsgMap();
+    }
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.Map<java.lang.String, java.lang.String> getMsgMap() {
+      return internalGetMsg().getMap();
+    }
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    @java.lang.Override
+    public /* nullable */
+java.lang.String getMsgOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetMsg().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * 上报数据(负载、在线人数、内存)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; msg = 1;</code>
+     */
+    @java.lang.Override
+    public java.lang.String getMsgOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetMsg().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      com.google.protobuf.GeneratedMessageV3
+        .serializeStringMapTo(
+          output,
+          internalGetMsg(),
+          MsgDefaultEntryHolder.defaultEntry,
+          1);
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+           : internalGetMsg().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+        msg__ = MsgDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(1, msg__);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.alps.rocky.core.proto.RoutingClient.DownServiceInfo)) {
+        return super.equals(obj);
+      }
+      org.alps.rocky.core.proto.RoutingClient.DownServiceInfo other = (org.alps.rocky.core.proto.RoutingClient.DownServiceInfo) obj;
+
+      if (!internalGetMsg().equals(
+          other.internalGetMsg())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (!internalGetMsg().getMap().isEmpty()) {
+        hash = (37 * hash) + MSG_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetMsg().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.DownServiceInfo parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.DownServiceInfo parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.DownServiceInfo parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.DownServiceInfo parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.DownServiceInfo parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.DownServiceInfo parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.DownServiceInfo parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.DownServiceInfo parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.DownServiceInfo parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.DownServiceInfo parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.DownServiceInfo parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.DownServiceInfo parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.alps.rocky.core.proto.RoutingClient.DownServiceInfo prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 停止请求
+     * </pre>
+     *
+     * Protobuf type {@code rocky.routing.DownServiceInfo}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:rocky.routing.DownServiceInfo)
+        org.alps.rocky.core.proto.RoutingClient.DownServiceInfoOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_DownServiceInfo_descriptor;
+      }
+
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMapField(
+          int number) {
+        switch (number) {
+          case 1:
+            return internalGetMsg();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMutableMapField(
+          int number) {
+        switch (number) {
+          case 1:
+            return internalGetMutableMsg();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_DownServiceInfo_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.alps.rocky.core.proto.RoutingClient.DownServiceInfo.class, org.alps.rocky.core.proto.RoutingClient.DownServiceInfo.Builder.class);
+      }
+
+      // Construct using org.alps.rocky.core.proto.RoutingClient.DownServiceInfo.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        internalGetMutableMsg().clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_DownServiceInfo_descriptor;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.DownServiceInfo getDefaultInstanceForType() {
+        return org.alps.rocky.core.proto.RoutingClient.DownServiceInfo.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.DownServiceInfo build() {
+        org.alps.rocky.core.proto.RoutingClient.DownServiceInfo result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.DownServiceInfo buildPartial() {
+        org.alps.rocky.core.proto.RoutingClient.DownServiceInfo result = new org.alps.rocky.core.proto.RoutingClient.DownServiceInfo(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.alps.rocky.core.proto.RoutingClient.DownServiceInfo result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.msg_ = internalGetMsg();
+          result.msg_.makeImmutable();
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.alps.rocky.core.proto.RoutingClient.DownServiceInfo) {
+          return mergeFrom((org.alps.rocky.core.proto.RoutingClient.DownServiceInfo)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.alps.rocky.core.proto.RoutingClient.DownServiceInfo other) {
+        if (other == org.alps.rocky.core.proto.RoutingClient.DownServiceInfo.getDefaultInstance()) return this;
+        internalGetMutableMsg().mergeFrom(
+            other.internalGetMsg());
+        bitField0_ |= 0x00000001;
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+                msg__ = input.readMessage(
+                    MsgDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableMsg().getMutableMap().put(
+                    msg__.getKey(), msg__.getValue());
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.MapField<
+          java.lang.String, java.lang.String> msg_;
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetMsg() {
+        if (msg_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              MsgDefaultEntryHolder.defaultEntry);
+        }
+        return msg_;
+      }
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetMutableMsg() {
+        if (msg_ == null) {
+          msg_ = com.google.protobuf.MapField.newMapField(
+              MsgDefaultEntryHolder.defaultEntry);
+        }
+        if (!msg_.isMutable()) {
+          msg_ = msg_.copy();
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return msg_;
+      }
+      public int getMsgCount() {
+        return internalGetMsg().getMap().size();
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      @java.lang.Override
+      public boolean containsMsg(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        return internalGetMsg().getMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getMsgMap()} instead.
+       */
+      @java.lang.Override
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String> getMsg() {
+        return getMsgMap();
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      @java.lang.Override
+      public java.util.Map<java.lang.String, java.lang.String> getMsgMap() {
+        return internalGetMsg().getMap();
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      @java.lang.Override
+      public /* nullable */
+java.lang.String getMsgOrDefault(
+          java.lang.String key,
+          /* nullable */
+java.lang.String defaultValue) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetMsg().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      @java.lang.Override
+      public java.lang.String getMsgOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetMsg().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+      public Builder clearMsg() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        internalGetMutableMsg().getMutableMap()
+            .clear();
+        return this;
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      public Builder removeMsg(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        internalGetMutableMsg().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String>
+          getMutableMsg() {
+        bitField0_ |= 0x00000001;
+        return internalGetMutableMsg().getMutableMap();
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      public Builder putMsg(
+          java.lang.String key,
+          java.lang.String value) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        if (value == null) { throw new NullPointerException("map value"); }
+        internalGetMutableMsg().getMutableMap()
+            .put(key, value);
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <pre>
+       * 上报数据(负载、在线人数、内存)
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; msg = 1;</code>
+       */
+      public Builder putAllMsg(
+          java.util.Map<java.lang.String, java.lang.String> values) {
+        internalGetMutableMsg().getMutableMap()
+            .putAll(values);
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:rocky.routing.DownServiceInfo)
+    }
+
+    // @@protoc_insertion_point(class_scope:rocky.routing.DownServiceInfo)
+    private static final org.alps.rocky.core.proto.RoutingClient.DownServiceInfo DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingClient.DownServiceInfo();
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.DownServiceInfo getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DownServiceInfo>
+        PARSER = new com.google.protobuf.AbstractParser<DownServiceInfo>() {
+      @java.lang.Override
+      public DownServiceInfo parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DownServiceInfo> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DownServiceInfo> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingClient.DownServiceInfo getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:rocky.routing.BatchInfo)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+     */
+    java.util.List<org.alps.rocky.core.proto.RoutingCommon.RoutingFrame> 
+        getFramesList();
+    /**
+     * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+     */
+    org.alps.rocky.core.proto.RoutingCommon.RoutingFrame getFrames(int index);
+    /**
+     * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+     */
+    int getFramesCount();
+    /**
+     * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+     */
+    java.util.List<? extends org.alps.rocky.core.proto.RoutingCommon.RoutingFrameOrBuilder> 
+        getFramesOrBuilderList();
+    /**
+     * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+     */
+    org.alps.rocky.core.proto.RoutingCommon.RoutingFrameOrBuilder getFramesOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * 批量请求，按顺序执行
+   * </pre>
+   *
+   * Protobuf type {@code rocky.routing.BatchInfo}
+   */
+  public static final class BatchInfo extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:rocky.routing.BatchInfo)
+      BatchInfoOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchInfo.newBuilder() to construct.
+    private BatchInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchInfo() {
+      frames_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchInfo();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_BatchInfo_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_BatchInfo_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.alps.rocky.core.proto.RoutingClient.BatchInfo.class, org.alps.rocky.core.proto.RoutingClient.BatchInfo.Builder.class);
+    }
+
+    public static final int FRAMES_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<org.alps.rocky.core.proto.RoutingCommon.RoutingFrame> frames_;
+    /**
+     * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.alps.rocky.core.proto.RoutingCommon.RoutingFrame> getFramesList() {
+      return frames_;
+    }
+    /**
+     * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.alps.rocky.core.proto.RoutingCommon.RoutingFrameOrBuilder> 
+        getFramesOrBuilderList() {
+      return frames_;
+    }
+    /**
+     * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+     */
+    @java.lang.Override
+    public int getFramesCount() {
+      return frames_.size();
+    }
+    /**
+     * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingCommon.RoutingFrame getFrames(int index) {
+      return frames_.get(index);
+    }
+    /**
+     * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingCommon.RoutingFrameOrBuilder getFramesOrBuilder(
+        int index) {
+      return frames_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < frames_.size(); i++) {
+        output.writeMessage(1, frames_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < frames_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, frames_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.alps.rocky.core.proto.RoutingClient.BatchInfo)) {
+        return super.equals(obj);
+      }
+      org.alps.rocky.core.proto.RoutingClient.BatchInfo other = (org.alps.rocky.core.proto.RoutingClient.BatchInfo) obj;
+
+      if (!getFramesList()
+          .equals(other.getFramesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getFramesCount() > 0) {
+        hash = (37 * hash) + FRAMES_FIELD_NUMBER;
+        hash = (53 * hash) + getFramesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.BatchInfo parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.BatchInfo parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.BatchInfo parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.BatchInfo parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.BatchInfo parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.BatchInfo parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.BatchInfo parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.BatchInfo parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.BatchInfo parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.BatchInfo parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.BatchInfo parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.BatchInfo parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.alps.rocky.core.proto.RoutingClient.BatchInfo prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 批量请求，按顺序执行
+     * </pre>
+     *
+     * Protobuf type {@code rocky.routing.BatchInfo}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:rocky.routing.BatchInfo)
+        org.alps.rocky.core.proto.RoutingClient.BatchInfoOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_BatchInfo_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_BatchInfo_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.alps.rocky.core.proto.RoutingClient.BatchInfo.class, org.alps.rocky.core.proto.RoutingClient.BatchInfo.Builder.class);
+      }
+
+      // Construct using org.alps.rocky.core.proto.RoutingClient.BatchInfo.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (framesBuilder_ == null) {
+          frames_ = java.util.Collections.emptyList();
+        } else {
+          frames_ = null;
+          framesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_BatchInfo_descriptor;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.BatchInfo getDefaultInstanceForType() {
+        return org.alps.rocky.core.proto.RoutingClient.BatchInfo.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.BatchInfo build() {
+        org.alps.rocky.core.proto.RoutingClient.BatchInfo result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.BatchInfo buildPartial() {
+        org.alps.rocky.core.proto.RoutingClient.BatchInfo result = new org.alps.rocky.core.proto.RoutingClient.BatchInfo(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.alps.rocky.core.proto.RoutingClient.BatchInfo result) {
+        if (framesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            frames_ = java.util.Collections.unmodifiableList(frames_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.frames_ = frames_;
+        } else {
+          result.frames_ = framesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.alps.rocky.core.proto.RoutingClient.BatchInfo result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.alps.rocky.core.proto.RoutingClient.BatchInfo) {
+          return mergeFrom((org.alps.rocky.core.proto.RoutingClient.BatchInfo)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.alps.rocky.core.proto.RoutingClient.BatchInfo other) {
+        if (other == org.alps.rocky.core.proto.RoutingClient.BatchInfo.getDefaultInstance()) return this;
+        if (framesBuilder_ == null) {
+          if (!other.frames_.isEmpty()) {
+            if (frames_.isEmpty()) {
+              frames_ = other.frames_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureFramesIsMutable();
+              frames_.addAll(other.frames_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.frames_.isEmpty()) {
+            if (framesBuilder_.isEmpty()) {
+              framesBuilder_.dispose();
+              framesBuilder_ = null;
+              frames_ = other.frames_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              framesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getFramesFieldBuilder() : null;
+            } else {
+              framesBuilder_.addAllMessages(other.frames_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                org.alps.rocky.core.proto.RoutingCommon.RoutingFrame m =
+                    input.readMessage(
+                        org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.parser(),
+                        extensionRegistry);
+                if (framesBuilder_ == null) {
+                  ensureFramesIsMutable();
+                  frames_.add(m);
+                } else {
+                  framesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.alps.rocky.core.proto.RoutingCommon.RoutingFrame> frames_ =
+        java.util.Collections.emptyList();
+      private void ensureFramesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          frames_ = new java.util.ArrayList<org.alps.rocky.core.proto.RoutingCommon.RoutingFrame>(frames_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingCommon.RoutingFrame, org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.Builder, org.alps.rocky.core.proto.RoutingCommon.RoutingFrameOrBuilder> framesBuilder_;
+
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public java.util.List<org.alps.rocky.core.proto.RoutingCommon.RoutingFrame> getFramesList() {
+        if (framesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(frames_);
+        } else {
+          return framesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public int getFramesCount() {
+        if (framesBuilder_ == null) {
+          return frames_.size();
+        } else {
+          return framesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingCommon.RoutingFrame getFrames(int index) {
+        if (framesBuilder_ == null) {
+          return frames_.get(index);
+        } else {
+          return framesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public Builder setFrames(
+          int index, org.alps.rocky.core.proto.RoutingCommon.RoutingFrame value) {
+        if (framesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFramesIsMutable();
+          frames_.set(index, value);
+          onChanged();
+        } else {
+          framesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public Builder setFrames(
+          int index, org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.Builder builderForValue) {
+        if (framesBuilder_ == null) {
+          ensureFramesIsMutable();
+          frames_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          framesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public Builder addFrames(org.alps.rocky.core.proto.RoutingCommon.RoutingFrame value) {
+        if (framesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFramesIsMutable();
+          frames_.add(value);
+          onChanged();
+        } else {
+          framesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public Builder addFrames(
+          int index, org.alps.rocky.core.proto.RoutingCommon.RoutingFrame value) {
+        if (framesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFramesIsMutable();
+          frames_.add(index, value);
+          onChanged();
+        } else {
+          framesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public Builder addFrames(
+          org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.Builder builderForValue) {
+        if (framesBuilder_ == null) {
+          ensureFramesIsMutable();
+          frames_.add(builderForValue.build());
+          onChanged();
+        } else {
+          framesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public Builder addFrames(
+          int index, org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.Builder builderForValue) {
+        if (framesBuilder_ == null) {
+          ensureFramesIsMutable();
+          frames_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          framesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public Builder addAllFrames(
+          java.lang.Iterable<? extends org.alps.rocky.core.proto.RoutingCommon.RoutingFrame> values) {
+        if (framesBuilder_ == null) {
+          ensureFramesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, frames_);
+          onChanged();
+        } else {
+          framesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public Builder clearFrames() {
+        if (framesBuilder_ == null) {
+          frames_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          framesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public Builder removeFrames(int index) {
+        if (framesBuilder_ == null) {
+          ensureFramesIsMutable();
+          frames_.remove(index);
+          onChanged();
+        } else {
+          framesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.Builder getFramesBuilder(
+          int index) {
+        return getFramesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingCommon.RoutingFrameOrBuilder getFramesOrBuilder(
+          int index) {
+        if (framesBuilder_ == null) {
+          return frames_.get(index);  } else {
+          return framesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public java.util.List<? extends org.alps.rocky.core.proto.RoutingCommon.RoutingFrameOrBuilder> 
+           getFramesOrBuilderList() {
+        if (framesBuilder_ != null) {
+          return framesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(frames_);
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.Builder addFramesBuilder() {
+        return getFramesFieldBuilder().addBuilder(
+            org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.Builder addFramesBuilder(
+          int index) {
+        return getFramesFieldBuilder().addBuilder(
+            index, org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .rocky.routing.RoutingFrame frames = 1;</code>
+       */
+      public java.util.List<org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.Builder> 
+           getFramesBuilderList() {
+        return getFramesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingCommon.RoutingFrame, org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.Builder, org.alps.rocky.core.proto.RoutingCommon.RoutingFrameOrBuilder> 
+          getFramesFieldBuilder() {
+        if (framesBuilder_ == null) {
+          framesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.alps.rocky.core.proto.RoutingCommon.RoutingFrame, org.alps.rocky.core.proto.RoutingCommon.RoutingFrame.Builder, org.alps.rocky.core.proto.RoutingCommon.RoutingFrameOrBuilder>(
+                  frames_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          frames_ = null;
+        }
+        return framesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:rocky.routing.BatchInfo)
+    }
+
+    // @@protoc_insertion_point(class_scope:rocky.routing.BatchInfo)
+    private static final org.alps.rocky.core.proto.RoutingClient.BatchInfo DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingClient.BatchInfo();
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.BatchInfo getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchInfo>
+        PARSER = new com.google.protobuf.AbstractParser<BatchInfo>() {
+      @java.lang.Override
+      public BatchInfo parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchInfo> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchInfo> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingClient.BatchInfo getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ModuleAckOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:rocky.routing.ModuleAck)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string moduleName = 1;</code>
+     * @return The moduleName.
+     */
+    java.lang.String getModuleName();
+    /**
+     * <code>string moduleName = 1;</code>
+     * @return The bytes for moduleName.
+     */
+    com.google.protobuf.ByteString
+        getModuleNameBytes();
+
+    /**
+     * <code>int64 revision = 2;</code>
+     * @return The revision.
+     */
+    long getRevision();
+  }
+  /**
+   * <pre>
+   * 确认已应用的模块版本，路由之后按这个版本推送增量
+   * </pre>
+   *
+   * Protobuf type {@code rocky.routing.ModuleAck}
+   */
+  public static final class ModuleAck extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:rocky.routing.ModuleAck)
+      ModuleAckOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ModuleAck.newBuilder() to construct.
+    private ModuleAck(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ModuleAck() {
+      moduleName_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ModuleAck();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_ModuleAck_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_ModuleAck_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.alps.rocky.core.proto.RoutingClient.ModuleAck.class, org.alps.rocky.core.proto.RoutingClient.ModuleAck.Builder.class);
+    }
+
+    public static final int MODULENAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object moduleName_ = "";
+    /**
+     * <code>string moduleName = 1;</code>
+     * @return The moduleName.
+     */
+    @java.lang.Override
+    public java.lang.String getModuleName() {
+      java.lang.Object ref = moduleName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        moduleName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string moduleName = 1;</code>
+     * @return The bytes for moduleName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getModuleNameBytes() {
+      java.lang.Object ref = moduleName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        moduleName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REVISION_FIELD_NUMBER = 2;
+    private long revision_ = 0L;
+    /**
+     * <code>int64 revision = 2;</code>
+     * @return The revision.
+     */
+    @java.lang.Override
+    public long getRevision() {
+      return revision_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(moduleName_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, moduleName_);
+      }
+      if (revision_ != 0L) {
+        output.writeInt64(2, revision_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(moduleName_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, moduleName_);
+      }
+      if (revision_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, revision_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.alps.rocky.core.proto.RoutingClient.ModuleAck)) {
+        return super.equals(obj);
+      }
+      org.alps.rocky.core.proto.RoutingClient.ModuleAck other = (org.alps.rocky.core.proto.RoutingClient.ModuleAck) obj;
+
+      if (!getModuleName()
+          .equals(other.getModuleName())) return false;
+      if (getRevision()
+          != other.getRevision()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + MODULENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getModuleName().hashCode();
+      hash = (37 * hash) + REVISION_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRevision());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.ModuleAck parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ModuleAck parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ModuleAck parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ModuleAck parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ModuleAck parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ModuleAck parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ModuleAck parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ModuleAck parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.ModuleAck parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.ModuleAck parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ModuleAck parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ModuleAck parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.alps.rocky.core.proto.RoutingClient.ModuleAck prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 确认已应用的模块版本，路由之后按这个版本推送增量
+     * </pre>
+     *
+     * Protobuf type {@code rocky.routing.ModuleAck}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:rocky.routing.ModuleAck)
+        org.alps.rocky.core.proto.RoutingClient.ModuleAckOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_ModuleAck_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_ModuleAck_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.alps.rocky.core.proto.RoutingClient.ModuleAck.class, org.alps.rocky.core.proto.RoutingClient.ModuleAck.Builder.class);
+      }
+
+      // Construct using org.alps.rocky.core.proto.RoutingClient.ModuleAck.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        moduleName_ = "";
+        revision_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_ModuleAck_descriptor;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.ModuleAck getDefaultInstanceForType() {
+        return org.alps.rocky.core.proto.RoutingClient.ModuleAck.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.ModuleAck build() {
+        org.alps.rocky.core.proto.RoutingClient.ModuleAck result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.ModuleAck buildPartial() {
+        org.alps.rocky.core.proto.RoutingClient.ModuleAck result = new org.alps.rocky.core.proto.RoutingClient.ModuleAck(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.alps.rocky.core.proto.RoutingClient.ModuleAck result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.moduleName_ = moduleName_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.revision_ = revision_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.alps.rocky.core.proto.RoutingClient.ModuleAck) {
+          return mergeFrom((org.alps.rocky.core.proto.RoutingClient.ModuleAck)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.alps.rocky.core.proto.RoutingClient.ModuleAck other) {
+        if (other == org.alps.rocky.core.proto.RoutingClient.ModuleAck.getDefaultInstance()) return this;
+        if (!other.getModuleName().isEmpty()) {
+          moduleName_ = other.moduleName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getRevision() != 0L) {
+          setRevision(other.getRevision());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                moduleName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                revision_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object moduleName_ = "";
+      /**
+       * <code>string moduleName = 1;</code>
+       * @return The moduleName.
+       */
+      public java.lang.String getModuleName() {
+        java.lang.Object ref = moduleName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          moduleName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string moduleName = 1;</code>
+       * @return The bytes for moduleName.
+       */
+      public com.google.protobuf.ByteString
+          getModuleNameBytes() {
+        java.lang.Object ref = moduleName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          moduleName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string moduleName = 1;</code>
+       * @param value The moduleName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModuleName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        moduleName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string moduleName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearModuleName() {
+        moduleName_ = getDefaultInstance().getModuleName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string moduleName = 1;</code>
+       * @param value The bytes for moduleName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModuleNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        moduleName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private long revision_ ;
+      /**
+       * <code>int64 revision = 2;</code>
+       * @return The revision.
+       */
+      @java.lang.Override
+      public long getRevision() {
+        return revision_;
+      }
+      /**
+       * <code>int64 revision = 2;</code>
+       * @param value The revision to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRevision(long value) {
+
+        revision_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 revision = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRevision() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        revision_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:rocky.routing.ModuleAck)
+    }
+
+    // @@protoc_insertion_point(class_scope:rocky.routing.ModuleAck)
+    private static final org.alps.rocky.core.proto.RoutingClient.ModuleAck DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingClient.ModuleAck();
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.ModuleAck getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ModuleAck>
+        PARSER = new com.google.protobuf.AbstractParser<ModuleAck>() {
+      @java.lang.Override
+      public ModuleAck parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ModuleAck> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ModuleAck> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingClient.ModuleAck getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SubscribeInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:rocky.routing.SubscribeInfo)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated string moduleNames = 1;</code>
+     * @return A list containing the moduleNames.
+     */
+    java.util.List<java.lang.String>
+        getModuleNamesList();
+    /**
+     * <code>repeated string moduleNames = 1;</code>
+     * @return The count of moduleNames.
+     */
+    int getModuleNamesCount();
+    /**
+     * <code>repeated string moduleNames = 1;</code>
+     * @param index The index of the element to return.
+     * @return The moduleNames at the given index.
+     */
+    java.lang.String getModuleNames(int index);
+    /**
+     * <code>repeated string moduleNames = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the moduleNames at the given index.
+     */
+    com.google.protobuf.ByteString
+        getModuleNamesBytes(int index);
+  }
+  /**
+   * <pre>
+   * 订阅模块，路由推送模块当前的全量信息
+   * </pre>
+   *
+   * Protobuf type {@code rocky.routing.SubscribeInfo}
+   */
+  public static final class SubscribeInfo extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:rocky.routing.SubscribeInfo)
+      SubscribeInfoOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SubscribeInfo.newBuilder() to construct.
+    private SubscribeInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SubscribeInfo() {
+      moduleNames_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SubscribeInfo();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_SubscribeInfo_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_SubscribeInfo_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.alps.rocky.core.proto.RoutingClient.SubscribeInfo.class, org.alps.rocky.core.proto.RoutingClient.SubscribeInfo.Builder.class);
+    }
+
+    public static final int MODULENAMES_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList moduleNames_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string moduleNames = 1;</code>
+     * @return A list containing the moduleNames.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getModuleNamesList() {
+      return moduleNames_;
+    }
+    /**
+     * <code>repeated string moduleNames = 1;</code>
+     * @return The count of moduleNames.
+     */
+    public int getModuleNamesCount() {
+      return moduleNames_.size();
+    }
+    /**
+     * <code>repeated string moduleNames = 1;</code>
+     * @param index The index of the element to return.
+     * @return The moduleNames at the given index.
+     */
+    public java.lang.String getModuleNames(int index) {
+      return moduleNames_.get(index);
+    }
+    /**
+     * <code>repeated string moduleNames = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the moduleNames at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getModuleNamesBytes(int index) {
+      return moduleNames_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < moduleNames_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, moduleNames_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < moduleNames_.size(); i++) {
+          dataSize += computeStringSizeNoTag(moduleNames_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getModuleNamesList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.alps.rocky.core.proto.RoutingClient.SubscribeInfo)) {
+        return super.equals(obj);
+      }
+      org.alps.rocky.core.proto.RoutingClient.SubscribeInfo other = (org.alps.rocky.core.proto.RoutingClient.SubscribeInfo) obj;
+
+      if (!getModuleNamesList()
+          .equals(other.getModuleNamesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getModuleNamesCount() > 0) {
+        hash = (37 * hash) + MODULENAMES_FIELD_NUMBER;
+        hash = (53 * hash) + getModuleNamesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.SubscribeInfo parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.SubscribeInfo parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.SubscribeInfo parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.SubscribeInfo parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.SubscribeInfo parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.SubscribeInfo parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.SubscribeInfo parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.SubscribeInfo parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.SubscribeInfo parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.SubscribeInfo parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.SubscribeInfo parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.SubscribeInfo parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.alps.rocky.core.proto.RoutingClient.SubscribeInfo prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 订阅模块，路由推送模块当前的全量信息
+     * </pre>
+     *
+     * Protobuf type {@code rocky.routing.SubscribeInfo}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:rocky.routing.SubscribeInfo)
+        org.alps.rocky.core.proto.RoutingClient.SubscribeInfoOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_SubscribeInfo_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_SubscribeInfo_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.alps.rocky.core.proto.RoutingClient.SubscribeInfo.class, org.alps.rocky.core.proto.RoutingClient.SubscribeInfo.Builder.class);
+      }
+
+      // Construct using org.alps.rocky.core.proto.RoutingClient.SubscribeInfo.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        moduleNames_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_SubscribeInfo_descriptor;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.SubscribeInfo getDefaultInstanceForType() {
+        return org.alps.rocky.core.proto.RoutingClient.SubscribeInfo.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.SubscribeInfo build() {
+        org.alps.rocky.core.proto.RoutingClient.SubscribeInfo result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.SubscribeInfo buildPartial() {
+        org.alps.rocky.core.proto.RoutingClient.SubscribeInfo result = new org.alps.rocky.core.proto.RoutingClient.SubscribeInfo(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.alps.rocky.core.proto.RoutingClient.SubscribeInfo result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          moduleNames_.makeImmutable();
+          result.moduleNames_ = moduleNames_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.alps.rocky.core.proto.RoutingClient.SubscribeInfo) {
+          return mergeFrom((org.alps.rocky.core.proto.RoutingClient.SubscribeInfo)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.alps.rocky.core.proto.RoutingClient.SubscribeInfo other) {
+        if (other == org.alps.rocky.core.proto.RoutingClient.SubscribeInfo.getDefaultInstance()) return this;
+        if (!other.moduleNames_.isEmpty()) {
+          if (moduleNames_.isEmpty()) {
+            moduleNames_ = other.moduleNames_;
+            bitField0_ |= 0x00000001;
+          } else {
+            ensureModuleNamesIsMutable();
+            moduleNames_.addAll(other.moduleNames_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureModuleNamesIsMutable();
+                moduleNames_.add(s);
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringArrayList moduleNames_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureModuleNamesIsMutable() {
+        if (!moduleNames_.isModifiable()) {
+          moduleNames_ = new com.google.protobuf.LazyStringArrayList(moduleNames_);
+        }
+        bitField0_ |= 0x00000001;
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @return A list containing the moduleNames.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getModuleNamesList() {
+        moduleNames_.makeImmutable();
+        return moduleNames_;
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @return The count of moduleNames.
+       */
+      public int getModuleNamesCount() {
+        return moduleNames_.size();
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @param index The index of the element to return.
+       * @return The moduleNames at the given index.
+       */
+      public java.lang.String getModuleNames(int index) {
+        return moduleNames_.get(index);
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the moduleNames at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getModuleNamesBytes(int index) {
+        return moduleNames_.getByteString(index);
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The moduleNames to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModuleNames(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureModuleNamesIsMutable();
+        moduleNames_.set(index, value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @param value The moduleNames to add.
+       * @return This builder for chaining.
+       */
+      public Builder addModuleNames(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureModuleNamesIsMutable();
+        moduleNames_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @param values The moduleNames to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllModuleNames(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureModuleNamesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, moduleNames_);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearModuleNames() {
+        moduleNames_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @param value The bytes of the moduleNames to add.
+       * @return This builder for chaining.
+       */
+      public Builder addModuleNamesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureModuleNamesIsMutable();
+        moduleNames_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:rocky.routing.SubscribeInfo)
+    }
+
+    // @@protoc_insertion_point(class_scope:rocky.routing.SubscribeInfo)
+    private static final org.alps.rocky.core.proto.RoutingClient.SubscribeInfo DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingClient.SubscribeInfo();
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.SubscribeInfo getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SubscribeInfo>
+        PARSER = new com.google.protobuf.AbstractParser<SubscribeInfo>() {
+      @java.lang.Override
+      public SubscribeInfo parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SubscribeInfo> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SubscribeInfo> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingClient.SubscribeInfo getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ResyncInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:rocky.routing.ResyncInfo)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated string moduleNames = 1;</code>
+     * @return A list containing the moduleNames.
+     */
+    java.util.List<java.lang.String>
+        getModuleNamesList();
+    /**
+     * <code>repeated string moduleNames = 1;</code>
+     * @return The count of moduleNames.
+     */
+    int getModuleNamesCount();
+    /**
+     * <code>repeated string moduleNames = 1;</code>
+     * @param index The index of the element to return.
+     * @return The moduleNames at the given index.
+     */
+    java.lang.String getModuleNames(int index);
+    /**
+     * <code>repeated string moduleNames = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the moduleNames at the given index.
+     */
+    com.google.protobuf.ByteString
+        getModuleNamesBytes(int index);
+  }
+  /**
+   * <pre>
+   * 版本不连续时请求模块的全量信息
+   * </pre>
+   *
+   * Protobuf type {@code rocky.routing.ResyncInfo}
+   */
+  public static final class ResyncInfo extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:rocky.routing.ResyncInfo)
+      ResyncInfoOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ResyncInfo.newBuilder() to construct.
+    private ResyncInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ResyncInfo() {
+      moduleNames_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ResyncInfo();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_ResyncInfo_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_ResyncInfo_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.alps.rocky.core.proto.RoutingClient.ResyncInfo.class, org.alps.rocky.core.proto.RoutingClient.ResyncInfo.Builder.class);
+    }
+
+    public static final int MODULENAMES_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList moduleNames_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string moduleNames = 1;</code>
+     * @return A list containing the moduleNames.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getModuleNamesList() {
+      return moduleNames_;
+    }
+    /**
+     * <code>repeated string moduleNames = 1;</code>
+     * @return The count of moduleNames.
+     */
+    public int getModuleNamesCount() {
+      return moduleNames_.size();
+    }
+    /**
+     * <code>repeated string moduleNames = 1;</code>
+     * @param index The index of the element to return.
+     * @return The moduleNames at the given index.
+     */
+    public java.lang.String getModuleNames(int index) {
+      return moduleNames_.get(index);
+    }
+    /**
+     * <code>repeated string moduleNames = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the moduleNames at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getModuleNamesBytes(int index) {
+      return moduleNames_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < moduleNames_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, moduleNames_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < moduleNames_.size(); i++) {
+          dataSize += computeStringSizeNoTag(moduleNames_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getModuleNamesList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.alps.rocky.core.proto.RoutingClient.ResyncInfo)) {
+        return super.equals(obj);
+      }
+      org.alps.rocky.core.proto.RoutingClient.ResyncInfo other = (org.alps.rocky.core.proto.RoutingClient.ResyncInfo) obj;
+
+      if (!getModuleNamesList()
+          .equals(other.getModuleNamesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getModuleNamesCount() > 0) {
+        hash = (37 * hash) + MODULENAMES_FIELD_NUMBER;
+        hash = (53 * hash) + getModuleNamesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.ResyncInfo parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ResyncInfo parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ResyncInfo parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ResyncInfo parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ResyncInfo parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ResyncInfo parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ResyncInfo parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ResyncInfo parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.ResyncInfo parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.ResyncInfo parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ResyncInfo parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingClient.ResyncInfo parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.alps.rocky.core.proto.RoutingClient.ResyncInfo prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 版本不连续时请求模块的全量信息
+     * </pre>
+     *
+     * Protobuf type {@code rocky.routing.ResyncInfo}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:rocky.routing.ResyncInfo)
+        org.alps.rocky.core.proto.RoutingClient.ResyncInfoOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_ResyncInfo_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_ResyncInfo_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.alps.rocky.core.proto.RoutingClient.ResyncInfo.class, org.alps.rocky.core.proto.RoutingClient.ResyncInfo.Builder.class);
+      }
+
+      // Construct using org.alps.rocky.core.proto.RoutingClient.ResyncInfo.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        moduleNames_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.alps.rocky.core.proto.RoutingClient.internal_static_rocky_routing_ResyncInfo_descriptor;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.ResyncInfo getDefaultInstanceForType() {
+        return org.alps.rocky.core.proto.RoutingClient.ResyncInfo.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.ResyncInfo build() {
+        org.alps.rocky.core.proto.RoutingClient.ResyncInfo result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingClient.ResyncInfo buildPartial() {
+        org.alps.rocky.core.proto.RoutingClient.ResyncInfo result = new org.alps.rocky.core.proto.RoutingClient.ResyncInfo(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.alps.rocky.core.proto.RoutingClient.ResyncInfo result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          moduleNames_.makeImmutable();
+          result.moduleNames_ = moduleNames_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.alps.rocky.core.proto.RoutingClient.ResyncInfo) {
+          return mergeFrom((org.alps.rocky.core.proto.RoutingClient.ResyncInfo)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.alps.rocky.core.proto.RoutingClient.ResyncInfo other) {
+        if (other == org.alps.rocky.core.proto.RoutingClient.ResyncInfo.getDefaultInstance()) return this;
+        if (!other.moduleNames_.isEmpty()) {
+          if (moduleNames_.isEmpty()) {
+            moduleNames_ = other.moduleNames_;
+            bitField0_ |= 0x00000001;
+          } else {
+            ensureModuleNamesIsMutable();
+            moduleNames_.addAll(other.moduleNames_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureModuleNamesIsMutable();
+                moduleNames_.add(s);
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringArrayList moduleNames_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureModuleNamesIsMutable() {
+        if (!moduleNames_.isModifiable()) {
+          moduleNames_ = new com.google.protobuf.LazyStringArrayList(moduleNames_);
+        }
+        bitField0_ |= 0x00000001;
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @return A list containing the moduleNames.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getModuleNamesList() {
+        moduleNames_.makeImmutable();
+        return moduleNames_;
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @return The count of moduleNames.
+       */
+      public int getModuleNamesCount() {
+        return moduleNames_.size();
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @param index The index of the element to return.
+       * @return The moduleNames at the given index.
+       */
+      public java.lang.String getModuleNames(int index) {
+        return moduleNames_.get(index);
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the moduleNames at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getModuleNamesBytes(int index) {
+        return moduleNames_.getByteString(index);
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The moduleNames to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModuleNames(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureModuleNamesIsMutable();
+        moduleNames_.set(index, value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @param value The moduleNames to add.
+       * @return This builder for chaining.
+       */
+      public Builder addModuleNames(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureModuleNamesIsMutable();
+        moduleNames_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @param values The moduleNames to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllModuleNames(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureModuleNamesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, moduleNames_);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearModuleNames() {
+        moduleNames_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string moduleNames = 1;</code>
+       * @param value The bytes of the moduleNames to add.
+       * @return This builder for chaining.
+       */
+      public Builder addModuleNamesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureModuleNamesIsMutable();
+        moduleNames_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:rocky.routing.ResyncInfo)
+    }
+
+    // @@protoc_insertion_point(class_scope:rocky.routing.ResyncInfo)
+    private static final org.alps.rocky.core.proto.RoutingClient.ResyncInfo DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingClient.ResyncInfo();
+    }
+
+    public static org.alps.rocky.core.proto.RoutingClient.ResyncInfo getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ResyncInfo>
+        PARSER = new com.google.protobuf.AbstractParser<ResyncInfo>() {
+      @java.lang.Override
+      public ResyncInfo parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ResyncInfo> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ResyncInfo> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingClient.ResyncInfo getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_ServiceInfo_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_ServiceInfo_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_ServiceInfo_MsgEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_ServiceInfo_MsgEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_HealthIdleInfo_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_HealthIdleInfo_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_HealthIdleInfo_MsgEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_HealthIdleInfo_MsgEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_UpServiceInfo_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_UpServiceInfo_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_UpServiceInfo_MsgEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_UpServiceInfo_MsgEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_DownServiceInfo_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_DownServiceInfo_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_DownServiceInfo_MsgEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_DownServiceInfo_MsgEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_BatchInfo_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_BatchInfo_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_ModuleAck_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_ModuleAck_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_SubscribeInfo_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_SubscribeInfo_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_ResyncInfo_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_ResyncInfo_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\023RoutingClient.proto\022\rrocky.routing\032\023Ro" +
+      "utingCommon.proto\"\240\002\n\013ServiceInfo\022\021\n\tnam" +
+      "espace\030\001 \001(\t\022\017\n\007profile\030\002 \001(\t\022\022\n\ninstanc" +
+      "eId\030\004 \001(\t\022\n\n\002ip\030\005 \001(\t\022\014\n\004port\030\006 \001(\005\022\017\n\007m" +
+      "odules\030\007 \003(\t\022\021\n\taccessKey\030\010 \001(\t\0220\n\003msg\030\t" +
+      " \003(\0132#.rocky.routing.ServiceInfo.MsgEntr" +
+      "y\022\021\n\tsubscribe\030\n \001(\010\022\025\n\rsubscriptions\030\013 " +
+      "\003(\t\022\023\n\013compression\030\014 \001(\010\032*\n\010MsgEntry\022\013\n\003" +
+      "key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"q\n\016HealthId" +
+      "leInfo\0223\n\003msg\030\001 \003(\0132&.rocky.routing.Heal" +
+      "thIdleInfo.MsgEntry\032*\n\010MsgEntry\022\013\n\003key\030\001" +
+      " \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"o\n\rUpServiceInfo" +
+      "\0222\n\003msg\030\001 \003(\0132%.rocky.routing.UpServiceI" +
+      "nfo.MsgEntry\032*\n\010MsgEntry\022\013\n\003key\030\001 \001(\t\022\r\n" +
+      "\005value\030\002 \001(\t:\0028\001\"s\n\017DownServiceInfo\0224\n\003m" +
+      "sg\030\001 \003(\0132\'.rocky.routing.DownServiceInfo" +
+      ".MsgEntry\032*\n\010MsgEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005va" +
+      "lue\030\002 \001(\t:\0028\001\"8\n\tBatchInfo\022+\n\006frames\030\001 \003" +
+      "(\0132\033.rocky.routing.RoutingFrame\"1\n\tModul" +
+      "eAck\022\022\n\nmoduleName\030\001 \001(\t\022\020\n\010revision\030\002 \001" +
+      "(\003\"$\n\rSubscribeInfo\022\023\n\013moduleNames\030\001 \003(\t" +
+      "\"!\n\nResyncInfo\022\023\n\013moduleNames\030\001 \003(\tB*\n\031o" +
+      "rg.alps.rocky.core.protoB\rRoutingClientb" +
+      "\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.alps.rocky.core.proto.RoutingCommon.getDescriptor(),
+        });
+    internal_static_rocky_routing_ServiceInfo_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_rocky_routing_ServiceInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_ServiceInfo_descriptor,
+        new java.lang.String[] { "Namespace", "Profile", "InstanceId", "Ip", "Port", "Modules", "AccessKey", "Msg", "Subscribe", "Subscriptions", "Compression", });
+    internal_static_rocky_routing_ServiceInfo_MsgEntry_descriptor =
+      internal_static_rocky_routing_ServiceInfo_descriptor.getNestedTypes().get(0);
+    internal_static_rocky_routing_ServiceInfo_MsgEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_ServiceInfo_MsgEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_rocky_routing_HealthIdleInfo_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_rocky_routing_HealthIdleInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_HealthIdleInfo_descriptor,
+        new java.lang.String[] { "Msg", });
+    internal_static_rocky_routing_HealthIdleInfo_MsgEntry_descriptor =
+      internal_static_rocky_routing_HealthIdleInfo_descriptor.getNestedTypes().get(0);
+    internal_static_rocky_routing_HealthIdleInfo_MsgEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_HealthIdleInfo_MsgEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_rocky_routing_UpServiceInfo_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_rocky_routing_UpServiceInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_UpServiceInfo_descriptor,
+        new java.lang.String[] { "Msg", });
+    internal_static_rocky_routing_UpServiceInfo_MsgEntry_descriptor =
+      internal_static_rocky_routing_UpServiceInfo_descriptor.getNestedTypes().get(0);
+    internal_static_rocky_routing_UpServiceInfo_MsgEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_UpServiceInfo_MsgEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_rocky_routing_DownServiceInfo_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_rocky_routing_DownServiceInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_DownServiceInfo_descriptor,
+        new java.lang.String[] { "Msg", });
+    internal_static_rocky_routing_DownServiceInfo_MsgEntry_descriptor =
+      internal_static_rocky_routing_DownServiceInfo_descriptor.getNestedTypes().get(0);
+    internal_static_rocky_routing_DownServiceInfo_MsgEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_DownServiceInfo_MsgEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_rocky_routing_BatchInfo_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_rocky_routing_BatchInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_BatchInfo_descriptor,
+        new java.lang.String[] { "Frames", });
+    internal_static_rocky_routing_ModuleAck_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_rocky_routing_ModuleAck_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_ModuleAck_descriptor,
+        new java.lang.String[] { "ModuleName", "Revision", });
+    internal_static_rocky_routing_SubscribeInfo_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_rocky_routing_SubscribeInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_SubscribeInfo_descriptor,
+        new java.lang.String[] { "ModuleNames", });
+    internal_static_rocky_routing_ResyncInfo_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_rocky_routing_ResyncInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_ResyncInfo_descriptor,
+        new java.lang.String[] { "ModuleNames", });
+    org.alps.rocky.core.proto.RoutingCommon.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
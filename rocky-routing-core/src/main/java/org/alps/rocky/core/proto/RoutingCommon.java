@@ -52,9 +52,61 @@ public final class RoutingCommon {
      */
     C_Disable(3),
     /**
+     * <pre>
+     * 批量操作
+     * </pre>
+     *
+     * <code>C_Batch = 4;</code>
+     */
+    C_Batch(4),
+    /**
+     * <pre>
+     * 确认收到的模块版本
+     * </pre>
+     *
+     * <code>C_Ack = 5;</code>
+     */
+    C_Ack(5),
+    /**
+     * <pre>
+     * 请求模块的全量信息
+     * </pre>
+     *
+     * <code>C_Resync = 6;</code>
+     */
+    C_Resync(6),
+    /**
+     * <pre>
+     * 订阅模块
+     * </pre>
+     *
+     * <code>C_Subscribe = 7;</code>
+     */
+    C_Subscribe(7),
+    /**
+     * <pre>
+     * 服务器推送
+     * </pre>
+     *
      * <code>S_ChangeService = 20;</code>
      */
     S_ChangeService(20),
+    /**
+     * <pre>
+     * 服务器返回错误
+     * </pre>
+     *
+     * <code>S_Error = 21;</code>
+     */
+    S_Error(21),
+    /**
+     * <pre>
+     * 压缩的服务器推送，frame为Deflate压缩的ModuleInfo
+     * </pre>
+     *
+     * <code>S_ChangeServiceDeflate = 22;</code>
+     */
+    S_ChangeServiceDeflate(22),
     UNRECOGNIZED(-1),
     ;
 
@@ -91,9 +143,61 @@ public final class RoutingCommon {
      */
     public static final int C_Disable_VALUE = 3;
     /**
+     * <pre>
+     * 批量操作
+     * </pre>
+     *
+     * <code>C_Batch = 4;</code>
+     */
+    public static final int C_Batch_VALUE = 4;
+    /**
+     * <pre>
+     * 确认收到的模块版本
+     * </pre>
+     *
+     * <code>C_Ack = 5;</code>
+     */
+    public static final int C_Ack_VALUE = 5;
+    /**
+     * <pre>
+     * 请求模块的全量信息
+     * </pre>
+     *
+     * <code>C_Resync = 6;</code>
+     */
+    public static final int C_Resync_VALUE = 6;
+    /**
+     * <pre>
+     * 订阅模块
+     * </pre>
+     *
+     * <code>C_Subscribe = 7;</code>
+     */
+    public static final int C_Subscribe_VALUE = 7;
+    /**
+     * <pre>
+     * 服务器推送
+     * </pre>
+     *
      * <code>S_ChangeService = 20;</code>
      */
     public static final int S_ChangeService_VALUE = 20;
+    /**
+     * <pre>
+     * 服务器返回错误
+     * </pre>
+     *
+     * <code>S_Error = 21;</code>
+     */
+    public static final int S_Error_VALUE = 21;
+    /**
+     * <pre>
+     * 压缩的服务器推送，frame为Deflate压缩的ModuleInfo
+     * </pre>
+     *
+     * <code>S_ChangeServiceDeflate = 22;</code>
+     */
+    public static final int S_ChangeServiceDeflate_VALUE = 22;
 
 
     public final int getNumber() {
@@ -124,7 +228,13 @@ public final class RoutingCommon {
         case 1: return C_HealthIdle;
         case 2: return C_Active;
         case 3: return C_Disable;
+        case 4: return C_Batch;
+        case 5: return C_Ack;
+        case 6: return C_Resync;
+        case 7: return C_Subscribe;
         case 20: return S_ChangeService;
+        case 21: return S_Error;
+        case 22: return S_ChangeServiceDeflate;
         default: return null;
       }
     }
@@ -779,11 +889,13 @@ public final class RoutingCommon {
     java.lang.String[] descriptorData = {
       "\n\023RoutingCommon.proto\022\rrocky.routing\"E\n\014" +
       "RoutingFrame\022&\n\004type\030\001 \001(\0162\030.rocky.routi" +
-      "ng.FrameType\022\r\n\005frame\030\002 \001(\014*^\n\tFrameType" +
-      "\022\r\n\tC_Connect\020\000\022\020\n\014C_HealthIdle\020\001\022\014\n\010C_A" +
-      "ctive\020\002\022\r\n\tC_Disable\020\003\022\023\n\017S_ChangeServic" +
-      "e\020\024B*\n\031org.alps.rocky.core.protoB\rRoutin" +
-      "gCommonb\006proto3"
+      "ng.FrameType\022\r\n\005frame\030\002 \001(\014*\276\001\n\tFrameTyp" +
+      "e\022\r\n\tC_Connect\020\000\022\020\n\014C_HealthIdle\020\001\022\014\n\010C_" +
+      "Active\020\002\022\r\n\tC_Disable\020\003\022\013\n\007C_Batch\020\004\022\t\n\005" +
+      "C_Ack\020\005\022\014\n\010C_Resync\020\006\022\017\n\013C_Subscribe\020\007\022\023" +
+      "\n\017S_ChangeService\020\024\022\013\n\007S_Error\020\025\022\032\n\026S_Ch" +
+      "angeServiceDeflate\020\026B*\n\031org.alps.rocky.c" +
+      "ore.protoB\rRoutingCommonb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -35,6 +35,14 @@ public final class RoutingErrors {
      * <code>ACCESS_KEY_INVALID = 1000;</code>
      */
     ACCESS_KEY_INVALID(1000),
+    /**
+     * <pre>
+     * 连接过多，稍后重试
+     * </pre>
+     *
+     * <code>CONNECT_RETRY_LATER = 1001;</code>
+     */
+    CONNECT_RETRY_LATER(1001),
     UNRECOGNIZED(-1),
     ;
 
@@ -54,11 +62,19 @@ public final class RoutingErrors {
      * <code>ACCESS_KEY_INVALID = 1000;</code>
      */
     public static final int ACCESS_KEY_INVALID_VALUE = 1000;
+    /**
+     * <pre>
+     * 连接过多，稍后重试
+     * </pre>
+     *
+     * <code>CONNECT_RETRY_LATER = 1001;</code>
+     */
+    public static final int CONNECT_RETRY_LATER_VALUE = 1001;
 
 
     public final int getNumber() {
       if (this == UNRECOGNIZED) {
-        throw new IllegalArgumentException(
+        throw new java.lang.IllegalArgumentException(
             "Can't get the number of an unknown enum value.");
       }
       return value;
@@ -69,7 +85,7 @@ public final class RoutingErrors {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static Code valueOf(int value) {
       return forNumber(value);
     }
@@ -82,6 +98,7 @@ public final class RoutingErrors {
       switch (value) {
         case 0: return NONE;
         case 1000: return ACCESS_KEY_INVALID;
+        case 1001: return CONNECT_RETRY_LATER;
         default: return null;
       }
     }
@@ -101,7 +118,7 @@ public final class RoutingErrors {
     public final com.google.protobuf.Descriptors.EnumValueDescriptor
         getValueDescriptor() {
       if (this == UNRECOGNIZED) {
-        throw new IllegalStateException(
+        throw new java.lang.IllegalStateException(
             "Can't get the descriptor of an unrecognized enum value.");
       }
       return getDescriptor().getValues().get(ordinal());
@@ -112,7 +129,7 @@ public final class RoutingErrors {
     }
     public static final com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return RoutingErrors.getDescriptor().getEnumTypes().get(0);
+      return org.alps.rocky.core.proto.RoutingErrors.getDescriptor().getEnumTypes().get(0);
     }
 
     private static final Code[] VALUES = values();
@@ -120,7 +137,7 @@ public final class RoutingErrors {
     public static Code valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException(
+        throw new java.lang.IllegalArgumentException(
           "EnumValueDescriptor is not for this type.");
       }
       if (desc.getIndex() == -1) {
@@ -146,11 +163,11 @@ public final class RoutingErrors {
   private static  com.google.protobuf.Descriptors.FileDescriptor
       descriptor;
   static {
-    String[] descriptorData = {
-      "\n\014Errors.proto\022\rrocky.routing*)\n\004Code\022\010\n" +
-      "\004NONE\020\000\022\027\n\022ACCESS_KEY_INVALID\020\350\007B*\n\031org." +
-      "alps.rocky.core.protoB\rRoutingErrorsb\006pr" +
-      "oto3"
+    java.lang.String[] descriptorData = {
+      "\n\014Errors.proto\022\rrocky.routing*C\n\004Code\022\010\n" +
+      "\004NONE\020\000\022\027\n\022ACCESS_KEY_INVALID\020\350\007\022\030\n\023CONN" +
+      "ECT_RETRY_LATER\020\351\007B*\n\031org.alps.rocky.cor" +
+      "e.protoB\rRoutingErrorsb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
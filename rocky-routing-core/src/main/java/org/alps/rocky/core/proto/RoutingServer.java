@@ -0,0 +1,4366 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: RoutingServer.proto
+
+package org.alps.rocky.core.proto;
+
+public final class RoutingServer {
+  private RoutingServer() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  /**
+   * Protobuf enum {@code rocky.routing.OpsType}
+   */
+  public enum OpsType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <pre>
+     * 修改
+     * </pre>
+     *
+     * <code>Modify = 0;</code>
+     */
+    Modify(0),
+    /**
+     * <pre>
+     * 停机
+     * </pre>
+     *
+     * <code>Delete = 1;</code>
+     */
+    Delete(1),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <pre>
+     * 修改
+     * </pre>
+     *
+     * <code>Modify = 0;</code>
+     */
+    public static final int Modify_VALUE = 0;
+    /**
+     * <pre>
+     * 停机
+     * </pre>
+     *
+     * <code>Delete = 1;</code>
+     */
+    public static final int Delete_VALUE = 1;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static OpsType valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static OpsType forNumber(int value) {
+      switch (value) {
+        case 0: return Modify;
+        case 1: return Delete;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<OpsType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        OpsType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<OpsType>() {
+            public OpsType findValueByNumber(int number) {
+              return OpsType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingServer.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final OpsType[] VALUES = values();
+
+    public static OpsType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private OpsType(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:rocky.routing.OpsType)
+  }
+
+  public interface InstanceInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:rocky.routing.InstanceInfo)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * 类型
+     * </pre>
+     *
+     * <code>string profile = 1;</code>
+     * @return The profile.
+     */
+    java.lang.String getProfile();
+    /**
+     * <pre>
+     * 类型
+     * </pre>
+     *
+     * <code>string profile = 1;</code>
+     * @return The bytes for profile.
+     */
+    com.google.protobuf.ByteString
+        getProfileBytes();
+
+    /**
+     * <code>string instanceId = 3;</code>
+     * @return The instanceId.
+     */
+    java.lang.String getInstanceId();
+    /**
+     * <code>string instanceId = 3;</code>
+     * @return The bytes for instanceId.
+     */
+    com.google.protobuf.ByteString
+        getInstanceIdBytes();
+
+    /**
+     * <code>string ip = 4;</code>
+     * @return The ip.
+     */
+    java.lang.String getIp();
+    /**
+     * <code>string ip = 4;</code>
+     * @return The bytes for ip.
+     */
+    com.google.protobuf.ByteString
+        getIpBytes();
+
+    /**
+     * <code>int32 port = 5;</code>
+     * @return The port.
+     */
+    int getPort();
+
+    /**
+     * <code>bool active = 6;</code>
+     * @return The active.
+     */
+    boolean getActive();
+  }
+  /**
+   * Protobuf type {@code rocky.routing.InstanceInfo}
+   */
+  public static final class InstanceInfo extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:rocky.routing.InstanceInfo)
+      InstanceInfoOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use InstanceInfo.newBuilder() to construct.
+    private InstanceInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private InstanceInfo() {
+      profile_ = "";
+      instanceId_ = "";
+      ip_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new InstanceInfo();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingServer.internal_static_rocky_routing_InstanceInfo_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.alps.rocky.core.proto.RoutingServer.internal_static_rocky_routing_InstanceInfo_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.alps.rocky.core.proto.RoutingServer.InstanceInfo.class, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder.class);
+    }
+
+    public static final int PROFILE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object profile_ = "";
+    /**
+     * <pre>
+     * 类型
+     * </pre>
+     *
+     * <code>string profile = 1;</code>
+     * @return The profile.
+     */
+    @java.lang.Override
+    public java.lang.String getProfile() {
+      java.lang.Object ref = profile_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        profile_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * 类型
+     * </pre>
+     *
+     * <code>string profile = 1;</code>
+     * @return The bytes for profile.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getProfileBytes() {
+      java.lang.Object ref = profile_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        profile_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INSTANCEID_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object instanceId_ = "";
+    /**
+     * <code>string instanceId = 3;</code>
+     * @return The instanceId.
+     */
+    @java.lang.Override
+    public java.lang.String getInstanceId() {
+      java.lang.Object ref = instanceId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        instanceId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string instanceId = 3;</code>
+     * @return The bytes for instanceId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getInstanceIdBytes() {
+      java.lang.Object ref = instanceId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        instanceId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int IP_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object ip_ = "";
+    /**
+     * <code>string ip = 4;</code>
+     * @return The ip.
+     */
+    @java.lang.Override
+    public java.lang.String getIp() {
+      java.lang.Object ref = ip_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        ip_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string ip = 4;</code>
+     * @return The bytes for ip.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIpBytes() {
+      java.lang.Object ref = ip_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        ip_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PORT_FIELD_NUMBER = 5;
+    private int port_ = 0;
+    /**
+     * <code>int32 port = 5;</code>
+     * @return The port.
+     */
+    @java.lang.Override
+    public int getPort() {
+      return port_;
+    }
+
+    public static final int ACTIVE_FIELD_NUMBER = 6;
+    private boolean active_ = false;
+    /**
+     * <code>bool active = 6;</code>
+     * @return The active.
+     */
+    @java.lang.Override
+    public boolean getActive() {
+      return active_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(profile_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, profile_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(instanceId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, instanceId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(ip_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, ip_);
+      }
+      if (port_ != 0) {
+        output.writeInt32(5, port_);
+      }
+      if (active_ != false) {
+        output.writeBool(6, active_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(profile_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, profile_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(instanceId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, instanceId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(ip_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, ip_);
+      }
+      if (port_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, port_);
+      }
+      if (active_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, active_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.alps.rocky.core.proto.RoutingServer.InstanceInfo)) {
+        return super.equals(obj);
+      }
+      org.alps.rocky.core.proto.RoutingServer.InstanceInfo other = (org.alps.rocky.core.proto.RoutingServer.InstanceInfo) obj;
+
+      if (!getProfile()
+          .equals(other.getProfile())) return false;
+      if (!getInstanceId()
+          .equals(other.getInstanceId())) return false;
+      if (!getIp()
+          .equals(other.getIp())) return false;
+      if (getPort()
+          != other.getPort()) return false;
+      if (getActive()
+          != other.getActive()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PROFILE_FIELD_NUMBER;
+      hash = (53 * hash) + getProfile().hashCode();
+      hash = (37 * hash) + INSTANCEID_FIELD_NUMBER;
+      hash = (53 * hash) + getInstanceId().hashCode();
+      hash = (37 * hash) + IP_FIELD_NUMBER;
+      hash = (53 * hash) + getIp().hashCode();
+      hash = (37 * hash) + PORT_FIELD_NUMBER;
+      hash = (53 * hash) + getPort();
+      hash = (37 * hash) + ACTIVE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getActive());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.alps.rocky.core.proto.RoutingServer.InstanceInfo parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.InstanceInfo parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.InstanceInfo parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.InstanceInfo parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.InstanceInfo parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.InstanceInfo parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.InstanceInfo parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.InstanceInfo parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingServer.InstanceInfo parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingServer.InstanceInfo parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.InstanceInfo parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.InstanceInfo parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.alps.rocky.core.proto.RoutingServer.InstanceInfo prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code rocky.routing.InstanceInfo}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:rocky.routing.InstanceInfo)
+        org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.alps.rocky.core.proto.RoutingServer.internal_static_rocky_routing_InstanceInfo_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.alps.rocky.core.proto.RoutingServer.internal_static_rocky_routing_InstanceInfo_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.alps.rocky.core.proto.RoutingServer.InstanceInfo.class, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder.class);
+      }
+
+      // Construct using org.alps.rocky.core.proto.RoutingServer.InstanceInfo.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        profile_ = "";
+        instanceId_ = "";
+        ip_ = "";
+        port_ = 0;
+        active_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.alps.rocky.core.proto.RoutingServer.internal_static_rocky_routing_InstanceInfo_descriptor;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo getDefaultInstanceForType() {
+        return org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo build() {
+        org.alps.rocky.core.proto.RoutingServer.InstanceInfo result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo buildPartial() {
+        org.alps.rocky.core.proto.RoutingServer.InstanceInfo result = new org.alps.rocky.core.proto.RoutingServer.InstanceInfo(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.alps.rocky.core.proto.RoutingServer.InstanceInfo result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.profile_ = profile_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.instanceId_ = instanceId_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.ip_ = ip_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.port_ = port_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.active_ = active_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.alps.rocky.core.proto.RoutingServer.InstanceInfo) {
+          return mergeFrom((org.alps.rocky.core.proto.RoutingServer.InstanceInfo)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.alps.rocky.core.proto.RoutingServer.InstanceInfo other) {
+        if (other == org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance()) return this;
+        if (!other.getProfile().isEmpty()) {
+          profile_ = other.profile_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getInstanceId().isEmpty()) {
+          instanceId_ = other.instanceId_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getIp().isEmpty()) {
+          ip_ = other.ip_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.getPort() != 0) {
+          setPort(other.getPort());
+        }
+        if (other.getActive() != false) {
+          setActive(other.getActive());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                profile_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 26: {
+                instanceId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 26
+              case 34: {
+                ip_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 34
+              case 40: {
+                port_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 40
+              case 48: {
+                active_ = input.readBool();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 48
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object profile_ = "";
+      /**
+       * <pre>
+       * 类型
+       * </pre>
+       *
+       * <code>string profile = 1;</code>
+       * @return The profile.
+       */
+      public java.lang.String getProfile() {
+        java.lang.Object ref = profile_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          profile_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 类型
+       * </pre>
+       *
+       * <code>string profile = 1;</code>
+       * @return The bytes for profile.
+       */
+      public com.google.protobuf.ByteString
+          getProfileBytes() {
+        java.lang.Object ref = profile_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          profile_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 类型
+       * </pre>
+       *
+       * <code>string profile = 1;</code>
+       * @param value The profile to set.
+       * @return This builder for chaining.
+       */
+      public Builder setProfile(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        profile_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 类型
+       * </pre>
+       *
+       * <code>string profile = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearProfile() {
+        profile_ = getDefaultInstance().getProfile();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 类型
+       * </pre>
+       *
+       * <code>string profile = 1;</code>
+       * @param value The bytes for profile to set.
+       * @return This builder for chaining.
+       */
+      public Builder setProfileBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        profile_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object instanceId_ = "";
+      /**
+       * <code>string instanceId = 3;</code>
+       * @return The instanceId.
+       */
+      public java.lang.String getInstanceId() {
+        java.lang.Object ref = instanceId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          instanceId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string instanceId = 3;</code>
+       * @return The bytes for instanceId.
+       */
+      public com.google.protobuf.ByteString
+          getInstanceIdBytes() {
+        java.lang.Object ref = instanceId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          instanceId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string instanceId = 3;</code>
+       * @param value The instanceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInstanceId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        instanceId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string instanceId = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInstanceId() {
+        instanceId_ = getDefaultInstance().getInstanceId();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string instanceId = 3;</code>
+       * @param value The bytes for instanceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInstanceIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        instanceId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object ip_ = "";
+      /**
+       * <code>string ip = 4;</code>
+       * @return The ip.
+       */
+      public java.lang.String getIp() {
+        java.lang.Object ref = ip_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          ip_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string ip = 4;</code>
+       * @return The bytes for ip.
+       */
+      public com.google.protobuf.ByteString
+          getIpBytes() {
+        java.lang.Object ref = ip_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          ip_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string ip = 4;</code>
+       * @param value The ip to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIp(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ip_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string ip = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIp() {
+        ip_ = getDefaultInstance().getIp();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string ip = 4;</code>
+       * @param value The bytes for ip to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIpBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ip_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private int port_ ;
+      /**
+       * <code>int32 port = 5;</code>
+       * @return The port.
+       */
+      @java.lang.Override
+      public int getPort() {
+        return port_;
+      }
+      /**
+       * <code>int32 port = 5;</code>
+       * @param value The port to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPort(int value) {
+
+        port_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 port = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPort() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        port_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean active_ ;
+      /**
+       * <code>bool active = 6;</code>
+       * @return The active.
+       */
+      @java.lang.Override
+      public boolean getActive() {
+        return active_;
+      }
+      /**
+       * <code>bool active = 6;</code>
+       * @param value The active to set.
+       * @return This builder for chaining.
+       */
+      public Builder setActive(boolean value) {
+
+        active_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool active = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearActive() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        active_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:rocky.routing.InstanceInfo)
+    }
+
+    // @@protoc_insertion_point(class_scope:rocky.routing.InstanceInfo)
+    private static final org.alps.rocky.core.proto.RoutingServer.InstanceInfo DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingServer.InstanceInfo();
+    }
+
+    public static org.alps.rocky.core.proto.RoutingServer.InstanceInfo getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<InstanceInfo>
+        PARSER = new com.google.protobuf.AbstractParser<InstanceInfo>() {
+      @java.lang.Override
+      public InstanceInfo parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<InstanceInfo> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<InstanceInfo> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingServer.InstanceInfo getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ModuleInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:rocky.routing.ModuleInfo)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * 命名空间
+     * </pre>
+     *
+     * <code>string namespace = 1;</code>
+     * @return The namespace.
+     */
+    java.lang.String getNamespace();
+    /**
+     * <pre>
+     * 命名空间
+     * </pre>
+     *
+     * <code>string namespace = 1;</code>
+     * @return The bytes for namespace.
+     */
+    com.google.protobuf.ByteString
+        getNamespaceBytes();
+
+    /**
+     * <code>string moduleName = 2;</code>
+     * @return The moduleName.
+     */
+    java.lang.String getModuleName();
+    /**
+     * <code>string moduleName = 2;</code>
+     * @return The bytes for moduleName.
+     */
+    com.google.protobuf.ByteString
+        getModuleNameBytes();
+
+    /**
+     * <code>.rocky.routing.OpsType type = 3;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    int getTypeValue();
+    /**
+     * <code>.rocky.routing.OpsType type = 3;</code>
+     * @return The type.
+     */
+    org.alps.rocky.core.proto.RoutingServer.OpsType getType();
+
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+     */
+    java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo> 
+        getInstancesList();
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+     */
+    org.alps.rocky.core.proto.RoutingServer.InstanceInfo getInstances(int index);
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+     */
+    int getInstancesCount();
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+     */
+    java.util.List<? extends org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> 
+        getInstancesOrBuilderList();
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+     */
+    org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder getInstancesOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * 模块版本，每次实例变化递增
+     * </pre>
+     *
+     * <code>int64 revision = 5;</code>
+     * @return The revision.
+     */
+    long getRevision();
+
+    /**
+     * <pre>
+     * 为true时只包含baseRevision之后变化的实例，instances为空
+     * </pre>
+     *
+     * <code>bool delta = 6;</code>
+     * @return The delta.
+     */
+    boolean getDelta();
+
+    /**
+     * <code>int64 baseRevision = 7;</code>
+     * @return The baseRevision.
+     */
+    long getBaseRevision();
+
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+     */
+    java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo> 
+        getAddedList();
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+     */
+    org.alps.rocky.core.proto.RoutingServer.InstanceInfo getAdded(int index);
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+     */
+    int getAddedCount();
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+     */
+    java.util.List<? extends org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> 
+        getAddedOrBuilderList();
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+     */
+    org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder getAddedOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+     */
+    java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo> 
+        getUpdatedList();
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+     */
+    org.alps.rocky.core.proto.RoutingServer.InstanceInfo getUpdated(int index);
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+     */
+    int getUpdatedCount();
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+     */
+    java.util.List<? extends org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> 
+        getUpdatedOrBuilderList();
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+     */
+    org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder getUpdatedOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * 删除的实例ID
+     * </pre>
+     *
+     * <code>repeated string removed = 10;</code>
+     * @return A list containing the removed.
+     */
+    java.util.List<java.lang.String>
+        getRemovedList();
+    /**
+     * <pre>
+     * 删除的实例ID
+     * </pre>
+     *
+     * <code>repeated string removed = 10;</code>
+     * @return The count of removed.
+     */
+    int getRemovedCount();
+    /**
+     * <pre>
+     * 删除的实例ID
+     * </pre>
+     *
+     * <code>repeated string removed = 10;</code>
+     * @param index The index of the element to return.
+     * @return The removed at the given index.
+     */
+    java.lang.String getRemoved(int index);
+    /**
+     * <pre>
+     * 删除的实例ID
+     * </pre>
+     *
+     * <code>repeated string removed = 10;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removed at the given index.
+     */
+    com.google.protobuf.ByteString
+        getRemovedBytes(int index);
+  }
+  /**
+   * <pre>
+   *模块信息
+   * </pre>
+   *
+   * Protobuf type {@code rocky.routing.ModuleInfo}
+   */
+  public static final class ModuleInfo extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:rocky.routing.ModuleInfo)
+      ModuleInfoOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ModuleInfo.newBuilder() to construct.
+    private ModuleInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ModuleInfo() {
+      namespace_ = "";
+      moduleName_ = "";
+      type_ = 0;
+      instances_ = java.util.Collections.emptyList();
+      added_ = java.util.Collections.emptyList();
+      updated_ = java.util.Collections.emptyList();
+      removed_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ModuleInfo();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingServer.internal_static_rocky_routing_ModuleInfo_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.alps.rocky.core.proto.RoutingServer.internal_static_rocky_routing_ModuleInfo_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.alps.rocky.core.proto.RoutingServer.ModuleInfo.class, org.alps.rocky.core.proto.RoutingServer.ModuleInfo.Builder.class);
+    }
+
+    public static final int NAMESPACE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object namespace_ = "";
+    /**
+     * <pre>
+     * 命名空间
+     * </pre>
+     *
+     * <code>string namespace = 1;</code>
+     * @return The namespace.
+     */
+    @java.lang.Override
+    public java.lang.String getNamespace() {
+      java.lang.Object ref = namespace_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        namespace_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * 命名空间
+     * </pre>
+     *
+     * <code>string namespace = 1;</code>
+     * @return The bytes for namespace.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNamespaceBytes() {
+      java.lang.Object ref = namespace_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        namespace_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MODULENAME_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object moduleName_ = "";
+    /**
+     * <code>string moduleName = 2;</code>
+     * @return The moduleName.
+     */
+    @java.lang.Override
+    public java.lang.String getModuleName() {
+      java.lang.Object ref = moduleName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        moduleName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string moduleName = 2;</code>
+     * @return The bytes for moduleName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getModuleNameBytes() {
+      java.lang.Object ref = moduleName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        moduleName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 3;
+    private int type_ = 0;
+    /**
+     * <code>.rocky.routing.OpsType type = 3;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    @java.lang.Override public int getTypeValue() {
+      return type_;
+    }
+    /**
+     * <code>.rocky.routing.OpsType type = 3;</code>
+     * @return The type.
+     */
+    @java.lang.Override public org.alps.rocky.core.proto.RoutingServer.OpsType getType() {
+      org.alps.rocky.core.proto.RoutingServer.OpsType result = org.alps.rocky.core.proto.RoutingServer.OpsType.forNumber(type_);
+      return result == null ? org.alps.rocky.core.proto.RoutingServer.OpsType.UNRECOGNIZED : result;
+    }
+
+    public static final int INSTANCES_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo> instances_;
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo> getInstancesList() {
+      return instances_;
+    }
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> 
+        getInstancesOrBuilderList() {
+      return instances_;
+    }
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+     */
+    @java.lang.Override
+    public int getInstancesCount() {
+      return instances_.size();
+    }
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingServer.InstanceInfo getInstances(int index) {
+      return instances_.get(index);
+    }
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder getInstancesOrBuilder(
+        int index) {
+      return instances_.get(index);
+    }
+
+    public static final int REVISION_FIELD_NUMBER = 5;
+    private long revision_ = 0L;
+    /**
+     * <pre>
+     * 模块版本，每次实例变化递增
+     * </pre>
+     *
+     * <code>int64 revision = 5;</code>
+     * @return The revision.
+     */
+    @java.lang.Override
+    public long getRevision() {
+      return revision_;
+    }
+
+    public static final int DELTA_FIELD_NUMBER = 6;
+    private boolean delta_ = false;
+    /**
+     * <pre>
+     * 为true时只包含baseRevision之后变化的实例，instances为空
+     * </pre>
+     *
+     * <code>bool delta = 6;</code>
+     * @return The delta.
+     */
+    @java.lang.Override
+    public boolean getDelta() {
+      return delta_;
+    }
+
+    public static final int BASEREVISION_FIELD_NUMBER = 7;
+    private long baseRevision_ = 0L;
+    /**
+     * <code>int64 baseRevision = 7;</code>
+     * @return The baseRevision.
+     */
+    @java.lang.Override
+    public long getBaseRevision() {
+      return baseRevision_;
+    }
+
+    public static final int ADDED_FIELD_NUMBER = 8;
+    @SuppressWarnings("serial")
+    private java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo> added_;
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo> getAddedList() {
+      return added_;
+    }
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> 
+        getAddedOrBuilderList() {
+      return added_;
+    }
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+     */
+    @java.lang.Override
+    public int getAddedCount() {
+      return added_.size();
+    }
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingServer.InstanceInfo getAdded(int index) {
+      return added_.get(index);
+    }
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder getAddedOrBuilder(
+        int index) {
+      return added_.get(index);
+    }
+
+    public static final int UPDATED_FIELD_NUMBER = 9;
+    @SuppressWarnings("serial")
+    private java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo> updated_;
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo> getUpdatedList() {
+      return updated_;
+    }
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> 
+        getUpdatedOrBuilderList() {
+      return updated_;
+    }
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+     */
+    @java.lang.Override
+    public int getUpdatedCount() {
+      return updated_.size();
+    }
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingServer.InstanceInfo getUpdated(int index) {
+      return updated_.get(index);
+    }
+    /**
+     * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder getUpdatedOrBuilder(
+        int index) {
+      return updated_.get(index);
+    }
+
+    public static final int REMOVED_FIELD_NUMBER = 10;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList removed_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * 删除的实例ID
+     * </pre>
+     *
+     * <code>repeated string removed = 10;</code>
+     * @return A list containing the removed.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getRemovedList() {
+      return removed_;
+    }
+    /**
+     * <pre>
+     * 删除的实例ID
+     * </pre>
+     *
+     * <code>repeated string removed = 10;</code>
+     * @return The count of removed.
+     */
+    public int getRemovedCount() {
+      return removed_.size();
+    }
+    /**
+     * <pre>
+     * 删除的实例ID
+     * </pre>
+     *
+     * <code>repeated string removed = 10;</code>
+     * @param index The index of the element to return.
+     * @return The removed at the given index.
+     */
+    public java.lang.String getRemoved(int index) {
+      return removed_.get(index);
+    }
+    /**
+     * <pre>
+     * 删除的实例ID
+     * </pre>
+     *
+     * <code>repeated string removed = 10;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removed at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getRemovedBytes(int index) {
+      return removed_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(namespace_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, namespace_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(moduleName_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, moduleName_);
+      }
+      if (type_ != org.alps.rocky.core.proto.RoutingServer.OpsType.Modify.getNumber()) {
+        output.writeEnum(3, type_);
+      }
+      for (int i = 0; i < instances_.size(); i++) {
+        output.writeMessage(4, instances_.get(i));
+      }
+      if (revision_ != 0L) {
+        output.writeInt64(5, revision_);
+      }
+      if (delta_ != false) {
+        output.writeBool(6, delta_);
+      }
+      if (baseRevision_ != 0L) {
+        output.writeInt64(7, baseRevision_);
+      }
+      for (int i = 0; i < added_.size(); i++) {
+        output.writeMessage(8, added_.get(i));
+      }
+      for (int i = 0; i < updated_.size(); i++) {
+        output.writeMessage(9, updated_.get(i));
+      }
+      for (int i = 0; i < removed_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 10, removed_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(namespace_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, namespace_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(moduleName_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, moduleName_);
+      }
+      if (type_ != org.alps.rocky.core.proto.RoutingServer.OpsType.Modify.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, type_);
+      }
+      for (int i = 0; i < instances_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, instances_.get(i));
+      }
+      if (revision_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, revision_);
+      }
+      if (delta_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, delta_);
+      }
+      if (baseRevision_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(7, baseRevision_);
+      }
+      for (int i = 0; i < added_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, added_.get(i));
+      }
+      for (int i = 0; i < updated_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, updated_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removed_.size(); i++) {
+          dataSize += computeStringSizeNoTag(removed_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.alps.rocky.core.proto.RoutingServer.ModuleInfo)) {
+        return super.equals(obj);
+      }
+      org.alps.rocky.core.proto.RoutingServer.ModuleInfo other = (org.alps.rocky.core.proto.RoutingServer.ModuleInfo) obj;
+
+      if (!getNamespace()
+          .equals(other.getNamespace())) return false;
+      if (!getModuleName()
+          .equals(other.getModuleName())) return false;
+      if (type_ != other.type_) return false;
+      if (!getInstancesList()
+          .equals(other.getInstancesList())) return false;
+      if (getRevision()
+          != other.getRevision()) return false;
+      if (getDelta()
+          != other.getDelta()) return false;
+      if (getBaseRevision()
+          != other.getBaseRevision()) return false;
+      if (!getAddedList()
+          .equals(other.getAddedList())) return false;
+      if (!getUpdatedList()
+          .equals(other.getUpdatedList())) return false;
+      if (!getRemovedList()
+          .equals(other.getRemovedList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAMESPACE_FIELD_NUMBER;
+      hash = (53 * hash) + getNamespace().hashCode();
+      hash = (37 * hash) + MODULENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getModuleName().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + type_;
+      if (getInstancesCount() > 0) {
+        hash = (37 * hash) + INSTANCES_FIELD_NUMBER;
+        hash = (53 * hash) + getInstancesList().hashCode();
+      }
+      hash = (37 * hash) + REVISION_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRevision());
+      hash = (37 * hash) + DELTA_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getDelta());
+      hash = (37 * hash) + BASEREVISION_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getBaseRevision());
+      if (getAddedCount() > 0) {
+        hash = (37 * hash) + ADDED_FIELD_NUMBER;
+        hash = (53 * hash) + getAddedList().hashCode();
+      }
+      if (getUpdatedCount() > 0) {
+        hash = (37 * hash) + UPDATED_FIELD_NUMBER;
+        hash = (53 * hash) + getUpdatedList().hashCode();
+      }
+      if (getRemovedCount() > 0) {
+        hash = (37 * hash) + REMOVED_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.alps.rocky.core.proto.RoutingServer.ModuleInfo parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ModuleInfo parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ModuleInfo parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ModuleInfo parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ModuleInfo parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ModuleInfo parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ModuleInfo parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ModuleInfo parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingServer.ModuleInfo parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingServer.ModuleInfo parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ModuleInfo parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ModuleInfo parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.alps.rocky.core.proto.RoutingServer.ModuleInfo prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     *模块信息
+     * </pre>
+     *
+     * Protobuf type {@code rocky.routing.ModuleInfo}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:rocky.routing.ModuleInfo)
+        org.alps.rocky.core.proto.RoutingServer.ModuleInfoOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.alps.rocky.core.proto.RoutingServer.internal_static_rocky_routing_ModuleInfo_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.alps.rocky.core.proto.RoutingServer.internal_static_rocky_routing_ModuleInfo_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.alps.rocky.core.proto.RoutingServer.ModuleInfo.class, org.alps.rocky.core.proto.RoutingServer.ModuleInfo.Builder.class);
+      }
+
+      // Construct using org.alps.rocky.core.proto.RoutingServer.ModuleInfo.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        namespace_ = "";
+        moduleName_ = "";
+        type_ = 0;
+        if (instancesBuilder_ == null) {
+          instances_ = java.util.Collections.emptyList();
+        } else {
+          instances_ = null;
+          instancesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        revision_ = 0L;
+        delta_ = false;
+        baseRevision_ = 0L;
+        if (addedBuilder_ == null) {
+          added_ = java.util.Collections.emptyList();
+        } else {
+          added_ = null;
+          addedBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000080);
+        if (updatedBuilder_ == null) {
+          updated_ = java.util.Collections.emptyList();
+        } else {
+          updated_ = null;
+          updatedBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000100);
+        removed_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.alps.rocky.core.proto.RoutingServer.internal_static_rocky_routing_ModuleInfo_descriptor;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingServer.ModuleInfo getDefaultInstanceForType() {
+        return org.alps.rocky.core.proto.RoutingServer.ModuleInfo.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingServer.ModuleInfo build() {
+        org.alps.rocky.core.proto.RoutingServer.ModuleInfo result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingServer.ModuleInfo buildPartial() {
+        org.alps.rocky.core.proto.RoutingServer.ModuleInfo result = new org.alps.rocky.core.proto.RoutingServer.ModuleInfo(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.alps.rocky.core.proto.RoutingServer.ModuleInfo result) {
+        if (instancesBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            instances_ = java.util.Collections.unmodifiableList(instances_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.instances_ = instances_;
+        } else {
+          result.instances_ = instancesBuilder_.build();
+        }
+        if (addedBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) != 0)) {
+            added_ = java.util.Collections.unmodifiableList(added_);
+            bitField0_ = (bitField0_ & ~0x00000080);
+          }
+          result.added_ = added_;
+        } else {
+          result.added_ = addedBuilder_.build();
+        }
+        if (updatedBuilder_ == null) {
+          if (((bitField0_ & 0x00000100) != 0)) {
+            updated_ = java.util.Collections.unmodifiableList(updated_);
+            bitField0_ = (bitField0_ & ~0x00000100);
+          }
+          result.updated_ = updated_;
+        } else {
+          result.updated_ = updatedBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.alps.rocky.core.proto.RoutingServer.ModuleInfo result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.namespace_ = namespace_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.moduleName_ = moduleName_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.type_ = type_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.revision_ = revision_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.delta_ = delta_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.baseRevision_ = baseRevision_;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          removed_.makeImmutable();
+          result.removed_ = removed_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.alps.rocky.core.proto.RoutingServer.ModuleInfo) {
+          return mergeFrom((org.alps.rocky.core.proto.RoutingServer.ModuleInfo)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.alps.rocky.core.proto.RoutingServer.ModuleInfo other) {
+        if (other == org.alps.rocky.core.proto.RoutingServer.ModuleInfo.getDefaultInstance()) return this;
+        if (!other.getNamespace().isEmpty()) {
+          namespace_ = other.namespace_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getModuleName().isEmpty()) {
+          moduleName_ = other.moduleName_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.type_ != 0) {
+          setTypeValue(other.getTypeValue());
+        }
+        if (instancesBuilder_ == null) {
+          if (!other.instances_.isEmpty()) {
+            if (instances_.isEmpty()) {
+              instances_ = other.instances_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureInstancesIsMutable();
+              instances_.addAll(other.instances_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.instances_.isEmpty()) {
+            if (instancesBuilder_.isEmpty()) {
+              instancesBuilder_.dispose();
+              instancesBuilder_ = null;
+              instances_ = other.instances_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              instancesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getInstancesFieldBuilder() : null;
+            } else {
+              instancesBuilder_.addAllMessages(other.instances_);
+            }
+          }
+        }
+        if (other.getRevision() != 0L) {
+          setRevision(other.getRevision());
+        }
+        if (other.getDelta() != false) {
+          setDelta(other.getDelta());
+        }
+        if (other.getBaseRevision() != 0L) {
+          setBaseRevision(other.getBaseRevision());
+        }
+        if (addedBuilder_ == null) {
+          if (!other.added_.isEmpty()) {
+            if (added_.isEmpty()) {
+              added_ = other.added_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+            } else {
+              ensureAddedIsMutable();
+              added_.addAll(other.added_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.added_.isEmpty()) {
+            if (addedBuilder_.isEmpty()) {
+              addedBuilder_.dispose();
+              addedBuilder_ = null;
+              added_ = other.added_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+              addedBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getAddedFieldBuilder() : null;
+            } else {
+              addedBuilder_.addAllMessages(other.added_);
+            }
+          }
+        }
+        if (updatedBuilder_ == null) {
+          if (!other.updated_.isEmpty()) {
+            if (updated_.isEmpty()) {
+              updated_ = other.updated_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+            } else {
+              ensureUpdatedIsMutable();
+              updated_.addAll(other.updated_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.updated_.isEmpty()) {
+            if (updatedBuilder_.isEmpty()) {
+              updatedBuilder_.dispose();
+              updatedBuilder_ = null;
+              updated_ = other.updated_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+              updatedBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getUpdatedFieldBuilder() : null;
+            } else {
+              updatedBuilder_.addAllMessages(other.updated_);
+            }
+          }
+        }
+        if (!other.removed_.isEmpty()) {
+          if (removed_.isEmpty()) {
+            removed_ = other.removed_;
+            bitField0_ |= 0x00000200;
+          } else {
+            ensureRemovedIsMutable();
+            removed_.addAll(other.removed_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                namespace_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                moduleName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 24: {
+                type_ = input.readEnum();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 34: {
+                org.alps.rocky.core.proto.RoutingServer.InstanceInfo m =
+                    input.readMessage(
+                        org.alps.rocky.core.proto.RoutingServer.InstanceInfo.parser(),
+                        extensionRegistry);
+                if (instancesBuilder_ == null) {
+                  ensureInstancesIsMutable();
+                  instances_.add(m);
+                } else {
+                  instancesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              case 40: {
+                revision_ = input.readInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                delta_ = input.readBool();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 56: {
+                baseRevision_ = input.readInt64();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              case 66: {
+                org.alps.rocky.core.proto.RoutingServer.InstanceInfo m =
+                    input.readMessage(
+                        org.alps.rocky.core.proto.RoutingServer.InstanceInfo.parser(),
+                        extensionRegistry);
+                if (addedBuilder_ == null) {
+                  ensureAddedIsMutable();
+                  added_.add(m);
+                } else {
+                  addedBuilder_.addMessage(m);
+                }
+                break;
+              } // case 66
+              case 74: {
+                org.alps.rocky.core.proto.RoutingServer.InstanceInfo m =
+                    input.readMessage(
+                        org.alps.rocky.core.proto.RoutingServer.InstanceInfo.parser(),
+                        extensionRegistry);
+                if (updatedBuilder_ == null) {
+                  ensureUpdatedIsMutable();
+                  updated_.add(m);
+                } else {
+                  updatedBuilder_.addMessage(m);
+                }
+                break;
+              } // case 74
+              case 82: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureRemovedIsMutable();
+                removed_.add(s);
+                break;
+              } // case 82
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object namespace_ = "";
+      /**
+       * <pre>
+       * 命名空间
+       * </pre>
+       *
+       * <code>string namespace = 1;</code>
+       * @return The namespace.
+       */
+      public java.lang.String getNamespace() {
+        java.lang.Object ref = namespace_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          namespace_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 命名空间
+       * </pre>
+       *
+       * <code>string namespace = 1;</code>
+       * @return The bytes for namespace.
+       */
+      public com.google.protobuf.ByteString
+          getNamespaceBytes() {
+        java.lang.Object ref = namespace_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          namespace_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 命名空间
+       * </pre>
+       *
+       * <code>string namespace = 1;</code>
+       * @param value The namespace to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNamespace(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        namespace_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 命名空间
+       * </pre>
+       *
+       * <code>string namespace = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNamespace() {
+        namespace_ = getDefaultInstance().getNamespace();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 命名空间
+       * </pre>
+       *
+       * <code>string namespace = 1;</code>
+       * @param value The bytes for namespace to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNamespaceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        namespace_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object moduleName_ = "";
+      /**
+       * <code>string moduleName = 2;</code>
+       * @return The moduleName.
+       */
+      public java.lang.String getModuleName() {
+        java.lang.Object ref = moduleName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          moduleName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string moduleName = 2;</code>
+       * @return The bytes for moduleName.
+       */
+      public com.google.protobuf.ByteString
+          getModuleNameBytes() {
+        java.lang.Object ref = moduleName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          moduleName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string moduleName = 2;</code>
+       * @param value The moduleName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModuleName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        moduleName_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string moduleName = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearModuleName() {
+        moduleName_ = getDefaultInstance().getModuleName();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string moduleName = 2;</code>
+       * @param value The bytes for moduleName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModuleNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        moduleName_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private int type_ = 0;
+      /**
+       * <code>.rocky.routing.OpsType type = 3;</code>
+       * @return The enum numeric value on the wire for type.
+       */
+      @java.lang.Override public int getTypeValue() {
+        return type_;
+      }
+      /**
+       * <code>.rocky.routing.OpsType type = 3;</code>
+       * @param value The enum numeric value on the wire for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeValue(int value) {
+        type_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.rocky.routing.OpsType type = 3;</code>
+       * @return The type.
+       */
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingServer.OpsType getType() {
+        org.alps.rocky.core.proto.RoutingServer.OpsType result = org.alps.rocky.core.proto.RoutingServer.OpsType.forNumber(type_);
+        return result == null ? org.alps.rocky.core.proto.RoutingServer.OpsType.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.rocky.routing.OpsType type = 3;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(org.alps.rocky.core.proto.RoutingServer.OpsType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000004;
+        type_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.rocky.routing.OpsType type = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        type_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo> instances_ =
+        java.util.Collections.emptyList();
+      private void ensureInstancesIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          instances_ = new java.util.ArrayList<org.alps.rocky.core.proto.RoutingServer.InstanceInfo>(instances_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingServer.InstanceInfo, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder, org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> instancesBuilder_;
+
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo> getInstancesList() {
+        if (instancesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(instances_);
+        } else {
+          return instancesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public int getInstancesCount() {
+        if (instancesBuilder_ == null) {
+          return instances_.size();
+        } else {
+          return instancesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo getInstances(int index) {
+        if (instancesBuilder_ == null) {
+          return instances_.get(index);
+        } else {
+          return instancesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public Builder setInstances(
+          int index, org.alps.rocky.core.proto.RoutingServer.InstanceInfo value) {
+        if (instancesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInstancesIsMutable();
+          instances_.set(index, value);
+          onChanged();
+        } else {
+          instancesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public Builder setInstances(
+          int index, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder builderForValue) {
+        if (instancesBuilder_ == null) {
+          ensureInstancesIsMutable();
+          instances_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          instancesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public Builder addInstances(org.alps.rocky.core.proto.RoutingServer.InstanceInfo value) {
+        if (instancesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInstancesIsMutable();
+          instances_.add(value);
+          onChanged();
+        } else {
+          instancesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public Builder addInstances(
+          int index, org.alps.rocky.core.proto.RoutingServer.InstanceInfo value) {
+        if (instancesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInstancesIsMutable();
+          instances_.add(index, value);
+          onChanged();
+        } else {
+          instancesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public Builder addInstances(
+          org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder builderForValue) {
+        if (instancesBuilder_ == null) {
+          ensureInstancesIsMutable();
+          instances_.add(builderForValue.build());
+          onChanged();
+        } else {
+          instancesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public Builder addInstances(
+          int index, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder builderForValue) {
+        if (instancesBuilder_ == null) {
+          ensureInstancesIsMutable();
+          instances_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          instancesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public Builder addAllInstances(
+          java.lang.Iterable<? extends org.alps.rocky.core.proto.RoutingServer.InstanceInfo> values) {
+        if (instancesBuilder_ == null) {
+          ensureInstancesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, instances_);
+          onChanged();
+        } else {
+          instancesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public Builder clearInstances() {
+        if (instancesBuilder_ == null) {
+          instances_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          instancesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public Builder removeInstances(int index) {
+        if (instancesBuilder_ == null) {
+          ensureInstancesIsMutable();
+          instances_.remove(index);
+          onChanged();
+        } else {
+          instancesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder getInstancesBuilder(
+          int index) {
+        return getInstancesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder getInstancesOrBuilder(
+          int index) {
+        if (instancesBuilder_ == null) {
+          return instances_.get(index);  } else {
+          return instancesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public java.util.List<? extends org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> 
+           getInstancesOrBuilderList() {
+        if (instancesBuilder_ != null) {
+          return instancesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(instances_);
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder addInstancesBuilder() {
+        return getInstancesFieldBuilder().addBuilder(
+            org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder addInstancesBuilder(
+          int index) {
+        return getInstancesFieldBuilder().addBuilder(
+            index, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo instances = 4;</code>
+       */
+      public java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder> 
+           getInstancesBuilderList() {
+        return getInstancesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingServer.InstanceInfo, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder, org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> 
+          getInstancesFieldBuilder() {
+        if (instancesBuilder_ == null) {
+          instancesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.alps.rocky.core.proto.RoutingServer.InstanceInfo, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder, org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder>(
+                  instances_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          instances_ = null;
+        }
+        return instancesBuilder_;
+      }
+
+      private long revision_ ;
+      /**
+       * <pre>
+       * 模块版本，每次实例变化递增
+       * </pre>
+       *
+       * <code>int64 revision = 5;</code>
+       * @return The revision.
+       */
+      @java.lang.Override
+      public long getRevision() {
+        return revision_;
+      }
+      /**
+       * <pre>
+       * 模块版本，每次实例变化递增
+       * </pre>
+       *
+       * <code>int64 revision = 5;</code>
+       * @param value The revision to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRevision(long value) {
+
+        revision_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 模块版本，每次实例变化递增
+       * </pre>
+       *
+       * <code>int64 revision = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRevision() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        revision_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean delta_ ;
+      /**
+       * <pre>
+       * 为true时只包含baseRevision之后变化的实例，instances为空
+       * </pre>
+       *
+       * <code>bool delta = 6;</code>
+       * @return The delta.
+       */
+      @java.lang.Override
+      public boolean getDelta() {
+        return delta_;
+      }
+      /**
+       * <pre>
+       * 为true时只包含baseRevision之后变化的实例，instances为空
+       * </pre>
+       *
+       * <code>bool delta = 6;</code>
+       * @param value The delta to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDelta(boolean value) {
+
+        delta_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 为true时只包含baseRevision之后变化的实例，instances为空
+       * </pre>
+       *
+       * <code>bool delta = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDelta() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        delta_ = false;
+        onChanged();
+        return this;
+      }
+
+      private long baseRevision_ ;
+      /**
+       * <code>int64 baseRevision = 7;</code>
+       * @return The baseRevision.
+       */
+      @java.lang.Override
+      public long getBaseRevision() {
+        return baseRevision_;
+      }
+      /**
+       * <code>int64 baseRevision = 7;</code>
+       * @param value The baseRevision to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBaseRevision(long value) {
+
+        baseRevision_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 baseRevision = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBaseRevision() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        baseRevision_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo> added_ =
+        java.util.Collections.emptyList();
+      private void ensureAddedIsMutable() {
+        if (!((bitField0_ & 0x00000080) != 0)) {
+          added_ = new java.util.ArrayList<org.alps.rocky.core.proto.RoutingServer.InstanceInfo>(added_);
+          bitField0_ |= 0x00000080;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingServer.InstanceInfo, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder, org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> addedBuilder_;
+
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo> getAddedList() {
+        if (addedBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(added_);
+        } else {
+          return addedBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public int getAddedCount() {
+        if (addedBuilder_ == null) {
+          return added_.size();
+        } else {
+          return addedBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo getAdded(int index) {
+        if (addedBuilder_ == null) {
+          return added_.get(index);
+        } else {
+          return addedBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public Builder setAdded(
+          int index, org.alps.rocky.core.proto.RoutingServer.InstanceInfo value) {
+        if (addedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAddedIsMutable();
+          added_.set(index, value);
+          onChanged();
+        } else {
+          addedBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public Builder setAdded(
+          int index, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder builderForValue) {
+        if (addedBuilder_ == null) {
+          ensureAddedIsMutable();
+          added_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          addedBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public Builder addAdded(org.alps.rocky.core.proto.RoutingServer.InstanceInfo value) {
+        if (addedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAddedIsMutable();
+          added_.add(value);
+          onChanged();
+        } else {
+          addedBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public Builder addAdded(
+          int index, org.alps.rocky.core.proto.RoutingServer.InstanceInfo value) {
+        if (addedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAddedIsMutable();
+          added_.add(index, value);
+          onChanged();
+        } else {
+          addedBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public Builder addAdded(
+          org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder builderForValue) {
+        if (addedBuilder_ == null) {
+          ensureAddedIsMutable();
+          added_.add(builderForValue.build());
+          onChanged();
+        } else {
+          addedBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public Builder addAdded(
+          int index, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder builderForValue) {
+        if (addedBuilder_ == null) {
+          ensureAddedIsMutable();
+          added_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          addedBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public Builder addAllAdded(
+          java.lang.Iterable<? extends org.alps.rocky.core.proto.RoutingServer.InstanceInfo> values) {
+        if (addedBuilder_ == null) {
+          ensureAddedIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, added_);
+          onChanged();
+        } else {
+          addedBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public Builder clearAdded() {
+        if (addedBuilder_ == null) {
+          added_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+          onChanged();
+        } else {
+          addedBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public Builder removeAdded(int index) {
+        if (addedBuilder_ == null) {
+          ensureAddedIsMutable();
+          added_.remove(index);
+          onChanged();
+        } else {
+          addedBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder getAddedBuilder(
+          int index) {
+        return getAddedFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder getAddedOrBuilder(
+          int index) {
+        if (addedBuilder_ == null) {
+          return added_.get(index);  } else {
+          return addedBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public java.util.List<? extends org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> 
+           getAddedOrBuilderList() {
+        if (addedBuilder_ != null) {
+          return addedBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(added_);
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder addAddedBuilder() {
+        return getAddedFieldBuilder().addBuilder(
+            org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder addAddedBuilder(
+          int index) {
+        return getAddedFieldBuilder().addBuilder(
+            index, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo added = 8;</code>
+       */
+      public java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder> 
+           getAddedBuilderList() {
+        return getAddedFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingServer.InstanceInfo, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder, org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> 
+          getAddedFieldBuilder() {
+        if (addedBuilder_ == null) {
+          addedBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.alps.rocky.core.proto.RoutingServer.InstanceInfo, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder, org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder>(
+                  added_,
+                  ((bitField0_ & 0x00000080) != 0),
+                  getParentForChildren(),
+                  isClean());
+          added_ = null;
+        }
+        return addedBuilder_;
+      }
+
+      private java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo> updated_ =
+        java.util.Collections.emptyList();
+      private void ensureUpdatedIsMutable() {
+        if (!((bitField0_ & 0x00000100) != 0)) {
+          updated_ = new java.util.ArrayList<org.alps.rocky.core.proto.RoutingServer.InstanceInfo>(updated_);
+          bitField0_ |= 0x00000100;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingServer.InstanceInfo, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder, org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> updatedBuilder_;
+
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo> getUpdatedList() {
+        if (updatedBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(updated_);
+        } else {
+          return updatedBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public int getUpdatedCount() {
+        if (updatedBuilder_ == null) {
+          return updated_.size();
+        } else {
+          return updatedBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo getUpdated(int index) {
+        if (updatedBuilder_ == null) {
+          return updated_.get(index);
+        } else {
+          return updatedBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public Builder setUpdated(
+          int index, org.alps.rocky.core.proto.RoutingServer.InstanceInfo value) {
+        if (updatedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUpdatedIsMutable();
+          updated_.set(index, value);
+          onChanged();
+        } else {
+          updatedBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public Builder setUpdated(
+          int index, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder builderForValue) {
+        if (updatedBuilder_ == null) {
+          ensureUpdatedIsMutable();
+          updated_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          updatedBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public Builder addUpdated(org.alps.rocky.core.proto.RoutingServer.InstanceInfo value) {
+        if (updatedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUpdatedIsMutable();
+          updated_.add(value);
+          onChanged();
+        } else {
+          updatedBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public Builder addUpdated(
+          int index, org.alps.rocky.core.proto.RoutingServer.InstanceInfo value) {
+        if (updatedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUpdatedIsMutable();
+          updated_.add(index, value);
+          onChanged();
+        } else {
+          updatedBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public Builder addUpdated(
+          org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder builderForValue) {
+        if (updatedBuilder_ == null) {
+          ensureUpdatedIsMutable();
+          updated_.add(builderForValue.build());
+          onChanged();
+        } else {
+          updatedBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public Builder addUpdated(
+          int index, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder builderForValue) {
+        if (updatedBuilder_ == null) {
+          ensureUpdatedIsMutable();
+          updated_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          updatedBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public Builder addAllUpdated(
+          java.lang.Iterable<? extends org.alps.rocky.core.proto.RoutingServer.InstanceInfo> values) {
+        if (updatedBuilder_ == null) {
+          ensureUpdatedIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, updated_);
+          onChanged();
+        } else {
+          updatedBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public Builder clearUpdated() {
+        if (updatedBuilder_ == null) {
+          updated_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000100);
+          onChanged();
+        } else {
+          updatedBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public Builder removeUpdated(int index) {
+        if (updatedBuilder_ == null) {
+          ensureUpdatedIsMutable();
+          updated_.remove(index);
+          onChanged();
+        } else {
+          updatedBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder getUpdatedBuilder(
+          int index) {
+        return getUpdatedFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder getUpdatedOrBuilder(
+          int index) {
+        if (updatedBuilder_ == null) {
+          return updated_.get(index);  } else {
+          return updatedBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public java.util.List<? extends org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> 
+           getUpdatedOrBuilderList() {
+        if (updatedBuilder_ != null) {
+          return updatedBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(updated_);
+        }
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder addUpdatedBuilder() {
+        return getUpdatedFieldBuilder().addBuilder(
+            org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder addUpdatedBuilder(
+          int index) {
+        return getUpdatedFieldBuilder().addBuilder(
+            index, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .rocky.routing.InstanceInfo updated = 9;</code>
+       */
+      public java.util.List<org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder> 
+           getUpdatedBuilderList() {
+        return getUpdatedFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingServer.InstanceInfo, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder, org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> 
+          getUpdatedFieldBuilder() {
+        if (updatedBuilder_ == null) {
+          updatedBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.alps.rocky.core.proto.RoutingServer.InstanceInfo, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder, org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder>(
+                  updated_,
+                  ((bitField0_ & 0x00000100) != 0),
+                  getParentForChildren(),
+                  isClean());
+          updated_ = null;
+        }
+        return updatedBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringArrayList removed_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureRemovedIsMutable() {
+        if (!removed_.isModifiable()) {
+          removed_ = new com.google.protobuf.LazyStringArrayList(removed_);
+        }
+        bitField0_ |= 0x00000200;
+      }
+      /**
+       * <pre>
+       * 删除的实例ID
+       * </pre>
+       *
+       * <code>repeated string removed = 10;</code>
+       * @return A list containing the removed.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getRemovedList() {
+        removed_.makeImmutable();
+        return removed_;
+      }
+      /**
+       * <pre>
+       * 删除的实例ID
+       * </pre>
+       *
+       * <code>repeated string removed = 10;</code>
+       * @return The count of removed.
+       */
+      public int getRemovedCount() {
+        return removed_.size();
+      }
+      /**
+       * <pre>
+       * 删除的实例ID
+       * </pre>
+       *
+       * <code>repeated string removed = 10;</code>
+       * @param index The index of the element to return.
+       * @return The removed at the given index.
+       */
+      public java.lang.String getRemoved(int index) {
+        return removed_.get(index);
+      }
+      /**
+       * <pre>
+       * 删除的实例ID
+       * </pre>
+       *
+       * <code>repeated string removed = 10;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the removed at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getRemovedBytes(int index) {
+        return removed_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * 删除的实例ID
+       * </pre>
+       *
+       * <code>repeated string removed = 10;</code>
+       * @param index The index to set the value at.
+       * @param value The removed to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemoved(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureRemovedIsMutable();
+        removed_.set(index, value);
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 删除的实例ID
+       * </pre>
+       *
+       * <code>repeated string removed = 10;</code>
+       * @param value The removed to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemoved(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureRemovedIsMutable();
+        removed_.add(value);
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 删除的实例ID
+       * </pre>
+       *
+       * <code>repeated string removed = 10;</code>
+       * @param values The removed to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllRemoved(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureRemovedIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removed_);
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 删除的实例ID
+       * </pre>
+       *
+       * <code>repeated string removed = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemoved() {
+        removed_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000200);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 删除的实例ID
+       * </pre>
+       *
+       * <code>repeated string removed = 10;</code>
+       * @param value The bytes of the removed to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureRemovedIsMutable();
+        removed_.add(value);
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:rocky.routing.ModuleInfo)
+    }
+
+    // @@protoc_insertion_point(class_scope:rocky.routing.ModuleInfo)
+    private static final org.alps.rocky.core.proto.RoutingServer.ModuleInfo DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingServer.ModuleInfo();
+    }
+
+    public static org.alps.rocky.core.proto.RoutingServer.ModuleInfo getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ModuleInfo>
+        PARSER = new com.google.protobuf.AbstractParser<ModuleInfo>() {
+      @java.lang.Override
+      public ModuleInfo parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ModuleInfo> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ModuleInfo> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingServer.ModuleInfo getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ErrorInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:rocky.routing.ErrorInfo)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.rocky.routing.Code code = 1;</code>
+     * @return The enum numeric value on the wire for code.
+     */
+    int getCodeValue();
+    /**
+     * <code>.rocky.routing.Code code = 1;</code>
+     * @return The code.
+     */
+    org.alps.rocky.core.proto.RoutingErrors.Code getCode();
+
+    /**
+     * <pre>
+     * 多久之后重试(毫秒)
+     * </pre>
+     *
+     * <code>int64 retryAfterMillis = 2;</code>
+     * @return The retryAfterMillis.
+     */
+    long getRetryAfterMillis();
+  }
+  /**
+   * <pre>
+   *错误信息
+   * </pre>
+   *
+   * Protobuf type {@code rocky.routing.ErrorInfo}
+   */
+  public static final class ErrorInfo extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:rocky.routing.ErrorInfo)
+      ErrorInfoOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ErrorInfo.newBuilder() to construct.
+    private ErrorInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ErrorInfo() {
+      code_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ErrorInfo();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingServer.internal_static_rocky_routing_ErrorInfo_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.alps.rocky.core.proto.RoutingServer.internal_static_rocky_routing_ErrorInfo_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.alps.rocky.core.proto.RoutingServer.ErrorInfo.class, org.alps.rocky.core.proto.RoutingServer.ErrorInfo.Builder.class);
+    }
+
+    public static final int CODE_FIELD_NUMBER = 1;
+    private int code_ = 0;
+    /**
+     * <code>.rocky.routing.Code code = 1;</code>
+     * @return The enum numeric value on the wire for code.
+     */
+    @java.lang.Override public int getCodeValue() {
+      return code_;
+    }
+    /**
+     * <code>.rocky.routing.Code code = 1;</code>
+     * @return The code.
+     */
+    @java.lang.Override public org.alps.rocky.core.proto.RoutingErrors.Code getCode() {
+      org.alps.rocky.core.proto.RoutingErrors.Code result = org.alps.rocky.core.proto.RoutingErrors.Code.forNumber(code_);
+      return result == null ? org.alps.rocky.core.proto.RoutingErrors.Code.UNRECOGNIZED : result;
+    }
+
+    public static final int RETRYAFTERMILLIS_FIELD_NUMBER = 2;
+    private long retryAfterMillis_ = 0L;
+    /**
+     * <pre>
+     * 多久之后重试(毫秒)
+     * </pre>
+     *
+     * <code>int64 retryAfterMillis = 2;</code>
+     * @return The retryAfterMillis.
+     */
+    @java.lang.Override
+    public long getRetryAfterMillis() {
+      return retryAfterMillis_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (code_ != org.alps.rocky.core.proto.RoutingErrors.Code.NONE.getNumber()) {
+        output.writeEnum(1, code_);
+      }
+      if (retryAfterMillis_ != 0L) {
+        output.writeInt64(2, retryAfterMillis_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (code_ != org.alps.rocky.core.proto.RoutingErrors.Code.NONE.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, code_);
+      }
+      if (retryAfterMillis_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, retryAfterMillis_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.alps.rocky.core.proto.RoutingServer.ErrorInfo)) {
+        return super.equals(obj);
+      }
+      org.alps.rocky.core.proto.RoutingServer.ErrorInfo other = (org.alps.rocky.core.proto.RoutingServer.ErrorInfo) obj;
+
+      if (code_ != other.code_) return false;
+      if (getRetryAfterMillis()
+          != other.getRetryAfterMillis()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + CODE_FIELD_NUMBER;
+      hash = (53 * hash) + code_;
+      hash = (37 * hash) + RETRYAFTERMILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRetryAfterMillis());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.alps.rocky.core.proto.RoutingServer.ErrorInfo parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ErrorInfo parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ErrorInfo parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ErrorInfo parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ErrorInfo parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ErrorInfo parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ErrorInfo parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ErrorInfo parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingServer.ErrorInfo parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingServer.ErrorInfo parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ErrorInfo parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingServer.ErrorInfo parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.alps.rocky.core.proto.RoutingServer.ErrorInfo prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     *错误信息
+     * </pre>
+     *
+     * Protobuf type {@code rocky.routing.ErrorInfo}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:rocky.routing.ErrorInfo)
+        org.alps.rocky.core.proto.RoutingServer.ErrorInfoOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.alps.rocky.core.proto.RoutingServer.internal_static_rocky_routing_ErrorInfo_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.alps.rocky.core.proto.RoutingServer.internal_static_rocky_routing_ErrorInfo_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.alps.rocky.core.proto.RoutingServer.ErrorInfo.class, org.alps.rocky.core.proto.RoutingServer.ErrorInfo.Builder.class);
+      }
+
+      // Construct using org.alps.rocky.core.proto.RoutingServer.ErrorInfo.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        code_ = 0;
+        retryAfterMillis_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.alps.rocky.core.proto.RoutingServer.internal_static_rocky_routing_ErrorInfo_descriptor;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingServer.ErrorInfo getDefaultInstanceForType() {
+        return org.alps.rocky.core.proto.RoutingServer.ErrorInfo.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingServer.ErrorInfo build() {
+        org.alps.rocky.core.proto.RoutingServer.ErrorInfo result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingServer.ErrorInfo buildPartial() {
+        org.alps.rocky.core.proto.RoutingServer.ErrorInfo result = new org.alps.rocky.core.proto.RoutingServer.ErrorInfo(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.alps.rocky.core.proto.RoutingServer.ErrorInfo result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.code_ = code_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.retryAfterMillis_ = retryAfterMillis_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.alps.rocky.core.proto.RoutingServer.ErrorInfo) {
+          return mergeFrom((org.alps.rocky.core.proto.RoutingServer.ErrorInfo)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.alps.rocky.core.proto.RoutingServer.ErrorInfo other) {
+        if (other == org.alps.rocky.core.proto.RoutingServer.ErrorInfo.getDefaultInstance()) return this;
+        if (other.code_ != 0) {
+          setCodeValue(other.getCodeValue());
+        }
+        if (other.getRetryAfterMillis() != 0L) {
+          setRetryAfterMillis(other.getRetryAfterMillis());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                code_ = input.readEnum();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                retryAfterMillis_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int code_ = 0;
+      /**
+       * <code>.rocky.routing.Code code = 1;</code>
+       * @return The enum numeric value on the wire for code.
+       */
+      @java.lang.Override public int getCodeValue() {
+        return code_;
+      }
+      /**
+       * <code>.rocky.routing.Code code = 1;</code>
+       * @param value The enum numeric value on the wire for code to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCodeValue(int value) {
+        code_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.rocky.routing.Code code = 1;</code>
+       * @return The code.
+       */
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingErrors.Code getCode() {
+        org.alps.rocky.core.proto.RoutingErrors.Code result = org.alps.rocky.core.proto.RoutingErrors.Code.forNumber(code_);
+        return result == null ? org.alps.rocky.core.proto.RoutingErrors.Code.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.rocky.routing.Code code = 1;</code>
+       * @param value The code to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCode(org.alps.rocky.core.proto.RoutingErrors.Code value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        code_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.rocky.routing.Code code = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCode() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        code_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long retryAfterMillis_ ;
+      /**
+       * <pre>
+       * 多久之后重试(毫秒)
+       * </pre>
+       *
+       * <code>int64 retryAfterMillis = 2;</code>
+       * @return The retryAfterMillis.
+       */
+      @java.lang.Override
+      public long getRetryAfterMillis() {
+        return retryAfterMillis_;
+      }
+      /**
+       * <pre>
+       * 多久之后重试(毫秒)
+       * </pre>
+       *
+       * <code>int64 retryAfterMillis = 2;</code>
+       * @param value The retryAfterMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRetryAfterMillis(long value) {
+
+        retryAfterMillis_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 多久之后重试(毫秒)
+       * </pre>
+       *
+       * <code>int64 retryAfterMillis = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRetryAfterMillis() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        retryAfterMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:rocky.routing.ErrorInfo)
+    }
+
+    // @@protoc_insertion_point(class_scope:rocky.routing.ErrorInfo)
+    private static final org.alps.rocky.core.proto.RoutingServer.ErrorInfo DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingServer.ErrorInfo();
+    }
+
+    public static org.alps.rocky.core.proto.RoutingServer.ErrorInfo getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ErrorInfo>
+        PARSER = new com.google.protobuf.AbstractParser<ErrorInfo>() {
+      @java.lang.Override
+      public ErrorInfo parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ErrorInfo> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ErrorInfo> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingServer.ErrorInfo getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_InstanceInfo_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_InstanceInfo_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_ModuleInfo_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_ModuleInfo_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_ErrorInfo_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_ErrorInfo_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\023RoutingServer.proto\022\rrocky.routing\032\023Ro" +
+      "utingCommon.proto\032\014Errors.proto\"]\n\014Insta" +
+      "nceInfo\022\017\n\007profile\030\001 \001(\t\022\022\n\ninstanceId\030\003" +
+      " \001(\t\022\n\n\002ip\030\004 \001(\t\022\014\n\004port\030\005 \001(\005\022\016\n\006active" +
+      "\030\006 \001(\010\"\253\002\n\nModuleInfo\022\021\n\tnamespace\030\001 \001(\t" +
+      "\022\022\n\nmoduleName\030\002 \001(\t\022$\n\004type\030\003 \001(\0162\026.roc" +
+      "ky.routing.OpsType\022.\n\tinstances\030\004 \003(\0132\033." +
+      "rocky.routing.InstanceInfo\022\020\n\010revision\030\005" +
+      " \001(\003\022\r\n\005delta\030\006 \001(\010\022\024\n\014baseRevision\030\007 \001(" +
+      "\003\022*\n\005added\030\010 \003(\0132\033.rocky.routing.Instanc" +
+      "eInfo\022,\n\007updated\030\t \003(\0132\033.rocky.routing.I" +
+      "nstanceInfo\022\017\n\007removed\030\n \003(\t\"H\n\tErrorInf" +
+      "o\022!\n\004code\030\001 \001(\0162\023.rocky.routing.Code\022\030\n\020" +
+      "retryAfterMillis\030\002 \001(\003*!\n\007OpsType\022\n\n\006Mod" +
+      "ify\020\000\022\n\n\006Delete\020\001B*\n\031org.alps.rocky.core" +
+      ".protoB\rRoutingServerb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.alps.rocky.core.proto.RoutingCommon.getDescriptor(),
+          org.alps.rocky.core.proto.RoutingErrors.getDescriptor(),
+        });
+    internal_static_rocky_routing_InstanceInfo_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_rocky_routing_InstanceInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_InstanceInfo_descriptor,
+        new java.lang.String[] { "Profile", "InstanceId", "Ip", "Port", "Active", });
+    internal_static_rocky_routing_ModuleInfo_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_rocky_routing_ModuleInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_ModuleInfo_descriptor,
+        new java.lang.String[] { "Namespace", "ModuleName", "Type", "Instances", "Revision", "Delta", "BaseRevision", "Added", "Updated", "Removed", });
+    internal_static_rocky_routing_ErrorInfo_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_rocky_routing_ErrorInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_ErrorInfo_descriptor,
+        new java.lang.String[] { "Code", "RetryAfterMillis", });
+    org.alps.rocky.core.proto.RoutingCommon.getDescriptor();
+    org.alps.rocky.core.proto.RoutingErrors.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
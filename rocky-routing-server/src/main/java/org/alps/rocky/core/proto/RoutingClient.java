@@ -1,4594 +0,0 @@
-// Generated by the protocol buffer compiler.  DO NOT EDIT!
-// source: RoutingClient.proto
-
-package org.alps.rocky.core.proto;
-
-public final class RoutingClient {
-  private RoutingClient() {}
-  public static void registerAllExtensions(
-      com.google.protobuf.ExtensionRegistryLite registry) {
-  }
-
-  public static void registerAllExtensions(
-      com.google.protobuf.ExtensionRegistry registry) {
-    registerAllExtensions(
-        (com.google.protobuf.ExtensionRegistryLite) registry);
-  }
-  public interface ServiceInfoOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:rocky.routing.ServiceInfo)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <pre>
-     * 命名空间
-     * </pre>
-     *
-     * <code>string namespace = 1;</code>
-     * @return The namespace.
-     */
-    String getNamespace();
-    /**
-     * <pre>
-     * 命名空间
-     * </pre>
-     *
-     * <code>string namespace = 1;</code>
-     * @return The bytes for namespace.
-     */
-    com.google.protobuf.ByteString
-        getNamespaceBytes();
-
-    /**
-     * <pre>
-     * 类型
-     * </pre>
-     *
-     * <code>string profile = 2;</code>
-     * @return The profile.
-     */
-    String getProfile();
-    /**
-     * <pre>
-     * 类型
-     * </pre>
-     *
-     * <code>string profile = 2;</code>
-     * @return The bytes for profile.
-     */
-    com.google.protobuf.ByteString
-        getProfileBytes();
-
-    /**
-     * <code>optional string instanceId = 4;</code>
-     * @return Whether the instanceId field is set.
-     */
-    boolean hasInstanceId();
-    /**
-     * <code>optional string instanceId = 4;</code>
-     * @return The instanceId.
-     */
-    String getInstanceId();
-    /**
-     * <code>optional string instanceId = 4;</code>
-     * @return The bytes for instanceId.
-     */
-    com.google.protobuf.ByteString
-        getInstanceIdBytes();
-
-    /**
-     * <code>string ip = 5;</code>
-     * @return The ip.
-     */
-    String getIp();
-    /**
-     * <code>string ip = 5;</code>
-     * @return The bytes for ip.
-     */
-    com.google.protobuf.ByteString
-        getIpBytes();
-
-    /**
-     * <code>int32 port = 6;</code>
-     * @return The port.
-     */
-    int getPort();
-
-    /**
-     * <pre>
-     * 开通 modules
-     * </pre>
-     *
-     * <code>repeated string modules = 7;</code>
-     * @return A list containing the modules.
-     */
-    java.util.List<String>
-        getModulesList();
-    /**
-     * <pre>
-     * 开通 modules
-     * </pre>
-     *
-     * <code>repeated string modules = 7;</code>
-     * @return The count of modules.
-     */
-    int getModulesCount();
-    /**
-     * <pre>
-     * 开通 modules
-     * </pre>
-     *
-     * <code>repeated string modules = 7;</code>
-     * @param index The index of the element to return.
-     * @return The modules at the given index.
-     */
-    String getModules(int index);
-    /**
-     * <pre>
-     * 开通 modules
-     * </pre>
-     *
-     * <code>repeated string modules = 7;</code>
-     * @param index The index of the value to return.
-     * @return The bytes of the modules at the given index.
-     */
-    com.google.protobuf.ByteString
-        getModulesBytes(int index);
-
-    /**
-     * <pre>
-     * 允许接入routing的 token
-     * </pre>
-     *
-     * <code>string accessKey = 8;</code>
-     * @return The accessKey.
-     */
-    String getAccessKey();
-    /**
-     * <pre>
-     * 允许接入routing的 token
-     * </pre>
-     *
-     * <code>string accessKey = 8;</code>
-     * @return The bytes for accessKey.
-     */
-    com.google.protobuf.ByteString
-        getAccessKeyBytes();
-
-    /**
-     * <code>map&lt;string, string&gt; msg = 9;</code>
-     */
-    int getMsgCount();
-    /**
-     * <code>map&lt;string, string&gt; msg = 9;</code>
-     */
-    boolean containsMsg(
-            String key);
-    /**
-     * Use {@link #getMsgMap()} instead.
-     */
-    @Deprecated
-    java.util.Map<String, String>
-    getMsg();
-    /**
-     * <code>map&lt;string, string&gt; msg = 9;</code>
-     */
-    java.util.Map<String, String>
-    getMsgMap();
-    /**
-     * <code>map&lt;string, string&gt; msg = 9;</code>
-     */
-    /* nullable */
-    String getMsgOrDefault(
-            String key,
-            /* nullable */
-            String defaultValue);
-    /**
-     * <code>map&lt;string, string&gt; msg = 9;</code>
-     */
-    String getMsgOrThrow(
-            String key);
-  }
-  /**
-   * <pre>
-   *服务信息
-   * </pre>
-   *
-   * Protobuf type {@code rocky.routing.ServiceInfo}
-   */
-  public static final class ServiceInfo extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:rocky.routing.ServiceInfo)
-      ServiceInfoOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use ServiceInfo.newBuilder() to construct.
-    private ServiceInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private ServiceInfo() {
-      namespace_ = "";
-      profile_ = "";
-      instanceId_ = "";
-      ip_ = "";
-      modules_ =
-          com.google.protobuf.LazyStringArrayList.emptyList();
-      accessKey_ = "";
-    }
-
-    @Override
-    @SuppressWarnings({"unused"})
-    protected Object newInstance(
-        UnusedPrivateParameter unused) {
-      return new ServiceInfo();
-    }
-
-    public static final com.google.protobuf.Descriptors.Descriptor
-    getDescriptor() {
-      return RoutingClient.internal_static_rocky_routing_ServiceInfo_descriptor;
-    }
-
-    @SuppressWarnings({"rawtypes"})
-    @Override
-    protected com.google.protobuf.MapField internalGetMapField(
-            int number) {
-      switch (number) {
-        case 9:
-          return internalGetMsg();
-        default:
-          throw new RuntimeException(
-                  "Invalid map field number: " + number);
-      }
-    }
-    @Override
-    protected FieldAccessorTable
-    internalGetFieldAccessorTable() {
-      return RoutingClient.internal_static_rocky_routing_ServiceInfo_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                      ServiceInfo.class, Builder.class);
-    }
-
-    private int bitField0_;
-    public static final int NAMESPACE_FIELD_NUMBER = 1;
-    @SuppressWarnings("serial")
-    private volatile Object namespace_ = "";
-    /**
-     * <pre>
-     * 命名空间
-     * </pre>
-     *
-     * <code>string namespace = 1;</code>
-     * @return The namespace.
-     */
-    @Override
-    public String getNamespace() {
-      Object ref = namespace_;
-      if (ref instanceof String) {
-        return (String) ref;
-      } else {
-        com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-        String s = bs.toStringUtf8();
-        namespace_ = s;
-        return s;
-      }
-    }
-    /**
-     * <pre>
-     * 命名空间
-     * </pre>
-     *
-     * <code>string namespace = 1;</code>
-     * @return The bytes for namespace.
-     */
-    @Override
-    public com.google.protobuf.ByteString
-    getNamespaceBytes() {
-      Object ref = namespace_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b =
-                com.google.protobuf.ByteString.copyFromUtf8(
-                (String) ref);
-        namespace_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int PROFILE_FIELD_NUMBER = 2;
-    @SuppressWarnings("serial")
-    private volatile Object profile_ = "";
-    /**
-     * <pre>
-     * 类型
-     * </pre>
-     *
-     * <code>string profile = 2;</code>
-     * @return The profile.
-     */
-    @Override
-    public String getProfile() {
-      Object ref = profile_;
-      if (ref instanceof String) {
-        return (String) ref;
-      } else {
-        com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-        String s = bs.toStringUtf8();
-        profile_ = s;
-        return s;
-      }
-    }
-    /**
-     * <pre>
-     * 类型
-     * </pre>
-     *
-     * <code>string profile = 2;</code>
-     * @return The bytes for profile.
-     */
-    @Override
-    public com.google.protobuf.ByteString
-    getProfileBytes() {
-      Object ref = profile_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b =
-                com.google.protobuf.ByteString.copyFromUtf8(
-                (String) ref);
-        profile_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int INSTANCEID_FIELD_NUMBER = 4;
-    @SuppressWarnings("serial")
-    private volatile Object instanceId_ = "";
-    /**
-     * <code>optional string instanceId = 4;</code>
-     * @return Whether the instanceId field is set.
-     */
-    @Override
-    public boolean hasInstanceId() {
-      return ((bitField0_ & 0x00000001) != 0);
-    }
-    /**
-     * <code>optional string instanceId = 4;</code>
-     * @return The instanceId.
-     */
-    @Override
-    public String getInstanceId() {
-      Object ref = instanceId_;
-      if (ref instanceof String) {
-        return (String) ref;
-      } else {
-        com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-        String s = bs.toStringUtf8();
-        instanceId_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>optional string instanceId = 4;</code>
-     * @return The bytes for instanceId.
-     */
-    @Override
-    public com.google.protobuf.ByteString
-    getInstanceIdBytes() {
-      Object ref = instanceId_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b =
-                com.google.protobuf.ByteString.copyFromUtf8(
-                (String) ref);
-        instanceId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int IP_FIELD_NUMBER = 5;
-    @SuppressWarnings("serial")
-    private volatile Object ip_ = "";
-    /**
-     * <code>string ip = 5;</code>
-     * @return The ip.
-     */
-    @Override
-    public String getIp() {
-      Object ref = ip_;
-      if (ref instanceof String) {
-        return (String) ref;
-      } else {
-        com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-        String s = bs.toStringUtf8();
-        ip_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string ip = 5;</code>
-     * @return The bytes for ip.
-     */
-    @Override
-    public com.google.protobuf.ByteString
-    getIpBytes() {
-      Object ref = ip_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b =
-                com.google.protobuf.ByteString.copyFromUtf8(
-                (String) ref);
-        ip_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int PORT_FIELD_NUMBER = 6;
-    private int port_ = 0;
-    /**
-     * <code>int32 port = 6;</code>
-     * @return The port.
-     */
-    @Override
-    public int getPort() {
-      return port_;
-    }
-
-    public static final int MODULES_FIELD_NUMBER = 7;
-    @SuppressWarnings("serial")
-    private com.google.protobuf.LazyStringArrayList modules_ =
-        com.google.protobuf.LazyStringArrayList.emptyList();
-    /**
-     * <pre>
-     * 开通 modules
-     * </pre>
-     *
-     * <code>repeated string modules = 7;</code>
-     * @return A list containing the modules.
-     */
-    public com.google.protobuf.ProtocolStringList
-        getModulesList() {
-      return modules_;
-    }
-    /**
-     * <pre>
-     * 开通 modules
-     * </pre>
-     *
-     * <code>repeated string modules = 7;</code>
-     * @return The count of modules.
-     */
-    public int getModulesCount() {
-      return modules_.size();
-    }
-    /**
-     * <pre>
-     * 开通 modules
-     * </pre>
-     *
-     * <code>repeated string modules = 7;</code>
-     * @param index The index of the element to return.
-     * @return The modules at the given index.
-     */
-    public String getModules(int index) {
-      return modules_.get(index);
-    }
-    /**
-     * <pre>
-     * 开通 modules
-     * </pre>
-     *
-     * <code>repeated string modules = 7;</code>
-     * @param index The index of the value to return.
-     * @return The bytes of the modules at the given index.
-     */
-    public com.google.protobuf.ByteString
-        getModulesBytes(int index) {
-      return modules_.getByteString(index);
-    }
-
-    public static final int ACCESSKEY_FIELD_NUMBER = 8;
-    @SuppressWarnings("serial")
-    private volatile Object accessKey_ = "";
-    /**
-     * <pre>
-     * 允许接入routing的 token
-     * </pre>
-     *
-     * <code>string accessKey = 8;</code>
-     * @return The accessKey.
-     */
-    @Override
-    public String getAccessKey() {
-      Object ref = accessKey_;
-      if (ref instanceof String) {
-        return (String) ref;
-      } else {
-        com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-        String s = bs.toStringUtf8();
-        accessKey_ = s;
-        return s;
-      }
-    }
-    /**
-     * <pre>
-     * 允许接入routing的 token
-     * </pre>
-     *
-     * <code>string accessKey = 8;</code>
-     * @return The bytes for accessKey.
-     */
-    @Override
-    public com.google.protobuf.ByteString
-    getAccessKeyBytes() {
-      Object ref = accessKey_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b =
-                com.google.protobuf.ByteString.copyFromUtf8(
-                (String) ref);
-        accessKey_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int MSG_FIELD_NUMBER = 9;
-    private static final class MsgDefaultEntryHolder {
-      static final com.google.protobuf.MapEntry<
-              String, String> defaultEntry =
-              com.google.protobuf.MapEntry
-                      .<String, String>newDefaultInstance(
-                              RoutingClient.internal_static_rocky_routing_ServiceInfo_MsgEntry_descriptor,
-                              com.google.protobuf.WireFormat.FieldType.STRING,
-                              "",
-                              com.google.protobuf.WireFormat.FieldType.STRING,
-                              "");
-    }
-    @SuppressWarnings("serial")
-    private com.google.protobuf.MapField<
-            String, String> msg_;
-    private com.google.protobuf.MapField<String, String>
-    internalGetMsg() {
-      if (msg_ == null) {
-        return com.google.protobuf.MapField.emptyMapField(
-                MsgDefaultEntryHolder.defaultEntry);
-      }
-      return msg_;
-    }
-    public int getMsgCount() {
-      return internalGetMsg().getMap().size();
-    }
-    /**
-     * <code>map&lt;string, string&gt; msg = 9;</code>
-     */
-    @Override
-    public boolean containsMsg(
-            String key) {
-      if (key == null) {
-        throw new NullPointerException("map key");
-      }
-      return internalGetMsg().getMap().containsKey(key);
-    }
-    /**
-     * Use {@link #getMsgMap()} instead.
-     */
-    @Override
-    @Deprecated
-    public java.util.Map<String, String> getMsg() {
-      return getMsgMap();
-    }
-    /**
-     * <code>map&lt;string, string&gt; msg = 9;</code>
-     */
-    @Override
-    public java.util.Map<String, String> getMsgMap() {
-      return internalGetMsg().getMap();
-    }
-    /**
-     * <code>map&lt;string, string&gt; msg = 9;</code>
-     */
-    @Override
-    public /* nullable */
-    String getMsgOrDefault(
-            String key,
-            /* nullable */
-            String defaultValue) {
-      if (key == null) {
-        throw new NullPointerException("map key");
-      }
-      java.util.Map<String, String> map =
-              internalGetMsg().getMap();
-      return map.containsKey(key) ? map.get(key) : defaultValue;
-    }
-    /**
-     * <code>map&lt;string, string&gt; msg = 9;</code>
-     */
-    @Override
-    public String getMsgOrThrow(
-            String key) {
-      if (key == null) {
-        throw new NullPointerException("map key");
-      }
-      java.util.Map<String, String> map =
-              internalGetMsg().getMap();
-      if (!map.containsKey(key)) {
-        throw new IllegalArgumentException();
-      }
-      return map.get(key);
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(namespace_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, namespace_);
-      }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(profile_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, profile_);
-      }
-      if (((bitField0_ & 0x00000001) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, instanceId_);
-      }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(ip_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, ip_);
-      }
-      if (port_ != 0) {
-        output.writeInt32(6, port_);
-      }
-      for (int i = 0; i < modules_.size(); i++) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, modules_.getRaw(i));
-      }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(accessKey_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 8, accessKey_);
-      }
-      com.google.protobuf.GeneratedMessageV3
-              .serializeStringMapTo(
-                      output,
-          internalGetMsg(),
-          MsgDefaultEntryHolder.defaultEntry,
-          9);
-      getUnknownFields().writeTo(output);
-    }
-
-    @Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(namespace_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, namespace_);
-      }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(profile_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, profile_);
-      }
-      if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, instanceId_);
-      }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(ip_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, ip_);
-      }
-      if (port_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(6, port_);
-      }
-      {
-        int dataSize = 0;
-        for (int i = 0; i < modules_.size(); i++) {
-          dataSize += computeStringSizeNoTag(modules_.getRaw(i));
-        }
-        size += dataSize;
-        size += 1 * getModulesList().size();
-      }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(accessKey_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(8, accessKey_);
-      }
-      for (java.util.Map.Entry<String, String> entry
-              : internalGetMsg().getMap().entrySet()) {
-        com.google.protobuf.MapEntry<String, String>
-                msg__ = MsgDefaultEntryHolder.defaultEntry.newBuilderForType()
-                .setKey(entry.getKey())
-                .setValue(entry.getValue())
-                .build();
-        size += com.google.protobuf.CodedOutputStream
-            .computeMessageSize(9, msg__);
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @Override
-    public boolean equals(final Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof ServiceInfo)) {
-        return super.equals(obj);
-      }
-      ServiceInfo other = (ServiceInfo) obj;
-
-      if (!getNamespace()
-          .equals(other.getNamespace())) return false;
-      if (!getProfile()
-          .equals(other.getProfile())) return false;
-      if (hasInstanceId() != other.hasInstanceId()) return false;
-      if (hasInstanceId()) {
-        if (!getInstanceId()
-            .equals(other.getInstanceId())) return false;
-      }
-      if (!getIp()
-          .equals(other.getIp())) return false;
-      if (getPort()
-          != other.getPort()) return false;
-      if (!getModulesList()
-          .equals(other.getModulesList())) return false;
-      if (!getAccessKey()
-              .equals(other.getAccessKey())) return false;
-      if (!internalGetMsg().equals(
-          other.internalGetMsg())) return false;
-      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-      return true;
-    }
-
-    @Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + NAMESPACE_FIELD_NUMBER;
-      hash = (53 * hash) + getNamespace().hashCode();
-      hash = (37 * hash) + PROFILE_FIELD_NUMBER;
-      hash = (53 * hash) + getProfile().hashCode();
-      if (hasInstanceId()) {
-        hash = (37 * hash) + INSTANCEID_FIELD_NUMBER;
-        hash = (53 * hash) + getInstanceId().hashCode();
-      }
-      hash = (37 * hash) + IP_FIELD_NUMBER;
-      hash = (53 * hash) + getIp().hashCode();
-      hash = (37 * hash) + PORT_FIELD_NUMBER;
-      hash = (53 * hash) + getPort();
-      if (getModulesCount() > 0) {
-        hash = (37 * hash) + MODULES_FIELD_NUMBER;
-        hash = (53 * hash) + getModulesList().hashCode();
-      }
-      hash = (37 * hash) + ACCESSKEY_FIELD_NUMBER;
-      hash = (53 * hash) + getAccessKey().hashCode();
-      if (!internalGetMsg().getMap().isEmpty()) {
-        hash = (37 * hash) + MSG_FIELD_NUMBER;
-        hash = (53 * hash) + internalGetMsg().hashCode();
-      }
-      hash = (29 * hash) + getUnknownFields().hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static ServiceInfo parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static ServiceInfo parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static ServiceInfo parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static ServiceInfo parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static ServiceInfo parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static ServiceInfo parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static ServiceInfo parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseWithIOException(PARSER, input);
-    }
-    public static ServiceInfo parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static ServiceInfo parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseDelimitedWithIOException(PARSER, input);
-    }
-
-    public static ServiceInfo parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static ServiceInfo parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseWithIOException(PARSER, input);
-    }
-    public static ServiceInfo parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(ServiceInfo prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @Override
-    protected Builder newBuilderForType(
-        BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * <pre>
-     *服务信息
-     * </pre>
-     *
-     * Protobuf type {@code rocky.routing.ServiceInfo}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-            // @@protoc_insertion_point(builder_implements:rocky.routing.ServiceInfo)
-        ServiceInfoOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-      getDescriptor() {
-        return RoutingClient.internal_static_rocky_routing_ServiceInfo_descriptor;
-      }
-
-      @SuppressWarnings({"rawtypes"})
-      protected com.google.protobuf.MapField internalGetMapField(
-              int number) {
-        switch (number) {
-          case 9:
-            return internalGetMsg();
-          default:
-            throw new RuntimeException(
-                    "Invalid map field number: " + number);
-        }
-      }
-      @SuppressWarnings({"rawtypes"})
-      protected com.google.protobuf.MapField internalGetMutableMapField(
-              int number) {
-        switch (number) {
-          case 9:
-            return internalGetMutableMsg();
-          default:
-            throw new RuntimeException(
-                    "Invalid map field number: " + number);
-        }
-      }
-      @Override
-      protected FieldAccessorTable
-      internalGetFieldAccessorTable() {
-        return RoutingClient.internal_static_rocky_routing_ServiceInfo_fieldAccessorTable
-                .ensureFieldAccessorsInitialized(
-                ServiceInfo.class, Builder.class);
-      }
-
-      // Construct using org.alps.rocky.core.proto.RoutingClient.ServiceInfo.newBuilder()
-      private Builder() {
-
-      }
-
-      private Builder(
-          BuilderParent parent) {
-        super(parent);
-
-      }
-      @Override
-      public Builder clear() {
-        super.clear();
-        bitField0_ = 0;
-        namespace_ = "";
-        profile_ = "";
-        instanceId_ = "";
-        ip_ = "";
-        port_ = 0;
-        modules_ =
-                com.google.protobuf.LazyStringArrayList.emptyList();
-        accessKey_ = "";
-        internalGetMutableMsg().clear();
-        return this;
-      }
-
-      @Override
-      public com.google.protobuf.Descriptors.Descriptor
-      getDescriptorForType() {
-        return RoutingClient.internal_static_rocky_routing_ServiceInfo_descriptor;
-      }
-
-      @Override
-      public ServiceInfo getDefaultInstanceForType() {
-        return ServiceInfo.getDefaultInstance();
-      }
-
-      @Override
-      public ServiceInfo build() {
-        ServiceInfo result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      @Override
-      public ServiceInfo buildPartial() {
-        ServiceInfo result = new ServiceInfo(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
-        onBuilt();
-        return result;
-      }
-
-      private void buildPartial0(ServiceInfo result) {
-        int from_bitField0_ = bitField0_;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.namespace_ = namespace_;
-        }
-        if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.profile_ = profile_;
-        }
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.instanceId_ = instanceId_;
-          to_bitField0_ |= 0x00000001;
-        }
-        if (((from_bitField0_ & 0x00000008) != 0)) {
-          result.ip_ = ip_;
-        }
-        if (((from_bitField0_ & 0x00000010) != 0)) {
-          result.port_ = port_;
-        }
-        if (((from_bitField0_ & 0x00000020) != 0)) {
-          modules_.makeImmutable();
-          result.modules_ = modules_;
-        }
-        if (((from_bitField0_ & 0x00000040) != 0)) {
-          result.accessKey_ = accessKey_;
-        }
-        if (((from_bitField0_ & 0x00000080) != 0)) {
-          result.msg_ = internalGetMsg();
-          result.msg_.makeImmutable();
-        }
-        result.bitField0_ |= to_bitField0_;
-      }
-
-      @Override
-      public Builder clone() {
-        return super.clone();
-      }
-      @Override
-      public Builder setField(
-              com.google.protobuf.Descriptors.FieldDescriptor field,
-              Object value) {
-        return super.setField(field, value);
-      }
-      @Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return super.clearField(field);
-      }
-      @Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return super.clearOneof(oneof);
-      }
-      @Override
-      public Builder setRepeatedField(
-              com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, Object value) {
-        return super.setRepeatedField(field, index, value);
-      }
-      @Override
-      public Builder addRepeatedField(
-              com.google.protobuf.Descriptors.FieldDescriptor field,
-              Object value) {
-        return super.addRepeatedField(field, value);
-      }
-      @Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof ServiceInfo) {
-          return mergeFrom((ServiceInfo)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(ServiceInfo other) {
-        if (other == ServiceInfo.getDefaultInstance()) return this;
-        if (!other.getNamespace().isEmpty()) {
-          namespace_ = other.namespace_;
-          bitField0_ |= 0x00000001;
-          onChanged();
-        }
-        if (!other.getProfile().isEmpty()) {
-          profile_ = other.profile_;
-          bitField0_ |= 0x00000002;
-          onChanged();
-        }
-        if (other.hasInstanceId()) {
-          instanceId_ = other.instanceId_;
-          bitField0_ |= 0x00000004;
-          onChanged();
-        }
-        if (!other.getIp().isEmpty()) {
-          ip_ = other.ip_;
-          bitField0_ |= 0x00000008;
-          onChanged();
-        }
-        if (other.getPort() != 0) {
-          setPort(other.getPort());
-        }
-        if (!other.modules_.isEmpty()) {
-          if (modules_.isEmpty()) {
-            modules_ = other.modules_;
-            bitField0_ |= 0x00000020;
-          } else {
-            ensureModulesIsMutable();
-            modules_.addAll(other.modules_);
-          }
-          onChanged();
-        }
-        if (!other.getAccessKey().isEmpty()) {
-          accessKey_ = other.accessKey_;
-          bitField0_ |= 0x00000040;
-          onChanged();
-        }
-        internalGetMutableMsg().mergeFrom(
-            other.internalGetMsg());
-        bitField0_ |= 0x00000080;
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
-        return this;
-      }
-
-      @Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 10: {
-                namespace_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000001;
-                break;
-              } // case 10
-              case 18: {
-                profile_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000002;
-                break;
-              } // case 18
-              case 34: {
-                instanceId_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000004;
-                break;
-              } // case 34
-              case 42: {
-                ip_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000008;
-                break;
-              } // case 42
-              case 48: {
-                port_ = input.readInt32();
-                bitField0_ |= 0x00000010;
-                break;
-              } // case 48
-              case 58: {
-                String s = input.readStringRequireUtf8();
-                ensureModulesIsMutable();
-                modules_.add(s);
-                break;
-              } // case 58
-              case 66: {
-                accessKey_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000040;
-                break;
-              } // case 66
-              case 74: {
-                com.google.protobuf.MapEntry<String, String>
-                        msg__ = input.readMessage(
-                        MsgDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
-                internalGetMutableMsg().getMutableMap().put(
-                        msg__.getKey(), msg__.getValue());
-                bitField0_ |= 0x00000080;
-                break;
-              } // case 74
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-      private int bitField0_;
-
-      private Object namespace_ = "";
-      /**
-       * <pre>
-       * 命名空间
-       * </pre>
-       *
-       * <code>string namespace = 1;</code>
-       * @return The namespace.
-       */
-      public String getNamespace() {
-        Object ref = namespace_;
-        if (!(ref instanceof String)) {
-          com.google.protobuf.ByteString bs =
-                  (com.google.protobuf.ByteString) ref;
-          String s = bs.toStringUtf8();
-          namespace_ = s;
-          return s;
-        } else {
-          return (String) ref;
-        }
-      }
-      /**
-       * <pre>
-       * 命名空间
-       * </pre>
-       *
-       * <code>string namespace = 1;</code>
-       * @return The bytes for namespace.
-       */
-      public com.google.protobuf.ByteString
-          getNamespaceBytes() {
-        Object ref = namespace_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-                  com.google.protobuf.ByteString.copyFromUtf8(
-                  (String) ref);
-          namespace_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <pre>
-       * 命名空间
-       * </pre>
-       *
-       * <code>string namespace = 1;</code>
-       * @param value The namespace to set.
-       * @return This builder for chaining.
-       */
-      public Builder setNamespace(
-          String value) {
-        if (value == null) { throw new NullPointerException(); }
-        namespace_ = value;
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 命名空间
-       * </pre>
-       *
-       * <code>string namespace = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearNamespace() {
-        namespace_ = getDefaultInstance().getNamespace();
-        bitField0_ = (bitField0_ & ~0x00000001);
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 命名空间
-       * </pre>
-       *
-       * <code>string namespace = 1;</code>
-       * @param value The bytes for namespace to set.
-       * @return This builder for chaining.
-       */
-      public Builder setNamespaceBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        namespace_ = value;
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return this;
-      }
-
-      private Object profile_ = "";
-      /**
-       * <pre>
-       * 类型
-       * </pre>
-       *
-       * <code>string profile = 2;</code>
-       * @return The profile.
-       */
-      public String getProfile() {
-        Object ref = profile_;
-        if (!(ref instanceof String)) {
-          com.google.protobuf.ByteString bs =
-                  (com.google.protobuf.ByteString) ref;
-          String s = bs.toStringUtf8();
-          profile_ = s;
-          return s;
-        } else {
-          return (String) ref;
-        }
-      }
-      /**
-       * <pre>
-       * 类型
-       * </pre>
-       *
-       * <code>string profile = 2;</code>
-       * @return The bytes for profile.
-       */
-      public com.google.protobuf.ByteString
-          getProfileBytes() {
-        Object ref = profile_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-                  com.google.protobuf.ByteString.copyFromUtf8(
-                  (String) ref);
-          profile_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <pre>
-       * 类型
-       * </pre>
-       *
-       * <code>string profile = 2;</code>
-       * @param value The profile to set.
-       * @return This builder for chaining.
-       */
-      public Builder setProfile(
-          String value) {
-        if (value == null) { throw new NullPointerException(); }
-        profile_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 类型
-       * </pre>
-       *
-       * <code>string profile = 2;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearProfile() {
-        profile_ = getDefaultInstance().getProfile();
-        bitField0_ = (bitField0_ & ~0x00000002);
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 类型
-       * </pre>
-       *
-       * <code>string profile = 2;</code>
-       * @param value The bytes for profile to set.
-       * @return This builder for chaining.
-       */
-      public Builder setProfileBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        profile_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-
-      private Object instanceId_ = "";
-      /**
-       * <code>optional string instanceId = 4;</code>
-       * @return Whether the instanceId field is set.
-       */
-      public boolean hasInstanceId() {
-        return ((bitField0_ & 0x00000004) != 0);
-      }
-      /**
-       * <code>optional string instanceId = 4;</code>
-       * @return The instanceId.
-       */
-      public String getInstanceId() {
-        Object ref = instanceId_;
-        if (!(ref instanceof String)) {
-          com.google.protobuf.ByteString bs =
-                  (com.google.protobuf.ByteString) ref;
-          String s = bs.toStringUtf8();
-          instanceId_ = s;
-          return s;
-        } else {
-          return (String) ref;
-        }
-      }
-      /**
-       * <code>optional string instanceId = 4;</code>
-       * @return The bytes for instanceId.
-       */
-      public com.google.protobuf.ByteString
-          getInstanceIdBytes() {
-        Object ref = instanceId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-                  com.google.protobuf.ByteString.copyFromUtf8(
-                  (String) ref);
-          instanceId_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>optional string instanceId = 4;</code>
-       * @param value The instanceId to set.
-       * @return This builder for chaining.
-       */
-      public Builder setInstanceId(
-          String value) {
-        if (value == null) { throw new NullPointerException(); }
-        instanceId_ = value;
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string instanceId = 4;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearInstanceId() {
-        instanceId_ = getDefaultInstance().getInstanceId();
-        bitField0_ = (bitField0_ & ~0x00000004);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string instanceId = 4;</code>
-       * @param value The bytes for instanceId to set.
-       * @return This builder for chaining.
-       */
-      public Builder setInstanceIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        instanceId_ = value;
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
-      }
-
-      private Object ip_ = "";
-      /**
-       * <code>string ip = 5;</code>
-       * @return The ip.
-       */
-      public String getIp() {
-        Object ref = ip_;
-        if (!(ref instanceof String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          String s = bs.toStringUtf8();
-          ip_ = s;
-          return s;
-        } else {
-          return (String) ref;
-        }
-      }
-      /**
-       * <code>string ip = 5;</code>
-       * @return The bytes for ip.
-       */
-      public com.google.protobuf.ByteString
-          getIpBytes() {
-        Object ref = ip_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (String) ref);
-          ip_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string ip = 5;</code>
-       * @param value The ip to set.
-       * @return This builder for chaining.
-       */
-      public Builder setIp(
-          String value) {
-        if (value == null) { throw new NullPointerException(); }
-        ip_ = value;
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string ip = 5;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearIp() {
-        ip_ = getDefaultInstance().getIp();
-        bitField0_ = (bitField0_ & ~0x00000008);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string ip = 5;</code>
-       * @param value The bytes for ip to set.
-       * @return This builder for chaining.
-       */
-      public Builder setIpBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        ip_ = value;
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return this;
-      }
-
-      private int port_ ;
-      /**
-       * <code>int32 port = 6;</code>
-       * @return The port.
-       */
-      @Override
-      public int getPort() {
-        return port_;
-      }
-      /**
-       * <code>int32 port = 6;</code>
-       * @param value The port to set.
-       * @return This builder for chaining.
-       */
-      public Builder setPort(int value) {
-
-        port_ = value;
-        bitField0_ |= 0x00000010;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>int32 port = 6;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearPort() {
-        bitField0_ = (bitField0_ & ~0x00000010);
-        port_ = 0;
-        onChanged();
-        return this;
-      }
-
-      private com.google.protobuf.LazyStringArrayList modules_ =
-          com.google.protobuf.LazyStringArrayList.emptyList();
-      private void ensureModulesIsMutable() {
-        if (!modules_.isModifiable()) {
-          modules_ = new com.google.protobuf.LazyStringArrayList(modules_);
-        }
-        bitField0_ |= 0x00000020;
-      }
-      /**
-       * <pre>
-       * 开通 modules
-       * </pre>
-       *
-       * <code>repeated string modules = 7;</code>
-       * @return A list containing the modules.
-       */
-      public com.google.protobuf.ProtocolStringList
-          getModulesList() {
-        modules_.makeImmutable();
-        return modules_;
-      }
-      /**
-       * <pre>
-       * 开通 modules
-       * </pre>
-       *
-       * <code>repeated string modules = 7;</code>
-       * @return The count of modules.
-       */
-      public int getModulesCount() {
-        return modules_.size();
-      }
-      /**
-       * <pre>
-       * 开通 modules
-       * </pre>
-       *
-       * <code>repeated string modules = 7;</code>
-       * @param index The index of the element to return.
-       * @return The modules at the given index.
-       */
-      public String getModules(int index) {
-        return modules_.get(index);
-      }
-      /**
-       * <pre>
-       * 开通 modules
-       * </pre>
-       *
-       * <code>repeated string modules = 7;</code>
-       * @param index The index of the value to return.
-       * @return The bytes of the modules at the given index.
-       */
-      public com.google.protobuf.ByteString
-          getModulesBytes(int index) {
-        return modules_.getByteString(index);
-      }
-      /**
-       * <pre>
-       * 开通 modules
-       * </pre>
-       *
-       * <code>repeated string modules = 7;</code>
-       * @param index The index to set the value at.
-       * @param value The modules to set.
-       * @return This builder for chaining.
-       */
-      public Builder setModules(
-          int index, String value) {
-        if (value == null) { throw new NullPointerException(); }
-        ensureModulesIsMutable();
-        modules_.set(index, value);
-        bitField0_ |= 0x00000020;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 开通 modules
-       * </pre>
-       *
-       * <code>repeated string modules = 7;</code>
-       * @param value The modules to add.
-       * @return This builder for chaining.
-       */
-      public Builder addModules(
-          String value) {
-        if (value == null) { throw new NullPointerException(); }
-        ensureModulesIsMutable();
-        modules_.add(value);
-        bitField0_ |= 0x00000020;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 开通 modules
-       * </pre>
-       *
-       * <code>repeated string modules = 7;</code>
-       * @param values The modules to add.
-       * @return This builder for chaining.
-       */
-      public Builder addAllModules(
-          Iterable<String> values) {
-        ensureModulesIsMutable();
-        com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, modules_);
-        bitField0_ |= 0x00000020;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 开通 modules
-       * </pre>
-       *
-       * <code>repeated string modules = 7;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearModules() {
-        modules_ =
-          com.google.protobuf.LazyStringArrayList.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000020);;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 开通 modules
-       * </pre>
-       *
-       * <code>repeated string modules = 7;</code>
-       * @param value The bytes of the modules to add.
-       * @return This builder for chaining.
-       */
-      public Builder addModulesBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        ensureModulesIsMutable();
-        modules_.add(value);
-        bitField0_ |= 0x00000020;
-        onChanged();
-        return this;
-      }
-
-      private Object accessKey_ = "";
-      /**
-       * <pre>
-       * 允许接入routing的 token
-       * </pre>
-       *
-       * <code>string accessKey = 8;</code>
-       * @return The accessKey.
-       */
-      public String getAccessKey() {
-        Object ref = accessKey_;
-        if (!(ref instanceof String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          String s = bs.toStringUtf8();
-          accessKey_ = s;
-          return s;
-        } else {
-          return (String) ref;
-        }
-      }
-      /**
-       * <pre>
-       * 允许接入routing的 token
-       * </pre>
-       *
-       * <code>string accessKey = 8;</code>
-       * @return The bytes for accessKey.
-       */
-      public com.google.protobuf.ByteString
-          getAccessKeyBytes() {
-        Object ref = accessKey_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (String) ref);
-          accessKey_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <pre>
-       * 允许接入routing的 token
-       * </pre>
-       *
-       * <code>string accessKey = 8;</code>
-       * @param value The accessKey to set.
-       * @return This builder for chaining.
-       */
-      public Builder setAccessKey(
-          String value) {
-        if (value == null) { throw new NullPointerException(); }
-        accessKey_ = value;
-        bitField0_ |= 0x00000040;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 允许接入routing的 token
-       * </pre>
-       *
-       * <code>string accessKey = 8;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearAccessKey() {
-        accessKey_ = getDefaultInstance().getAccessKey();
-        bitField0_ = (bitField0_ & ~0x00000040);
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 允许接入routing的 token
-       * </pre>
-       *
-       * <code>string accessKey = 8;</code>
-       * @param value The bytes for accessKey to set.
-       * @return This builder for chaining.
-       */
-      public Builder setAccessKeyBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        accessKey_ = value;
-        bitField0_ |= 0x00000040;
-        onChanged();
-        return this;
-      }
-
-      private com.google.protobuf.MapField<
-              String, String> msg_;
-      private com.google.protobuf.MapField<String, String>
-      internalGetMsg() {
-        if (msg_ == null) {
-          return com.google.protobuf.MapField.emptyMapField(
-                  MsgDefaultEntryHolder.defaultEntry);
-        }
-        return msg_;
-      }
-      private com.google.protobuf.MapField<String, String>
-      internalGetMutableMsg() {
-        if (msg_ == null) {
-          msg_ = com.google.protobuf.MapField.newMapField(
-                  MsgDefaultEntryHolder.defaultEntry);
-        }
-        if (!msg_.isMutable()) {
-          msg_ = msg_.copy();
-        }
-        bitField0_ |= 0x00000080;
-        onChanged();
-        return msg_;
-      }
-      public int getMsgCount() {
-        return internalGetMsg().getMap().size();
-      }
-      /**
-       * <code>map&lt;string, string&gt; msg = 9;</code>
-       */
-      @Override
-      public boolean containsMsg(
-              String key) {
-        if (key == null) {
-          throw new NullPointerException("map key");
-        }
-        return internalGetMsg().getMap().containsKey(key);
-      }
-      /**
-       * Use {@link #getMsgMap()} instead.
-       */
-      @Override
-      @Deprecated
-      public java.util.Map<String, String> getMsg() {
-        return getMsgMap();
-      }
-      /**
-       * <code>map&lt;string, string&gt; msg = 9;</code>
-       */
-      @Override
-      public java.util.Map<String, String> getMsgMap() {
-        return internalGetMsg().getMap();
-      }
-      /**
-       * <code>map&lt;string, string&gt; msg = 9;</code>
-       */
-      @Override
-      public /* nullable */
-      String getMsgOrDefault(
-              String key,
-              /* nullable */
-              String defaultValue) {
-        if (key == null) {
-          throw new NullPointerException("map key");
-        }
-        java.util.Map<String, String> map =
-                internalGetMsg().getMap();
-        return map.containsKey(key) ? map.get(key) : defaultValue;
-      }
-      /**
-       * <code>map&lt;string, string&gt; msg = 9;</code>
-       */
-      @Override
-      public String getMsgOrThrow(
-              String key) {
-        if (key == null) {
-          throw new NullPointerException("map key");
-        }
-        java.util.Map<String, String> map =
-                internalGetMsg().getMap();
-        if (!map.containsKey(key)) {
-          throw new IllegalArgumentException();
-        }
-        return map.get(key);
-      }
-      public Builder clearMsg() {
-        bitField0_ = (bitField0_ & ~0x00000080);
-        internalGetMutableMsg().getMutableMap()
-                .clear();
-        return this;
-      }
-      /**
-       * <code>map&lt;string, string&gt; msg = 9;</code>
-       */
-      public Builder removeMsg(
-              String key) {
-        if (key == null) {
-          throw new NullPointerException("map key");
-        }
-        internalGetMutableMsg().getMutableMap()
-                .remove(key);
-        return this;
-      }
-      /**
-       * Use alternate mutation accessors instead.
-       */
-      @Deprecated
-      public java.util.Map<String, String>
-      getMutableMsg() {
-        bitField0_ |= 0x00000080;
-        return internalGetMutableMsg().getMutableMap();
-      }
-      /**
-       * <code>map&lt;string, string&gt; msg = 9;</code>
-       */
-      public Builder putMsg(
-              String key,
-              String value) {
-        if (key == null) {
-          throw new NullPointerException("map key");
-        }
-        if (value == null) {
-          throw new NullPointerException("map value");
-        }
-        internalGetMutableMsg().getMutableMap()
-                .put(key, value);
-        bitField0_ |= 0x00000080;
-        return this;
-      }
-      /**
-       * <code>map&lt;string, string&gt; msg = 9;</code>
-       */
-      public Builder putAllMsg(
-              java.util.Map<String, String> values) {
-        internalGetMutableMsg().getMutableMap()
-            .putAll(values);
-        bitField0_ |= 0x00000080;
-        return this;
-      }
-      @Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
-
-      @Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
-      }
-
-
-      // @@protoc_insertion_point(builder_scope:rocky.routing.ServiceInfo)
-    }
-
-    // @@protoc_insertion_point(class_scope:rocky.routing.ServiceInfo)
-    private static final ServiceInfo DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new ServiceInfo();
-    }
-
-    public static ServiceInfo getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<ServiceInfo>
-        PARSER = new com.google.protobuf.AbstractParser<ServiceInfo>() {
-      @Override
-      public ServiceInfo parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-        }
-        return builder.buildPartial();
-      }
-    };
-
-    public static com.google.protobuf.Parser<ServiceInfo> parser() {
-      return PARSER;
-    }
-
-    @Override
-    public com.google.protobuf.Parser<ServiceInfo> getParserForType() {
-      return PARSER;
-    }
-
-    @Override
-    public ServiceInfo getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface HealthIdleInfoOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:rocky.routing.HealthIdleInfo)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    int getMsgCount();
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    boolean containsMsg(
-        String key);
-    /**
-     * Use {@link #getMsgMap()} instead.
-     */
-    @Deprecated
-    java.util.Map<String, String>
-    getMsg();
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    java.util.Map<String, String>
-    getMsgMap();
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    /* nullable */
-    String getMsgOrDefault(
-            String key,
-        /* nullable */
-String defaultValue);
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    String getMsgOrThrow(
-        String key);
-  }
-  /**
-   * <pre>
-   * 健康心跳请求
-   * </pre>
-   *
-   * Protobuf type {@code rocky.routing.HealthIdleInfo}
-   */
-  public static final class HealthIdleInfo extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:rocky.routing.HealthIdleInfo)
-      HealthIdleInfoOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use HealthIdleInfo.newBuilder() to construct.
-    private HealthIdleInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private HealthIdleInfo() {
-    }
-
-    @Override
-    @SuppressWarnings({"unused"})
-    protected Object newInstance(
-            UnusedPrivateParameter unused) {
-      return new HealthIdleInfo();
-    }
-
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return RoutingClient.internal_static_rocky_routing_HealthIdleInfo_descriptor;
-    }
-
-    @SuppressWarnings({"rawtypes"})
-    @Override
-    protected com.google.protobuf.MapField internalGetMapField(
-            int number) {
-      switch (number) {
-        case 1:
-          return internalGetMsg();
-        default:
-          throw new RuntimeException(
-                  "Invalid map field number: " + number);
-      }
-    }
-    @Override
-    protected FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return RoutingClient.internal_static_rocky_routing_HealthIdleInfo_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-                  HealthIdleInfo.class, Builder.class);
-    }
-
-    public static final int MSG_FIELD_NUMBER = 1;
-    private static final class MsgDefaultEntryHolder {
-      static final com.google.protobuf.MapEntry<
-              String, String> defaultEntry =
-              com.google.protobuf.MapEntry
-              .<String, String>newDefaultInstance(
-                  RoutingClient.internal_static_rocky_routing_HealthIdleInfo_MsgEntry_descriptor,
-                  com.google.protobuf.WireFormat.FieldType.STRING,
-                      "",
-                      com.google.protobuf.WireFormat.FieldType.STRING,
-                  "");
-    }
-    @SuppressWarnings("serial")
-    private com.google.protobuf.MapField<
-        String, String> msg_;
-    private com.google.protobuf.MapField<String, String>
-    internalGetMsg() {
-      if (msg_ == null) {
-        return com.google.protobuf.MapField.emptyMapField(
-            MsgDefaultEntryHolder.defaultEntry);
-      }
-      return msg_;
-    }
-    public int getMsgCount() {
-      return internalGetMsg().getMap().size();
-    }
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    @Override
-    public boolean containsMsg(
-            String key) {
-      if (key == null) {
-        throw new NullPointerException("map key");
-      }
-      return internalGetMsg().getMap().containsKey(key);
-    }
-    /**
-     * Use {@link #getMsgMap()} instead.
-     */
-    @Override
-    @Deprecated
-    public java.util.Map<String, String> getMsg() {
-      return getMsgMap();
-    }
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    @Override
-    public java.util.Map<String, String> getMsgMap() {
-      return internalGetMsg().getMap();
-    }
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    @Override
-    public /* nullable */
-String getMsgOrDefault(
-        String key,
-        /* nullable */
-String defaultValue) {
-      if (key == null) { throw new NullPointerException("map key"); }
-      java.util.Map<String, String> map =
-              internalGetMsg().getMap();
-      return map.containsKey(key) ? map.get(key) : defaultValue;
-    }
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    @Override
-    public String getMsgOrThrow(
-            String key) {
-      if (key == null) { throw new NullPointerException("map key"); }
-      java.util.Map<String, String> map =
-          internalGetMsg().getMap();
-      if (!map.containsKey(key)) {
-        throw new IllegalArgumentException();
-      }
-      return map.get(key);
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      com.google.protobuf.GeneratedMessageV3
-        .serializeStringMapTo(
-          output,
-          internalGetMsg(),
-          MsgDefaultEntryHolder.defaultEntry,
-                1);
-      getUnknownFields().writeTo(output);
-    }
-
-    @Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      for (java.util.Map.Entry<String, String> entry
-           : internalGetMsg().getMap().entrySet()) {
-        com.google.protobuf.MapEntry<String, String>
-        msg__ = MsgDefaultEntryHolder.defaultEntry.newBuilderForType()
-            .setKey(entry.getKey())
-            .setValue(entry.getValue())
-                .build();
-        size += com.google.protobuf.CodedOutputStream
-            .computeMessageSize(1, msg__);
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @Override
-    public boolean equals(final Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof HealthIdleInfo)) {
-        return super.equals(obj);
-      }
-      HealthIdleInfo other = (HealthIdleInfo) obj;
-
-      if (!internalGetMsg().equals(
-          other.internalGetMsg())) return false;
-      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-      return true;
-    }
-
-    @Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      if (!internalGetMsg().getMap().isEmpty()) {
-        hash = (37 * hash) + MSG_FIELD_NUMBER;
-        hash = (53 * hash) + internalGetMsg().hashCode();
-      }
-      hash = (29 * hash) + getUnknownFields().hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static HealthIdleInfo parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static HealthIdleInfo parseFrom(
-            java.nio.ByteBuffer data,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static HealthIdleInfo parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static HealthIdleInfo parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static HealthIdleInfo parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static HealthIdleInfo parseFrom(
-            byte[] data,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static HealthIdleInfo parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static HealthIdleInfo parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static HealthIdleInfo parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-
-    public static HealthIdleInfo parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static HealthIdleInfo parseFrom(
-            com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static HealthIdleInfo parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(HealthIdleInfo prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @Override
-    protected Builder newBuilderForType(
-        BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * <pre>
-     * 健康心跳请求
-     * </pre>
-     *
-     * Protobuf type {@code rocky.routing.HealthIdleInfo}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-            // @@protoc_insertion_point(builder_implements:rocky.routing.HealthIdleInfo)
-        HealthIdleInfoOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return RoutingClient.internal_static_rocky_routing_HealthIdleInfo_descriptor;
-      }
-
-      @SuppressWarnings({"rawtypes"})
-      protected com.google.protobuf.MapField internalGetMapField(
-          int number) {
-        switch (number) {
-          case 1:
-            return internalGetMsg();
-          default:
-            throw new RuntimeException(
-                "Invalid map field number: " + number);
-        }
-      }
-      @SuppressWarnings({"rawtypes"})
-      protected com.google.protobuf.MapField internalGetMutableMapField(
-          int number) {
-        switch (number) {
-          case 1:
-            return internalGetMutableMsg();
-          default:
-            throw new RuntimeException(
-                    "Invalid map field number: " + number);
-        }
-      }
-      @Override
-      protected FieldAccessorTable
-      internalGetFieldAccessorTable() {
-        return RoutingClient.internal_static_rocky_routing_HealthIdleInfo_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                    HealthIdleInfo.class, Builder.class);
-      }
-
-      // Construct using org.alps.rocky.core.proto.RoutingClient.HealthIdleInfo.newBuilder()
-      private Builder() {
-
-      }
-
-      private Builder(
-              BuilderParent parent) {
-        super(parent);
-
-      }
-      @Override
-      public Builder clear() {
-        super.clear();
-        bitField0_ = 0;
-        internalGetMutableMsg().clear();
-        return this;
-      }
-
-      @Override
-      public com.google.protobuf.Descriptors.Descriptor
-      getDescriptorForType() {
-        return RoutingClient.internal_static_rocky_routing_HealthIdleInfo_descriptor;
-      }
-
-      @Override
-      public HealthIdleInfo getDefaultInstanceForType() {
-        return HealthIdleInfo.getDefaultInstance();
-      }
-
-      @Override
-      public HealthIdleInfo build() {
-        HealthIdleInfo result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      @Override
-      public HealthIdleInfo buildPartial() {
-        HealthIdleInfo result = new HealthIdleInfo(this);
-        if (bitField0_ != 0) { buildPartial0(result); }
-        onBuilt();
-        return result;
-      }
-
-      private void buildPartial0(HealthIdleInfo result) {
-        int from_bitField0_ = bitField0_;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.msg_ = internalGetMsg();
-          result.msg_.makeImmutable();
-        }
-      }
-
-      @Override
-      public Builder clone() {
-        return super.clone();
-      }
-      @Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          Object value) {
-        return super.setField(field, value);
-      }
-      @Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return super.clearField(field);
-      }
-      @Override
-      public Builder clearOneof(
-              com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return super.clearOneof(oneof);
-      }
-      @Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, Object value) {
-        return super.setRepeatedField(field, index, value);
-      }
-      @Override
-      public Builder addRepeatedField(
-              com.google.protobuf.Descriptors.FieldDescriptor field,
-              Object value) {
-        return super.addRepeatedField(field, value);
-      }
-      @Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof HealthIdleInfo) {
-          return mergeFrom((HealthIdleInfo)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(HealthIdleInfo other) {
-        if (other == HealthIdleInfo.getDefaultInstance()) return this;
-        internalGetMutableMsg().mergeFrom(
-            other.internalGetMsg());
-        bitField0_ |= 0x00000001;
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
-        return this;
-      }
-
-      @Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @Override
-      public Builder mergeFrom(
-              com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 10: {
-                com.google.protobuf.MapEntry<String, String>
-                msg__ = input.readMessage(
-                    MsgDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
-                internalGetMutableMsg().getMutableMap().put(
-                    msg__.getKey(), msg__.getValue());
-                bitField0_ |= 0x00000001;
-                break;
-              } // case 10
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-      private int bitField0_;
-
-      private com.google.protobuf.MapField<
-          String, String> msg_;
-      private com.google.protobuf.MapField<String, String>
-      internalGetMsg() {
-        if (msg_ == null) {
-          return com.google.protobuf.MapField.emptyMapField(
-              MsgDefaultEntryHolder.defaultEntry);
-        }
-        return msg_;
-      }
-      private com.google.protobuf.MapField<String, String>
-          internalGetMutableMsg() {
-        if (msg_ == null) {
-          msg_ = com.google.protobuf.MapField.newMapField(
-              MsgDefaultEntryHolder.defaultEntry);
-        }
-        if (!msg_.isMutable()) {
-          msg_ = msg_.copy();
-        }
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return msg_;
-      }
-      public int getMsgCount() {
-        return internalGetMsg().getMap().size();
-      }
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      @Override
-      public boolean containsMsg(
-              String key) {
-        if (key == null) {
-          throw new NullPointerException("map key");
-        }
-        return internalGetMsg().getMap().containsKey(key);
-      }
-      /**
-       * Use {@link #getMsgMap()} instead.
-       */
-      @Override
-      @Deprecated
-      public java.util.Map<String, String> getMsg() {
-        return getMsgMap();
-      }
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      @Override
-      public java.util.Map<String, String> getMsgMap() {
-        return internalGetMsg().getMap();
-      }
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      @Override
-      public /* nullable */
-String getMsgOrDefault(
-          String key,
-          /* nullable */
-String defaultValue) {
-        if (key == null) { throw new NullPointerException("map key"); }
-        java.util.Map<String, String> map =
-            internalGetMsg().getMap();
-        return map.containsKey(key) ? map.get(key) : defaultValue;
-      }
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      @Override
-      public String getMsgOrThrow(
-              String key) {
-        if (key == null) { throw new NullPointerException("map key"); }
-        java.util.Map<String, String> map =
-            internalGetMsg().getMap();
-        if (!map.containsKey(key)) {
-          throw new IllegalArgumentException();
-        }
-        return map.get(key);
-      }
-      public Builder clearMsg() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        internalGetMutableMsg().getMutableMap()
-                .clear();
-        return this;
-      }
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      public Builder removeMsg(
-          String key) {
-        if (key == null) {
-          throw new NullPointerException("map key");
-        }
-        internalGetMutableMsg().getMutableMap()
-            .remove(key);
-        return this;
-      }
-      /**
-       * Use alternate mutation accessors instead.
-       */
-      @Deprecated
-      public java.util.Map<String, String>
-          getMutableMsg() {
-        bitField0_ |= 0x00000001;
-        return internalGetMutableMsg().getMutableMap();
-      }
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      public Builder putMsg(
-          String key,
-          String value) {
-        if (key == null) { throw new NullPointerException("map key"); }
-        if (value == null) { throw new NullPointerException("map value"); }
-        internalGetMutableMsg().getMutableMap()
-            .put(key, value);
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      public Builder putAllMsg(
-          java.util.Map<String, String> values) {
-        internalGetMutableMsg().getMutableMap()
-            .putAll(values);
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      @Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
-
-      @Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
-      }
-
-
-      // @@protoc_insertion_point(builder_scope:rocky.routing.HealthIdleInfo)
-    }
-
-    // @@protoc_insertion_point(class_scope:rocky.routing.HealthIdleInfo)
-    private static final HealthIdleInfo DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new HealthIdleInfo();
-    }
-
-    public static HealthIdleInfo getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<HealthIdleInfo>
-        PARSER = new com.google.protobuf.AbstractParser<HealthIdleInfo>() {
-      @Override
-      public HealthIdleInfo parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-        }
-        return builder.buildPartial();
-      }
-    };
-
-    public static com.google.protobuf.Parser<HealthIdleInfo> parser() {
-      return PARSER;
-    }
-
-    @Override
-    public com.google.protobuf.Parser<HealthIdleInfo> getParserForType() {
-      return PARSER;
-    }
-
-    @Override
-    public HealthIdleInfo getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface UpServiceInfoOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:rocky.routing.UpServiceInfo)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    int getMsgCount();
-
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    boolean containsMsg(
-            String key);
-
-    /**
-     * Use {@link #getMsgMap()} instead.
-     */
-    @Deprecated
-    java.util.Map<String, String>
-    getMsg();
-
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    java.util.Map<String, String>
-    getMsgMap();
-
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    /* nullable */
-    String getMsgOrDefault(
-            String key,
-            /* nullable */
-            String defaultValue);
-
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    String getMsgOrThrow(
-            String key);
-  }
-  /**
-   * <pre>
-   * 激活请求
-   * </pre>
-   *
-   * Protobuf type {@code rocky.routing.UpServiceInfo}
-   */
-  public static final class UpServiceInfo extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:rocky.routing.UpServiceInfo)
-      UpServiceInfoOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use UpServiceInfo.newBuilder() to construct.
-    private UpServiceInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-
-    private UpServiceInfo() {
-    }
-
-    @Override
-    @SuppressWarnings({"unused"})
-    protected Object newInstance(
-        UnusedPrivateParameter unused) {
-      return new UpServiceInfo();
-    }
-
-    public static final com.google.protobuf.Descriptors.Descriptor
-    getDescriptor() {
-      return RoutingClient.internal_static_rocky_routing_UpServiceInfo_descriptor;
-    }
-
-    @SuppressWarnings({"rawtypes"})
-    @Override
-    protected com.google.protobuf.MapField internalGetMapField(
-            int number) {
-      switch (number) {
-        case 1:
-          return internalGetMsg();
-        default:
-          throw new RuntimeException(
-              "Invalid map field number: " + number);
-      }
-    }
-    @Override
-    protected FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return RoutingClient.internal_static_rocky_routing_UpServiceInfo_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                      UpServiceInfo.class, Builder.class);
-    }
-
-    public static final int MSG_FIELD_NUMBER = 1;
-
-    private static final class MsgDefaultEntryHolder {
-      static final com.google.protobuf.MapEntry<
-              String, String> defaultEntry =
-              com.google.protobuf.MapEntry
-                      .<String, String>newDefaultInstance(
-                              RoutingClient.internal_static_rocky_routing_UpServiceInfo_MsgEntry_descriptor,
-                              com.google.protobuf.WireFormat.FieldType.STRING,
-                              "",
-                              com.google.protobuf.WireFormat.FieldType.STRING,
-                              "");
-    }
-
-    @SuppressWarnings("serial")
-    private com.google.protobuf.MapField<
-            String, String> msg_;
-
-    private com.google.protobuf.MapField<String, String>
-    internalGetMsg() {
-      if (msg_ == null) {
-        return com.google.protobuf.MapField.emptyMapField(
-                MsgDefaultEntryHolder.defaultEntry);
-      }
-      return msg_;
-    }
-
-    public int getMsgCount() {
-      return internalGetMsg().getMap().size();
-    }
-
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    @Override
-    public boolean containsMsg(
-            String key) {
-      if (key == null) {
-        throw new NullPointerException("map key");
-      }
-      return internalGetMsg().getMap().containsKey(key);
-    }
-
-    /**
-     * Use {@link #getMsgMap()} instead.
-     */
-    @Override
-    @Deprecated
-    public java.util.Map<String, String> getMsg() {
-      return getMsgMap();
-    }
-
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    @Override
-    public java.util.Map<String, String> getMsgMap() {
-      return internalGetMsg().getMap();
-    }
-
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    @Override
-    public /* nullable */
-    String getMsgOrDefault(
-            String key,
-            /* nullable */
-            String defaultValue) {
-      if (key == null) {
-        throw new NullPointerException("map key");
-      }
-      java.util.Map<String, String> map =
-              internalGetMsg().getMap();
-      return map.containsKey(key) ? map.get(key) : defaultValue;
-    }
-
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    @Override
-    public String getMsgOrThrow(
-            String key) {
-      if (key == null) {
-        throw new NullPointerException("map key");
-      }
-      java.util.Map<String, String> map =
-              internalGetMsg().getMap();
-      if (!map.containsKey(key)) {
-        throw new IllegalArgumentException();
-      }
-      return map.get(key);
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-    throws java.io.IOException {
-      com.google.protobuf.GeneratedMessageV3
-        .serializeStringMapTo(
-          output,
-          internalGetMsg(),
-                MsgDefaultEntryHolder.defaultEntry,
-                1);
-      getUnknownFields().writeTo(output);
-    }
-
-    @Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      for (java.util.Map.Entry<String, String> entry
-              : internalGetMsg().getMap().entrySet()) {
-        com.google.protobuf.MapEntry<String, String>
-                msg__ = MsgDefaultEntryHolder.defaultEntry.newBuilderForType()
-            .setKey(entry.getKey())
-            .setValue(entry.getValue())
-            .build();
-        size += com.google.protobuf.CodedOutputStream
-            .computeMessageSize(1, msg__);
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @Override
-    public boolean equals(final Object obj) {
-      if (obj == this) {
-        return true;
-      }
-      if (!(obj instanceof UpServiceInfo)) {
-        return super.equals(obj);
-      }
-      UpServiceInfo other = (UpServiceInfo) obj;
-
-      if (!internalGetMsg().equals(
-          other.internalGetMsg())) return false;
-      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-      return true;
-    }
-
-    @Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      if (!internalGetMsg().getMap().isEmpty()) {
-        hash = (37 * hash) + MSG_FIELD_NUMBER;
-        hash = (53 * hash) + internalGetMsg().hashCode();
-      }
-      hash = (29 * hash) + getUnknownFields().hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static UpServiceInfo parseFrom(
-            java.nio.ByteBuffer data)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static UpServiceInfo parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static UpServiceInfo parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static UpServiceInfo parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static UpServiceInfo parseFrom(byte[] data)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static UpServiceInfo parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static UpServiceInfo parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseWithIOException(PARSER, input);
-    }
-    public static UpServiceInfo parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static UpServiceInfo parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-
-    public static UpServiceInfo parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static UpServiceInfo parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static UpServiceInfo parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(UpServiceInfo prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @Override
-    protected Builder newBuilderForType(
-        BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * <pre>
-     * 激活请求
-     * </pre>
-     *
-     * Protobuf type {@code rocky.routing.UpServiceInfo}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:rocky.routing.UpServiceInfo)
-            UpServiceInfoOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-      getDescriptor() {
-        return RoutingClient.internal_static_rocky_routing_UpServiceInfo_descriptor;
-      }
-
-      @SuppressWarnings({"rawtypes"})
-      protected com.google.protobuf.MapField internalGetMapField(
-              int number) {
-        switch (number) {
-          case 1:
-            return internalGetMsg();
-          default:
-            throw new RuntimeException(
-                    "Invalid map field number: " + number);
-        }
-      }
-
-      @SuppressWarnings({"rawtypes"})
-      protected com.google.protobuf.MapField internalGetMutableMapField(
-              int number) {
-        switch (number) {
-          case 1:
-            return internalGetMutableMsg();
-          default:
-            throw new RuntimeException(
-                "Invalid map field number: " + number);
-        }
-      }
-
-      @Override
-      protected FieldAccessorTable
-      internalGetFieldAccessorTable() {
-        return RoutingClient.internal_static_rocky_routing_UpServiceInfo_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                UpServiceInfo.class, Builder.class);
-      }
-
-      // Construct using org.alps.rocky.core.proto.RoutingClient.UpServiceInfo.newBuilder()
-      private Builder() {
-
-      }
-
-      private Builder(
-          BuilderParent parent) {
-        super(parent);
-
-      }
-
-      @Override
-      public Builder clear() {
-        super.clear();
-        bitField0_ = 0;
-        internalGetMutableMsg().clear();
-        return this;
-      }
-
-      @Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return RoutingClient.internal_static_rocky_routing_UpServiceInfo_descriptor;
-      }
-
-      @Override
-      public UpServiceInfo getDefaultInstanceForType() {
-        return UpServiceInfo.getDefaultInstance();
-      }
-
-      @Override
-      public UpServiceInfo build() {
-        UpServiceInfo result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      @Override
-      public UpServiceInfo buildPartial() {
-        UpServiceInfo result = new UpServiceInfo(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
-        onBuilt();
-        return result;
-      }
-
-      private void buildPartial0(UpServiceInfo result) {
-        int from_bitField0_ = bitField0_;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.msg_ = internalGetMsg();
-          result.msg_.makeImmutable();
-        }
-      }
-
-      @Override
-      public Builder clone() {
-        return super.clone();
-      }
-      @Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          Object value) {
-        return super.setField(field, value);
-      }
-
-      @Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return super.clearField(field);
-      }
-      @Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return super.clearOneof(oneof);
-      }
-      @Override
-      public Builder setRepeatedField(
-              com.google.protobuf.Descriptors.FieldDescriptor field,
-              int index, Object value) {
-        return super.setRepeatedField(field, index, value);
-      }
-      @Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          Object value) {
-        return super.addRepeatedField(field, value);
-      }
-      @Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof UpServiceInfo) {
-          return mergeFrom((UpServiceInfo) other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(UpServiceInfo other) {
-        if (other == UpServiceInfo.getDefaultInstance()) return this;
-        internalGetMutableMsg().mergeFrom(
-            other.internalGetMsg());
-        bitField0_ |= 0x00000001;
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
-        return this;
-      }
-
-      @Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 10: {
-                com.google.protobuf.MapEntry<String, String>
-                        msg__ = input.readMessage(
-                        MsgDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
-                internalGetMutableMsg().getMutableMap().put(
-                    msg__.getKey(), msg__.getValue());
-                bitField0_ |= 0x00000001;
-                break;
-              } // case 10
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-
-      private int bitField0_;
-
-      private com.google.protobuf.MapField<
-              String, String> msg_;
-
-      private com.google.protobuf.MapField<String, String>
-      internalGetMsg() {
-        if (msg_ == null) {
-          return com.google.protobuf.MapField.emptyMapField(
-                  MsgDefaultEntryHolder.defaultEntry);
-        }
-        return msg_;
-      }
-
-      private com.google.protobuf.MapField<String, String>
-      internalGetMutableMsg() {
-        if (msg_ == null) {
-          msg_ = com.google.protobuf.MapField.newMapField(
-                  MsgDefaultEntryHolder.defaultEntry);
-        }
-        if (!msg_.isMutable()) {
-          msg_ = msg_.copy();
-        }
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return msg_;
-      }
-
-      public int getMsgCount() {
-        return internalGetMsg().getMap().size();
-      }
-
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      @Override
-      public boolean containsMsg(
-              String key) {
-        if (key == null) {
-          throw new NullPointerException("map key");
-        }
-        return internalGetMsg().getMap().containsKey(key);
-      }
-
-      /**
-       * Use {@link #getMsgMap()} instead.
-       */
-      @Override
-      @Deprecated
-      public java.util.Map<String, String> getMsg() {
-        return getMsgMap();
-      }
-
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      @Override
-      public java.util.Map<String, String> getMsgMap() {
-        return internalGetMsg().getMap();
-      }
-
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      @Override
-      public /* nullable */
-      String getMsgOrDefault(
-              String key,
-              /* nullable */
-              String defaultValue) {
-        if (key == null) {
-          throw new NullPointerException("map key");
-        }
-        java.util.Map<String, String> map =
-                internalGetMsg().getMap();
-        return map.containsKey(key) ? map.get(key) : defaultValue;
-      }
-
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      @Override
-      public String getMsgOrThrow(
-              String key) {
-        if (key == null) {
-          throw new NullPointerException("map key");
-        }
-        java.util.Map<String, String> map =
-                internalGetMsg().getMap();
-        if (!map.containsKey(key)) {
-          throw new IllegalArgumentException();
-        }
-        return map.get(key);
-      }
-
-      public Builder clearMsg() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        internalGetMutableMsg().getMutableMap()
-                .clear();
-        return this;
-      }
-
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      public Builder removeMsg(
-              String key) {
-        if (key == null) {
-          throw new NullPointerException("map key");
-        }
-        internalGetMutableMsg().getMutableMap()
-                .remove(key);
-        return this;
-      }
-
-      /**
-       * Use alternate mutation accessors instead.
-       */
-      @Deprecated
-      public java.util.Map<String, String>
-      getMutableMsg() {
-        bitField0_ |= 0x00000001;
-        return internalGetMutableMsg().getMutableMap();
-      }
-
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      public Builder putMsg(
-              String key,
-              String value) {
-        if (key == null) {
-          throw new NullPointerException("map key");
-        }
-        if (value == null) {
-          throw new NullPointerException("map value");
-        }
-        internalGetMutableMsg().getMutableMap()
-                .put(key, value);
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      public Builder putAllMsg(
-          java.util.Map<String, String> values) {
-        internalGetMutableMsg().getMutableMap()
-            .putAll(values);
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      @Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
-
-      @Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
-      }
-
-
-      // @@protoc_insertion_point(builder_scope:rocky.routing.UpServiceInfo)
-    }
-
-    // @@protoc_insertion_point(class_scope:rocky.routing.UpServiceInfo)
-    private static final UpServiceInfo DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new UpServiceInfo();
-    }
-
-    public static UpServiceInfo getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<UpServiceInfo>
-        PARSER = new com.google.protobuf.AbstractParser<UpServiceInfo>() {
-      @Override
-      public UpServiceInfo parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-              .setUnfinishedMessage(builder.buildPartial());
-        }
-        return builder.buildPartial();
-      }
-    };
-
-    public static com.google.protobuf.Parser<UpServiceInfo> parser() {
-      return PARSER;
-    }
-
-    @Override
-    public com.google.protobuf.Parser<UpServiceInfo> getParserForType() {
-      return PARSER;
-    }
-
-    @Override
-    public UpServiceInfo getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface DownServiceInfoOrBuilder extends
-          // @@protoc_insertion_point(interface_extends:rocky.routing.DownServiceInfo)
-          com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    int getMsgCount();
-
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    boolean containsMsg(
-            String key);
-
-    /**
-     * Use {@link #getMsgMap()} instead.
-     */
-    @Deprecated
-    java.util.Map<String, String>
-    getMsg();
-
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    java.util.Map<String, String>
-    getMsgMap();
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    /* nullable */
-String getMsgOrDefault(
-        String key,
-        /* nullable */
-String defaultValue);
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    String getMsgOrThrow(
-        String key);
-  }
-  /**
-   * <pre>
-   * 停止请求
-   * </pre>
-   *
-   * Protobuf type {@code rocky.routing.DownServiceInfo}
-   */
-  public static final class DownServiceInfo extends
-          com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:rocky.routing.DownServiceInfo)
-          DownServiceInfoOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use DownServiceInfo.newBuilder() to construct.
-    private DownServiceInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-
-    private DownServiceInfo() {
-    }
-
-    @Override
-    @SuppressWarnings({"unused"})
-    protected Object newInstance(
-            UnusedPrivateParameter unused) {
-      return new DownServiceInfo();
-    }
-
-    public static final com.google.protobuf.Descriptors.Descriptor
-    getDescriptor() {
-      return RoutingClient.internal_static_rocky_routing_DownServiceInfo_descriptor;
-    }
-
-    @SuppressWarnings({"rawtypes"})
-    @Override
-    protected com.google.protobuf.MapField internalGetMapField(
-            int number) {
-      switch (number) {
-        case 1:
-          return internalGetMsg();
-        default:
-          throw new RuntimeException(
-                  "Invalid map field number: " + number);
-      }
-    }
-
-    @Override
-    protected FieldAccessorTable
-    internalGetFieldAccessorTable() {
-      return RoutingClient.internal_static_rocky_routing_DownServiceInfo_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                      DownServiceInfo.class, Builder.class);
-    }
-
-    public static final int MSG_FIELD_NUMBER = 1;
-
-    private static final class MsgDefaultEntryHolder {
-      static final com.google.protobuf.MapEntry<
-              String, String> defaultEntry =
-              com.google.protobuf.MapEntry
-                      .<String, String>newDefaultInstance(
-                              RoutingClient.internal_static_rocky_routing_DownServiceInfo_MsgEntry_descriptor,
-                              com.google.protobuf.WireFormat.FieldType.STRING,
-                              "",
-                              com.google.protobuf.WireFormat.FieldType.STRING,
-                              "");
-    }
-
-    @SuppressWarnings("serial")
-    private com.google.protobuf.MapField<
-            String, String> msg_;
-
-    private com.google.protobuf.MapField<String, String>
-    internalGetMsg() {
-      if (msg_ == null) {
-        return com.google.protobuf.MapField.emptyMapField(
-                MsgDefaultEntryHolder.defaultEntry);
-      }
-      return msg_;
-    }
-
-    public int getMsgCount() {
-      return internalGetMsg().getMap().size();
-    }
-
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    @Override
-    public boolean containsMsg(
-            String key) {
-      if (key == null) {
-        throw new NullPointerException("map key");
-      }
-      return internalGetMsg().getMap().containsKey(key);
-    }
-
-    /**
-     * Use {@link #getMsgMap()} instead.
-     */
-    @Override
-    @Deprecated
-    public java.util.Map<String, String> getMsg() {
-      return getMsgMap();
-    }
-
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    @Override
-    public java.util.Map<String, String> getMsgMap() {
-      return internalGetMsg().getMap();
-    }
-
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    @Override
-    public /* nullable */
-    String getMsgOrDefault(
-            String key,
-            /* nullable */
-            String defaultValue) {
-      if (key == null) {
-        throw new NullPointerException("map key");
-      }
-      java.util.Map<String, String> map =
-              internalGetMsg().getMap();
-      return map.containsKey(key) ? map.get(key) : defaultValue;
-    }
-    /**
-     * <pre>
-     * 上报数据(负载、在线人数、内存)
-     * </pre>
-     *
-     * <code>map&lt;string, string&gt; msg = 1;</code>
-     */
-    @Override
-    public String getMsgOrThrow(
-        String key) {
-      if (key == null) { throw new NullPointerException("map key"); }
-      java.util.Map<String, String> map =
-              internalGetMsg().getMap();
-      if (!map.containsKey(key)) {
-        throw new IllegalArgumentException();
-      }
-      return map.get(key);
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-            throws java.io.IOException {
-      com.google.protobuf.GeneratedMessageV3
-              .serializeStringMapTo(
-                      output,
-                      internalGetMsg(),
-                      MsgDefaultEntryHolder.defaultEntry,
-                      1);
-      getUnknownFields().writeTo(output);
-    }
-
-    @Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      for (java.util.Map.Entry<String, String> entry
-           : internalGetMsg().getMap().entrySet()) {
-        com.google.protobuf.MapEntry<String, String>
-        msg__ = MsgDefaultEntryHolder.defaultEntry.newBuilderForType()
-                .setKey(entry.getKey())
-                .setValue(entry.getValue())
-            .build();
-        size += com.google.protobuf.CodedOutputStream
-            .computeMessageSize(1, msg__);
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @Override
-    public boolean equals(final Object obj) {
-      if (obj == this) {
-        return true;
-      }
-      if (!(obj instanceof DownServiceInfo)) {
-        return super.equals(obj);
-      }
-      DownServiceInfo other = (DownServiceInfo) obj;
-
-      if (!internalGetMsg().equals(
-          other.internalGetMsg())) return false;
-      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-      return true;
-    }
-
-    @Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      if (!internalGetMsg().getMap().isEmpty()) {
-        hash = (37 * hash) + MSG_FIELD_NUMBER;
-        hash = (53 * hash) + internalGetMsg().hashCode();
-      }
-      hash = (29 * hash) + getUnknownFields().hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static DownServiceInfo parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static DownServiceInfo parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static DownServiceInfo parseFrom(
-        com.google.protobuf.ByteString data)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static DownServiceInfo parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static DownServiceInfo parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static DownServiceInfo parseFrom(
-            byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static DownServiceInfo parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static DownServiceInfo parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static DownServiceInfo parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-
-    public static DownServiceInfo parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static DownServiceInfo parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static DownServiceInfo parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(DownServiceInfo prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-
-    @Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @Override
-    protected Builder newBuilderForType(
-        BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-
-    /**
-     * <pre>
-     * 停止请求
-     * </pre>
-     * <p>
-     * Protobuf type {@code rocky.routing.DownServiceInfo}
-     */
-    public static final class Builder extends
-            com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-            // @@protoc_insertion_point(builder_implements:rocky.routing.DownServiceInfo)
-            DownServiceInfoOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-      getDescriptor() {
-        return RoutingClient.internal_static_rocky_routing_DownServiceInfo_descriptor;
-      }
-
-      @SuppressWarnings({"rawtypes"})
-      protected com.google.protobuf.MapField internalGetMapField(
-              int number) {
-        switch (number) {
-          case 1:
-            return internalGetMsg();
-          default:
-            throw new RuntimeException(
-                "Invalid map field number: " + number);
-        }
-      }
-
-      @SuppressWarnings({"rawtypes"})
-      protected com.google.protobuf.MapField internalGetMutableMapField(
-          int number) {
-        switch (number) {
-          case 1:
-            return internalGetMutableMsg();
-          default:
-            throw new RuntimeException(
-                "Invalid map field number: " + number);
-        }
-      }
-
-      @Override
-      protected FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return RoutingClient.internal_static_rocky_routing_DownServiceInfo_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                DownServiceInfo.class, Builder.class);
-      }
-
-      // Construct using org.alps.rocky.core.proto.RoutingClient.DownServiceInfo.newBuilder()
-      private Builder() {
-
-      }
-
-      private Builder(
-          BuilderParent parent) {
-        super(parent);
-
-      }
-      @Override
-      public Builder clear() {
-        super.clear();
-        bitField0_ = 0;
-        internalGetMutableMsg().clear();
-        return this;
-      }
-
-      @Override
-      public com.google.protobuf.Descriptors.Descriptor
-      getDescriptorForType() {
-        return RoutingClient.internal_static_rocky_routing_DownServiceInfo_descriptor;
-      }
-
-      @Override
-      public DownServiceInfo getDefaultInstanceForType() {
-        return DownServiceInfo.getDefaultInstance();
-      }
-
-      @Override
-      public DownServiceInfo build() {
-        DownServiceInfo result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      @Override
-      public DownServiceInfo buildPartial() {
-        DownServiceInfo result = new DownServiceInfo(this);
-        if (bitField0_ != 0) { buildPartial0(result); }
-        onBuilt();
-        return result;
-      }
-
-      private void buildPartial0(DownServiceInfo result) {
-        int from_bitField0_ = bitField0_;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.msg_ = internalGetMsg();
-          result.msg_.makeImmutable();
-        }
-      }
-
-      @Override
-      public Builder clone() {
-        return super.clone();
-      }
-      @Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          Object value) {
-        return super.setField(field, value);
-      }
-
-      @Override
-      public Builder clearField(
-              com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return super.clearField(field);
-      }
-      @Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return super.clearOneof(oneof);
-      }
-      @Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, Object value) {
-        return super.setRepeatedField(field, index, value);
-      }
-
-      @Override
-      public Builder addRepeatedField(
-              com.google.protobuf.Descriptors.FieldDescriptor field,
-          Object value) {
-        return super.addRepeatedField(field, value);
-      }
-      @Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof DownServiceInfo) {
-          return mergeFrom((DownServiceInfo) other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(DownServiceInfo other) {
-        if (other == DownServiceInfo.getDefaultInstance()) return this;
-        internalGetMutableMsg().mergeFrom(
-            other.internalGetMsg());
-        bitField0_ |= 0x00000001;
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
-        return this;
-      }
-
-      @Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @Override
-      public Builder mergeFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 10: {
-                com.google.protobuf.MapEntry<String, String>
-                msg__ = input.readMessage(
-                    MsgDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
-                internalGetMutableMsg().getMutableMap().put(
-                        msg__.getKey(), msg__.getValue());
-                bitField0_ |= 0x00000001;
-                break;
-              } // case 10
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-
-      private int bitField0_;
-
-      private com.google.protobuf.MapField<
-              String, String> msg_;
-
-      private com.google.protobuf.MapField<String, String>
-      internalGetMsg() {
-        if (msg_ == null) {
-          return com.google.protobuf.MapField.emptyMapField(
-                  MsgDefaultEntryHolder.defaultEntry);
-        }
-        return msg_;
-      }
-
-      private com.google.protobuf.MapField<String, String>
-      internalGetMutableMsg() {
-        if (msg_ == null) {
-          msg_ = com.google.protobuf.MapField.newMapField(
-                  MsgDefaultEntryHolder.defaultEntry);
-        }
-        if (!msg_.isMutable()) {
-          msg_ = msg_.copy();
-        }
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return msg_;
-      }
-
-      public int getMsgCount() {
-        return internalGetMsg().getMap().size();
-      }
-
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      @Override
-      public boolean containsMsg(
-              String key) {
-        if (key == null) {
-          throw new NullPointerException("map key");
-        }
-        return internalGetMsg().getMap().containsKey(key);
-      }
-
-      /**
-       * Use {@link #getMsgMap()} instead.
-       */
-      @Override
-      @Deprecated
-      public java.util.Map<String, String> getMsg() {
-        return getMsgMap();
-      }
-
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      @Override
-      public java.util.Map<String, String> getMsgMap() {
-        return internalGetMsg().getMap();
-      }
-
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      @Override
-      public /* nullable */
-      String getMsgOrDefault(
-              String key,
-              /* nullable */
-              String defaultValue) {
-        if (key == null) {
-          throw new NullPointerException("map key");
-        }
-        java.util.Map<String, String> map =
-                internalGetMsg().getMap();
-        return map.containsKey(key) ? map.get(key) : defaultValue;
-      }
-
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      @Override
-      public String getMsgOrThrow(
-              String key) {
-        if (key == null) {
-          throw new NullPointerException("map key");
-        }
-        java.util.Map<String, String> map =
-                internalGetMsg().getMap();
-        if (!map.containsKey(key)) {
-          throw new IllegalArgumentException();
-        }
-        return map.get(key);
-      }
-
-      public Builder clearMsg() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        internalGetMutableMsg().getMutableMap()
-                .clear();
-        return this;
-      }
-
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      public Builder removeMsg(
-              String key) {
-        if (key == null) {
-          throw new NullPointerException("map key");
-        }
-        internalGetMutableMsg().getMutableMap()
-                .remove(key);
-        return this;
-      }
-
-      /**
-       * Use alternate mutation accessors instead.
-       */
-      @Deprecated
-      public java.util.Map<String, String>
-      getMutableMsg() {
-        bitField0_ |= 0x00000001;
-        return internalGetMutableMsg().getMutableMap();
-      }
-
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      public Builder putMsg(
-              String key,
-              String value) {
-        if (key == null) { throw new NullPointerException("map key"); }
-        if (value == null) { throw new NullPointerException("map value"); }
-        internalGetMutableMsg().getMutableMap()
-            .put(key, value);
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <pre>
-       * 上报数据(负载、在线人数、内存)
-       * </pre>
-       *
-       * <code>map&lt;string, string&gt; msg = 1;</code>
-       */
-      public Builder putAllMsg(
-          java.util.Map<String, String> values) {
-        internalGetMutableMsg().getMutableMap()
-            .putAll(values);
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      @Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
-
-      @Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
-      }
-
-
-      // @@protoc_insertion_point(builder_scope:rocky.routing.DownServiceInfo)
-    }
-
-    // @@protoc_insertion_point(class_scope:rocky.routing.DownServiceInfo)
-    private static final DownServiceInfo DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new DownServiceInfo();
-    }
-
-    public static DownServiceInfo getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<DownServiceInfo>
-            PARSER = new com.google.protobuf.AbstractParser<DownServiceInfo>() {
-      @Override
-      public DownServiceInfo parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-              .setUnfinishedMessage(builder.buildPartial());
-        }
-        return builder.buildPartial();
-      }
-    };
-
-    public static com.google.protobuf.Parser<DownServiceInfo> parser() {
-      return PARSER;
-    }
-
-    @Override
-    public com.google.protobuf.Parser<DownServiceInfo> getParserForType() {
-      return PARSER;
-    }
-
-    @Override
-    public DownServiceInfo getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_rocky_routing_ServiceInfo_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_rocky_routing_ServiceInfo_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_rocky_routing_ServiceInfo_MsgEntry_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_rocky_routing_ServiceInfo_MsgEntry_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-          internal_static_rocky_routing_HealthIdleInfo_descriptor;
-  private static final
-  com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internal_static_rocky_routing_HealthIdleInfo_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-          internal_static_rocky_routing_HealthIdleInfo_MsgEntry_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_rocky_routing_HealthIdleInfo_MsgEntry_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-          internal_static_rocky_routing_UpServiceInfo_descriptor;
-  private static final
-  com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internal_static_rocky_routing_UpServiceInfo_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_rocky_routing_UpServiceInfo_MsgEntry_descriptor;
-  private static final
-  com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_rocky_routing_UpServiceInfo_MsgEntry_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_rocky_routing_DownServiceInfo_descriptor;
-  private static final
-  com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internal_static_rocky_routing_DownServiceInfo_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-          internal_static_rocky_routing_DownServiceInfo_MsgEntry_descriptor;
-  private static final
-  com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internal_static_rocky_routing_DownServiceInfo_MsgEntry_fieldAccessorTable;
-
-  public static com.google.protobuf.Descriptors.FileDescriptor
-  getDescriptor() {
-    return descriptor;
-  }
-
-  private static com.google.protobuf.Descriptors.FileDescriptor
-          descriptor;
-
-  static {
-    String[] descriptorData = {
-            "\n\023RoutingClient.proto\022\rrocky.routing\032\023Ro" +
-                    "utingCommon.proto\"\365\001\n\013ServiceInfo\022\021\n\tnam" +
-                    "espace\030\001 \001(\t\022\017\n\007profile\030\002 \001(\t\022\027\n\ninstanc" +
-                    "eId\030\004 \001(\tH\000\210\001\001\022\n\n\002ip\030\005 \001(\t\022\014\n\004port\030\006 \001(\005" +
-                    "\022\017\n\007modules\030\007 \003(\t\022\021\n\taccessKey\030\010 \001(\t\0220\n\003" +
-                    "msg\030\t \003(\0132#.rocky.routing.ServiceInfo.Ms" +
-                    "gEntry\032*\n\010MsgEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value" +
-      "\030\002 \001(\t:\0028\001B\r\n\013_instanceId\"q\n\016HealthIdleI" +
-      "nfo\0223\n\003msg\030\001 \003(\0132&.rocky.routing.HealthI" +
-      "dleInfo.MsgEntry\032*\n\010MsgEntry\022\013\n\003key\030\001 \001(" +
-      "\t\022\r\n\005value\030\002 \001(\t:\0028\001\"o\n\rUpServiceInfo\0222\n" +
-      "\003msg\030\001 \003(\0132%.rocky.routing.UpServiceInfo" +
-                    ".MsgEntry\032*\n\010MsgEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005va" +
-                    "lue\030\002 \001(\t:\0028\001\"s\n\017DownServiceInfo\0224\n\003msg\030" +
-                    "\001 \003(\0132\'.rocky.routing.DownServiceInfo.Ms" +
-      "gEntry\032*\n\010MsgEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value" +
-                    "\030\002 \001(\t:\0028\001B*\n\031org.alps.rocky.core.protoB" +
-      "\rRoutingClientb\006proto3"
-    };
-    descriptor = com.google.protobuf.Descriptors.FileDescriptor
-      .internalBuildGeneratedFileFrom(descriptorData,
-        new com.google.protobuf.Descriptors.FileDescriptor[] {
-          RoutingCommon.getDescriptor(),
-        });
-    internal_static_rocky_routing_ServiceInfo_descriptor =
-      getDescriptor().getMessageTypes().get(0);
-    internal_static_rocky_routing_ServiceInfo_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_rocky_routing_ServiceInfo_descriptor,
-        new String[] { "Namespace", "Profile", "InstanceId", "Ip", "Port", "Modules", "AccessKey", "Msg", "InstanceId", });
-    internal_static_rocky_routing_ServiceInfo_MsgEntry_descriptor =
-      internal_static_rocky_routing_ServiceInfo_descriptor.getNestedTypes().get(0);
-    internal_static_rocky_routing_ServiceInfo_MsgEntry_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_rocky_routing_ServiceInfo_MsgEntry_descriptor,
-        new String[] { "Key", "Value", });
-    internal_static_rocky_routing_HealthIdleInfo_descriptor =
-      getDescriptor().getMessageTypes().get(1);
-    internal_static_rocky_routing_HealthIdleInfo_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-            internal_static_rocky_routing_HealthIdleInfo_descriptor,
-            new String[]{"Msg",});
-    internal_static_rocky_routing_HealthIdleInfo_MsgEntry_descriptor =
-            internal_static_rocky_routing_HealthIdleInfo_descriptor.getNestedTypes().get(0);
-    internal_static_rocky_routing_HealthIdleInfo_MsgEntry_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-            internal_static_rocky_routing_HealthIdleInfo_MsgEntry_descriptor,
-        new String[] { "Key", "Value", });
-    internal_static_rocky_routing_UpServiceInfo_descriptor =
-      getDescriptor().getMessageTypes().get(2);
-    internal_static_rocky_routing_UpServiceInfo_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-            internal_static_rocky_routing_UpServiceInfo_descriptor,
-            new String[]{"Msg",});
-    internal_static_rocky_routing_UpServiceInfo_MsgEntry_descriptor =
-            internal_static_rocky_routing_UpServiceInfo_descriptor.getNestedTypes().get(0);
-    internal_static_rocky_routing_UpServiceInfo_MsgEntry_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-            internal_static_rocky_routing_UpServiceInfo_MsgEntry_descriptor,
-        new String[] { "Key", "Value", });
-    internal_static_rocky_routing_DownServiceInfo_descriptor =
-      getDescriptor().getMessageTypes().get(3);
-    internal_static_rocky_routing_DownServiceInfo_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_rocky_routing_DownServiceInfo_descriptor,
-        new String[] { "Msg", });
-    internal_static_rocky_routing_DownServiceInfo_MsgEntry_descriptor =
-      internal_static_rocky_routing_DownServiceInfo_descriptor.getNestedTypes().get(0);
-    internal_static_rocky_routing_DownServiceInfo_MsgEntry_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_rocky_routing_DownServiceInfo_MsgEntry_descriptor,
-        new String[] { "Key", "Value", });
-    RoutingCommon.getDescriptor();
-  }
-
-  // @@protoc_insertion_point(outer_class_scope)
-}
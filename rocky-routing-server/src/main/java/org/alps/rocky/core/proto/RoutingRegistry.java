@@ -0,0 +1,5766 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: RoutingRegistry.proto
+
+package org.alps.rocky.core.proto;
+
+public final class RoutingRegistry {
+  private RoutingRegistry() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface ModuleNodeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:rocky.routing.ModuleNode)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * 命名空间
+     * </pre>
+     *
+     * <code>string namespace = 1;</code>
+     * @return The namespace.
+     */
+    java.lang.String getNamespace();
+    /**
+     * <pre>
+     * 命名空间
+     * </pre>
+     *
+     * <code>string namespace = 1;</code>
+     * @return The bytes for namespace.
+     */
+    com.google.protobuf.ByteString
+        getNamespaceBytes();
+
+    /**
+     * <code>string moduleName = 2;</code>
+     * @return The moduleName.
+     */
+    java.lang.String getModuleName();
+    /**
+     * <code>string moduleName = 2;</code>
+     * @return The bytes for moduleName.
+     */
+    com.google.protobuf.ByteString
+        getModuleNameBytes();
+
+    /**
+     * <code>.rocky.routing.InstanceInfo instanceInfo = 3;</code>
+     * @return Whether the instanceInfo field is set.
+     */
+    boolean hasInstanceInfo();
+    /**
+     * <code>.rocky.routing.InstanceInfo instanceInfo = 3;</code>
+     * @return The instanceInfo.
+     */
+    org.alps.rocky.core.proto.RoutingServer.InstanceInfo getInstanceInfo();
+    /**
+     * <code>.rocky.routing.InstanceInfo instanceInfo = 3;</code>
+     */
+    org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder getInstanceInfoOrBuilder();
+
+    /**
+     * <pre>
+     * 上报数据
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    int getExtraCount();
+    /**
+     * <pre>
+     * 上报数据
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    boolean containsExtra(
+        java.lang.String key);
+    /**
+     * Use {@link #getExtraMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, java.lang.String>
+    getExtra();
+    /**
+     * <pre>
+     * 上报数据
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    java.util.Map<java.lang.String, java.lang.String>
+    getExtraMap();
+    /**
+     * <pre>
+     * 上报数据
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    /* nullable */
+java.lang.String getExtraOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue);
+    /**
+     * <pre>
+     * 上报数据
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    java.lang.String getExtraOrThrow(
+        java.lang.String key);
+
+    /**
+     * <code>bool active = 5;</code>
+     * @return The active.
+     */
+    boolean getActive();
+  }
+  /**
+   * <pre>
+   *模块的一个实例，只在路由之间使用
+   * </pre>
+   *
+   * Protobuf type {@code rocky.routing.ModuleNode}
+   */
+  public static final class ModuleNode extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:rocky.routing.ModuleNode)
+      ModuleNodeOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ModuleNode.newBuilder() to construct.
+    private ModuleNode(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ModuleNode() {
+      namespace_ = "";
+      moduleName_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ModuleNode();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_ModuleNode_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    @java.lang.Override
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 4:
+          return internalGetExtra();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_ModuleNode_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.class, org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int NAMESPACE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object namespace_ = "";
+    /**
+     * <pre>
+     * 命名空间
+     * </pre>
+     *
+     * <code>string namespace = 1;</code>
+     * @return The namespace.
+     */
+    @java.lang.Override
+    public java.lang.String getNamespace() {
+      java.lang.Object ref = namespace_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        namespace_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * 命名空间
+     * </pre>
+     *
+     * <code>string namespace = 1;</code>
+     * @return The bytes for namespace.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNamespaceBytes() {
+      java.lang.Object ref = namespace_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        namespace_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MODULENAME_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object moduleName_ = "";
+    /**
+     * <code>string moduleName = 2;</code>
+     * @return The moduleName.
+     */
+    @java.lang.Override
+    public java.lang.String getModuleName() {
+      java.lang.Object ref = moduleName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        moduleName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string moduleName = 2;</code>
+     * @return The bytes for moduleName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getModuleNameBytes() {
+      java.lang.Object ref = moduleName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        moduleName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INSTANCEINFO_FIELD_NUMBER = 3;
+    private org.alps.rocky.core.proto.RoutingServer.InstanceInfo instanceInfo_;
+    /**
+     * <code>.rocky.routing.InstanceInfo instanceInfo = 3;</code>
+     * @return Whether the instanceInfo field is set.
+     */
+    @java.lang.Override
+    public boolean hasInstanceInfo() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>.rocky.routing.InstanceInfo instanceInfo = 3;</code>
+     * @return The instanceInfo.
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingServer.InstanceInfo getInstanceInfo() {
+      return instanceInfo_ == null ? org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance() : instanceInfo_;
+    }
+    /**
+     * <code>.rocky.routing.InstanceInfo instanceInfo = 3;</code>
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder getInstanceInfoOrBuilder() {
+      return instanceInfo_ == null ? org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance() : instanceInfo_;
+    }
+
+    public static final int EXTRA_FIELD_NUMBER = 4;
+    private static final class ExtraDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, java.lang.String> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, java.lang.String>newDefaultInstance(
+                  org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_ModuleNode_ExtraEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "");
+    }
+    @SuppressWarnings("serial")
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> extra_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetExtra() {
+      if (extra_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            ExtraDefaultEntryHolder.defaultEntry);
+      }
+      return extra_;
+    }
+    public int getExtraCount() {
+      return internalGetExtra().getMap().size();
+    }
+    /**
+     * <pre>
+     * 上报数据
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    @java.lang.Override
+    public boolean containsExtra(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetExtra().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getExtraMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getExtra() {
+      return getExtraMap();
+    }
+    /**
+     * <pre>
+     * 上报数据
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.Map<java.lang.String, java.lang.String> getExtraMap() {
+      return internalGetExtra().getMap();
+    }
+    /**
+     * <pre>
+     * 上报数据
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    @java.lang.Override
+    public /* nullable */
+java.lang.String getExtraOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetExtra().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * 上报数据
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    @java.lang.Override
+    public java.lang.String getExtraOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetExtra().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public static final int ACTIVE_FIELD_NUMBER = 5;
+    private boolean active_ = false;
+    /**
+     * <code>bool active = 5;</code>
+     * @return The active.
+     */
+    @java.lang.Override
+    public boolean getActive() {
+      return active_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(namespace_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, namespace_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(moduleName_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, moduleName_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(3, getInstanceInfo());
+      }
+      com.google.protobuf.GeneratedMessageV3
+        .serializeStringMapTo(
+          output,
+          internalGetExtra(),
+          ExtraDefaultEntryHolder.defaultEntry,
+          4);
+      if (active_ != false) {
+        output.writeBool(5, active_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(namespace_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, namespace_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(moduleName_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, moduleName_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getInstanceInfo());
+      }
+      for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+           : internalGetExtra().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+        extra__ = ExtraDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(4, extra__);
+      }
+      if (active_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, active_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.alps.rocky.core.proto.RoutingRegistry.ModuleNode)) {
+        return super.equals(obj);
+      }
+      org.alps.rocky.core.proto.RoutingRegistry.ModuleNode other = (org.alps.rocky.core.proto.RoutingRegistry.ModuleNode) obj;
+
+      if (!getNamespace()
+          .equals(other.getNamespace())) return false;
+      if (!getModuleName()
+          .equals(other.getModuleName())) return false;
+      if (hasInstanceInfo() != other.hasInstanceInfo()) return false;
+      if (hasInstanceInfo()) {
+        if (!getInstanceInfo()
+            .equals(other.getInstanceInfo())) return false;
+      }
+      if (!internalGetExtra().equals(
+          other.internalGetExtra())) return false;
+      if (getActive()
+          != other.getActive()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAMESPACE_FIELD_NUMBER;
+      hash = (53 * hash) + getNamespace().hashCode();
+      hash = (37 * hash) + MODULENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getModuleName().hashCode();
+      if (hasInstanceInfo()) {
+        hash = (37 * hash) + INSTANCEINFO_FIELD_NUMBER;
+        hash = (53 * hash) + getInstanceInfo().hashCode();
+      }
+      if (!internalGetExtra().getMap().isEmpty()) {
+        hash = (37 * hash) + EXTRA_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetExtra().hashCode();
+      }
+      hash = (37 * hash) + ACTIVE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getActive());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.ModuleNode parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.ModuleNode parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.ModuleNode parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.ModuleNode parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.ModuleNode parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.ModuleNode parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.ModuleNode parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.ModuleNode parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.ModuleNode parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.ModuleNode parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.ModuleNode parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.ModuleNode parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.alps.rocky.core.proto.RoutingRegistry.ModuleNode prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     *模块的一个实例，只在路由之间使用
+     * </pre>
+     *
+     * Protobuf type {@code rocky.routing.ModuleNode}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:rocky.routing.ModuleNode)
+        org.alps.rocky.core.proto.RoutingRegistry.ModuleNodeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_ModuleNode_descriptor;
+      }
+
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMapField(
+          int number) {
+        switch (number) {
+          case 4:
+            return internalGetExtra();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMutableMapField(
+          int number) {
+        switch (number) {
+          case 4:
+            return internalGetMutableExtra();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_ModuleNode_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.class, org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.Builder.class);
+      }
+
+      // Construct using org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getInstanceInfoFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        namespace_ = "";
+        moduleName_ = "";
+        instanceInfo_ = null;
+        if (instanceInfoBuilder_ != null) {
+          instanceInfoBuilder_.dispose();
+          instanceInfoBuilder_ = null;
+        }
+        internalGetMutableExtra().clear();
+        active_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_ModuleNode_descriptor;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.ModuleNode getDefaultInstanceForType() {
+        return org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.ModuleNode build() {
+        org.alps.rocky.core.proto.RoutingRegistry.ModuleNode result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.ModuleNode buildPartial() {
+        org.alps.rocky.core.proto.RoutingRegistry.ModuleNode result = new org.alps.rocky.core.proto.RoutingRegistry.ModuleNode(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.alps.rocky.core.proto.RoutingRegistry.ModuleNode result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.namespace_ = namespace_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.moduleName_ = moduleName_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.instanceInfo_ = instanceInfoBuilder_ == null
+              ? instanceInfo_
+              : instanceInfoBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.extra_ = internalGetExtra();
+          result.extra_.makeImmutable();
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.active_ = active_;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.alps.rocky.core.proto.RoutingRegistry.ModuleNode) {
+          return mergeFrom((org.alps.rocky.core.proto.RoutingRegistry.ModuleNode)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.alps.rocky.core.proto.RoutingRegistry.ModuleNode other) {
+        if (other == org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.getDefaultInstance()) return this;
+        if (!other.getNamespace().isEmpty()) {
+          namespace_ = other.namespace_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getModuleName().isEmpty()) {
+          moduleName_ = other.moduleName_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasInstanceInfo()) {
+          mergeInstanceInfo(other.getInstanceInfo());
+        }
+        internalGetMutableExtra().mergeFrom(
+            other.internalGetExtra());
+        bitField0_ |= 0x00000008;
+        if (other.getActive() != false) {
+          setActive(other.getActive());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                namespace_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                moduleName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                input.readMessage(
+                    getInstanceInfoFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+                extra__ = input.readMessage(
+                    ExtraDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableExtra().getMutableMap().put(
+                    extra__.getKey(), extra__.getValue());
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                active_ = input.readBool();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object namespace_ = "";
+      /**
+       * <pre>
+       * 命名空间
+       * </pre>
+       *
+       * <code>string namespace = 1;</code>
+       * @return The namespace.
+       */
+      public java.lang.String getNamespace() {
+        java.lang.Object ref = namespace_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          namespace_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 命名空间
+       * </pre>
+       *
+       * <code>string namespace = 1;</code>
+       * @return The bytes for namespace.
+       */
+      public com.google.protobuf.ByteString
+          getNamespaceBytes() {
+        java.lang.Object ref = namespace_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          namespace_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 命名空间
+       * </pre>
+       *
+       * <code>string namespace = 1;</code>
+       * @param value The namespace to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNamespace(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        namespace_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 命名空间
+       * </pre>
+       *
+       * <code>string namespace = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNamespace() {
+        namespace_ = getDefaultInstance().getNamespace();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 命名空间
+       * </pre>
+       *
+       * <code>string namespace = 1;</code>
+       * @param value The bytes for namespace to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNamespaceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        namespace_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object moduleName_ = "";
+      /**
+       * <code>string moduleName = 2;</code>
+       * @return The moduleName.
+       */
+      public java.lang.String getModuleName() {
+        java.lang.Object ref = moduleName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          moduleName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string moduleName = 2;</code>
+       * @return The bytes for moduleName.
+       */
+      public com.google.protobuf.ByteString
+          getModuleNameBytes() {
+        java.lang.Object ref = moduleName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          moduleName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string moduleName = 2;</code>
+       * @param value The moduleName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModuleName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        moduleName_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string moduleName = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearModuleName() {
+        moduleName_ = getDefaultInstance().getModuleName();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string moduleName = 2;</code>
+       * @param value The bytes for moduleName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModuleNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        moduleName_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private org.alps.rocky.core.proto.RoutingServer.InstanceInfo instanceInfo_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingServer.InstanceInfo, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder, org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> instanceInfoBuilder_;
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 3;</code>
+       * @return Whether the instanceInfo field is set.
+       */
+      public boolean hasInstanceInfo() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 3;</code>
+       * @return The instanceInfo.
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo getInstanceInfo() {
+        if (instanceInfoBuilder_ == null) {
+          return instanceInfo_ == null ? org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance() : instanceInfo_;
+        } else {
+          return instanceInfoBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 3;</code>
+       */
+      public Builder setInstanceInfo(org.alps.rocky.core.proto.RoutingServer.InstanceInfo value) {
+        if (instanceInfoBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          instanceInfo_ = value;
+        } else {
+          instanceInfoBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 3;</code>
+       */
+      public Builder setInstanceInfo(
+          org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder builderForValue) {
+        if (instanceInfoBuilder_ == null) {
+          instanceInfo_ = builderForValue.build();
+        } else {
+          instanceInfoBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 3;</code>
+       */
+      public Builder mergeInstanceInfo(org.alps.rocky.core.proto.RoutingServer.InstanceInfo value) {
+        if (instanceInfoBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0) &&
+            instanceInfo_ != null &&
+            instanceInfo_ != org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance()) {
+            getInstanceInfoBuilder().mergeFrom(value);
+          } else {
+            instanceInfo_ = value;
+          }
+        } else {
+          instanceInfoBuilder_.mergeFrom(value);
+        }
+        if (instanceInfo_ != null) {
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 3;</code>
+       */
+      public Builder clearInstanceInfo() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        instanceInfo_ = null;
+        if (instanceInfoBuilder_ != null) {
+          instanceInfoBuilder_.dispose();
+          instanceInfoBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 3;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder getInstanceInfoBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getInstanceInfoFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 3;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder getInstanceInfoOrBuilder() {
+        if (instanceInfoBuilder_ != null) {
+          return instanceInfoBuilder_.getMessageOrBuilder();
+        } else {
+          return instanceInfo_ == null ?
+              org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance() : instanceInfo_;
+        }
+      }
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingServer.InstanceInfo, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder, org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> 
+          getInstanceInfoFieldBuilder() {
+        if (instanceInfoBuilder_ == null) {
+          instanceInfoBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.alps.rocky.core.proto.RoutingServer.InstanceInfo, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder, org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder>(
+                  getInstanceInfo(),
+                  getParentForChildren(),
+                  isClean());
+          instanceInfo_ = null;
+        }
+        return instanceInfoBuilder_;
+      }
+
+      private com.google.protobuf.MapField<
+          java.lang.String, java.lang.String> extra_;
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetExtra() {
+        if (extra_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              ExtraDefaultEntryHolder.defaultEntry);
+        }
+        return extra_;
+      }
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetMutableExtra() {
+        if (extra_ == null) {
+          extra_ = com.google.protobuf.MapField.newMapField(
+              ExtraDefaultEntryHolder.defaultEntry);
+        }
+        if (!extra_.isMutable()) {
+          extra_ = extra_.copy();
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return extra_;
+      }
+      public int getExtraCount() {
+        return internalGetExtra().getMap().size();
+      }
+      /**
+       * <pre>
+       * 上报数据
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; extra = 4;</code>
+       */
+      @java.lang.Override
+      public boolean containsExtra(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        return internalGetExtra().getMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getExtraMap()} instead.
+       */
+      @java.lang.Override
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String> getExtra() {
+        return getExtraMap();
+      }
+      /**
+       * <pre>
+       * 上报数据
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; extra = 4;</code>
+       */
+      @java.lang.Override
+      public java.util.Map<java.lang.String, java.lang.String> getExtraMap() {
+        return internalGetExtra().getMap();
+      }
+      /**
+       * <pre>
+       * 上报数据
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; extra = 4;</code>
+       */
+      @java.lang.Override
+      public /* nullable */
+java.lang.String getExtraOrDefault(
+          java.lang.String key,
+          /* nullable */
+java.lang.String defaultValue) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetExtra().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+      }
+      /**
+       * <pre>
+       * 上报数据
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; extra = 4;</code>
+       */
+      @java.lang.Override
+      public java.lang.String getExtraOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetExtra().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+      public Builder clearExtra() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        internalGetMutableExtra().getMutableMap()
+            .clear();
+        return this;
+      }
+      /**
+       * <pre>
+       * 上报数据
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; extra = 4;</code>
+       */
+      public Builder removeExtra(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        internalGetMutableExtra().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String>
+          getMutableExtra() {
+        bitField0_ |= 0x00000008;
+        return internalGetMutableExtra().getMutableMap();
+      }
+      /**
+       * <pre>
+       * 上报数据
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; extra = 4;</code>
+       */
+      public Builder putExtra(
+          java.lang.String key,
+          java.lang.String value) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        if (value == null) { throw new NullPointerException("map value"); }
+        internalGetMutableExtra().getMutableMap()
+            .put(key, value);
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <pre>
+       * 上报数据
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; extra = 4;</code>
+       */
+      public Builder putAllExtra(
+          java.util.Map<java.lang.String, java.lang.String> values) {
+        internalGetMutableExtra().getMutableMap()
+            .putAll(values);
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+
+      private boolean active_ ;
+      /**
+       * <code>bool active = 5;</code>
+       * @return The active.
+       */
+      @java.lang.Override
+      public boolean getActive() {
+        return active_;
+      }
+      /**
+       * <code>bool active = 5;</code>
+       * @param value The active to set.
+       * @return This builder for chaining.
+       */
+      public Builder setActive(boolean value) {
+
+        active_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool active = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearActive() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        active_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:rocky.routing.ModuleNode)
+    }
+
+    // @@protoc_insertion_point(class_scope:rocky.routing.ModuleNode)
+    private static final org.alps.rocky.core.proto.RoutingRegistry.ModuleNode DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingRegistry.ModuleNode();
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.ModuleNode getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ModuleNode>
+        PARSER = new com.google.protobuf.AbstractParser<ModuleNode>() {
+      @java.lang.Override
+      public ModuleNode parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ModuleNode> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ModuleNode> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingRegistry.ModuleNode getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface InstanceNodeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:rocky.routing.InstanceNode)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string namespace = 1;</code>
+     * @return The namespace.
+     */
+    java.lang.String getNamespace();
+    /**
+     * <code>string namespace = 1;</code>
+     * @return The bytes for namespace.
+     */
+    com.google.protobuf.ByteString
+        getNamespaceBytes();
+
+    /**
+     * <code>.rocky.routing.InstanceInfo instanceInfo = 2;</code>
+     * @return Whether the instanceInfo field is set.
+     */
+    boolean hasInstanceInfo();
+    /**
+     * <code>.rocky.routing.InstanceInfo instanceInfo = 2;</code>
+     * @return The instanceInfo.
+     */
+    org.alps.rocky.core.proto.RoutingServer.InstanceInfo getInstanceInfo();
+    /**
+     * <code>.rocky.routing.InstanceInfo instanceInfo = 2;</code>
+     */
+    org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder getInstanceInfoOrBuilder();
+
+    /**
+     * <pre>
+     * 实例注册的模块
+     * </pre>
+     *
+     * <code>repeated string modules = 3;</code>
+     * @return A list containing the modules.
+     */
+    java.util.List<java.lang.String>
+        getModulesList();
+    /**
+     * <pre>
+     * 实例注册的模块
+     * </pre>
+     *
+     * <code>repeated string modules = 3;</code>
+     * @return The count of modules.
+     */
+    int getModulesCount();
+    /**
+     * <pre>
+     * 实例注册的模块
+     * </pre>
+     *
+     * <code>repeated string modules = 3;</code>
+     * @param index The index of the element to return.
+     * @return The modules at the given index.
+     */
+    java.lang.String getModules(int index);
+    /**
+     * <pre>
+     * 实例注册的模块
+     * </pre>
+     *
+     * <code>repeated string modules = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the modules at the given index.
+     */
+    com.google.protobuf.ByteString
+        getModulesBytes(int index);
+
+    /**
+     * <pre>
+     * 上报数据，和ModuleNode使用相同的编号
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    int getExtraCount();
+    /**
+     * <pre>
+     * 上报数据，和ModuleNode使用相同的编号
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    boolean containsExtra(
+        java.lang.String key);
+    /**
+     * Use {@link #getExtraMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, java.lang.String>
+    getExtra();
+    /**
+     * <pre>
+     * 上报数据，和ModuleNode使用相同的编号
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    java.util.Map<java.lang.String, java.lang.String>
+    getExtraMap();
+    /**
+     * <pre>
+     * 上报数据，和ModuleNode使用相同的编号
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    /* nullable */
+java.lang.String getExtraOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue);
+    /**
+     * <pre>
+     * 上报数据，和ModuleNode使用相同的编号
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    java.lang.String getExtraOrThrow(
+        java.lang.String key);
+
+    /**
+     * <code>bool active = 5;</code>
+     * @return The active.
+     */
+    boolean getActive();
+
+    /**
+     * <pre>
+     * 实例已断开，处于宽限期，其他路由可以接管
+     * </pre>
+     *
+     * <code>bool suspect = 6;</code>
+     * @return The suspect.
+     */
+    boolean getSuspect();
+  }
+  /**
+   * <pre>
+   *注册中心中实例节点的数据，模块节点下只有实例ID的空节点，由路由合并
+   * </pre>
+   *
+   * Protobuf type {@code rocky.routing.InstanceNode}
+   */
+  public static final class InstanceNode extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:rocky.routing.InstanceNode)
+      InstanceNodeOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use InstanceNode.newBuilder() to construct.
+    private InstanceNode(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private InstanceNode() {
+      namespace_ = "";
+      modules_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new InstanceNode();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_InstanceNode_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    @java.lang.Override
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 4:
+          return internalGetExtra();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_InstanceNode_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.class, org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int NAMESPACE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object namespace_ = "";
+    /**
+     * <code>string namespace = 1;</code>
+     * @return The namespace.
+     */
+    @java.lang.Override
+    public java.lang.String getNamespace() {
+      java.lang.Object ref = namespace_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        namespace_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string namespace = 1;</code>
+     * @return The bytes for namespace.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNamespaceBytes() {
+      java.lang.Object ref = namespace_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        namespace_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INSTANCEINFO_FIELD_NUMBER = 2;
+    private org.alps.rocky.core.proto.RoutingServer.InstanceInfo instanceInfo_;
+    /**
+     * <code>.rocky.routing.InstanceInfo instanceInfo = 2;</code>
+     * @return Whether the instanceInfo field is set.
+     */
+    @java.lang.Override
+    public boolean hasInstanceInfo() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>.rocky.routing.InstanceInfo instanceInfo = 2;</code>
+     * @return The instanceInfo.
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingServer.InstanceInfo getInstanceInfo() {
+      return instanceInfo_ == null ? org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance() : instanceInfo_;
+    }
+    /**
+     * <code>.rocky.routing.InstanceInfo instanceInfo = 2;</code>
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder getInstanceInfoOrBuilder() {
+      return instanceInfo_ == null ? org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance() : instanceInfo_;
+    }
+
+    public static final int MODULES_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList modules_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * 实例注册的模块
+     * </pre>
+     *
+     * <code>repeated string modules = 3;</code>
+     * @return A list containing the modules.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getModulesList() {
+      return modules_;
+    }
+    /**
+     * <pre>
+     * 实例注册的模块
+     * </pre>
+     *
+     * <code>repeated string modules = 3;</code>
+     * @return The count of modules.
+     */
+    public int getModulesCount() {
+      return modules_.size();
+    }
+    /**
+     * <pre>
+     * 实例注册的模块
+     * </pre>
+     *
+     * <code>repeated string modules = 3;</code>
+     * @param index The index of the element to return.
+     * @return The modules at the given index.
+     */
+    public java.lang.String getModules(int index) {
+      return modules_.get(index);
+    }
+    /**
+     * <pre>
+     * 实例注册的模块
+     * </pre>
+     *
+     * <code>repeated string modules = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the modules at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getModulesBytes(int index) {
+      return modules_.getByteString(index);
+    }
+
+    public static final int EXTRA_FIELD_NUMBER = 4;
+    private static final class ExtraDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, java.lang.String> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, java.lang.String>newDefaultInstance(
+                  org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_InstanceNode_ExtraEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "");
+    }
+    @SuppressWarnings("serial")
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> extra_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetExtra() {
+      if (extra_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            ExtraDefaultEntryHolder.defaultEntry);
+      }
+      return extra_;
+    }
+    public int getExtraCount() {
+      return internalGetExtra().getMap().size();
+    }
+    /**
+     * <pre>
+     * 上报数据，和ModuleNode使用相同的编号
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    @java.lang.Override
+    public boolean containsExtra(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetExtra().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getExtraMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getExtra() {
+      return getExtraMap();
+    }
+    /**
+     * <pre>
+     * 上报数据，和ModuleNode使用相同的编号
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.Map<java.lang.String, java.lang.String> getExtraMap() {
+      return internalGetExtra().getMap();
+    }
+    /**
+     * <pre>
+     * 上报数据，和ModuleNode使用相同的编号
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    @java.lang.Override
+    public /* nullable */
+java.lang.String getExtraOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetExtra().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * 上报数据，和ModuleNode使用相同的编号
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; extra = 4;</code>
+     */
+    @java.lang.Override
+    public java.lang.String getExtraOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetExtra().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public static final int ACTIVE_FIELD_NUMBER = 5;
+    private boolean active_ = false;
+    /**
+     * <code>bool active = 5;</code>
+     * @return The active.
+     */
+    @java.lang.Override
+    public boolean getActive() {
+      return active_;
+    }
+
+    public static final int SUSPECT_FIELD_NUMBER = 6;
+    private boolean suspect_ = false;
+    /**
+     * <pre>
+     * 实例已断开，处于宽限期，其他路由可以接管
+     * </pre>
+     *
+     * <code>bool suspect = 6;</code>
+     * @return The suspect.
+     */
+    @java.lang.Override
+    public boolean getSuspect() {
+      return suspect_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(namespace_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, namespace_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(2, getInstanceInfo());
+      }
+      for (int i = 0; i < modules_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, modules_.getRaw(i));
+      }
+      com.google.protobuf.GeneratedMessageV3
+        .serializeStringMapTo(
+          output,
+          internalGetExtra(),
+          ExtraDefaultEntryHolder.defaultEntry,
+          4);
+      if (active_ != false) {
+        output.writeBool(5, active_);
+      }
+      if (suspect_ != false) {
+        output.writeBool(6, suspect_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(namespace_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, namespace_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getInstanceInfo());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < modules_.size(); i++) {
+          dataSize += computeStringSizeNoTag(modules_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getModulesList().size();
+      }
+      for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+           : internalGetExtra().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+        extra__ = ExtraDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(4, extra__);
+      }
+      if (active_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, active_);
+      }
+      if (suspect_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, suspect_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.alps.rocky.core.proto.RoutingRegistry.InstanceNode)) {
+        return super.equals(obj);
+      }
+      org.alps.rocky.core.proto.RoutingRegistry.InstanceNode other = (org.alps.rocky.core.proto.RoutingRegistry.InstanceNode) obj;
+
+      if (!getNamespace()
+          .equals(other.getNamespace())) return false;
+      if (hasInstanceInfo() != other.hasInstanceInfo()) return false;
+      if (hasInstanceInfo()) {
+        if (!getInstanceInfo()
+            .equals(other.getInstanceInfo())) return false;
+      }
+      if (!getModulesList()
+          .equals(other.getModulesList())) return false;
+      if (!internalGetExtra().equals(
+          other.internalGetExtra())) return false;
+      if (getActive()
+          != other.getActive()) return false;
+      if (getSuspect()
+          != other.getSuspect()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAMESPACE_FIELD_NUMBER;
+      hash = (53 * hash) + getNamespace().hashCode();
+      if (hasInstanceInfo()) {
+        hash = (37 * hash) + INSTANCEINFO_FIELD_NUMBER;
+        hash = (53 * hash) + getInstanceInfo().hashCode();
+      }
+      if (getModulesCount() > 0) {
+        hash = (37 * hash) + MODULES_FIELD_NUMBER;
+        hash = (53 * hash) + getModulesList().hashCode();
+      }
+      if (!internalGetExtra().getMap().isEmpty()) {
+        hash = (37 * hash) + EXTRA_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetExtra().hashCode();
+      }
+      hash = (37 * hash) + ACTIVE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getActive());
+      hash = (37 * hash) + SUSPECT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSuspect());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.InstanceNode parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.InstanceNode parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.InstanceNode parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.InstanceNode parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.InstanceNode parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.InstanceNode parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.InstanceNode parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.InstanceNode parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.InstanceNode parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.InstanceNode parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.InstanceNode parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.InstanceNode parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.alps.rocky.core.proto.RoutingRegistry.InstanceNode prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     *注册中心中实例节点的数据，模块节点下只有实例ID的空节点，由路由合并
+     * </pre>
+     *
+     * Protobuf type {@code rocky.routing.InstanceNode}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:rocky.routing.InstanceNode)
+        org.alps.rocky.core.proto.RoutingRegistry.InstanceNodeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_InstanceNode_descriptor;
+      }
+
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMapField(
+          int number) {
+        switch (number) {
+          case 4:
+            return internalGetExtra();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMutableMapField(
+          int number) {
+        switch (number) {
+          case 4:
+            return internalGetMutableExtra();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_InstanceNode_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.class, org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.Builder.class);
+      }
+
+      // Construct using org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getInstanceInfoFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        namespace_ = "";
+        instanceInfo_ = null;
+        if (instanceInfoBuilder_ != null) {
+          instanceInfoBuilder_.dispose();
+          instanceInfoBuilder_ = null;
+        }
+        modules_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        internalGetMutableExtra().clear();
+        active_ = false;
+        suspect_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_InstanceNode_descriptor;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.InstanceNode getDefaultInstanceForType() {
+        return org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.InstanceNode build() {
+        org.alps.rocky.core.proto.RoutingRegistry.InstanceNode result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.InstanceNode buildPartial() {
+        org.alps.rocky.core.proto.RoutingRegistry.InstanceNode result = new org.alps.rocky.core.proto.RoutingRegistry.InstanceNode(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.alps.rocky.core.proto.RoutingRegistry.InstanceNode result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.namespace_ = namespace_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.instanceInfo_ = instanceInfoBuilder_ == null
+              ? instanceInfo_
+              : instanceInfoBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          modules_.makeImmutable();
+          result.modules_ = modules_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.extra_ = internalGetExtra();
+          result.extra_.makeImmutable();
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.active_ = active_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.suspect_ = suspect_;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.alps.rocky.core.proto.RoutingRegistry.InstanceNode) {
+          return mergeFrom((org.alps.rocky.core.proto.RoutingRegistry.InstanceNode)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.alps.rocky.core.proto.RoutingRegistry.InstanceNode other) {
+        if (other == org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.getDefaultInstance()) return this;
+        if (!other.getNamespace().isEmpty()) {
+          namespace_ = other.namespace_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasInstanceInfo()) {
+          mergeInstanceInfo(other.getInstanceInfo());
+        }
+        if (!other.modules_.isEmpty()) {
+          if (modules_.isEmpty()) {
+            modules_ = other.modules_;
+            bitField0_ |= 0x00000004;
+          } else {
+            ensureModulesIsMutable();
+            modules_.addAll(other.modules_);
+          }
+          onChanged();
+        }
+        internalGetMutableExtra().mergeFrom(
+            other.internalGetExtra());
+        bitField0_ |= 0x00000008;
+        if (other.getActive() != false) {
+          setActive(other.getActive());
+        }
+        if (other.getSuspect() != false) {
+          setSuspect(other.getSuspect());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                namespace_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getInstanceInfoFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureModulesIsMutable();
+                modules_.add(s);
+                break;
+              } // case 26
+              case 34: {
+                com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+                extra__ = input.readMessage(
+                    ExtraDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableExtra().getMutableMap().put(
+                    extra__.getKey(), extra__.getValue());
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                active_ = input.readBool();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                suspect_ = input.readBool();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object namespace_ = "";
+      /**
+       * <code>string namespace = 1;</code>
+       * @return The namespace.
+       */
+      public java.lang.String getNamespace() {
+        java.lang.Object ref = namespace_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          namespace_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string namespace = 1;</code>
+       * @return The bytes for namespace.
+       */
+      public com.google.protobuf.ByteString
+          getNamespaceBytes() {
+        java.lang.Object ref = namespace_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          namespace_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string namespace = 1;</code>
+       * @param value The namespace to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNamespace(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        namespace_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string namespace = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNamespace() {
+        namespace_ = getDefaultInstance().getNamespace();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string namespace = 1;</code>
+       * @param value The bytes for namespace to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNamespaceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        namespace_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private org.alps.rocky.core.proto.RoutingServer.InstanceInfo instanceInfo_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingServer.InstanceInfo, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder, org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> instanceInfoBuilder_;
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 2;</code>
+       * @return Whether the instanceInfo field is set.
+       */
+      public boolean hasInstanceInfo() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 2;</code>
+       * @return The instanceInfo.
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo getInstanceInfo() {
+        if (instanceInfoBuilder_ == null) {
+          return instanceInfo_ == null ? org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance() : instanceInfo_;
+        } else {
+          return instanceInfoBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 2;</code>
+       */
+      public Builder setInstanceInfo(org.alps.rocky.core.proto.RoutingServer.InstanceInfo value) {
+        if (instanceInfoBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          instanceInfo_ = value;
+        } else {
+          instanceInfoBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 2;</code>
+       */
+      public Builder setInstanceInfo(
+          org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder builderForValue) {
+        if (instanceInfoBuilder_ == null) {
+          instanceInfo_ = builderForValue.build();
+        } else {
+          instanceInfoBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 2;</code>
+       */
+      public Builder mergeInstanceInfo(org.alps.rocky.core.proto.RoutingServer.InstanceInfo value) {
+        if (instanceInfoBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            instanceInfo_ != null &&
+            instanceInfo_ != org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance()) {
+            getInstanceInfoBuilder().mergeFrom(value);
+          } else {
+            instanceInfo_ = value;
+          }
+        } else {
+          instanceInfoBuilder_.mergeFrom(value);
+        }
+        if (instanceInfo_ != null) {
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 2;</code>
+       */
+      public Builder clearInstanceInfo() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        instanceInfo_ = null;
+        if (instanceInfoBuilder_ != null) {
+          instanceInfoBuilder_.dispose();
+          instanceInfoBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 2;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder getInstanceInfoBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getInstanceInfoFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 2;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder getInstanceInfoOrBuilder() {
+        if (instanceInfoBuilder_ != null) {
+          return instanceInfoBuilder_.getMessageOrBuilder();
+        } else {
+          return instanceInfo_ == null ?
+              org.alps.rocky.core.proto.RoutingServer.InstanceInfo.getDefaultInstance() : instanceInfo_;
+        }
+      }
+      /**
+       * <code>.rocky.routing.InstanceInfo instanceInfo = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingServer.InstanceInfo, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder, org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder> 
+          getInstanceInfoFieldBuilder() {
+        if (instanceInfoBuilder_ == null) {
+          instanceInfoBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.alps.rocky.core.proto.RoutingServer.InstanceInfo, org.alps.rocky.core.proto.RoutingServer.InstanceInfo.Builder, org.alps.rocky.core.proto.RoutingServer.InstanceInfoOrBuilder>(
+                  getInstanceInfo(),
+                  getParentForChildren(),
+                  isClean());
+          instanceInfo_ = null;
+        }
+        return instanceInfoBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringArrayList modules_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureModulesIsMutable() {
+        if (!modules_.isModifiable()) {
+          modules_ = new com.google.protobuf.LazyStringArrayList(modules_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <pre>
+       * 实例注册的模块
+       * </pre>
+       *
+       * <code>repeated string modules = 3;</code>
+       * @return A list containing the modules.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getModulesList() {
+        modules_.makeImmutable();
+        return modules_;
+      }
+      /**
+       * <pre>
+       * 实例注册的模块
+       * </pre>
+       *
+       * <code>repeated string modules = 3;</code>
+       * @return The count of modules.
+       */
+      public int getModulesCount() {
+        return modules_.size();
+      }
+      /**
+       * <pre>
+       * 实例注册的模块
+       * </pre>
+       *
+       * <code>repeated string modules = 3;</code>
+       * @param index The index of the element to return.
+       * @return The modules at the given index.
+       */
+      public java.lang.String getModules(int index) {
+        return modules_.get(index);
+      }
+      /**
+       * <pre>
+       * 实例注册的模块
+       * </pre>
+       *
+       * <code>repeated string modules = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the modules at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getModulesBytes(int index) {
+        return modules_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * 实例注册的模块
+       * </pre>
+       *
+       * <code>repeated string modules = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The modules to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModules(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureModulesIsMutable();
+        modules_.set(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 实例注册的模块
+       * </pre>
+       *
+       * <code>repeated string modules = 3;</code>
+       * @param value The modules to add.
+       * @return This builder for chaining.
+       */
+      public Builder addModules(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureModulesIsMutable();
+        modules_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 实例注册的模块
+       * </pre>
+       *
+       * <code>repeated string modules = 3;</code>
+       * @param values The modules to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllModules(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureModulesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, modules_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 实例注册的模块
+       * </pre>
+       *
+       * <code>repeated string modules = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearModules() {
+        modules_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 实例注册的模块
+       * </pre>
+       *
+       * <code>repeated string modules = 3;</code>
+       * @param value The bytes of the modules to add.
+       * @return This builder for chaining.
+       */
+      public Builder addModulesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureModulesIsMutable();
+        modules_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.MapField<
+          java.lang.String, java.lang.String> extra_;
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetExtra() {
+        if (extra_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              ExtraDefaultEntryHolder.defaultEntry);
+        }
+        return extra_;
+      }
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetMutableExtra() {
+        if (extra_ == null) {
+          extra_ = com.google.protobuf.MapField.newMapField(
+              ExtraDefaultEntryHolder.defaultEntry);
+        }
+        if (!extra_.isMutable()) {
+          extra_ = extra_.copy();
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return extra_;
+      }
+      public int getExtraCount() {
+        return internalGetExtra().getMap().size();
+      }
+      /**
+       * <pre>
+       * 上报数据，和ModuleNode使用相同的编号
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; extra = 4;</code>
+       */
+      @java.lang.Override
+      public boolean containsExtra(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        return internalGetExtra().getMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getExtraMap()} instead.
+       */
+      @java.lang.Override
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String> getExtra() {
+        return getExtraMap();
+      }
+      /**
+       * <pre>
+       * 上报数据，和ModuleNode使用相同的编号
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; extra = 4;</code>
+       */
+      @java.lang.Override
+      public java.util.Map<java.lang.String, java.lang.String> getExtraMap() {
+        return internalGetExtra().getMap();
+      }
+      /**
+       * <pre>
+       * 上报数据，和ModuleNode使用相同的编号
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; extra = 4;</code>
+       */
+      @java.lang.Override
+      public /* nullable */
+java.lang.String getExtraOrDefault(
+          java.lang.String key,
+          /* nullable */
+java.lang.String defaultValue) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetExtra().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+      }
+      /**
+       * <pre>
+       * 上报数据，和ModuleNode使用相同的编号
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; extra = 4;</code>
+       */
+      @java.lang.Override
+      public java.lang.String getExtraOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetExtra().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+      public Builder clearExtra() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        internalGetMutableExtra().getMutableMap()
+            .clear();
+        return this;
+      }
+      /**
+       * <pre>
+       * 上报数据，和ModuleNode使用相同的编号
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; extra = 4;</code>
+       */
+      public Builder removeExtra(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        internalGetMutableExtra().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String>
+          getMutableExtra() {
+        bitField0_ |= 0x00000008;
+        return internalGetMutableExtra().getMutableMap();
+      }
+      /**
+       * <pre>
+       * 上报数据，和ModuleNode使用相同的编号
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; extra = 4;</code>
+       */
+      public Builder putExtra(
+          java.lang.String key,
+          java.lang.String value) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        if (value == null) { throw new NullPointerException("map value"); }
+        internalGetMutableExtra().getMutableMap()
+            .put(key, value);
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <pre>
+       * 上报数据，和ModuleNode使用相同的编号
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; extra = 4;</code>
+       */
+      public Builder putAllExtra(
+          java.util.Map<java.lang.String, java.lang.String> values) {
+        internalGetMutableExtra().getMutableMap()
+            .putAll(values);
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+
+      private boolean active_ ;
+      /**
+       * <code>bool active = 5;</code>
+       * @return The active.
+       */
+      @java.lang.Override
+      public boolean getActive() {
+        return active_;
+      }
+      /**
+       * <code>bool active = 5;</code>
+       * @param value The active to set.
+       * @return This builder for chaining.
+       */
+      public Builder setActive(boolean value) {
+
+        active_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool active = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearActive() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        active_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean suspect_ ;
+      /**
+       * <pre>
+       * 实例已断开，处于宽限期，其他路由可以接管
+       * </pre>
+       *
+       * <code>bool suspect = 6;</code>
+       * @return The suspect.
+       */
+      @java.lang.Override
+      public boolean getSuspect() {
+        return suspect_;
+      }
+      /**
+       * <pre>
+       * 实例已断开，处于宽限期，其他路由可以接管
+       * </pre>
+       *
+       * <code>bool suspect = 6;</code>
+       * @param value The suspect to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSuspect(boolean value) {
+
+        suspect_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 实例已断开，处于宽限期，其他路由可以接管
+       * </pre>
+       *
+       * <code>bool suspect = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSuspect() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        suspect_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:rocky.routing.InstanceNode)
+    }
+
+    // @@protoc_insertion_point(class_scope:rocky.routing.InstanceNode)
+    private static final org.alps.rocky.core.proto.RoutingRegistry.InstanceNode DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingRegistry.InstanceNode();
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.InstanceNode getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<InstanceNode>
+        PARSER = new com.google.protobuf.AbstractParser<InstanceNode>() {
+      @java.lang.Override
+      public InstanceNode parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<InstanceNode> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<InstanceNode> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingRegistry.InstanceNode getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RegistryRecordOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:rocky.routing.RegistryRecord)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * 写入模块节点，旧版本按模块写入的记录
+     * </pre>
+     *
+     * <code>.rocky.routing.ModuleNode put = 1;</code>
+     * @return Whether the put field is set.
+     */
+    boolean hasPut();
+    /**
+     * <pre>
+     * 写入模块节点，旧版本按模块写入的记录
+     * </pre>
+     *
+     * <code>.rocky.routing.ModuleNode put = 1;</code>
+     * @return The put.
+     */
+    org.alps.rocky.core.proto.RoutingRegistry.ModuleNode getPut();
+    /**
+     * <pre>
+     * 写入模块节点，旧版本按模块写入的记录
+     * </pre>
+     *
+     * <code>.rocky.routing.ModuleNode put = 1;</code>
+     */
+    org.alps.rocky.core.proto.RoutingRegistry.ModuleNodeOrBuilder getPutOrBuilder();
+
+    /**
+     * <pre>
+     * 删除实例的所有模块节点
+     * </pre>
+     *
+     * <code>.rocky.routing.RemoveInstance remove = 2;</code>
+     * @return Whether the remove field is set.
+     */
+    boolean hasRemove();
+    /**
+     * <pre>
+     * 删除实例的所有模块节点
+     * </pre>
+     *
+     * <code>.rocky.routing.RemoveInstance remove = 2;</code>
+     * @return The remove.
+     */
+    org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance getRemove();
+    /**
+     * <pre>
+     * 删除实例的所有模块节点
+     * </pre>
+     *
+     * <code>.rocky.routing.RemoveInstance remove = 2;</code>
+     */
+    org.alps.rocky.core.proto.RoutingRegistry.RemoveInstanceOrBuilder getRemoveOrBuilder();
+
+    /**
+     * <pre>
+     * 写入实例的状态，替换实例的所有模块节点
+     * </pre>
+     *
+     * <code>.rocky.routing.InstanceNode instance = 3;</code>
+     * @return Whether the instance field is set.
+     */
+    boolean hasInstance();
+    /**
+     * <pre>
+     * 写入实例的状态，替换实例的所有模块节点
+     * </pre>
+     *
+     * <code>.rocky.routing.InstanceNode instance = 3;</code>
+     * @return The instance.
+     */
+    org.alps.rocky.core.proto.RoutingRegistry.InstanceNode getInstance();
+    /**
+     * <pre>
+     * 写入实例的状态，替换实例的所有模块节点
+     * </pre>
+     *
+     * <code>.rocky.routing.InstanceNode instance = 3;</code>
+     */
+    org.alps.rocky.core.proto.RoutingRegistry.InstanceNodeOrBuilder getInstanceOrBuilder();
+
+    org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord.OpCase getOpCase();
+  }
+  /**
+   * <pre>
+   *内存注册中心的变更记录
+   * </pre>
+   *
+   * Protobuf type {@code rocky.routing.RegistryRecord}
+   */
+  public static final class RegistryRecord extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:rocky.routing.RegistryRecord)
+      RegistryRecordOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RegistryRecord.newBuilder() to construct.
+    private RegistryRecord(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RegistryRecord() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new RegistryRecord();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_RegistryRecord_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_RegistryRecord_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord.class, org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord.Builder.class);
+    }
+
+    private int opCase_ = 0;
+    @SuppressWarnings("serial")
+    private java.lang.Object op_;
+    public enum OpCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      PUT(1),
+      REMOVE(2),
+      INSTANCE(3),
+      OP_NOT_SET(0);
+      private final int value;
+      private OpCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static OpCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static OpCase forNumber(int value) {
+        switch (value) {
+          case 1: return PUT;
+          case 2: return REMOVE;
+          case 3: return INSTANCE;
+          case 0: return OP_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public OpCase
+    getOpCase() {
+      return OpCase.forNumber(
+          opCase_);
+    }
+
+    public static final int PUT_FIELD_NUMBER = 1;
+    /**
+     * <pre>
+     * 写入模块节点，旧版本按模块写入的记录
+     * </pre>
+     *
+     * <code>.rocky.routing.ModuleNode put = 1;</code>
+     * @return Whether the put field is set.
+     */
+    @java.lang.Override
+    public boolean hasPut() {
+      return opCase_ == 1;
+    }
+    /**
+     * <pre>
+     * 写入模块节点，旧版本按模块写入的记录
+     * </pre>
+     *
+     * <code>.rocky.routing.ModuleNode put = 1;</code>
+     * @return The put.
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingRegistry.ModuleNode getPut() {
+      if (opCase_ == 1) {
+         return (org.alps.rocky.core.proto.RoutingRegistry.ModuleNode) op_;
+      }
+      return org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.getDefaultInstance();
+    }
+    /**
+     * <pre>
+     * 写入模块节点，旧版本按模块写入的记录
+     * </pre>
+     *
+     * <code>.rocky.routing.ModuleNode put = 1;</code>
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingRegistry.ModuleNodeOrBuilder getPutOrBuilder() {
+      if (opCase_ == 1) {
+         return (org.alps.rocky.core.proto.RoutingRegistry.ModuleNode) op_;
+      }
+      return org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.getDefaultInstance();
+    }
+
+    public static final int REMOVE_FIELD_NUMBER = 2;
+    /**
+     * <pre>
+     * 删除实例的所有模块节点
+     * </pre>
+     *
+     * <code>.rocky.routing.RemoveInstance remove = 2;</code>
+     * @return Whether the remove field is set.
+     */
+    @java.lang.Override
+    public boolean hasRemove() {
+      return opCase_ == 2;
+    }
+    /**
+     * <pre>
+     * 删除实例的所有模块节点
+     * </pre>
+     *
+     * <code>.rocky.routing.RemoveInstance remove = 2;</code>
+     * @return The remove.
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance getRemove() {
+      if (opCase_ == 2) {
+         return (org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance) op_;
+      }
+      return org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.getDefaultInstance();
+    }
+    /**
+     * <pre>
+     * 删除实例的所有模块节点
+     * </pre>
+     *
+     * <code>.rocky.routing.RemoveInstance remove = 2;</code>
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingRegistry.RemoveInstanceOrBuilder getRemoveOrBuilder() {
+      if (opCase_ == 2) {
+         return (org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance) op_;
+      }
+      return org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.getDefaultInstance();
+    }
+
+    public static final int INSTANCE_FIELD_NUMBER = 3;
+    /**
+     * <pre>
+     * 写入实例的状态，替换实例的所有模块节点
+     * </pre>
+     *
+     * <code>.rocky.routing.InstanceNode instance = 3;</code>
+     * @return Whether the instance field is set.
+     */
+    @java.lang.Override
+    public boolean hasInstance() {
+      return opCase_ == 3;
+    }
+    /**
+     * <pre>
+     * 写入实例的状态，替换实例的所有模块节点
+     * </pre>
+     *
+     * <code>.rocky.routing.InstanceNode instance = 3;</code>
+     * @return The instance.
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingRegistry.InstanceNode getInstance() {
+      if (opCase_ == 3) {
+         return (org.alps.rocky.core.proto.RoutingRegistry.InstanceNode) op_;
+      }
+      return org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.getDefaultInstance();
+    }
+    /**
+     * <pre>
+     * 写入实例的状态，替换实例的所有模块节点
+     * </pre>
+     *
+     * <code>.rocky.routing.InstanceNode instance = 3;</code>
+     */
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingRegistry.InstanceNodeOrBuilder getInstanceOrBuilder() {
+      if (opCase_ == 3) {
+         return (org.alps.rocky.core.proto.RoutingRegistry.InstanceNode) op_;
+      }
+      return org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (opCase_ == 1) {
+        output.writeMessage(1, (org.alps.rocky.core.proto.RoutingRegistry.ModuleNode) op_);
+      }
+      if (opCase_ == 2) {
+        output.writeMessage(2, (org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance) op_);
+      }
+      if (opCase_ == 3) {
+        output.writeMessage(3, (org.alps.rocky.core.proto.RoutingRegistry.InstanceNode) op_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (opCase_ == 1) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, (org.alps.rocky.core.proto.RoutingRegistry.ModuleNode) op_);
+      }
+      if (opCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, (org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance) op_);
+      }
+      if (opCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, (org.alps.rocky.core.proto.RoutingRegistry.InstanceNode) op_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord)) {
+        return super.equals(obj);
+      }
+      org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord other = (org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord) obj;
+
+      if (!getOpCase().equals(other.getOpCase())) return false;
+      switch (opCase_) {
+        case 1:
+          if (!getPut()
+              .equals(other.getPut())) return false;
+          break;
+        case 2:
+          if (!getRemove()
+              .equals(other.getRemove())) return false;
+          break;
+        case 3:
+          if (!getInstance()
+              .equals(other.getInstance())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      switch (opCase_) {
+        case 1:
+          hash = (37 * hash) + PUT_FIELD_NUMBER;
+          hash = (53 * hash) + getPut().hashCode();
+          break;
+        case 2:
+          hash = (37 * hash) + REMOVE_FIELD_NUMBER;
+          hash = (53 * hash) + getRemove().hashCode();
+          break;
+        case 3:
+          hash = (37 * hash) + INSTANCE_FIELD_NUMBER;
+          hash = (53 * hash) + getInstance().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     *内存注册中心的变更记录
+     * </pre>
+     *
+     * Protobuf type {@code rocky.routing.RegistryRecord}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:rocky.routing.RegistryRecord)
+        org.alps.rocky.core.proto.RoutingRegistry.RegistryRecordOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_RegistryRecord_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_RegistryRecord_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord.class, org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord.Builder.class);
+      }
+
+      // Construct using org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (putBuilder_ != null) {
+          putBuilder_.clear();
+        }
+        if (removeBuilder_ != null) {
+          removeBuilder_.clear();
+        }
+        if (instanceBuilder_ != null) {
+          instanceBuilder_.clear();
+        }
+        opCase_ = 0;
+        op_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_RegistryRecord_descriptor;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord getDefaultInstanceForType() {
+        return org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord build() {
+        org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord buildPartial() {
+        org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord result = new org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        buildPartialOneofs(result);
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      private void buildPartialOneofs(org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord result) {
+        result.opCase_ = opCase_;
+        result.op_ = this.op_;
+        if (opCase_ == 1 &&
+            putBuilder_ != null) {
+          result.op_ = putBuilder_.build();
+        }
+        if (opCase_ == 2 &&
+            removeBuilder_ != null) {
+          result.op_ = removeBuilder_.build();
+        }
+        if (opCase_ == 3 &&
+            instanceBuilder_ != null) {
+          result.op_ = instanceBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord) {
+          return mergeFrom((org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord other) {
+        if (other == org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord.getDefaultInstance()) return this;
+        switch (other.getOpCase()) {
+          case PUT: {
+            mergePut(other.getPut());
+            break;
+          }
+          case REMOVE: {
+            mergeRemove(other.getRemove());
+            break;
+          }
+          case INSTANCE: {
+            mergeInstance(other.getInstance());
+            break;
+          }
+          case OP_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getPutFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                opCase_ = 1;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getRemoveFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                opCase_ = 2;
+                break;
+              } // case 18
+              case 26: {
+                input.readMessage(
+                    getInstanceFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                opCase_ = 3;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int opCase_ = 0;
+      private java.lang.Object op_;
+      public OpCase
+          getOpCase() {
+        return OpCase.forNumber(
+            opCase_);
+      }
+
+      public Builder clearOp() {
+        opCase_ = 0;
+        op_ = null;
+        onChanged();
+        return this;
+      }
+
+      private int bitField0_;
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingRegistry.ModuleNode, org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.Builder, org.alps.rocky.core.proto.RoutingRegistry.ModuleNodeOrBuilder> putBuilder_;
+      /**
+       * <pre>
+       * 写入模块节点，旧版本按模块写入的记录
+       * </pre>
+       *
+       * <code>.rocky.routing.ModuleNode put = 1;</code>
+       * @return Whether the put field is set.
+       */
+      @java.lang.Override
+      public boolean hasPut() {
+        return opCase_ == 1;
+      }
+      /**
+       * <pre>
+       * 写入模块节点，旧版本按模块写入的记录
+       * </pre>
+       *
+       * <code>.rocky.routing.ModuleNode put = 1;</code>
+       * @return The put.
+       */
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.ModuleNode getPut() {
+        if (putBuilder_ == null) {
+          if (opCase_ == 1) {
+            return (org.alps.rocky.core.proto.RoutingRegistry.ModuleNode) op_;
+          }
+          return org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.getDefaultInstance();
+        } else {
+          if (opCase_ == 1) {
+            return putBuilder_.getMessage();
+          }
+          return org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * 写入模块节点，旧版本按模块写入的记录
+       * </pre>
+       *
+       * <code>.rocky.routing.ModuleNode put = 1;</code>
+       */
+      public Builder setPut(org.alps.rocky.core.proto.RoutingRegistry.ModuleNode value) {
+        if (putBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          op_ = value;
+          onChanged();
+        } else {
+          putBuilder_.setMessage(value);
+        }
+        opCase_ = 1;
+        return this;
+      }
+      /**
+       * <pre>
+       * 写入模块节点，旧版本按模块写入的记录
+       * </pre>
+       *
+       * <code>.rocky.routing.ModuleNode put = 1;</code>
+       */
+      public Builder setPut(
+          org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.Builder builderForValue) {
+        if (putBuilder_ == null) {
+          op_ = builderForValue.build();
+          onChanged();
+        } else {
+          putBuilder_.setMessage(builderForValue.build());
+        }
+        opCase_ = 1;
+        return this;
+      }
+      /**
+       * <pre>
+       * 写入模块节点，旧版本按模块写入的记录
+       * </pre>
+       *
+       * <code>.rocky.routing.ModuleNode put = 1;</code>
+       */
+      public Builder mergePut(org.alps.rocky.core.proto.RoutingRegistry.ModuleNode value) {
+        if (putBuilder_ == null) {
+          if (opCase_ == 1 &&
+              op_ != org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.getDefaultInstance()) {
+            op_ = org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.newBuilder((org.alps.rocky.core.proto.RoutingRegistry.ModuleNode) op_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            op_ = value;
+          }
+          onChanged();
+        } else {
+          if (opCase_ == 1) {
+            putBuilder_.mergeFrom(value);
+          } else {
+            putBuilder_.setMessage(value);
+          }
+        }
+        opCase_ = 1;
+        return this;
+      }
+      /**
+       * <pre>
+       * 写入模块节点，旧版本按模块写入的记录
+       * </pre>
+       *
+       * <code>.rocky.routing.ModuleNode put = 1;</code>
+       */
+      public Builder clearPut() {
+        if (putBuilder_ == null) {
+          if (opCase_ == 1) {
+            opCase_ = 0;
+            op_ = null;
+            onChanged();
+          }
+        } else {
+          if (opCase_ == 1) {
+            opCase_ = 0;
+            op_ = null;
+          }
+          putBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 写入模块节点，旧版本按模块写入的记录
+       * </pre>
+       *
+       * <code>.rocky.routing.ModuleNode put = 1;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.Builder getPutBuilder() {
+        return getPutFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * 写入模块节点，旧版本按模块写入的记录
+       * </pre>
+       *
+       * <code>.rocky.routing.ModuleNode put = 1;</code>
+       */
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.ModuleNodeOrBuilder getPutOrBuilder() {
+        if ((opCase_ == 1) && (putBuilder_ != null)) {
+          return putBuilder_.getMessageOrBuilder();
+        } else {
+          if (opCase_ == 1) {
+            return (org.alps.rocky.core.proto.RoutingRegistry.ModuleNode) op_;
+          }
+          return org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * 写入模块节点，旧版本按模块写入的记录
+       * </pre>
+       *
+       * <code>.rocky.routing.ModuleNode put = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingRegistry.ModuleNode, org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.Builder, org.alps.rocky.core.proto.RoutingRegistry.ModuleNodeOrBuilder> 
+          getPutFieldBuilder() {
+        if (putBuilder_ == null) {
+          if (!(opCase_ == 1)) {
+            op_ = org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.getDefaultInstance();
+          }
+          putBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.alps.rocky.core.proto.RoutingRegistry.ModuleNode, org.alps.rocky.core.proto.RoutingRegistry.ModuleNode.Builder, org.alps.rocky.core.proto.RoutingRegistry.ModuleNodeOrBuilder>(
+                  (org.alps.rocky.core.proto.RoutingRegistry.ModuleNode) op_,
+                  getParentForChildren(),
+                  isClean());
+          op_ = null;
+        }
+        opCase_ = 1;
+        onChanged();
+        return putBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance, org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.Builder, org.alps.rocky.core.proto.RoutingRegistry.RemoveInstanceOrBuilder> removeBuilder_;
+      /**
+       * <pre>
+       * 删除实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.RemoveInstance remove = 2;</code>
+       * @return Whether the remove field is set.
+       */
+      @java.lang.Override
+      public boolean hasRemove() {
+        return opCase_ == 2;
+      }
+      /**
+       * <pre>
+       * 删除实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.RemoveInstance remove = 2;</code>
+       * @return The remove.
+       */
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance getRemove() {
+        if (removeBuilder_ == null) {
+          if (opCase_ == 2) {
+            return (org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance) op_;
+          }
+          return org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.getDefaultInstance();
+        } else {
+          if (opCase_ == 2) {
+            return removeBuilder_.getMessage();
+          }
+          return org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * 删除实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.RemoveInstance remove = 2;</code>
+       */
+      public Builder setRemove(org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance value) {
+        if (removeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          op_ = value;
+          onChanged();
+        } else {
+          removeBuilder_.setMessage(value);
+        }
+        opCase_ = 2;
+        return this;
+      }
+      /**
+       * <pre>
+       * 删除实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.RemoveInstance remove = 2;</code>
+       */
+      public Builder setRemove(
+          org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.Builder builderForValue) {
+        if (removeBuilder_ == null) {
+          op_ = builderForValue.build();
+          onChanged();
+        } else {
+          removeBuilder_.setMessage(builderForValue.build());
+        }
+        opCase_ = 2;
+        return this;
+      }
+      /**
+       * <pre>
+       * 删除实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.RemoveInstance remove = 2;</code>
+       */
+      public Builder mergeRemove(org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance value) {
+        if (removeBuilder_ == null) {
+          if (opCase_ == 2 &&
+              op_ != org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.getDefaultInstance()) {
+            op_ = org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.newBuilder((org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance) op_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            op_ = value;
+          }
+          onChanged();
+        } else {
+          if (opCase_ == 2) {
+            removeBuilder_.mergeFrom(value);
+          } else {
+            removeBuilder_.setMessage(value);
+          }
+        }
+        opCase_ = 2;
+        return this;
+      }
+      /**
+       * <pre>
+       * 删除实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.RemoveInstance remove = 2;</code>
+       */
+      public Builder clearRemove() {
+        if (removeBuilder_ == null) {
+          if (opCase_ == 2) {
+            opCase_ = 0;
+            op_ = null;
+            onChanged();
+          }
+        } else {
+          if (opCase_ == 2) {
+            opCase_ = 0;
+            op_ = null;
+          }
+          removeBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 删除实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.RemoveInstance remove = 2;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.Builder getRemoveBuilder() {
+        return getRemoveFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * 删除实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.RemoveInstance remove = 2;</code>
+       */
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.RemoveInstanceOrBuilder getRemoveOrBuilder() {
+        if ((opCase_ == 2) && (removeBuilder_ != null)) {
+          return removeBuilder_.getMessageOrBuilder();
+        } else {
+          if (opCase_ == 2) {
+            return (org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance) op_;
+          }
+          return org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * 删除实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.RemoveInstance remove = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance, org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.Builder, org.alps.rocky.core.proto.RoutingRegistry.RemoveInstanceOrBuilder> 
+          getRemoveFieldBuilder() {
+        if (removeBuilder_ == null) {
+          if (!(opCase_ == 2)) {
+            op_ = org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.getDefaultInstance();
+          }
+          removeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance, org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.Builder, org.alps.rocky.core.proto.RoutingRegistry.RemoveInstanceOrBuilder>(
+                  (org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance) op_,
+                  getParentForChildren(),
+                  isClean());
+          op_ = null;
+        }
+        opCase_ = 2;
+        onChanged();
+        return removeBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingRegistry.InstanceNode, org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.Builder, org.alps.rocky.core.proto.RoutingRegistry.InstanceNodeOrBuilder> instanceBuilder_;
+      /**
+       * <pre>
+       * 写入实例的状态，替换实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.InstanceNode instance = 3;</code>
+       * @return Whether the instance field is set.
+       */
+      @java.lang.Override
+      public boolean hasInstance() {
+        return opCase_ == 3;
+      }
+      /**
+       * <pre>
+       * 写入实例的状态，替换实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.InstanceNode instance = 3;</code>
+       * @return The instance.
+       */
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.InstanceNode getInstance() {
+        if (instanceBuilder_ == null) {
+          if (opCase_ == 3) {
+            return (org.alps.rocky.core.proto.RoutingRegistry.InstanceNode) op_;
+          }
+          return org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.getDefaultInstance();
+        } else {
+          if (opCase_ == 3) {
+            return instanceBuilder_.getMessage();
+          }
+          return org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * 写入实例的状态，替换实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.InstanceNode instance = 3;</code>
+       */
+      public Builder setInstance(org.alps.rocky.core.proto.RoutingRegistry.InstanceNode value) {
+        if (instanceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          op_ = value;
+          onChanged();
+        } else {
+          instanceBuilder_.setMessage(value);
+        }
+        opCase_ = 3;
+        return this;
+      }
+      /**
+       * <pre>
+       * 写入实例的状态，替换实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.InstanceNode instance = 3;</code>
+       */
+      public Builder setInstance(
+          org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.Builder builderForValue) {
+        if (instanceBuilder_ == null) {
+          op_ = builderForValue.build();
+          onChanged();
+        } else {
+          instanceBuilder_.setMessage(builderForValue.build());
+        }
+        opCase_ = 3;
+        return this;
+      }
+      /**
+       * <pre>
+       * 写入实例的状态，替换实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.InstanceNode instance = 3;</code>
+       */
+      public Builder mergeInstance(org.alps.rocky.core.proto.RoutingRegistry.InstanceNode value) {
+        if (instanceBuilder_ == null) {
+          if (opCase_ == 3 &&
+              op_ != org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.getDefaultInstance()) {
+            op_ = org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.newBuilder((org.alps.rocky.core.proto.RoutingRegistry.InstanceNode) op_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            op_ = value;
+          }
+          onChanged();
+        } else {
+          if (opCase_ == 3) {
+            instanceBuilder_.mergeFrom(value);
+          } else {
+            instanceBuilder_.setMessage(value);
+          }
+        }
+        opCase_ = 3;
+        return this;
+      }
+      /**
+       * <pre>
+       * 写入实例的状态，替换实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.InstanceNode instance = 3;</code>
+       */
+      public Builder clearInstance() {
+        if (instanceBuilder_ == null) {
+          if (opCase_ == 3) {
+            opCase_ = 0;
+            op_ = null;
+            onChanged();
+          }
+        } else {
+          if (opCase_ == 3) {
+            opCase_ = 0;
+            op_ = null;
+          }
+          instanceBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 写入实例的状态，替换实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.InstanceNode instance = 3;</code>
+       */
+      public org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.Builder getInstanceBuilder() {
+        return getInstanceFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * 写入实例的状态，替换实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.InstanceNode instance = 3;</code>
+       */
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.InstanceNodeOrBuilder getInstanceOrBuilder() {
+        if ((opCase_ == 3) && (instanceBuilder_ != null)) {
+          return instanceBuilder_.getMessageOrBuilder();
+        } else {
+          if (opCase_ == 3) {
+            return (org.alps.rocky.core.proto.RoutingRegistry.InstanceNode) op_;
+          }
+          return org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * 写入实例的状态，替换实例的所有模块节点
+       * </pre>
+       *
+       * <code>.rocky.routing.InstanceNode instance = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.alps.rocky.core.proto.RoutingRegistry.InstanceNode, org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.Builder, org.alps.rocky.core.proto.RoutingRegistry.InstanceNodeOrBuilder> 
+          getInstanceFieldBuilder() {
+        if (instanceBuilder_ == null) {
+          if (!(opCase_ == 3)) {
+            op_ = org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.getDefaultInstance();
+          }
+          instanceBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.alps.rocky.core.proto.RoutingRegistry.InstanceNode, org.alps.rocky.core.proto.RoutingRegistry.InstanceNode.Builder, org.alps.rocky.core.proto.RoutingRegistry.InstanceNodeOrBuilder>(
+                  (org.alps.rocky.core.proto.RoutingRegistry.InstanceNode) op_,
+                  getParentForChildren(),
+                  isClean());
+          op_ = null;
+        }
+        opCase_ = 3;
+        onChanged();
+        return instanceBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:rocky.routing.RegistryRecord)
+    }
+
+    // @@protoc_insertion_point(class_scope:rocky.routing.RegistryRecord)
+    private static final org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord();
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RegistryRecord>
+        PARSER = new com.google.protobuf.AbstractParser<RegistryRecord>() {
+      @java.lang.Override
+      public RegistryRecord parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<RegistryRecord> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RegistryRecord> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingRegistry.RegistryRecord getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RemoveInstanceOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:rocky.routing.RemoveInstance)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string namespace = 1;</code>
+     * @return The namespace.
+     */
+    java.lang.String getNamespace();
+    /**
+     * <code>string namespace = 1;</code>
+     * @return The bytes for namespace.
+     */
+    com.google.protobuf.ByteString
+        getNamespaceBytes();
+
+    /**
+     * <code>string instanceId = 2;</code>
+     * @return The instanceId.
+     */
+    java.lang.String getInstanceId();
+    /**
+     * <code>string instanceId = 2;</code>
+     * @return The bytes for instanceId.
+     */
+    com.google.protobuf.ByteString
+        getInstanceIdBytes();
+  }
+  /**
+   * Protobuf type {@code rocky.routing.RemoveInstance}
+   */
+  public static final class RemoveInstance extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:rocky.routing.RemoveInstance)
+      RemoveInstanceOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RemoveInstance.newBuilder() to construct.
+    private RemoveInstance(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RemoveInstance() {
+      namespace_ = "";
+      instanceId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new RemoveInstance();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_RemoveInstance_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_RemoveInstance_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.class, org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.Builder.class);
+    }
+
+    public static final int NAMESPACE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object namespace_ = "";
+    /**
+     * <code>string namespace = 1;</code>
+     * @return The namespace.
+     */
+    @java.lang.Override
+    public java.lang.String getNamespace() {
+      java.lang.Object ref = namespace_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        namespace_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string namespace = 1;</code>
+     * @return The bytes for namespace.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNamespaceBytes() {
+      java.lang.Object ref = namespace_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        namespace_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INSTANCEID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object instanceId_ = "";
+    /**
+     * <code>string instanceId = 2;</code>
+     * @return The instanceId.
+     */
+    @java.lang.Override
+    public java.lang.String getInstanceId() {
+      java.lang.Object ref = instanceId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        instanceId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string instanceId = 2;</code>
+     * @return The bytes for instanceId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getInstanceIdBytes() {
+      java.lang.Object ref = instanceId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        instanceId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(namespace_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, namespace_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(instanceId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, instanceId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(namespace_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, namespace_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(instanceId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, instanceId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance)) {
+        return super.equals(obj);
+      }
+      org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance other = (org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance) obj;
+
+      if (!getNamespace()
+          .equals(other.getNamespace())) return false;
+      if (!getInstanceId()
+          .equals(other.getInstanceId())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAMESPACE_FIELD_NUMBER;
+      hash = (53 * hash) + getNamespace().hashCode();
+      hash = (37 * hash) + INSTANCEID_FIELD_NUMBER;
+      hash = (53 * hash) + getInstanceId().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code rocky.routing.RemoveInstance}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:rocky.routing.RemoveInstance)
+        org.alps.rocky.core.proto.RoutingRegistry.RemoveInstanceOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_RemoveInstance_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_RemoveInstance_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.class, org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.Builder.class);
+      }
+
+      // Construct using org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        namespace_ = "";
+        instanceId_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_RemoveInstance_descriptor;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance getDefaultInstanceForType() {
+        return org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance build() {
+        org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance buildPartial() {
+        org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance result = new org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.namespace_ = namespace_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.instanceId_ = instanceId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance) {
+          return mergeFrom((org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance other) {
+        if (other == org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance.getDefaultInstance()) return this;
+        if (!other.getNamespace().isEmpty()) {
+          namespace_ = other.namespace_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getInstanceId().isEmpty()) {
+          instanceId_ = other.instanceId_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                namespace_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                instanceId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object namespace_ = "";
+      /**
+       * <code>string namespace = 1;</code>
+       * @return The namespace.
+       */
+      public java.lang.String getNamespace() {
+        java.lang.Object ref = namespace_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          namespace_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string namespace = 1;</code>
+       * @return The bytes for namespace.
+       */
+      public com.google.protobuf.ByteString
+          getNamespaceBytes() {
+        java.lang.Object ref = namespace_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          namespace_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string namespace = 1;</code>
+       * @param value The namespace to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNamespace(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        namespace_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string namespace = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNamespace() {
+        namespace_ = getDefaultInstance().getNamespace();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string namespace = 1;</code>
+       * @param value The bytes for namespace to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNamespaceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        namespace_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object instanceId_ = "";
+      /**
+       * <code>string instanceId = 2;</code>
+       * @return The instanceId.
+       */
+      public java.lang.String getInstanceId() {
+        java.lang.Object ref = instanceId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          instanceId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string instanceId = 2;</code>
+       * @return The bytes for instanceId.
+       */
+      public com.google.protobuf.ByteString
+          getInstanceIdBytes() {
+        java.lang.Object ref = instanceId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          instanceId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string instanceId = 2;</code>
+       * @param value The instanceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInstanceId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        instanceId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string instanceId = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInstanceId() {
+        instanceId_ = getDefaultInstance().getInstanceId();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string instanceId = 2;</code>
+       * @param value The bytes for instanceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInstanceIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        instanceId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:rocky.routing.RemoveInstance)
+    }
+
+    // @@protoc_insertion_point(class_scope:rocky.routing.RemoveInstance)
+    private static final org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance();
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RemoveInstance>
+        PARSER = new com.google.protobuf.AbstractParser<RemoveInstance>() {
+      @java.lang.Override
+      public RemoveInstance parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<RemoveInstance> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RemoveInstance> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingRegistry.RemoveInstance getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RouteNodeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:rocky.routing.RouteNode)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * 连接到路由的实例数
+     * </pre>
+     *
+     * <code>int32 sessions = 1;</code>
+     * @return The sessions.
+     */
+    int getSessions();
+
+    /**
+     * <pre>
+     * 事件循环线程和分发线程的利用率，0到1
+     * </pre>
+     *
+     * <code>double utilization = 2;</code>
+     * @return The utilization.
+     */
+    double getUtilization();
+  }
+  /**
+   * <pre>
+   *路由节点的数据，路由定期写入自己的负载
+   * </pre>
+   *
+   * Protobuf type {@code rocky.routing.RouteNode}
+   */
+  public static final class RouteNode extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:rocky.routing.RouteNode)
+      RouteNodeOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RouteNode.newBuilder() to construct.
+    private RouteNode(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RouteNode() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new RouteNode();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_RouteNode_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_RouteNode_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.alps.rocky.core.proto.RoutingRegistry.RouteNode.class, org.alps.rocky.core.proto.RoutingRegistry.RouteNode.Builder.class);
+    }
+
+    public static final int SESSIONS_FIELD_NUMBER = 1;
+    private int sessions_ = 0;
+    /**
+     * <pre>
+     * 连接到路由的实例数
+     * </pre>
+     *
+     * <code>int32 sessions = 1;</code>
+     * @return The sessions.
+     */
+    @java.lang.Override
+    public int getSessions() {
+      return sessions_;
+    }
+
+    public static final int UTILIZATION_FIELD_NUMBER = 2;
+    private double utilization_ = 0D;
+    /**
+     * <pre>
+     * 事件循环线程和分发线程的利用率，0到1
+     * </pre>
+     *
+     * <code>double utilization = 2;</code>
+     * @return The utilization.
+     */
+    @java.lang.Override
+    public double getUtilization() {
+      return utilization_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (sessions_ != 0) {
+        output.writeInt32(1, sessions_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(utilization_) != 0) {
+        output.writeDouble(2, utilization_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (sessions_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, sessions_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(utilization_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(2, utilization_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.alps.rocky.core.proto.RoutingRegistry.RouteNode)) {
+        return super.equals(obj);
+      }
+      org.alps.rocky.core.proto.RoutingRegistry.RouteNode other = (org.alps.rocky.core.proto.RoutingRegistry.RouteNode) obj;
+
+      if (getSessions()
+          != other.getSessions()) return false;
+      if (java.lang.Double.doubleToLongBits(getUtilization())
+          != java.lang.Double.doubleToLongBits(
+              other.getUtilization())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SESSIONS_FIELD_NUMBER;
+      hash = (53 * hash) + getSessions();
+      hash = (37 * hash) + UTILIZATION_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getUtilization()));
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.RouteNode parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RouteNode parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RouteNode parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RouteNode parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RouteNode parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RouteNode parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RouteNode parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RouteNode parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.RouteNode parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.RouteNode parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RouteNode parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.alps.rocky.core.proto.RoutingRegistry.RouteNode parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.alps.rocky.core.proto.RoutingRegistry.RouteNode prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     *路由节点的数据，路由定期写入自己的负载
+     * </pre>
+     *
+     * Protobuf type {@code rocky.routing.RouteNode}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:rocky.routing.RouteNode)
+        org.alps.rocky.core.proto.RoutingRegistry.RouteNodeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_RouteNode_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_RouteNode_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.alps.rocky.core.proto.RoutingRegistry.RouteNode.class, org.alps.rocky.core.proto.RoutingRegistry.RouteNode.Builder.class);
+      }
+
+      // Construct using org.alps.rocky.core.proto.RoutingRegistry.RouteNode.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        sessions_ = 0;
+        utilization_ = 0D;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.alps.rocky.core.proto.RoutingRegistry.internal_static_rocky_routing_RouteNode_descriptor;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.RouteNode getDefaultInstanceForType() {
+        return org.alps.rocky.core.proto.RoutingRegistry.RouteNode.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.RouteNode build() {
+        org.alps.rocky.core.proto.RoutingRegistry.RouteNode result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.alps.rocky.core.proto.RoutingRegistry.RouteNode buildPartial() {
+        org.alps.rocky.core.proto.RoutingRegistry.RouteNode result = new org.alps.rocky.core.proto.RoutingRegistry.RouteNode(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.alps.rocky.core.proto.RoutingRegistry.RouteNode result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.sessions_ = sessions_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.utilization_ = utilization_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.alps.rocky.core.proto.RoutingRegistry.RouteNode) {
+          return mergeFrom((org.alps.rocky.core.proto.RoutingRegistry.RouteNode)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.alps.rocky.core.proto.RoutingRegistry.RouteNode other) {
+        if (other == org.alps.rocky.core.proto.RoutingRegistry.RouteNode.getDefaultInstance()) return this;
+        if (other.getSessions() != 0) {
+          setSessions(other.getSessions());
+        }
+        if (other.getUtilization() != 0D) {
+          setUtilization(other.getUtilization());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                sessions_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 17: {
+                utilization_ = input.readDouble();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 17
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int sessions_ ;
+      /**
+       * <pre>
+       * 连接到路由的实例数
+       * </pre>
+       *
+       * <code>int32 sessions = 1;</code>
+       * @return The sessions.
+       */
+      @java.lang.Override
+      public int getSessions() {
+        return sessions_;
+      }
+      /**
+       * <pre>
+       * 连接到路由的实例数
+       * </pre>
+       *
+       * <code>int32 sessions = 1;</code>
+       * @param value The sessions to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSessions(int value) {
+
+        sessions_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 连接到路由的实例数
+       * </pre>
+       *
+       * <code>int32 sessions = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSessions() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sessions_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private double utilization_ ;
+      /**
+       * <pre>
+       * 事件循环线程和分发线程的利用率，0到1
+       * </pre>
+       *
+       * <code>double utilization = 2;</code>
+       * @return The utilization.
+       */
+      @java.lang.Override
+      public double getUtilization() {
+        return utilization_;
+      }
+      /**
+       * <pre>
+       * 事件循环线程和分发线程的利用率，0到1
+       * </pre>
+       *
+       * <code>double utilization = 2;</code>
+       * @param value The utilization to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUtilization(double value) {
+
+        utilization_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 事件循环线程和分发线程的利用率，0到1
+       * </pre>
+       *
+       * <code>double utilization = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUtilization() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        utilization_ = 0D;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:rocky.routing.RouteNode)
+    }
+
+    // @@protoc_insertion_point(class_scope:rocky.routing.RouteNode)
+    private static final org.alps.rocky.core.proto.RoutingRegistry.RouteNode DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.alps.rocky.core.proto.RoutingRegistry.RouteNode();
+    }
+
+    public static org.alps.rocky.core.proto.RoutingRegistry.RouteNode getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RouteNode>
+        PARSER = new com.google.protobuf.AbstractParser<RouteNode>() {
+      @java.lang.Override
+      public RouteNode parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<RouteNode> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RouteNode> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.alps.rocky.core.proto.RoutingRegistry.RouteNode getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_ModuleNode_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_ModuleNode_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_ModuleNode_ExtraEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_ModuleNode_ExtraEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_InstanceNode_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_InstanceNode_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_InstanceNode_ExtraEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_InstanceNode_ExtraEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_RegistryRecord_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_RegistryRecord_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_RemoveInstance_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_RemoveInstance_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_rocky_routing_RouteNode_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_rocky_routing_RouteNode_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\025RoutingRegistry.proto\022\rrocky.routing\032\023" +
+      "RoutingServer.proto\"\331\001\n\nModuleNode\022\021\n\tna" +
+      "mespace\030\001 \001(\t\022\022\n\nmoduleName\030\002 \001(\t\0221\n\014ins" +
+      "tanceInfo\030\003 \001(\0132\033.rocky.routing.Instance" +
+      "Info\0223\n\005extra\030\004 \003(\0132$.rocky.routing.Modu" +
+      "leNode.ExtraEntry\022\016\n\006active\030\005 \001(\010\032,\n\nExt" +
+      "raEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"" +
+      "\353\001\n\014InstanceNode\022\021\n\tnamespace\030\001 \001(\t\0221\n\014i" +
+      "nstanceInfo\030\002 \001(\0132\033.rocky.routing.Instan" +
+      "ceInfo\022\017\n\007modules\030\003 \003(\t\0225\n\005extra\030\004 \003(\0132&" +
+      ".rocky.routing.InstanceNode.ExtraEntry\022\016" +
+      "\n\006active\030\005 \001(\010\022\017\n\007suspect\030\006 \001(\010\032,\n\nExtra" +
+      "Entry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"\242\001" +
+      "\n\016RegistryRecord\022(\n\003put\030\001 \001(\0132\031.rocky.ro" +
+      "uting.ModuleNodeH\000\022/\n\006remove\030\002 \001(\0132\035.roc" +
+      "ky.routing.RemoveInstanceH\000\022/\n\010instance\030" +
+      "\003 \001(\0132\033.rocky.routing.InstanceNodeH\000B\004\n\002" +
+      "op\"7\n\016RemoveInstance\022\021\n\tnamespace\030\001 \001(\t\022" +
+      "\022\n\ninstanceId\030\002 \001(\t\"2\n\tRouteNode\022\020\n\010sess" +
+      "ions\030\001 \001(\005\022\023\n\013utilization\030\002 \001(\001B,\n\031org.a" +
+      "lps.rocky.core.protoB\017RoutingRegistryb\006p" +
+      "roto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.alps.rocky.core.proto.RoutingServer.getDescriptor(),
+        });
+    internal_static_rocky_routing_ModuleNode_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_rocky_routing_ModuleNode_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_ModuleNode_descriptor,
+        new java.lang.String[] { "Namespace", "ModuleName", "InstanceInfo", "Extra", "Active", });
+    internal_static_rocky_routing_ModuleNode_ExtraEntry_descriptor =
+      internal_static_rocky_routing_ModuleNode_descriptor.getNestedTypes().get(0);
+    internal_static_rocky_routing_ModuleNode_ExtraEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_ModuleNode_ExtraEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_rocky_routing_InstanceNode_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_rocky_routing_InstanceNode_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_InstanceNode_descriptor,
+        new java.lang.String[] { "Namespace", "InstanceInfo", "Modules", "Extra", "Active", "Suspect", });
+    internal_static_rocky_routing_InstanceNode_ExtraEntry_descriptor =
+      internal_static_rocky_routing_InstanceNode_descriptor.getNestedTypes().get(0);
+    internal_static_rocky_routing_InstanceNode_ExtraEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_InstanceNode_ExtraEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_rocky_routing_RegistryRecord_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_rocky_routing_RegistryRecord_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_RegistryRecord_descriptor,
+        new java.lang.String[] { "Put", "Remove", "Instance", "Op", });
+    internal_static_rocky_routing_RemoveInstance_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_rocky_routing_RemoveInstance_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_RemoveInstance_descriptor,
+        new java.lang.String[] { "Namespace", "InstanceId", });
+    internal_static_rocky_routing_RouteNode_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_rocky_routing_RouteNode_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_rocky_routing_RouteNode_descriptor,
+        new java.lang.String[] { "Sessions", "Utilization", });
+    org.alps.rocky.core.proto.RoutingServer.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -1,18 +1,36 @@
 package org.alps.rocky.server.config;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.nio.NioEventLoopGroup;
 import org.alps.core.*;
 import org.alps.core.proto.AlpsProtocol;
 import org.alps.core.socket.netty.server.AlpsTcpServer;
 import org.alps.core.socket.netty.server.NettyServerConfig;
+import org.alps.rocky.server.core.AccessKeyVerifier;
+import org.alps.rocky.server.core.ConnectAdmission;
+import org.alps.rocky.server.core.MemoryRegister;
 import org.alps.rocky.server.core.ModuleNotification;
 import org.alps.rocky.server.core.Register;
+import org.alps.rocky.server.core.RegistryBackend;
 import org.alps.rocky.server.core.RockyServer;
+import org.alps.rocky.server.core.RouterLoadMonitor;
+import org.alps.rocky.server.core.RoutingDispatcher;
+import org.alps.rocky.server.core.RoutingMetrics;
+import org.alps.rocky.server.core.ServerRegister;
+import org.alps.rocky.server.core.SessionMailboxDispatcher;
+import org.alps.rocky.server.core.SuspectInstances;
+import org.alps.rocky.server.core.WriteBehindRegister;
 import org.alps.rocky.server.core.ZookeeperRegister;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 import java.util.Collections;
 import java.util.List;
@@ -23,13 +41,81 @@ import java.util.Map;
 public class RockyServerConfiguration {
 
     @Bean(destroyMethod = "close", initMethod = "registerSelf")
-    ZookeeperRegister zookeeperRegister(RockyServerProperties properties, ModuleNotification notification) throws Exception{
-        return new ZookeeperRegister(properties, notification);
+    @ConditionalOnProperty(prefix = "rocky.server.register", name = "type", havingValue = "zookeeper", matchIfMissing = true)
+    ZookeeperRegister zookeeperRegister(RockyServerProperties properties, ModuleNotification notification,
+                                        RoutingMetrics routingMetrics) throws Exception {
+        return new ZookeeperRegister(properties, notification, routingMetrics);
+    }
+
+    @Bean(destroyMethod = "close", initMethod = "registerSelf")
+    @ConditionalOnProperty(prefix = "rocky.server.register", name = "type", havingValue = "memory")
+    MemoryRegister memoryRegister(RockyServerProperties properties, ModuleNotification notification,
+                                  RoutingMetrics routingMetrics, SuspectInstances suspectInstances) throws Exception {
+        return new MemoryRegister(properties, notification, routingMetrics, suspectInstances);
+    }
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    WriteBehindRegister writeBehindRegister(RegistryBackend registryBackend, RockyServerProperties properties) {
+        var heartbeat = properties.getHeartbeat();
+        return new WriteBehindRegister(registryBackend, heartbeat.getFlushInterval(), heartbeat.getMaxStaleness(),
+                heartbeat.getMaxBatchSize());
     }
 
     @Bean
-    ModuleNotification moduleNotification() {
-        return new ModuleNotification();
+    RoutingMetrics routingMetrics(MeterRegistry meterRegistry) {
+        return new RoutingMetrics(meterRegistry);
+    }
+
+    @Bean
+    ModuleNotification moduleNotification(RoutingMetrics routingMetrics, RockyServerProperties properties) {
+        var notification = properties.getNotification();
+        return new ModuleNotification(routingMetrics, notification.getDeltaHistory(), notification.getLowWaterMark(),
+                notification.getHighWaterMark(), notification.getAckTimeout(), notification.getCompressionThreshold());
+    }
+
+    @Bean
+    MeterBinder routingMeterBinder(RoutingDispatcher routingDispatcher, ConnectAdmission connectAdmission,
+                                   SuspectInstances suspectInstances) {
+        return registry -> {
+            Gauge.builder("rocky.dispatcher.queue.depth", routingDispatcher, RoutingDispatcher::queueDepth)
+                    .description("等待处理的路由帧")
+                    .register(registry);
+            FunctionCounter.builder("rocky.dispatcher.discarded", routingDispatcher, RoutingDispatcher::discarded)
+                    .description("队列满时丢弃的路由帧")
+                    .register(registry);
+            Gauge.builder("rocky.admission.waiting", connectAdmission, ConnectAdmission::waiting)
+                    .description("等待注册的连接")
+                    .register(registry);
+            Gauge.builder("rocky.instances.suspect", suspectInstances, SuspectInstances::size)
+                    .description("断开后等待重连的实例")
+                    .register(registry);
+        };
+    }
+
+    @Bean(destroyMethod = "close")
+    RoutingDispatcher routingDispatcher(RockyServerProperties properties) {
+        var dispatcher = properties.getDispatcher();
+        return new SessionMailboxDispatcher(dispatcher.getCarrierThreads(), dispatcher.getMailboxCapacity(),
+                dispatcher.getDrainBatch(), dispatcher.getOverflowPolicy());
+    }
+
+    @Bean(destroyMethod = "close")
+    ConnectAdmission connectAdmission(RockyServerProperties properties) {
+        var admission = properties.getAdmission();
+        return new ConnectAdmission(admission.getPermitsPerSecond(), admission.getBurst(), admission.getMaxWaiting(),
+                admission.getReconnectWindow());
+    }
+
+    @Bean(destroyMethod = "close")
+    AccessKeyVerifier accessKeyVerifier(RockyServerProperties properties) {
+        var auth = properties.getAuth();
+        return new AccessKeyVerifier(auth.getKeys(), auth.getKeyFile(), auth.getCacheSize(), auth.getReloadInterval());
+    }
+
+    @Bean(destroyMethod = "close")
+    SuspectInstances suspectInstances(RockyServerProperties properties) {
+        return new SuspectInstances(properties.getSession().getReconnectGrace());
     }
 
     @Bean
@@ -47,10 +133,34 @@ public class RockyServerConfiguration {
         return new FrameListeners(routerDispatcher);
     }
 
+    @Bean(destroyMethod = "shutdownGracefully")
+    NioEventLoopGroup rockyWorkerGroup() {
+        return new NioEventLoopGroup(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean(destroyMethod = "shutdownGracefully")
+    NioEventLoopGroup rockyExecutorGroup() {
+        return new NioEventLoopGroup(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    RouterLoadMonitor routerLoadMonitor(ServerRegister serverRegister, ModuleNotification moduleNotification,
+                                        @Qualifier("rockyWorkerGroup") NioEventLoopGroup workerGroup,
+                                        @Qualifier("rockyExecutorGroup") NioEventLoopGroup executorGroup,
+                                        RoutingDispatcher routingDispatcher, RockyServerProperties properties) {
+        return new RouterLoadMonitor(serverRegister, moduleNotification, List.of(workerGroup, executorGroup),
+                routingDispatcher, properties.getLoad().getPublishInterval());
+    }
+
     @Bean(initMethod = "start", destroyMethod = "close")
     RockyServer rockyServer(RockyServerProperties properties, FrameListeners frameListeners,
                             ModuleNotification moduleNotification,
-                            SessionListeners sessionListeners, Register register) {
+                            SessionListeners sessionListeners, Register register,
+                            RoutingDispatcher routingDispatcher, ConnectAdmission connectAdmission,
+                            AccessKeyVerifier accessKeyVerifier, SuspectInstances suspectInstances,
+                            RoutingMetrics routingMetrics,
+                            @Qualifier("rockyWorkerGroup") NioEventLoopGroup workerGroup,
+                            @Qualifier("rockyExecutorGroup") NioEventLoopGroup executorGroup) {
         var alpsConfig = new AlpsConfig();
         alpsConfig.setSocketType(AlpsProtocol.AlpsPacket.ConnectType.ROUTEING_VALUE);
         var sessionFactory = new DefaultEnhancedSessionFactory(new FrameCoders(), new AlpsDataCoderFactory(), frameListeners,
@@ -65,11 +175,10 @@ public class RockyServerConfiguration {
         ));
         nettyServerConfig.setTimeout(new NettyServerConfig.Timeout(10000, 10000, 15000));
         var alpsTcpServer = new AlpsTcpServer(
-                new NioEventLoopGroup(1),
-                new NioEventLoopGroup(Runtime.getRuntime().availableProcessors()),
-                new NioEventLoopGroup(Runtime.getRuntime().availableProcessors()),
+                new NioEventLoopGroup(1), workerGroup, executorGroup,
                 nettyServerConfig, sessionFactory, Collections.emptyList(), new AlpsDataCoderFactory()
         );
-        return new RockyServer(alpsTcpServer, frameListeners, moduleNotification, register);
+        return new RockyServer(alpsTcpServer, frameListeners, moduleNotification, register, routingDispatcher,
+                connectAdmission, accessKeyVerifier, suspectInstances, routingMetrics);
     }
 }
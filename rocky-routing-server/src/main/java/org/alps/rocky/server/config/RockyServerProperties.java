@@ -1,8 +1,15 @@
 package org.alps.rocky.server.config;
 
 import lombok.Data;
+import org.alps.rocky.server.core.MailboxOverflowPolicy;
+import org.alps.rocky.server.core.NodeFormat;
+import org.alps.rocky.server.core.RegisterType;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 @ConfigurationProperties(RockyServerProperties.PATH)
 @Data
 public class RockyServerProperties {
@@ -15,10 +22,200 @@ public class RockyServerProperties {
 
     private ZookeeperProperties zookeeper = new ZookeeperProperties();
 
+    private DispatcherProperties dispatcher = new DispatcherProperties();
+
+    private HeartbeatProperties heartbeat = new HeartbeatProperties();
+
+    private AdmissionProperties admission = new AdmissionProperties();
+
+    private AuthProperties auth = new AuthProperties();
+
+    private SessionProperties session = new SessionProperties();
+
+    private NotificationProperties notification = new NotificationProperties();
+
+    private ShardingProperties sharding = new ShardingProperties();
+
+    private RegisterProperties register = new RegisterProperties();
+
+    private LoadProperties load = new LoadProperties();
+
     @Data
     public static class ZookeeperProperties {
         private String watchRoot;
         private String hosts;
         private int sessionTimeout;
+        /**
+         * 同时等待响应的请求数，超过后排队
+         */
+        private int maxInFlight = 256;
+        /**
+         * 实例节点数据的写入格式
+         */
+        private NodeFormat nodeFormat = NodeFormat.PROTOBUF;
+        /**
+         * 会话过期后重新创建实例节点时，每次multi请求包含的实例数
+         */
+        private int replayBatchSize = 100;
+    }
+
+    @Data
+    public static class DispatcherProperties {
+        /**
+         * 处理路由帧的线程数
+         */
+        private int carrierThreads = Runtime.getRuntime().availableProcessors();
+        /**
+         * 每个session最多排队的帧数
+         */
+        private int mailboxCapacity = 256;
+        /**
+         * 每次调度最多连续处理同一个session的帧数
+         */
+        private int drainBatch = 32;
+        /**
+         * 队列满时的处理策略
+         */
+        private MailboxOverflowPolicy overflowPolicy = MailboxOverflowPolicy.DISCARD_NEWEST;
+    }
+
+    @Data
+    public static class HeartbeatProperties {
+        /**
+         * 心跳批量写入间隔
+         */
+        private Duration flushInterval = Duration.ofSeconds(1);
+        /**
+         * 上报数据没有变化时，最长多久写入一次
+         */
+        private Duration maxStaleness = Duration.ofSeconds(60);
+        /**
+         * 一次multi请求最多包含的实例数，避免超过Zookeeper的包大小限制
+         */
+        private int maxBatchSize = 200;
+    }
+
+    @Data
+    public static class AdmissionProperties {
+        /**
+         * 每秒允许注册的实例数，小于等于0时不限制
+         */
+        private double permitsPerSecond = 200;
+        /**
+         * 允许的突发注册数
+         */
+        private int burst = 200;
+        /**
+         * 最多排队等待注册的连接数，超过后通知客户端稍后重试
+         */
+        private int maxWaiting = 1000;
+        /**
+         * 断开后多久内再次连接视为重连，重连优先注册
+         */
+        private Duration reconnectWindow = Duration.ofSeconds(60);
+    }
+
+    @Data
+    public static class AuthProperties {
+        /**
+         * 签名密钥，keyId -> secret，为空且没有密钥文件时不验证访问密钥
+         */
+        private Map<String, String> keys = new HashMap<>();
+        /**
+         * 本地密钥文件(properties格式，keyId=secret)，修改后自动加载，用于轮换密钥
+         */
+        private String keyFile;
+        /**
+         * 检查密钥文件变化的间隔
+         */
+        private Duration reloadInterval = Duration.ofSeconds(30);
+        /**
+         * 缓存已验证密钥的数量
+         */
+        private int cacheSize = 10000;
+    }
+
+    @Data
+    public static class SessionProperties {
+        /**
+         * 连接断开后等待重连的宽限期，期间实例保留在注册中心，小于等于0时立即删除
+         */
+        private Duration reconnectGrace = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class NotificationProperties {
+        /**
+         * 模块变化后等待合并的时间，期间再次变化重新计时，小于等于0时不等待
+         */
+        private Duration debounce = Duration.ofMillis(50);
+        /**
+         * 模块第一次变化后最多等待多久推送
+         */
+        private Duration maxDelay = Duration.ofMillis(500);
+        /**
+         * 每个模块保留的版本数，客户端确认的版本在范围内时推送增量，否则推送全量
+         */
+        private int deltaHistory = 32;
+        /**
+         * 推送给session还没有确认的字节数超过高水位后暂停推送，合并期间的模块变化
+         */
+        private int highWaterMark = 1024 * 1024;
+        /**
+         * 未确认的字节数降到低水位后恢复推送
+         */
+        private int lowWaterMark = 512 * 1024;
+        /**
+         * 暂停推送后多久没有收到确认时断开session，不确认的旧版本客户端超过高水位后也会在超时后断开，重新连接时取得全量
+         */
+        private Duration ackTimeout = Duration.ofSeconds(30);
+        /**
+         * 推送的模块信息超过多少字节时向支持压缩的客户端发送Deflate压缩帧，小于0时不压缩
+         */
+        private int compressionThreshold = 16 * 1024;
+    }
+
+    @Data
+    public static class ShardingProperties {
+        /**
+         * 是否按命名空间分片，分片后每个路由只监听自己负责的命名空间
+         */
+        private boolean enabled = false;
+        /**
+         * 每个命名空间分配的路由数
+         */
+        private int replicas = 2;
+        /**
+         * 一致性哈希中每个路由的虚拟节点数
+         */
+        private int virtualNodes = 100;
+    }
+
+    @Data
+    public static class RegisterProperties {
+        /**
+         * 注册中心的存储类型
+         */
+        private RegisterType type = RegisterType.ZOOKEEPER;
+        /**
+         * 内存注册中心保存快照和变更日志的目录
+         */
+        private String dataDir = "data/registry";
+        /**
+         * 内存注册中心保存快照的间隔
+         */
+        private Duration snapshotInterval = Duration.ofSeconds(60);
+        /**
+         * 内存注册中心变更日志刷盘的间隔
+         */
+        private Duration flushInterval = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class LoadProperties {
+        /**
+         * 发布当前路由负载的间隔，客户端按负载选择路由
+         */
+        private Duration publishInterval = Duration.ofSeconds(5);
     }
 }
@@ -0,0 +1,246 @@
+package org.alps.rocky.server.core;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本地验证访问密钥，不需要访问网络
+ * <p>
+ * 密钥格式为 {@code keyId.expiresAt.signature}，signature 为
+ * {@code base64url(HmacSHA256(secret, keyId + "." + expiresAt + "." + namespace))}，
+ * expiresAt 为过期时间(秒)，0表示不过期。
+ * <p>
+ * 密钥集合来自配置和本地文件(properties格式，keyId=secret)，文件修改后自动重新加载，用于轮换密钥。
+ * 没有配置任何密钥时不做验证
+ */
+@Slf4j
+public class AccessKeyVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final ThreadLocal<Mac> MACS = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final Map<String, String> configKeys;
+    private final Path keyFile;
+    private final int cacheSize;
+    private final ScheduledExecutorService reloader;
+    /**
+     * 密钥和用这些密钥验证通过的缓存，重新加载时一起替换，验证过程中替换的结果只会写入旧的缓存
+     */
+    private volatile KeySet keySet;
+    private long keyFileModified = -1;
+
+    /**
+     * @param configKeys     配置中的密钥
+     * @param keyFile        密钥文件，可以为空
+     * @param cacheSize      缓存已验证密钥的数量
+     * @param reloadInterval 检查密钥文件变化的间隔
+     */
+    public AccessKeyVerifier(Map<String, String> configKeys, String keyFile, int cacheSize, Duration reloadInterval) {
+        this.configKeys = configKeys == null ? Collections.emptyMap() : Map.copyOf(configKeys);
+        this.keyFile = keyFile == null || keyFile.isBlank() ? null : Path.of(keyFile);
+        this.cacheSize = cacheSize;
+        this.keySet = new KeySet(Collections.emptyMap(), cacheSize);
+        reload();
+        if (this.keyFile == null) {
+            this.reloader = null;
+        } else {
+            this.reloader = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("rocky-access-key-reloader").daemon().factory());
+            long interval = reloadInterval.toMillis();
+            this.reloader.scheduleWithFixedDelay(this::reload, interval, interval, TimeUnit.MILLISECONDS);
+        }
+        if (keySet.keys.isEmpty()) {
+            log.warn("no access key configured, all connections are allowed");
+        }
+    }
+
+    /**
+     * @param namespace 命名空间
+     * @param accessKey 访问密钥
+     * @return 是否可以连接
+     */
+    public boolean verify(String namespace, String accessKey) {
+        return keySet.verify(namespace, accessKey);
+    }
+
+    KeySet keySet() {
+        return keySet;
+    }
+
+    /**
+     * 验证签名
+     *
+     * @return 验证通过时返回过期时间(毫秒，0表示不过期)，否则返回-1
+     */
+    static long verifySignature(Map<String, SecretKeySpec> keys, String namespace, String accessKey, long now) {
+        int first = accessKey.indexOf('.');
+        int second = first < 0 ? -1 : accessKey.indexOf('.', first + 1);
+        if (second < 0) {
+            return -1;
+        }
+        var key = keys.get(accessKey.substring(0, first));
+        if (key == null) {
+            return -1;
+        }
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(accessKey, first + 1, second, 10) * 1000;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        if (expiresAt != 0 && expiresAt <= now) {
+            return -1;
+        }
+        byte[] signature;
+        try {
+            signature = Base64.getUrlDecoder().decode(accessKey.substring(second + 1));
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+        var expected = hmac(key, accessKey.substring(0, second) + "." + namespace);
+        return MessageDigest.isEqual(expected, signature) ? expiresAt : -1;
+    }
+
+    /**
+     * 生成访问密钥
+     *
+     * @param keyId     密钥ID
+     * @param secret    密钥
+     * @param namespace 允许访问的命名空间
+     * @param expiresAt 过期时间(秒)，0表示不过期
+     */
+    public static String sign(String keyId, String secret, String namespace, long expiresAt) {
+        if (keyId.indexOf('.') >= 0) {
+            throw new IllegalArgumentException("密钥ID不能包含'.'");
+        }
+        var prefix = keyId + "." + expiresAt;
+        var signature = hmac(secretKey(secret), prefix + "." + namespace);
+        return prefix + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    /**
+     * 重新加载密钥，密钥变化时清空缓存
+     */
+    void reload() {
+        try {
+            Map<String, String> secrets = new HashMap<>(configKeys);
+            if (keyFile != null && Files.exists(keyFile)) {
+                long modified = Files.getLastModifiedTime(keyFile).toMillis();
+                if (modified == keyFileModified) {
+                    return;
+                }
+                var properties = new Properties();
+                try (Reader reader = Files.newBufferedReader(keyFile, StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+                properties.forEach((k, v) -> secrets.put(k.toString().trim(), v.toString().trim()));
+                keyFileModified = modified;
+            }
+            Map<String, SecretKeySpec> newKeys = new HashMap<>();
+            secrets.forEach((k, v) -> newKeys.put(k, secretKey(v)));
+            if (!newKeys.equals(keySet.keys)) {
+                keySet = new KeySet(Map.copyOf(newKeys), cacheSize);
+                log.info("access keys loaded. {}", newKeys.keySet());
+            }
+        } catch (Exception ex) {
+            log.error("load access keys error", ex);
+        }
+    }
+
+    public void close() {
+        if (reloader != null) {
+            reloader.shutdownNow();
+        }
+    }
+
+    static SecretKeySpec secretKey(String secret) {
+        return new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    private static byte[] hmac(SecretKeySpec key, String content) {
+        var mac = MACS.get();
+        try {
+            mac.init(key);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return mac.doFinal(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record CacheKey(String namespace, String accessKey) {
+    }
+
+    /**
+     * 一组密钥和用它们验证通过的密钥缓存
+     */
+    static final class KeySet {
+        private final Map<String, SecretKeySpec> keys;
+        private final int cacheSize;
+        /**
+         * 已验证通过的密钥 -> 过期时间(毫秒)
+         */
+        private final Map<CacheKey, Long> cache = new ConcurrentHashMap<>();
+
+        KeySet(Map<String, SecretKeySpec> keys, int cacheSize) {
+            this.keys = keys;
+            this.cacheSize = cacheSize;
+        }
+
+        boolean verify(String namespace, String accessKey) {
+            if (keys.isEmpty()) {
+                return true;
+            }
+            if (accessKey == null || accessKey.isEmpty()) {
+                return false;
+            }
+            var cacheKey = new CacheKey(namespace, accessKey);
+            var expiresAt = cache.get(cacheKey);
+            long now = System.currentTimeMillis();
+            if (expiresAt != null) {
+                if (expiresAt == 0 || expiresAt > now) {
+                    return true;
+                }
+                cache.remove(cacheKey);
+                return false;
+            }
+            var verified = verifySignature(keys, namespace, accessKey, now);
+            if (verified < 0) {
+                return false;
+            }
+            if (cache.size() >= cacheSize) {
+                evict(now);
+            }
+            cache.put(cacheKey, verified);
+            return true;
+        }
+
+        private void evict(long now) {
+            cache.values().removeIf(e -> e != 0 && e <= now);
+            var iterator = cache.keySet().iterator();
+            while (cache.size() >= cacheSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+}
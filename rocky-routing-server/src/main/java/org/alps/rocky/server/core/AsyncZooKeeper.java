@@ -0,0 +1,153 @@
+package org.alps.rocky.server.core;
+
+import org.apache.zookeeper.*;
+import org.apache.zookeeper.data.ACL;
+import org.apache.zookeeper.data.Stat;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Zookeeper异步接口的CompletableFuture封装
+ * <p>
+ * 请求按提交顺序发出，同时等待响应的请求数有上限，超过上限的请求排队。
+ * 回调不在Zookeeper的事件线程中执行，避免阻塞事件线程
+ */
+class AsyncZooKeeper {
+
+    private final ZooKeeper zooKeeper;
+    private final int maxInFlight;
+    private final Queue<Runnable> pending = new ArrayDeque<>();
+    private final ExecutorService callbackExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private int inFlight;
+
+    AsyncZooKeeper(ZooKeeper zooKeeper, int maxInFlight) {
+        this.zooKeeper = zooKeeper;
+        this.maxInFlight = Math.max(1, maxInFlight);
+    }
+
+    CompletableFuture<Stat> exists(String path) {
+        return submit(future -> zooKeeper.exists(path, false,
+                (rc, p, ctx, stat) -> complete(future, rc, p, stat, KeeperException.Code.NONODE), null));
+    }
+
+    /**
+     * @return 子节点，节点不存在时返回null
+     */
+    CompletableFuture<List<String>> getChildren(String path) {
+        return submit(future -> zooKeeper.getChildren(path, false,
+                (rc, p, ctx, children) -> complete(future, rc, p, children, KeeperException.Code.NONODE), null));
+    }
+
+    /**
+     * @return 节点数据，节点不存在时返回null
+     */
+    CompletableFuture<byte[]> getData(String path) {
+        return submit(future -> zooKeeper.getData(path, false,
+                (rc, p, ctx, data, stat) -> complete(future, rc, p, data, KeeperException.Code.NONODE), null));
+    }
+
+    /**
+     * @return 节点数据和状态，节点不存在时返回null
+     */
+    CompletableFuture<Node> getNode(String path) {
+        return submit(future -> zooKeeper.getData(path, false,
+                (rc, p, ctx, data, stat) -> complete(future, rc, p, new Node(data, stat), KeeperException.Code.NONODE),
+                null));
+    }
+
+    CompletableFuture<Stat> setData(String path, byte[] data, int version) {
+        return submit(future -> zooKeeper.setData(path, data, version,
+                (rc, p, ctx, stat) -> complete(future, rc, p, stat, null), null));
+    }
+
+    CompletableFuture<String> create(String path, byte[] data, List<ACL> acl,
+                                     CreateMode createMode) {
+        return submit(future -> zooKeeper.create(path, data, acl, createMode,
+                (rc, p, ctx, name) -> complete(future, rc, p, name, null), null));
+    }
+
+    CompletableFuture<Void> delete(String path, int version) {
+        return submit(future -> zooKeeper.delete(path, version,
+                (rc, p, ctx) -> complete(future, rc, p, null, null), null));
+    }
+
+    CompletableFuture<List<OpResult>> multi(Iterable<Op> ops) {
+        return submit(future -> zooKeeper.multi(ops, (rc, p, ctx, results) -> {
+            if (rc == KeeperException.Code.OK.intValue()) {
+                deliver(() -> future.complete(results));
+                return;
+            }
+            // 返回码为第一个失败操作的错误码
+            var ex = KeeperException.create(KeeperException.Code.get(rc));
+            deliver(() -> future.completeExceptionally(ex));
+        }, null));
+    }
+
+    void close() {
+        callbackExecutor.shutdown();
+    }
+
+    /**
+     * @param absent 返回null而不是异常的错误码
+     */
+    private <T> void complete(CompletableFuture<T> future, int rc, String path, T value, KeeperException.Code absent) {
+        var code = KeeperException.Code.get(rc);
+        if (code == KeeperException.Code.OK || code == absent) {
+            deliver(() -> future.complete(code == absent ? null : value));
+        } else {
+            var ex = KeeperException.create(code, path);
+            deliver(() -> future.completeExceptionally(ex));
+        }
+    }
+
+    private void deliver(Runnable callback) {
+        try {
+            callbackExecutor.execute(callback);
+        } catch (RejectedExecutionException ex) {
+            callback.run();
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Consumer<CompletableFuture<T>> call) {
+        var future = new CompletableFuture<T>();
+        Runnable task = () -> {
+            future.whenComplete((v, ex) -> released());
+            try {
+                call.accept(future);
+            } catch (Throwable ex) {
+                future.completeExceptionally(ex);
+            }
+        };
+        synchronized (this) {
+            if (inFlight < maxInFlight && pending.isEmpty()) {
+                inFlight++;
+                task.run();
+            } else {
+                pending.offer(task);
+            }
+        }
+        return future;
+    }
+
+    record Node(byte[] data, Stat stat) {
+    }
+
+    /**
+     * 一个请求完成，发出排队的请求
+     */
+    private synchronized void released() {
+        inFlight--;
+        Runnable task;
+        while (inFlight < maxInFlight && (task = pending.poll()) != null) {
+            inFlight++;
+            task.run();
+        }
+    }
+}
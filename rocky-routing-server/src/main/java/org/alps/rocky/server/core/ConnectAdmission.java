@@ -0,0 +1,205 @@
+package org.alps.rocky.server.core;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * 连接准入控制
+ * <p>
+ * 令牌桶限制注册速率，拿不到令牌的连接进入有界等待队列，重连的实例优先于新实例。
+ * 队列满时直接拒绝，并给出建议的重试时间
+ */
+@Slf4j
+public class ConnectAdmission {
+
+    private final double permitsPerNanos;
+    private final double burst;
+    private final int maxWaiting;
+    private final long reconnectWindowNanos;
+    /**
+     * 最近断开的实例，用于判断是否为重连
+     */
+    private final Map<String, Long> departures = new ConcurrentHashMap<>();
+    private final Deque<CompletableFuture<Void>> reconnectWaiters = new ArrayDeque<>();
+    private final Deque<CompletableFuture<Void>> newWaiters = new ArrayDeque<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("rocky-admission").daemon().factory());
+    /**
+     * 放行后的连接在这里继续执行，数量受令牌桶限制
+     */
+    private final ExecutorService admittedExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private double tokens;
+    private long lastRefillNanos;
+    private boolean drainScheduled;
+
+    /**
+     * @param permitsPerSecond 每秒允许的注册数，小于等于0时不限制
+     * @param burst            允许的突发数
+     * @param maxWaiting       最多等待的连接数
+     * @param reconnectWindow  断开后多久内再次连接视为重连
+     */
+    public ConnectAdmission(double permitsPerSecond, int burst, int maxWaiting, Duration reconnectWindow) {
+        this.permitsPerNanos = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = Math.max(1, burst);
+        this.maxWaiting = maxWaiting;
+        this.reconnectWindowNanos = reconnectWindow.toNanos();
+        this.tokens = this.burst;
+        this.lastRefillNanos = System.nanoTime();
+        long cleanInterval = Math.max(1, reconnectWindow.toSeconds());
+        scheduler.scheduleWithFixedDelay(this::cleanDepartures, cleanInterval, cleanInterval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 申请一个注册许可
+     *
+     * @param reconnect 是否为重连
+     * @return 获得许可后完成，被拒绝时以 {@link AdmissionRejectedException} 异常完成
+     */
+    public CompletableFuture<Void> acquire(boolean reconnect) {
+        if (permitsPerNanos <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> evicted = null;
+        CompletableFuture<Void> future;
+        long retryAfter;
+        synchronized (this) {
+            if (reconnectWaiters.isEmpty() && newWaiters.isEmpty() && tryTake(System.nanoTime())) {
+                return CompletableFuture.completedFuture(null);
+            }
+            retryAfter = retryAfterMillis();
+            if (waiting() >= maxWaiting) {
+                if (!reconnect || newWaiters.isEmpty()) {
+                    return CompletableFuture.failedFuture(new AdmissionRejectedException(retryAfter));
+                }
+                // 给重连实例让出位置，最晚进入队列的新实例被拒绝
+                evicted = newWaiters.pollLast();
+            }
+            future = new CompletableFuture<>();
+            (reconnect ? reconnectWaiters : newWaiters).offerLast(future);
+            scheduleDrain(0);
+        }
+        if (evicted != null) {
+            evicted.completeExceptionally(new AdmissionRejectedException(retryAfter));
+        }
+        return future;
+    }
+
+    /**
+     * 记录实例断开，用于之后判断重连
+     */
+    public void departed(String namespace, String instanceId) {
+        departures.put(namespace + "/" + instanceId, System.nanoTime());
+    }
+
+    /**
+     * 只读取断开记录，被拒绝后重试时仍然是重连
+     *
+     * @return 实例是否在重连窗口内断开过
+     */
+    public boolean isReconnect(String namespace, String instanceId) {
+        var departedAt = departures.get(namespace + "/" + instanceId);
+        return departedAt != null && System.nanoTime() - departedAt <= reconnectWindowNanos;
+    }
+
+    /**
+     * 实例获得许可后删除断开记录
+     */
+    public void admitted(String namespace, String instanceId) {
+        departures.remove(namespace + "/" + instanceId);
+    }
+
+    /**
+     * @return 等待中的连接数
+     */
+    public synchronized int waiting() {
+        return reconnectWaiters.size() + newWaiters.size();
+    }
+
+    public void close() {
+        scheduler.shutdownNow();
+        admittedExecutor.shutdown();
+        List<CompletableFuture<Void>> waiters;
+        synchronized (this) {
+            waiters = new ArrayList<>(reconnectWaiters);
+            waiters.addAll(newWaiters);
+            reconnectWaiters.clear();
+            newWaiters.clear();
+        }
+        waiters.forEach(e -> e.completeExceptionally(new AdmissionRejectedException(1000)));
+    }
+
+    private void drain() {
+        List<CompletableFuture<Void>> admitted = new ArrayList<>();
+        synchronized (this) {
+            drainScheduled = false;
+            long now = System.nanoTime();
+            while (waiting() > 0 && tryTake(now)) {
+                admitted.add(reconnectWaiters.isEmpty() ? newWaiters.pollFirst() : reconnectWaiters.pollFirst());
+            }
+            if (waiting() > 0) {
+                scheduleDrain((long) Math.ceil((1 - tokens) / permitsPerNanos));
+            }
+        }
+        for (CompletableFuture<Void> future : admitted) {
+            future.completeAsync(() -> null, admittedExecutor);
+        }
+    }
+
+    private void scheduleDrain(long delayNanos) {
+        if (drainScheduled) {
+            return;
+        }
+        drainScheduled = true;
+        try {
+            scheduler.schedule(this::drain, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException ex) {
+            drainScheduled = false;
+        }
+    }
+
+    private boolean tryTake(long now) {
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * permitsPerNanos);
+        lastRefillNanos = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 按当前排队的数量估算重试时间
+     */
+    private long retryAfterMillis() {
+        double nanos = (waiting() + 1) / permitsPerNanos;
+        return Math.max(100, TimeUnit.NANOSECONDS.toMillis((long) nanos));
+    }
+
+    private void cleanDepartures() {
+        long now = System.nanoTime();
+        departures.values().removeIf(e -> now - e > reconnectWindowNanos);
+    }
+
+    /**
+     * 连接被拒绝
+     */
+    public static class AdmissionRejectedException extends RuntimeException {
+        private final long retryAfterMillis;
+
+        AdmissionRejectedException(long retryAfterMillis) {
+            super("连接过多，" + retryAfterMillis + "ms后重试", null, false, false);
+            this.retryAfterMillis = retryAfterMillis;
+        }
+
+        public long retryAfterMillis() {
+            return retryAfterMillis;
+        }
+    }
+}
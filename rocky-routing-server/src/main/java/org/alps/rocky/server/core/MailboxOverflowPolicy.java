@@ -0,0 +1,15 @@
+package org.alps.rocky.server.core;
+
+/**
+ * 会话队列满时的处理策略
+ */
+public enum MailboxOverflowPolicy {
+    /**
+     * 丢弃新提交的任务
+     */
+    DISCARD_NEWEST,
+    /**
+     * 丢弃队列中最早的任务
+     */
+    DISCARD_OLDEST
+}
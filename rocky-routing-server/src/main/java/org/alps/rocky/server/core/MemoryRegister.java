@@ -0,0 +1,404 @@
+package org.alps.rocky.server.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.alps.rocky.core.proto.RoutingRegistry;
+import org.alps.rocky.server.config.RockyServerProperties;
+
+import java.net.Inet4Address;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 注册数据保存在本地内存中，不依赖Zookeeper，只支持单个路由
+ * <p>
+ * 每次变更按实例追加一条记录到变更日志，定期刷盘并保存快照。启动时从快照和日志恢复，
+ * 恢复的实例没有连接，按断开处理，宽限期内没有重连则删除
+ */
+@Slf4j
+public class MemoryRegister implements RegistryBackend {
+
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    /**
+     * 命名空间 -> 模块 -> 实例ID -> 模块注册信息
+     */
+    private final Map<String, Map<String, Map<String, RegisterModuleInfo>>> namespaces = new ConcurrentHashMap<>();
+    /**
+     * 命名空间/实例ID -> 实例的所有模块
+     */
+    private final Map<String, List<RegisterModuleInfo>> instances = new ConcurrentHashMap<>();
+    /**
+     * 保证内存的修改和日志的追加顺序一致
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Path dataDir;
+    private final RegistryStore store;
+    private final ModuleNotification moduleNotification;
+    private final ModuleChangeCoalescer coalescer;
+    /**
+     * 只有当前路由
+     */
+    private volatile RouterSnapshot self;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("rocky-registry-store").daemon().factory());
+
+    public MemoryRegister(RockyServerProperties properties, ModuleNotification moduleNotification,
+                          RoutingMetrics metrics, SuspectInstances suspectInstances) throws Exception {
+        var register = properties.getRegister();
+        this.moduleNotification = moduleNotification;
+        this.dataDir = Path.of(register.getDataDir());
+        this.store = new RegistryStore(dataDir);
+        var notification = properties.getNotification();
+        this.coalescer = new ModuleChangeCoalescer(notification.getDebounce(), notification.getMaxDelay(),
+                this::notifyModuleChange, metrics);
+        this.self = RouterSnapshot.of(List.of(
+                new RegisterRouter(Inet4Address.getLocalHost().getHostAddress(), properties.getPort())));
+        recover(suspectInstances);
+        moduleNotification.moduleSource(this::module);
+        long flush = register.getFlushInterval().toMillis();
+        long snapshot = register.getSnapshotInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::flush, flush, flush, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::snapshot, snapshot, snapshot, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 恢复后立即保存快照，之后的日志从空开始
+     */
+    private void recover(SuspectInstances suspectInstances) throws Exception {
+        store.recover(record -> {
+            if (record.hasInstance()) {
+                put(ModuleNodeCodec.fromProto(record.getInstance()));
+            } else if (record.hasPut()) {
+                put(ModuleNodeCodec.fromProto(record.getPut()));
+            } else if (record.hasRemove()) {
+                remove(record.getRemove().getNamespace(), record.getRemove().getInstanceId());
+            }
+        });
+        snapshot();
+        if (!instances.isEmpty()) {
+            log.info("recover {} instances from {}", instances.size(), dataDir);
+        }
+        for (List<RegisterModuleInfo> infos : List.copyOf(instances.values())) {
+            var state = state(infos);
+            var namespace = state.namespace();
+            var instanceId = state.instanceInfo().instanceId();
+            var info = new RegisterInstanceInfo(namespace, state.instanceInfo(), state.modules(), state.extra());
+            suspectInstances.suspect(namespace, instanceId, info, () -> removeInstance(namespace, instanceId));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> registerInstance(RegisterInstanceInfo info) {
+        var instanceId = info.instanceInfo().instanceId();
+        List<RegisterModuleInfo> infos = new ArrayList<>(info.modules().size());
+        for (String module : info.modules()) {
+            infos.add(new RegisterModuleInfo(info.namespace(), module, info.instanceInfo(), Collections.emptyMap(), false));
+        }
+        if (infos.isEmpty()) {
+            return DONE;
+        }
+        lock.lock();
+        try {
+            if (instances.containsKey(key(info.namespace(), instanceId))) {
+                return CompletableFuture.failedFuture(new IllegalStateException("节点已存在"));
+            }
+            for (RegisterModuleInfo moduleInfo : infos) {
+                put(moduleInfo);
+            }
+            append(record(state(infos)));
+        } finally {
+            lock.unlock();
+        }
+        for (String module : info.modules()) {
+            coalescer.changed(info.namespace(), module);
+        }
+        return DONE;
+    }
+
+    @Override
+    public CompletableFuture<Void> updateInstance(String namespace, String instanceId, Map<String, String> extra, boolean active) {
+        update(namespace, instanceId, extra, active, false);
+        return DONE;
+    }
+
+    @Override
+    public CompletableFuture<Void> updateInstance(String namespace, String instanceId, Map<String, String> extra) {
+        update(namespace, instanceId, extra, false, true);
+        return DONE;
+    }
+
+    @Override
+    public CompletableFuture<Void> updateInstances(List<InstanceState> states) {
+        for (InstanceState state : states) {
+            update(state.namespace(), state.instanceInfo().instanceId(), state.extra(), state.active(), false);
+        }
+        return DONE;
+    }
+
+    /**
+     * 不存在的实例忽略
+     */
+    private void update(String namespace, String instanceId, Map<String, String> extra, boolean active, boolean ignoreActive) {
+        List<RegisterModuleInfo> infos;
+        lock.lock();
+        try {
+            infos = instances.get(key(namespace, instanceId));
+            if (infos == null) {
+                return;
+            }
+            for (RegisterModuleInfo info : infos) {
+                put(new RegisterModuleInfo(namespace, info.moduleName(), info.instanceInfo(), extra,
+                        ignoreActive ? info.active() : active));
+            }
+            append(record(state(instances.get(key(namespace, instanceId)))));
+        } finally {
+            lock.unlock();
+        }
+        for (RegisterModuleInfo info : infos) {
+            coalescer.changed(namespace, info.moduleName());
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> removeInstance(String namespace, String instanceId) {
+        List<RegisterModuleInfo> infos;
+        lock.lock();
+        try {
+            infos = remove(namespace, instanceId);
+            if (infos == null) {
+                return DONE;
+            }
+            append(RoutingRegistry.RegistryRecord.newBuilder()
+                    .setRemove(RoutingRegistry.RemoveInstance.newBuilder()
+                            .setNamespace(namespace)
+                            .setInstanceId(instanceId))
+                    .build());
+        } finally {
+            lock.unlock();
+        }
+        for (RegisterModuleInfo info : infos) {
+            coalescer.changed(namespace, info.moduleName());
+        }
+        return DONE;
+    }
+
+    /**
+     * 写入或替换实例的一个模块，调用方持有锁
+     */
+    private void put(RegisterModuleInfo info) {
+        var instanceId = info.instanceInfo().instanceId();
+        namespaces.computeIfAbsent(info.namespace(), k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(info.moduleName(), k -> new ConcurrentHashMap<>())
+                .put(instanceId, info);
+        // 实例的模块列表整体替换，读取时不需要加锁
+        instances.compute(key(info.namespace(), instanceId), (k, v) -> {
+            List<RegisterModuleInfo> infos = new ArrayList<>(v == null ? 1 : v.size() + 1);
+            boolean replaced = false;
+            if (v != null) {
+                for (RegisterModuleInfo e : v) {
+                    if (e.moduleName().equals(info.moduleName())) {
+                        infos.add(info);
+                        replaced = true;
+                    } else {
+                        infos.add(e);
+                    }
+                }
+            }
+            if (!replaced) {
+                infos.add(info);
+            }
+            return Collections.unmodifiableList(infos);
+        });
+    }
+
+    /**
+     * 按实例状态替换实例的所有模块，只在恢复时调用
+     */
+    private void put(InstanceState state) {
+        var instanceInfo = state.instanceInfo();
+        remove(state.namespace(), instanceInfo.instanceId());
+        for (String module : state.modules()) {
+            put(new RegisterModuleInfo(state.namespace(), module, instanceInfo, state.extra(), state.active()));
+        }
+    }
+
+    /**
+     * 删除实例的所有模块，没有实例的模块和命名空间一起删除，调用方持有锁
+     *
+     * @return 实例原来的模块，实例不存在时返回null
+     */
+    private List<RegisterModuleInfo> remove(String namespace, String instanceId) {
+        var infos = instances.remove(key(namespace, instanceId));
+        if (infos == null) {
+            return null;
+        }
+        var modules = namespaces.get(namespace);
+        if (modules == null) {
+            return infos;
+        }
+        for (RegisterModuleInfo info : infos) {
+            var moduleInstances = modules.get(info.moduleName());
+            if (moduleInstances == null) {
+                continue;
+            }
+            moduleInstances.remove(instanceId);
+            if (moduleInstances.isEmpty()) {
+                modules.remove(info.moduleName());
+            }
+        }
+        if (modules.isEmpty()) {
+            namespaces.remove(namespace);
+        }
+        return infos;
+    }
+
+    /**
+     * @param infos 同一个实例的所有模块，上报数据和激活状态相同
+     */
+    private static InstanceState state(List<RegisterModuleInfo> infos) {
+        var first = infos.get(0);
+        return new InstanceState(first.namespace(), first.instanceInfo(),
+                infos.stream().map(RegisterModuleInfo::moduleName).toList(), first.extra(), first.active());
+    }
+
+    private static RoutingRegistry.RegistryRecord record(InstanceState state) {
+        return RoutingRegistry.RegistryRecord.newBuilder().setInstance(ModuleNodeCodec.toProto(state)).build();
+    }
+
+    private void append(RoutingRegistry.RegistryRecord record) {
+        try {
+            store.append(record);
+        } catch (Exception ex) {
+            log.error("append registry change error", ex);
+        }
+    }
+
+    /**
+     * 在锁内写出缓冲，在锁外刷盘，刷盘期间不阻塞变更
+     */
+    void flush() {
+        FileChannel channel;
+        lock.lock();
+        try {
+            channel = store.flush();
+        } catch (Exception ex) {
+            log.error("flush registry changes error", ex);
+            return;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            channel.force(false);
+        } catch (ClosedChannelException ex) {
+            // 日志已经切换，切换时已刷盘
+        } catch (Exception ex) {
+            log.error("sync registry changes error", ex);
+        }
+    }
+
+    /**
+     * 在锁内切换日志并复制当前数据，快照在锁外写入
+     */
+    void snapshot() {
+        long seq;
+        List<InstanceState> states = new ArrayList<>(instances.size());
+        lock.lock();
+        try {
+            seq = store.rotate();
+            instances.values().forEach(e -> states.add(state(e)));
+        } catch (Exception ex) {
+            log.error("rotate registry changes error", ex);
+            return;
+        } finally {
+            lock.unlock();
+        }
+        List<RoutingRegistry.RegistryRecord> records = new ArrayList<>(states.size());
+        for (InstanceState state : states) {
+            records.add(record(state));
+        }
+        try {
+            store.snapshot(seq, records);
+        } catch (Exception ex) {
+            log.error("write registry snapshot error", ex);
+        }
+    }
+
+    void notifyModuleChange(String namespace, String module) {
+        moduleNotification.notifyModule(namespace, module, module(namespace, module));
+    }
+
+    /**
+     * @return 模块当前的所有实例
+     */
+    List<RegisterModuleInfo> module(String namespace, String module) {
+        var modules = namespaces.get(namespace);
+        var moduleInstances = modules == null ? null : modules.get(module);
+        return moduleInstances == null ? Collections.emptyList() : List.copyOf(moduleInstances.values());
+    }
+
+    @Override
+    public Map<String, List<String>> moduleInfo(String namespace) {
+        var modules = namespaces.get(namespace);
+        if (modules == null) {
+            return new HashMap<>();
+        }
+        Map<String, List<RegisterModuleInfo>> result = new LinkedHashMap<>();
+        modules.forEach((module, moduleInstances) -> result.put(module, List.copyOf(moduleInstances.values())));
+        return ModuleNodeCodec.toJson(result);
+    }
+
+    /**
+     * 只有当前路由，不需要注册
+     */
+    @Override
+    public void registerSelf() {
+    }
+
+    @Override
+    public void publishLoad(RouterLoad load) {
+        self = self.withLoad(self.routers().get(0), load);
+    }
+
+    @Override
+    public List<RegisterRouter> all() {
+        return self.routers();
+    }
+
+    @Override
+    public RouterSnapshot routers() {
+        return self;
+    }
+
+    /**
+     * 保存快照后关闭，下次启动不需要重放日志
+     */
+    @Override
+    public void close() throws Exception {
+        scheduler.shutdownNow();
+        coalescer.close();
+        snapshot();
+        lock.lock();
+        try {
+            store.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String key(String namespace, String instanceId) {
+        return namespace + "/" + instanceId;
+    }
+}
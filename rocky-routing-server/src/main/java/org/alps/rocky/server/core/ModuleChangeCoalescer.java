@@ -0,0 +1,117 @@
+package org.alps.rocky.server.core;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 合并同一模块短时间内的多次变化，只推送一次
+ * <p>
+ * 模块变化后等待防抖时间，期间再次变化则重新计时，但从第一次变化开始最多等待最大延迟。
+ * 推送在单个线程中执行，推送时读取模块的最新状态
+ */
+@Slf4j
+class ModuleChangeCoalescer {
+
+    private final long debounceNanos;
+    private final long maxDelayNanos;
+    private final BiConsumer<String, String> push;
+    private final Counter events;
+    private final Counter pushes;
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("rocky-module-notifier").daemon().factory());
+
+    /**
+     * @param debounce 防抖时间，小于等于0时不等待
+     * @param maxDelay 第一次变化后最多等待的时间
+     * @param push     推送模块变化
+     */
+    ModuleChangeCoalescer(Duration debounce, Duration maxDelay, BiConsumer<String, String> push, RoutingMetrics metrics) {
+        this.debounceNanos = Math.max(0, debounce.toNanos());
+        this.maxDelayNanos = Math.max(this.debounceNanos, maxDelay.toNanos());
+        this.push = push;
+        this.events = metrics.notifyEvents();
+        this.pushes = metrics.notifyPushes();
+    }
+
+    /**
+     * 模块发生变化
+     */
+    void changed(String namespace, String module) {
+        events.increment();
+        var key = new Key(namespace, module);
+        long now = System.nanoTime();
+        pending.compute(key, (k, v) -> {
+            if (v != null) {
+                v.last = now;
+                return v;
+            }
+            schedule(k, debounceNanos);
+            return new Pending(now);
+        });
+    }
+
+    /**
+     * @return 等待推送的模块数
+     */
+    int size() {
+        return pending.size();
+    }
+
+    void close() {
+        scheduler.shutdownNow();
+        pending.clear();
+    }
+
+    private void fire(Key key) {
+        long now = System.nanoTime();
+        var ready = new boolean[1];
+        pending.computeIfPresent(key, (k, v) -> {
+            long deadline = Math.min(v.last + debounceNanos, v.first + maxDelayNanos);
+            if (deadline - now > 0) {
+                schedule(k, deadline - now);
+                return v;
+            }
+            ready[0] = true;
+            return null;
+        });
+        if (!ready[0]) {
+            return;
+        }
+        pushes.increment();
+        try {
+            push.accept(key.namespace, key.module);
+        } catch (Exception ex) {
+            log.error("notify error", ex);
+        }
+    }
+
+    private void schedule(Key key, long delayNanos) {
+        try {
+            scheduler.schedule(() -> fire(key), delayNanos, TimeUnit.NANOSECONDS);
+        } catch (Exception ex) {
+            log.warn("module notifier closed, drop change of {}", key);
+        }
+    }
+
+    private record Key(String namespace, String module) {
+    }
+
+    private static class Pending {
+        private final long first;
+        private long last;
+
+        Pending(long now) {
+            this.first = now;
+            this.last = now;
+        }
+    }
+}
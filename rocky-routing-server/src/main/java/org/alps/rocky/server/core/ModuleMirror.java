@@ -0,0 +1,447 @@
+package org.alps.rocky.server.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.alps.rocky.server.common.PathUtils;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.ZooKeeper;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 模块节点和实例节点的本地镜像
+ * <p>
+ * 模块节点下只有实例ID的空节点，实例的地址、上报数据、激活状态保存在实例节点中，读取模块时合并两者。
+ * 由两个根节点的持久递归监听增量更新，模块成员的变化不需要读取节点，实例节点变化时只读取该实例。
+ * 监听事件和异步请求的回调都在Zookeeper的事件线程中按服务端的顺序执行，镜像按事件的顺序修改。
+ * 按命名空间分片时只保存当前路由负责的命名空间
+ */
+@Slf4j
+class ModuleMirror {
+
+    /**
+     * 会话过期后会替换为新的客户端，每次请求时取得
+     */
+    private final Supplier<ZooKeeper> zooKeeper;
+    private final String moduleRoot;
+    private final String instanceRoot;
+    private final ChangeListener listener;
+    /**
+     * 命名空间 -> 模块 -> 实例ID -> 写入时的代数
+     */
+    private final Map<String, Map<String, Map<String, Long>>> members = new ConcurrentHashMap<>();
+    /**
+     * 命名空间 -> 实例ID -> 实例节点
+     */
+    private final Map<String, Map<String, Node>> instances = new ConcurrentHashMap<>();
+    /**
+     * 镜像的命名空间，为空时镜像所有命名空间
+     */
+    private final Set<String> watched;
+    /**
+     * 每次全量加载加一，加载完成后删除加载期间没有读到的节点，只在事件线程中修改
+     */
+    private long generation;
+
+    /**
+     * @param all 是否镜像所有命名空间，否则只镜像 {@link #load(String)} 加载的命名空间
+     */
+    ModuleMirror(Supplier<ZooKeeper> zooKeeper, String moduleRoot, String instanceRoot, boolean all,
+                 ChangeListener listener) {
+        this.zooKeeper = zooKeeper;
+        this.moduleRoot = moduleRoot;
+        this.instanceRoot = instanceRoot;
+        this.watched = all ? null : ConcurrentHashMap.newKeySet();
+        this.listener = listener;
+    }
+
+    /**
+     * 处理模块根节点和实例根节点的监听事件
+     */
+    void process(WatchedEvent event) {
+        var path = event.getPath();
+        if (path == null) {
+            return;
+        }
+        if (path.startsWith(moduleRoot + "/")) {
+            processModule(event, path.substring(moduleRoot.length() + 1).split("/"));
+        } else if (path.startsWith(instanceRoot + "/")) {
+            processInstance(event, path.substring(instanceRoot.length() + 1).split("/"));
+        }
+    }
+
+    private void processModule(WatchedEvent event, String[] array) {
+        if (!accepts(array[0])) {
+            return;
+        }
+        switch (event.getType()) {
+            case NodeCreated -> {
+                if (array.length == 3) {
+                    addMember(array[0], array[1], array[2], generation);
+                }
+            }
+            case NodeDeleted -> {
+                if (array.length == 3) {
+                    removeMember(array[0], array[1], array[2]);
+                } else if (array.length == 2) {
+                    removeModule(array[0], array[1]);
+                } else if (array.length == 1) {
+                    removeNamespace(array[0]);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void processInstance(WatchedEvent event, String[] array) {
+        if (!accepts(array[0]) || array.length != 2) {
+            return;
+        }
+        switch (event.getType()) {
+            case NodeCreated, NodeDataChanged -> read(array[0], array[1], null);
+            case NodeDeleted -> removeInstance(array[0], array[1]);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 全量加载所有命名空间，启动和重新连接后调用，断开期间的事件可能丢失
+     *
+     * @return 加载完成
+     */
+    CompletableFuture<Void> load() {
+        var load = new Load(null);
+        zooKeeper.get().getChildren(moduleRoot, false, (rc, path, ctx, children) -> {
+            load.gen = ++generation;
+            if (!load.check(rc, path)) {
+                return;
+            }
+            for (String namespace : children) {
+                if (accepts(namespace)) {
+                    load.pending++;
+                    loadNamespace(load, namespace);
+                }
+            }
+            load.done();
+        }, null);
+        return load.future;
+    }
+
+    /**
+     * 开始镜像命名空间并全量加载，需要先监听命名空间节点
+     *
+     * @return 加载完成
+     */
+    CompletableFuture<Void> load(String namespace) {
+        if (watched != null) {
+            watched.add(namespace);
+        }
+        var load = new Load(namespace);
+        loadNamespace(load, namespace);
+        return load.future;
+    }
+
+    /**
+     * 停止镜像命名空间
+     */
+    synchronized void drop(String namespace) {
+        if (watched != null && watched.remove(namespace)) {
+            members.remove(namespace);
+            instances.remove(namespace);
+        }
+    }
+
+    /**
+     * @return 命名空间是否在镜像中
+     */
+    boolean mirrors(String namespace) {
+        return accepts(namespace);
+    }
+
+    /**
+     * @return 镜像的命名空间，镜像所有命名空间时返回空
+     */
+    Set<String> watched() {
+        return watched == null ? null : Set.copyOf(watched);
+    }
+
+    /**
+     * 先读取模块成员再读取实例节点，两个请求按顺序执行，代数在第一个回调中确定
+     */
+    private void loadNamespace(Load load, String namespace) {
+        load.pending++;
+        zooKeeper.get().getChildren(PathUtils.of(moduleRoot, namespace), false, (rc, path, ctx, modules) -> {
+            if (load.scope != null) {
+                load.gen = ++generation;
+            }
+            if (!load.check(rc, path)) {
+                return;
+            }
+            for (String module : modules) {
+                load.pending++;
+                zooKeeper.get().getChildren(PathUtils.of(moduleRoot, namespace, module), false, (rc1, path1, ctx1, ids) -> {
+                    if (!load.check(rc1, path1)) {
+                        return;
+                    }
+                    for (String instanceId : ids) {
+                        addMember(namespace, module, instanceId, load.gen);
+                    }
+                    load.done();
+                }, null);
+            }
+            load.done();
+        }, null);
+        zooKeeper.get().getChildren(PathUtils.of(instanceRoot, namespace), false, (rc, path, ctx, ids) -> {
+            if (!load.check(rc, path)) {
+                return;
+            }
+            for (String instanceId : ids) {
+                load.pending++;
+                read(namespace, instanceId, load);
+            }
+            load.done();
+        }, null);
+    }
+
+    /**
+     * @return 模块的所有实例，模块不存在时返回空
+     */
+    List<RegisterModuleInfo> module(String namespace, String module) {
+        var modules = members.get(namespace);
+        var ids = modules == null ? null : modules.get(module);
+        var nodes = instances.get(namespace);
+        if (ids == null || nodes == null) {
+            return Collections.emptyList();
+        }
+        return join(namespace, module, ids.keySet(), nodes);
+    }
+
+    /**
+     * @return 命名空间下的所有模块
+     */
+    Map<String, List<RegisterModuleInfo>> namespace(String namespace) {
+        var modules = members.get(namespace);
+        var nodes = instances.get(namespace);
+        if (modules == null || nodes == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<RegisterModuleInfo>> result = new HashMap<>();
+        modules.forEach((module, ids) -> {
+            var infos = join(namespace, module, ids.keySet(), nodes);
+            if (!infos.isEmpty()) {
+                result.put(module, infos);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @return 实例节点的数据，不存在时返回null
+     */
+    InstanceState instance(String namespace, String instanceId) {
+        var nodes = instances.get(namespace);
+        var node = nodes == null ? null : nodes.get(instanceId);
+        return node == null ? null : node.state;
+    }
+
+    /**
+     * 合并模块成员和实例节点，还没有读到实例节点的成员跳过，读到后会再次通知
+     */
+    private static List<RegisterModuleInfo> join(String namespace, String module, Collection<String> ids,
+                                                 Map<String, Node> nodes) {
+        List<RegisterModuleInfo> result = new ArrayList<>(ids.size());
+        for (String instanceId : ids) {
+            var node = nodes.get(instanceId);
+            if (node != null) {
+                var state = node.state;
+                result.add(new RegisterModuleInfo(namespace, module, state.instanceInfo(), state.extra(), state.active()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 读取一个实例节点
+     *
+     * @param load 全量加载，为空时是监听事件触发的读取
+     */
+    private void read(String namespace, String instanceId, Load load) {
+        zooKeeper.get().getData(PathUtils.of(instanceRoot, namespace, instanceId), false, (rc, path, ctx, data, stat) -> {
+            if (load != null && !load.check(rc, path)) {
+                return;
+            }
+            if (rc == KeeperException.Code.OK.intValue()) {
+                try {
+                    put(namespace, instanceId, new Node(ModuleNodeCodec.decode(data), load == null ? generation : load.gen),
+                            load == null);
+                } catch (Exception ex) {
+                    log.error("read instance node error. {}", path, ex);
+                }
+            }
+            if (load != null) {
+                load.done();
+            }
+        }, null);
+    }
+
+    /**
+     * @param notify 是否通知实例的模块变化，全量加载时在加载完成后统一通知
+     */
+    private synchronized void put(String namespace, String instanceId, Node node, boolean notify) {
+        if (!accepts(namespace)) {
+            return;
+        }
+        var previous = instances.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>()).put(instanceId, node);
+        // 心跳只更新上报数据，推送的内容没有变化
+        if (!notify || previous != null && !pushChanged(previous.state, node.state)) {
+            return;
+        }
+        node.state.modules().forEach(module -> listener.changed(namespace, module));
+        if (previous != null) {
+            previous.state.modules().stream()
+                    .filter(module -> !node.state.modules().contains(module))
+                    .forEach(module -> listener.changed(namespace, module));
+        }
+    }
+
+    /**
+     * @return 推送给客户端的实例信息或者模块是否变化
+     */
+    private static boolean pushChanged(InstanceState previous, InstanceState current) {
+        return !previous.instanceInfo().equals(current.instanceInfo()) || previous.active() != current.active()
+                || !previous.modules().equals(current.modules());
+    }
+
+    private synchronized void removeInstance(String namespace, String instanceId) {
+        var nodes = instances.get(namespace);
+        var node = nodes == null ? null : nodes.remove(instanceId);
+        if (node == null) {
+            return;
+        }
+        if (nodes.isEmpty()) {
+            instances.remove(namespace);
+        }
+        node.state.modules().forEach(module -> listener.changed(namespace, module));
+    }
+
+    private synchronized void addMember(String namespace, String module, String instanceId, long gen) {
+        if (!accepts(namespace)) {
+            return;
+        }
+        var previous = members.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(module, k -> new ConcurrentHashMap<>())
+                .put(instanceId, gen);
+        if (previous == null) {
+            listener.changed(namespace, module);
+        }
+    }
+
+    private synchronized void removeMember(String namespace, String module, String instanceId) {
+        var modules = members.get(namespace);
+        var ids = modules == null ? null : modules.get(module);
+        if (ids == null || ids.remove(instanceId) == null) {
+            return;
+        }
+        if (ids.isEmpty()) {
+            modules.remove(module);
+        }
+        listener.changed(namespace, module);
+    }
+
+    private synchronized void removeModule(String namespace, String module) {
+        var modules = members.get(namespace);
+        if (modules != null && modules.remove(module) != null) {
+            listener.changed(namespace, module);
+        }
+    }
+
+    private synchronized void removeNamespace(String namespace) {
+        var modules = members.remove(namespace);
+        if (modules != null) {
+            modules.keySet().forEach(module -> listener.changed(namespace, module));
+        }
+    }
+
+    /**
+     * 删除加载期间没有读到的节点，加载开始后的事件写入的节点不会被删除
+     *
+     * @param scope 加载的命名空间，为空时是所有命名空间
+     */
+    private synchronized void sweep(String scope, long gen) {
+        instances.forEach((namespace, nodes) -> {
+            if (scope == null || scope.equals(namespace)) {
+                nodes.values().removeIf(e -> e.gen < gen);
+            }
+        });
+        instances.values().removeIf(Map::isEmpty);
+        members.forEach((namespace, modules) -> {
+            if (scope != null && !scope.equals(namespace)) {
+                return;
+            }
+            modules.forEach((module, ids) -> {
+                ids.values().removeIf(e -> e < gen);
+                if (ids.isEmpty()) {
+                    modules.remove(module);
+                }
+                listener.changed(namespace, module);
+            });
+        });
+        members.values().removeIf(Map::isEmpty);
+    }
+
+    private boolean accepts(String namespace) {
+        return watched == null || watched.contains(namespace);
+    }
+
+    /**
+     * 模块的实例变化
+     */
+    @FunctionalInterface
+    interface ChangeListener {
+        void changed(String namespace, String module);
+    }
+
+    private record Node(InstanceState state, long gen) {
+    }
+
+    /**
+     * 一次全量加载，只在事件线程中访问
+     */
+    private class Load {
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final String scope;
+        private long gen;
+        private int pending = 1;
+
+        Load(String scope) {
+            this.scope = scope;
+        }
+
+        /**
+         * @return 是否继续，节点不存在时跳过该节点
+         */
+        boolean check(int rc, String path) {
+            if (rc == KeeperException.Code.OK.intValue()) {
+                return true;
+            }
+            if (rc == KeeperException.Code.NONODE.intValue()) {
+                done();
+            } else {
+                future.completeExceptionally(KeeperException.create(KeeperException.Code.get(rc), path));
+            }
+            return false;
+        }
+
+        void done() {
+            if (--pending == 0 && !future.isDone()) {
+                sweep(scope, gen);
+                future.complete(null);
+            }
+        }
+    }
+}
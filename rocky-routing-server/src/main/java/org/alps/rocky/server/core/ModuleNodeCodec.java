@@ -0,0 +1,165 @@
+package org.alps.rocky.server.core;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.alps.rocky.core.proto.RoutingRegistry;
+import org.alps.rocky.core.proto.RoutingServer;
+import org.alps.rocky.server.common.Jsons;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 注册中心节点数据的编解码
+ * <p>
+ * 实例节点的protobuf格式为 {@code MAGIC VERSION InstanceNode}，JSON以'{'开头，读取时按第一个字节区分
+ */
+class ModuleNodeCodec {
+
+    static final byte MAGIC = (byte) 0xA5;
+    static final byte VERSION = 1;
+    private static final int EXTRA_FIELD = RoutingRegistry.InstanceNode.EXTRA_FIELD_NUMBER;
+
+    private final NodeFormat format;
+
+    ModuleNodeCodec(NodeFormat format) {
+        this.format = format;
+    }
+
+    /**
+     * 编码实例节点的数据
+     */
+    byte[] encode(InstanceState state) throws Exception {
+        if (format == NodeFormat.JSON) {
+            return Jsons.MAPPER.writeValueAsBytes(state);
+        }
+        var instanceInfo = state.instanceInfo();
+        var node = RoutingRegistry.InstanceNode.newBuilder()
+                .setNamespace(state.namespace())
+                .setInstanceInfo(toProto(instanceInfo))
+                .addAllModules(state.modules())
+                .setActive(state.active())
+                .setSuspect(state.suspect())
+                .build();
+        // 上报数据直接按map字段的格式写在后面，不经过builder，避免为每一项创建MapEntry
+        var extra = state.extra() == null ? Map.<String, String>of() : state.extra();
+        int size = node.getSerializedSize();
+        for (Map.Entry<String, String> entry : extra.entrySet()) {
+            int entrySize = entrySize(entry);
+            size += CodedOutputStream.computeTagSize(EXTRA_FIELD) + CodedOutputStream.computeUInt32SizeNoTag(entrySize) + entrySize;
+        }
+        var bytes = new byte[size + 2];
+        bytes[0] = MAGIC;
+        bytes[1] = VERSION;
+        var output = CodedOutputStream.newInstance(bytes, 2, size);
+        node.writeTo(output);
+        for (Map.Entry<String, String> entry : extra.entrySet()) {
+            output.writeTag(EXTRA_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(entrySize(entry));
+            output.writeString(1, entry.getKey());
+            output.writeString(2, entry.getValue());
+        }
+        output.checkNoSpaceLeft();
+        return bytes;
+    }
+
+    private static int entrySize(Map.Entry<String, String> entry) {
+        return CodedOutputStream.computeStringSize(1, entry.getKey()) + CodedOutputStream.computeStringSize(2, entry.getValue());
+    }
+
+    /**
+     * 解码实例节点的数据
+     */
+    static InstanceState decode(byte[] bytes) throws Exception {
+        if (bytes.length == 0 || bytes[0] != MAGIC) {
+            return Jsons.MAPPER.readValue(bytes, InstanceState.class);
+        }
+        if (bytes.length < 2 || bytes[1] != VERSION) {
+            throw new IllegalArgumentException("不支持的节点数据版本");
+        }
+        return fromProto(RoutingRegistry.InstanceNode.parseFrom(CodedInputStream.newInstance(bytes, 2, bytes.length - 2)));
+    }
+
+    /**
+     * 内存注册中心的变更记录和快照使用，每个实例一条记录
+     */
+    static RoutingRegistry.InstanceNode toProto(InstanceState state) {
+        var builder = RoutingRegistry.InstanceNode.newBuilder()
+                .setNamespace(state.namespace())
+                .setInstanceInfo(toProto(state.instanceInfo()))
+                .addAllModules(state.modules())
+                .setActive(state.active())
+                .setSuspect(state.suspect());
+        if (state.extra() != null) {
+            builder.putAllExtra(state.extra());
+        }
+        return builder.build();
+    }
+
+    static InstanceState fromProto(RoutingRegistry.InstanceNode node) {
+        return new InstanceState(node.getNamespace(), fromProto(node.getInstanceInfo()), node.getModulesList(),
+                node.getExtraMap(), node.getActive(), node.getSuspect());
+    }
+
+    /**
+     * 读取旧版本按模块写入的变更记录
+     */
+    static RegisterModuleInfo fromProto(RoutingRegistry.ModuleNode node) {
+        return new RegisterModuleInfo(node.getNamespace(), node.getModuleName(), fromProto(node.getInstanceInfo()),
+                node.getExtraMap(), node.getActive());
+    }
+
+    private static RoutingServer.InstanceInfo toProto(InstanceInfo instanceInfo) {
+        return RoutingServer.InstanceInfo.newBuilder()
+                .setProfile(instanceInfo.profile())
+                .setInstanceId(instanceInfo.instanceId())
+                .setIp(instanceInfo.ip())
+                .setPort(instanceInfo.port())
+                .setActive(instanceInfo.active())
+                .build();
+    }
+
+    private static InstanceInfo fromProto(RoutingServer.InstanceInfo instanceInfo) {
+        return new InstanceInfo(instanceInfo.getProfile(), instanceInfo.getInstanceId(), instanceInfo.getIp(),
+                instanceInfo.getPort(), instanceInfo.getActive());
+    }
+
+    /**
+     * 编码路由节点的数据
+     */
+    static byte[] encodeLoad(RouterLoad load) {
+        return RoutingRegistry.RouteNode.newBuilder()
+                .setSessions(load.sessions())
+                .setUtilization(load.utilization())
+                .build()
+                .toByteArray();
+    }
+
+    /**
+     * 解码路由节点的数据，旧版本路由的节点没有数据
+     */
+    static RouterLoad decodeLoad(byte[] bytes) throws Exception {
+        if (bytes == null || bytes.length == 0) {
+            return RouterLoad.EMPTY;
+        }
+        var node = RoutingRegistry.RouteNode.parseFrom(bytes);
+        return new RouterLoad(node.getSessions(), node.getUtilization());
+    }
+
+    /**
+     * 转换为查询接口返回的JSON
+     */
+    static Map<String, List<String>> toJson(Map<String, List<RegisterModuleInfo>> modules) {
+        Map<String, List<String>> result = new HashMap<>();
+        modules.forEach((module, infos) -> result.put(module, infos.stream().map(e -> {
+            try {
+                return Jsons.MAPPER.writeValueAsString(e);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }).toList()));
+        return result;
+    }
+}
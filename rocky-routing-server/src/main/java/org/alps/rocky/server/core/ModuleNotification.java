@@ -1,26 +1,87 @@
 package org.alps.rocky.server.core;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.alps.core.AlpsEnhancedSession;
-import org.alps.core.AlpsPacket;
 import org.alps.core.AlpsSession;
 import org.alps.core.AlpsUtils;
-import org.alps.core.datacoder.AlpsProtobufDataCoder;
-import org.alps.core.frame.RoutingFrame;
-import org.alps.core.proto.AlpsProtocol;
-import org.alps.core.support.AlpsDataBuilder;
-import org.alps.core.support.AlpsMetadataBuilder;
 import org.alps.rocky.core.proto.RoutingCommon;
 import org.alps.rocky.core.proto.RoutingServer;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiFunction;
 
+@Slf4j
 public class ModuleNotification {
 
+    /**
+     * session中保存已确认的模块版本的属性
+     */
+    static final String ACKED_KEY = "AckedKey";
+    /**
+     * session中保存订阅的模块的属性，为空时订阅所有模块
+     */
+    static final String SUBSCRIPTIONS_KEY = "SubscriptionsKey";
+    /**
+     * session中保存推送流控的属性
+     */
+    static final String OUTBOX_KEY = "OutboxKey";
+    /**
+     * session中保存是否支持压缩推送的属性
+     */
+    static final String COMPRESSION_KEY = "CompressionKey";
+
     private final Map<String, Namespace> namespaces = new ConcurrentHashMap<>();
     private final StampedLock stampedLock = new StampedLock();
+    private final RoutingMetrics metrics;
+    private final int deltaHistory;
+    private final int lowWaterMark;
+    private final int highWaterMark;
+    private final Duration ackTimeout;
+    private final int compressionThreshold;
+    /**
+     * 读取模块当前的实例，路由还没有推送过的模块被订阅时使用
+     */
+    private volatile BiFunction<String, String, List<RegisterModuleInfo>> moduleSource = (ns, module) -> List.of();
+
+    public ModuleNotification(RoutingMetrics metrics) {
+        this(metrics, 32, 512 * 1024, 1024 * 1024, Duration.ofSeconds(30), -1);
+    }
+
+    /**
+     * @param deltaHistory         每个模块保留的版本数，session确认的版本更早时推送全量
+     * @param lowWaterMark         session未确认的字节数降到低水位后恢复推送
+     * @param highWaterMark        session未确认的字节数超过高水位后暂停推送
+     * @param ackTimeout           暂停推送后多久没有确认时断开session
+     * @param compressionThreshold 推送超过多少字节时向支持压缩的session发送压缩帧，小于0时不压缩
+     */
+    public ModuleNotification(RoutingMetrics metrics, int deltaHistory, int lowWaterMark, int highWaterMark,
+                              Duration ackTimeout, int compressionThreshold) {
+        this.metrics = metrics;
+        this.deltaHistory = deltaHistory;
+        this.lowWaterMark = lowWaterMark;
+        this.highWaterMark = highWaterMark;
+        this.ackTimeout = ackTimeout;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * @param moduleSource 按命名空间和模块读取注册中心的实例
+     */
+    void moduleSource(BiFunction<String, String, List<RegisterModuleInfo>> moduleSource) {
+        this.moduleSource = moduleSource;
+    }
 
     void register(String namespace, String instanceId, AlpsSession session) {
         if (namespaces.containsKey(namespace)) {
@@ -32,7 +93,8 @@ public class ModuleNotification {
             if (namespaces.containsKey(namespace)) {
                 namespaces.get(namespace).register(instanceId, session);
             } else {
-                var ns = new Namespace();
+                var ns = new Namespace(namespace, metrics, deltaHistory, lowWaterMark, highWaterMark, ackTimeout,
+                        compressionThreshold);
                 ns.register(instanceId, session);
                 namespaces.put(namespace, ns);
             }
@@ -47,6 +109,40 @@ public class ModuleNotification {
         }
     }
 
+    /**
+     * @return 命名空间是否有实例连接到当前路由
+     */
+    boolean hasSessions(String namespace) {
+        var ns = namespaces.get(namespace);
+        return ns != null && !ns.instanceToSession.isEmpty();
+    }
+
+    /**
+     * @return 连接到当前路由的实例数
+     */
+    int sessions() {
+        int sessions = 0;
+        for (Namespace ns : namespaces.values()) {
+            sessions += ns.instanceToSession.size();
+        }
+        return sessions;
+    }
+
+    /**
+     * 推送模块当前的所有实例，没有实例时推送模块删除
+     */
+    void notifyModule(String namespace, String module, List<RegisterModuleInfo> infos) {
+        notifyModule(notifyInfo(namespace, module, infos));
+    }
+
+    private static ModuleNotifyInfo notifyInfo(String namespace, String module, List<RegisterModuleInfo> infos) {
+        if (infos.isEmpty()) {
+            return new ModuleNotifyInfo(namespace, module, Collections.emptyList(), OpsType.Delete);
+        }
+        var instances = infos.stream().map(RegisterModuleInfo::instanceInfo).toList();
+        return new ModuleNotifyInfo(namespace, module, instances, OpsType.Modify);
+    }
+
     void notifyModule(ModuleNotifyInfo info) {
         if (!namespaces.containsKey(info.namespace())) {
             return;
@@ -55,10 +151,93 @@ public class ModuleNotification {
         namespace.notifyModule(info);
     }
 
+    /**
+     * 记录session已应用的模块版本，暂停推送的session恢复后推送期间变化的模块
+     */
+    void ack(String namespace, AlpsSession session, String moduleName, long revision) {
+        Map<String, Long> acked = session.attr(ACKED_KEY);
+        if (acked != null) {
+            acked.merge(moduleName, revision, Math::max);
+        }
+        SessionOutbox outbox = session.attr(OUTBOX_KEY);
+        if (outbox == null) {
+            return;
+        }
+        var drain = outbox.acked(moduleName, revision);
+        var ns = namespace == null ? null : namespaces.get(namespace);
+        if (!drain.isEmpty() && ns != null) {
+            ns.drain((AlpsEnhancedSession) session, drain);
+        }
+    }
+
+    /**
+     * 向session推送模块的全量信息
+     */
+    void resync(String namespace, AlpsSession session, List<String> moduleNames) {
+        var ns = namespaces.get(namespace);
+        if (ns != null) {
+            ns.resync((AlpsEnhancedSession) session, moduleNames, this::loadModule);
+        }
+    }
+
+    /**
+     * 订阅模块并推送模块的全量信息，订阅所有模块的session不需要订阅
+     */
+    void subscribe(String namespace, AlpsSession session, List<String> moduleNames) {
+        var ns = namespaces.get(namespace);
+        if (ns != null) {
+            ns.subscribe(session, moduleNames);
+            ns.resync((AlpsEnhancedSession) session, moduleNames, this::loadModule);
+        }
+    }
+
+    private ModuleNotifyInfo loadModule(String namespace, String module) {
+        return notifyInfo(namespace, module, moduleSource.apply(namespace, module));
+    }
+
     static class Namespace {
         private final Map<String, AlpsSession> instanceToSession = new ConcurrentHashMap<>();
+        /**
+         * 订阅所有模块的session，包括不支持订阅的旧版本客户端
+         */
+        private final Set<AlpsSession> allModules = ConcurrentHashMap.newKeySet();
+        /**
+         * 模块到订阅的session的索引，推送时只遍历订阅的session
+         */
+        private final Map<String, Set<AlpsSession>> subscribers = new ConcurrentHashMap<>();
         private final StampedLock stampedLock = new StampedLock();
-        private final AlpsProtobufDataCoder protobufDataCoder = new AlpsProtobufDataCoder();
+        private final Map<String, ModuleState> modules = new ConcurrentHashMap<>();
+        private final DistributionSummary fanout;
+        private final Timer fanoutTimer;
+        private final Counter fullFrames;
+        private final Counter deltaFrames;
+        private final Counter coalesced;
+        private final Counter dropped;
+        private final Counter slowSessions;
+        private final int deltaHistory;
+        private final int lowWaterMark;
+        private final int highWaterMark;
+        private final Duration ackTimeout;
+        private final int compressionThreshold;
+        private final String namespace;
+
+        Namespace(String namespace, RoutingMetrics metrics, int deltaHistory, int lowWaterMark, int highWaterMark,
+                  Duration ackTimeout, int compressionThreshold) {
+            this.namespace = namespace;
+            metrics.namespaceSessions(namespace, instanceToSession);
+            this.fanout = metrics.fanout(namespace);
+            this.fanoutTimer = metrics.fanoutTimer(namespace);
+            this.fullFrames = metrics.notifyFrames(namespace, "full");
+            this.deltaFrames = metrics.notifyFrames(namespace, "delta");
+            this.coalesced = metrics.outboundUpdates(namespace, "coalesced");
+            this.dropped = metrics.outboundUpdates(namespace, "dropped");
+            this.slowSessions = metrics.slowSessions(namespace);
+            this.deltaHistory = deltaHistory;
+            this.lowWaterMark = lowWaterMark;
+            this.highWaterMark = highWaterMark;
+            this.ackTimeout = ackTimeout;
+            this.compressionThreshold = compressionThreshold;
+        }
 
         void register(String instanceId, AlpsSession session) {
             var writeLock = stampedLock.writeLock();
@@ -67,45 +246,243 @@ public class ModuleNotification {
                     throw new IllegalStateException("已存在存在Session, " + instanceId);
                 }
                 instanceToSession.put(instanceId, session);
+                session.attr(OUTBOX_KEY, new SessionOutbox(lowWaterMark, highWaterMark, ackTimeout, coalesced, dropped));
+                Set<String> subscriptions = session.attr(SUBSCRIPTIONS_KEY);
+                if (subscriptions == null) {
+                    allModules.add(session);
+                } else {
+                    subscriptions.forEach(e -> subscribers.computeIfAbsent(e, k -> ConcurrentHashMap.newKeySet()).add(session));
+                }
             } finally {
                 stampedLock.unlockWrite(writeLock);
             }
         }
 
         void unregister(String instanceId) {
-            instanceToSession.remove(instanceId);
+            var writeLock = stampedLock.writeLock();
+            try {
+                var session = instanceToSession.remove(instanceId);
+                if (session == null) {
+                    return;
+                }
+                allModules.remove(session);
+                SessionOutbox outbox = session.attr(OUTBOX_KEY);
+                if (outbox != null) {
+                    outbox.close();
+                }
+                Set<String> subscriptions = session.attr(SUBSCRIPTIONS_KEY);
+                if (subscriptions != null) {
+                    subscriptions.forEach(e -> subscribers.computeIfPresent(e, (k, v) -> {
+                        v.remove(session);
+                        return v.isEmpty() ? null : v;
+                    }));
+                }
+            } finally {
+                stampedLock.unlockWrite(writeLock);
+            }
         }
 
+        void subscribe(AlpsSession session, List<String> moduleNames) {
+            Set<String> subscriptions = session.attr(SUBSCRIPTIONS_KEY);
+            if (subscriptions == null) {
+                return;
+            }
+            var writeLock = stampedLock.writeLock();
+            try {
+                for (String moduleName : moduleNames) {
+                    if (subscriptions.add(moduleName)) {
+                        subscribers.computeIfAbsent(moduleName, k -> ConcurrentHashMap.newKeySet()).add(session);
+                    }
+                }
+            } finally {
+                stampedLock.unlockWrite(writeLock);
+            }
+        }
+
+        /**
+         * @return 订阅所有模块和订阅了指定模块的session
+         */
+        List<AlpsEnhancedSession> subscribers(String moduleName) {
+            var subscribed = subscribers.getOrDefault(moduleName, Set.of());
+            List<AlpsEnhancedSession> sessions = new ArrayList<>(allModules.size() + subscribed.size());
+            for (AlpsSession session : allModules) {
+                sessions.add((AlpsEnhancedSession) session);
+            }
+            for (AlpsSession session : subscribed) {
+                sessions.add((AlpsEnhancedSession) session);
+            }
+            return sessions;
+        }
+
+        /**
+         * 按session确认的版本分组，每组只构建一次消息。确认过当前版本之前的版本的session收到增量，
+         * 没有确认过或者确认的版本太旧的session收到全量。暂停推送的session只记录模块，恢复后推送最新状态，
+         * 暂停后超过确认超时的session在推送后断开，重新连接时取得全量。
+         * 支持压缩的session单独分组，每组只压缩一次
+         */
         void notifyModule(ModuleNotifyInfo info) {
-            var sessions = instanceToSession.values().stream()
-                    .filter(e -> {
-                        String namespace = e.attr(RouterFrameHandler.NAMESPACE_KEY);
-                        return Objects.equals(info.namespace(), namespace);
-                    })
-                    .map(e -> ((AlpsEnhancedSession) e))
-                    .toList();
-            var moduleInfo = RoutingServer.ModuleInfo.newBuilder().setNamespace(info.namespace())
-                    .setModuleName(info.moduleName())
-                    .setTypeValue(info.type().ordinal())
-                    .addAllInstances(info.instances().stream().map(e -> RoutingServer.InstanceInfo
-                            .newBuilder().setProfile(e.profile()).setInstanceId(e.instanceId())
-                            .setIp(e.ip()).setPort(e.port()).setActive(e.active()).build()).toList())
-                    .build();
-            var routingFrame = RoutingCommon.RoutingFrame.newBuilder()
-                    .setType(RoutingCommon.FrameType.S_ChangeService)
-                    .setFrame(moduleInfo.toByteString())
-                    .build();
-            byte[] frameBytes = RoutingFrame.toBytes(routingFrame.toByteArray());
-            var alpsMetadata = new AlpsMetadataBuilder()
-                    .frameType((byte) AlpsProtocol.AlpsPacket.FrameType.ROUTING_VALUE)
-                    .frame(frameBytes)
-                    .coder(protobufDataCoder)
-                    .build();
-            var alpsData = new AlpsDataBuilder()
-                    .coder(protobufDataCoder)
-                    .build();
-            var alpsPacket = new AlpsPacket(AlpsProtocol.AlpsPacket.ConnectType.ROUTEING_VALUE, AlpsPacket.ZERO_MODULE, alpsMetadata, alpsData, null);
-            AlpsUtils.broadcast(sessions, alpsPacket);
+            long start = System.nanoTime();
+            var state = modules.computeIfAbsent(info.moduleName(),
+                    e -> new ModuleState(info.namespace(), e, deltaHistory, compressionThreshold));
+            int sent = 0;
+            List<AlpsEnhancedSession> stalled = new ArrayList<>(0);
+            synchronized (state) {
+                // 在锁内读取订阅的session，和订阅后的全量推送不会错过当前版本
+                var sessions = subscribers(info.moduleName());
+                state.apply(info);
+                Map<PushGroup, List<AlpsEnhancedSession>> groups = new HashMap<>();
+                for (AlpsEnhancedSession session : sessions) {
+                    long acked = acked(session, info.moduleName());
+                    // 已经确认或者已经发送过当前版本的session不再推送，实例没有变化时版本不变
+                    if (Math.max(acked, sentRevision(session, info.moduleName())) >= state.revision()) {
+                        continue;
+                    }
+                    if (stalled(session, start)) {
+                        stalled.add(session);
+                    } else if (!defer(session, info.moduleName())) {
+                        var group = new PushGroup(state.canDelta(acked) ? acked : -1L, compression(session));
+                        groups.computeIfAbsent(group, e -> new ArrayList<>()).add(session);
+                    }
+                }
+                for (var entry : groups.entrySet()) {
+                    var group = entry.getKey();
+                    boolean delta = group.baseRevision() >= 0;
+                    var push = delta
+                            ? state.deltaPush(group.baseRevision(), group.compression())
+                            : state.fullPush(group.compression());
+                    AlpsUtils.broadcast(entry.getValue(), push.packet());
+                    for (AlpsEnhancedSession session : entry.getValue()) {
+                        sent(session, info.moduleName(), state.revision(), push.size());
+                    }
+                    (delta ? deltaFrames : fullFrames).increment(entry.getValue().size());
+                    sent += entry.getValue().size();
+                }
+            }
+            // 断开时会注销session，不在模块的锁内执行
+            for (AlpsEnhancedSession session : stalled) {
+                log.warn("session did not ack pushes in {}, close it. {} {}", ackTimeout, namespace,
+                        (Object) session.attr(RouterFrameHandler.INSTANCE_KEY));
+                slowSessions.increment();
+                session.close();
+            }
+            fanout.record(sent);
+            fanoutTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * 模块没有实例时回复删除，按需订阅的客户端不需要等待超时
+         *
+         * @param loader 路由还没有推送过模块时从注册中心读取
+         */
+        void resync(AlpsEnhancedSession session, List<String> moduleNames,
+                    BiFunction<String, String, ModuleNotifyInfo> loader) {
+            for (String moduleName : moduleNames) {
+                var state = modules.get(moduleName);
+                if (state == null) {
+                    var info = loader.apply(namespace, moduleName);
+                    if (info.type() == OpsType.Delete) {
+                        session.send(RoutingPackets.packet(RoutingCommon.FrameType.S_ChangeService,
+                                RoutingServer.ModuleInfo.newBuilder()
+                                        .setNamespace(namespace)
+                                        .setModuleName(moduleName)
+                                        .setType(RoutingServer.OpsType.Delete)
+                                        .build()));
+                        continue;
+                    }
+                    state = modules.computeIfAbsent(moduleName,
+                            e -> new ModuleState(namespace, e, deltaHistory, compressionThreshold));
+                    synchronized (state) {
+                        if (state.revision() == 0) {
+                            state.apply(info);
+                        }
+                    }
+                }
+                synchronized (state) {
+                    var push = state.fullPush(compression(session));
+                    session.send(push.packet());
+                    fullFrames.increment();
+                    sent(session, moduleName, state.revision(), push.size());
+                }
+            }
+        }
+
+        /**
+         * 恢复推送，按session确认的版本推送期间变化的模块的最新状态
+         */
+        void drain(AlpsEnhancedSession session, List<String> moduleNames) {
+            for (String moduleName : moduleNames) {
+                var state = modules.get(moduleName);
+                if (state == null) {
+                    continue;
+                }
+                synchronized (state) {
+                    long acked = acked(session, moduleName);
+                    if (acked == state.revision()) {
+                        continue;
+                    }
+                    boolean delta = state.canDelta(acked);
+                    var push = delta
+                            ? state.deltaPush(acked, compression(session))
+                            : state.fullPush(compression(session));
+                    session.send(push.packet());
+                    (delta ? deltaFrames : fullFrames).increment();
+                    sent(session, moduleName, state.revision(), push.size());
+                }
+            }
+        }
+
+        private static boolean compression(AlpsSession session) {
+            return Boolean.TRUE.equals(session.attr(COMPRESSION_KEY));
+        }
+
+        /**
+         * @return session暂停推送后超过确认超时没有确认
+         */
+        private static boolean stalled(AlpsSession session, long now) {
+            SessionOutbox outbox = session.attr(OUTBOX_KEY);
+            return outbox != null && outbox.stalled(now);
+        }
+
+        /**
+         * @return session暂停推送时记录模块并返回true
+         */
+        private static boolean defer(AlpsSession session, String moduleName) {
+            SessionOutbox outbox = session.attr(OUTBOX_KEY);
+            return outbox != null && outbox.defer(moduleName);
+        }
+
+        /**
+         * @return 最后发送给session还没有确认的模块版本，没有时为-1
+         */
+        private static long sentRevision(AlpsSession session, String moduleName) {
+            SessionOutbox outbox = session.attr(OUTBOX_KEY);
+            return outbox == null ? -1 : outbox.sentRevision(moduleName);
+        }
+
+        private static void sent(AlpsSession session, String moduleName, long revision, int size) {
+            SessionOutbox outbox = session.attr(OUTBOX_KEY);
+            if (outbox != null) {
+                outbox.sent(moduleName, revision, size);
+            }
+        }
+
+        /**
+         * @return session确认的模块版本，没有确认过时为-1
+         */
+        private static long acked(AlpsSession session, String moduleName) {
+            Map<String, Long> acked = session.attr(ACKED_KEY);
+            if (acked == null) {
+                return -1;
+            }
+            return acked.getOrDefault(moduleName, -1L);
+        }
+
+        /**
+         * 推送分组，同一组的session共用一个数据包
+         *
+         * @param baseRevision 增量的基准版本，全量时为-1
+         */
+        private record PushGroup(long baseRevision, boolean compression) {
         }
     }
 }
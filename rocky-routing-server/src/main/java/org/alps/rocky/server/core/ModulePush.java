@@ -0,0 +1,30 @@
+package org.alps.rocky.server.core;
+
+import org.alps.core.AlpsPacket;
+import org.alps.rocky.core.proto.RoutingCommon;
+import org.alps.rocky.core.proto.RoutingServer;
+
+/**
+ * 推送模块信息的数据包和帧内容的字节数
+ *
+ * @param size 帧内容的字节数，压缩时为压缩后的字节数
+ */
+record ModulePush(AlpsPacket packet, int size) {
+
+    /**
+     * @param compression 接收方是否支持压缩
+     * @param threshold   超过多少字节时压缩，小于0时不压缩
+     */
+    static ModulePush of(RoutingServer.ModuleInfo moduleInfo, boolean compression, int threshold) {
+        int size = moduleInfo.getSerializedSize();
+        if (compression && threshold >= 0 && size >= threshold) {
+            var compressed = RoutingPackets.deflate(moduleInfo.toByteArray());
+            // 压缩后没有变小时不压缩
+            if (compressed.length < size) {
+                return new ModulePush(RoutingPackets.packet(RoutingCommon.FrameType.S_ChangeServiceDeflate, compressed),
+                        compressed.length);
+            }
+        }
+        return new ModulePush(RoutingPackets.packet(RoutingCommon.FrameType.S_ChangeService, moduleInfo), size);
+    }
+}
@@ -0,0 +1,194 @@
+package org.alps.rocky.server.core;
+
+import org.alps.rocky.core.proto.RoutingServer;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 模块最后推送的实例和版本，保留最近几个版本变化的实例，用于生成增量
+ * <p>
+ * 增量包含基准版本之后变化过的所有实例的最终状态，可以应用在基准版本和当前版本之间的任何版本上。
+ * 非线程安全，由调用方加锁
+ */
+class ModuleState {
+
+    private final String namespace;
+    private final String moduleName;
+    private final int historySize;
+    private final int compressionThreshold;
+    private long revision;
+    private boolean deleted;
+    private Map<String, InstanceInfo> instances = new LinkedHashMap<>();
+    /**
+     * 每个版本变化的实例ID，值为true时表示新增，最后一个元素是当前版本
+     */
+    private final ArrayDeque<Map<String, Boolean>> history = new ArrayDeque<>();
+    /**
+     * 当前版本全量信息的数据包，版本变化后重新构建
+     */
+    private ModulePush fullPush;
+    private ModulePush compressedFullPush;
+
+    ModuleState(String namespace, String moduleName, int historySize) {
+        this(namespace, moduleName, historySize, -1);
+    }
+
+    /**
+     * @param compressionThreshold 推送超过多少字节时压缩，小于0时不压缩
+     */
+    ModuleState(String namespace, String moduleName, int historySize, int compressionThreshold) {
+        this.namespace = namespace;
+        this.moduleName = moduleName;
+        this.historySize = historySize;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    long revision() {
+        return revision;
+    }
+
+    /**
+     * 替换为最新的实例，有实例变化时版本加1
+     *
+     * @return 是否有实例变化
+     */
+    boolean apply(ModuleNotifyInfo info) {
+        if (info.type() == OpsType.Delete) {
+            if (deleted) {
+                return false;
+            }
+            deleted = true;
+            instances = new LinkedHashMap<>();
+            // 删除后重新出现时所有session都需要全量
+            history.clear();
+            revision++;
+            fullPush = null;
+            compressedFullPush = null;
+            return true;
+        }
+        Map<String, InstanceInfo> next = new LinkedHashMap<>();
+        Map<String, Boolean> changed = new HashMap<>();
+        for (InstanceInfo instance : info.instances()) {
+            next.put(instance.instanceId(), instance);
+            var previous = instances.get(instance.instanceId());
+            if (previous == null) {
+                changed.put(instance.instanceId(), Boolean.TRUE);
+            } else if (!previous.equals(instance)) {
+                changed.put(instance.instanceId(), Boolean.FALSE);
+            }
+        }
+        for (String instanceId : instances.keySet()) {
+            if (!next.containsKey(instanceId)) {
+                changed.put(instanceId, Boolean.FALSE);
+            }
+        }
+        if (changed.isEmpty() && !deleted) {
+            return false;
+        }
+        instances = next;
+        revision++;
+        fullPush = null;
+        compressedFullPush = null;
+        if (deleted) {
+            deleted = false;
+        } else {
+            history.addLast(changed);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return 是否可以生成基准版本之后的增量
+     */
+    boolean canDelta(long baseRevision) {
+        return baseRevision >= 0 && baseRevision < revision && revision - baseRevision <= history.size();
+    }
+
+    /**
+     * @return 全量的模块信息，模块没有实例时为删除
+     */
+    RoutingServer.ModuleInfo full() {
+        var builder = RoutingServer.ModuleInfo.newBuilder()
+                .setNamespace(namespace)
+                .setModuleName(moduleName)
+                .setRevision(revision);
+        if (deleted) {
+            return builder.setType(RoutingServer.OpsType.Delete).build();
+        }
+        for (InstanceInfo instance : instances.values()) {
+            builder.addInstances(toProto(instance));
+        }
+        return builder.setType(RoutingServer.OpsType.Modify).build();
+    }
+
+    /**
+     * @param compression 接收方是否支持压缩
+     * @return 全量信息的数据包，同一个版本只序列化和压缩一次，新连接和请求全量的session共用
+     */
+    ModulePush fullPush(boolean compression) {
+        if (fullPush == null) {
+            fullPush = ModulePush.of(full(), false, -1);
+        }
+        if (!compression || compressionThreshold < 0 || fullPush.size() < compressionThreshold) {
+            return fullPush;
+        }
+        if (compressedFullPush == null) {
+            compressedFullPush = ModulePush.of(full(), true, compressionThreshold);
+        }
+        return compressedFullPush;
+    }
+
+    /**
+     * @param compression 接收方是否支持压缩
+     * @return 基准版本之后变化的实例的数据包，调用前需要用{@link #canDelta(long)}检查
+     */
+    ModulePush deltaPush(long baseRevision, boolean compression) {
+        return ModulePush.of(delta(baseRevision), compression, compressionThreshold);
+    }
+
+    /**
+     * @return 基准版本之后变化的实例，调用前需要用{@link #canDelta(long)}检查
+     */
+    RoutingServer.ModuleInfo delta(long baseRevision) {
+        Map<String, Boolean> changed = new HashMap<>();
+        var iterator = history.descendingIterator();
+        for (long i = revision; i > baseRevision; i--) {
+            // 从新到旧遍历，同一个实例保留最早的变化类型
+            iterator.next().forEach(changed::put);
+        }
+        var builder = RoutingServer.ModuleInfo.newBuilder()
+                .setNamespace(namespace)
+                .setModuleName(moduleName)
+                .setType(RoutingServer.OpsType.Modify)
+                .setRevision(revision)
+                .setDelta(true)
+                .setBaseRevision(baseRevision);
+        changed.forEach((instanceId, added) -> {
+            var instance = instances.get(instanceId);
+            if (instance == null) {
+                builder.addRemoved(instanceId);
+            } else if (added) {
+                builder.addAdded(toProto(instance));
+            } else {
+                builder.addUpdated(toProto(instance));
+            }
+        });
+        return builder.build();
+    }
+
+    private static RoutingServer.InstanceInfo toProto(InstanceInfo instance) {
+        return RoutingServer.InstanceInfo.newBuilder()
+                .setProfile(instance.profile())
+                .setInstanceId(instance.instanceId())
+                .setIp(instance.ip())
+                .setPort(instance.port())
+                .setActive(instance.active())
+                .build();
+    }
+}
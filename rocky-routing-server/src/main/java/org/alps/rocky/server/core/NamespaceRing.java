@@ -0,0 +1,69 @@
+package org.alps.rocky.server.core;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * 命名空间到路由的一致性哈希环
+ * <p>
+ * 每个路由在环上有多个虚拟节点，路由增减时只有少量命名空间改变归属。
+ * 所有路由使用相同的路由列表时计算结果相同，不需要另外保存分配结果
+ */
+class NamespaceRing {
+
+    private final NavigableMap<Long, RegisterRouter> ring = new TreeMap<>();
+    private final int routers;
+
+    /**
+     * @param routers      所有路由
+     * @param virtualNodes 每个路由的虚拟节点数
+     */
+    NamespaceRing(Collection<RegisterRouter> routers, int virtualNodes) {
+        var distinct = new HashSet<>(routers);
+        this.routers = distinct.size();
+        for (RegisterRouter router : distinct) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(router.ip() + "_" + router.port() + "#" + i), router);
+            }
+        }
+    }
+
+    /**
+     * @param replicas 每个命名空间分配的路由数
+     * @return 命名空间所属的路由，从哈希环上顺时针取不同的路由
+     */
+    List<RegisterRouter> owners(String namespace, int replicas) {
+        int count = Math.min(Math.max(1, replicas), routers);
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+        List<RegisterRouter> owners = new ArrayList<>(count);
+        long hash = hash(namespace);
+        for (RegisterRouter router : ring.tailMap(hash, true).values()) {
+            if (!owners.contains(router) && owners.add(router) && owners.size() == count) {
+                return owners;
+            }
+        }
+        for (RegisterRouter router : ring.values()) {
+            if (!owners.contains(router) && owners.add(router) && owners.size() == count) {
+                return owners;
+            }
+        }
+        return owners;
+    }
+
+    private static long hash(String key) {
+        try {
+            var digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < 8; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package org.alps.rocky.server.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.alps.rocky.server.common.PathUtils;
+import org.apache.zookeeper.AddWatchMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher;
+import org.apache.zookeeper.ZooKeeper;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 按命名空间分片，每个路由只监听和镜像自己负责的命名空间
+ * <p>
+ * 命名空间按路由列表({@code /routes})的一致性哈希分配给路由，所有路由和查询接口使用相同的计算结果。
+ * 路由上有实例连接的命名空间即使不归自己负责也会监听，保证连接的实例能收到推送
+ */
+@Slf4j
+class NamespaceSharding {
+
+    /**
+     * 会话过期后会替换为新的客户端，每次请求时取得
+     */
+    private final Supplier<ZooKeeper> zooKeeper;
+    private final ModuleMirror mirror;
+    private final Watcher moduleWatcher;
+    private final String moduleRoot;
+    private final String instanceRoot;
+    private final String routesRoot;
+    private final RegisterRouter self;
+    private final int replicas;
+    private final int virtualNodes;
+    private final Predicate<String> hasSessions;
+    private final Watcher routesWatcher = this::routesChanged;
+    private final Watcher namespacesWatcher = this::namespacesChanged;
+    /**
+     * 正在监听的命名空间
+     */
+    private final Set<String> watching = new HashSet<>();
+    private volatile NamespaceRing ring;
+    private volatile Set<String> namespaces = Collections.emptySet();
+    private volatile boolean closed;
+
+    /**
+     * @param moduleWatcher 模块节点和实例节点的监听，转发给镜像
+     * @param hasSessions   命名空间在当前路由上是否有连接
+     */
+    NamespaceSharding(Supplier<ZooKeeper> zooKeeper, ModuleMirror mirror, Watcher moduleWatcher, String moduleRoot,
+                      String instanceRoot, String routesRoot, RegisterRouter self, int replicas, int virtualNodes,
+                      Predicate<String> hasSessions) {
+        this.zooKeeper = zooKeeper;
+        this.mirror = mirror;
+        this.moduleWatcher = moduleWatcher;
+        this.moduleRoot = moduleRoot;
+        this.instanceRoot = instanceRoot;
+        this.routesRoot = routesRoot;
+        this.self = self;
+        this.replicas = replicas;
+        this.virtualNodes = virtualNodes;
+        this.hasSessions = hasSessions;
+        this.ring = new NamespaceRing(List.of(self), virtualNodes);
+    }
+
+    /**
+     * 监听路由列表和命名空间列表，加载自己负责的命名空间
+     *
+     * @return 加载完成
+     */
+    CompletableFuture<Void> start() {
+        // 持久监听在重新连接后由客户端自动恢复，重复添加同一个监听没有影响
+        zooKeeper.get().addWatch(routesRoot, routesWatcher, AddWatchMode.PERSISTENT, (rc, path, ctx) -> {
+        }, null);
+        zooKeeper.get().addWatch(moduleRoot, namespacesWatcher, AddWatchMode.PERSISTENT, (rc, path, ctx) -> {
+        }, null);
+        return CompletableFuture.allOf(refreshRouters(), refreshNamespaces())
+                .thenCompose(v -> reassign());
+    }
+
+    /**
+     * 重新读取路由和命名空间后重新分配，再重新加载所有监听的命名空间，重新连接后调用
+     */
+    CompletableFuture<Void> reload() {
+        return start().thenCompose(v -> mirror.load());
+    }
+
+    /**
+     * 会话过期后监听全部丢失，在新的会话中重新添加正在监听的命名空间，再重新分配和加载
+     */
+    CompletableFuture<Void> recover() {
+        synchronized (this) {
+            watching.forEach(this::addWatch);
+        }
+        return reload();
+    }
+
+    /**
+     * @return 命名空间所属的路由
+     */
+    List<RegisterRouter> owners(String namespace) {
+        return ring.owners(namespace, replicas);
+    }
+
+    /**
+     * 有实例连接到命名空间，还没有监听时开始监听
+     */
+    synchronized void touch(String namespace) {
+        if (!watching.contains(namespace)) {
+            watch(namespace);
+        }
+    }
+
+    /**
+     * 实例删除后，不再负责且没有连接的命名空间停止监听
+     */
+    synchronized void release(String namespace) {
+        if (watching.contains(namespace) && !desired(namespace)) {
+            unwatch(namespace);
+        }
+    }
+
+    synchronized CompletableFuture<Void> reassign() {
+        Set<String> desired = new HashSet<>();
+        for (String namespace : namespaces) {
+            if (desired(namespace)) {
+                desired.add(namespace);
+            }
+        }
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (String namespace : desired) {
+            if (!watching.contains(namespace)) {
+                futures.add(watch(namespace));
+            }
+        }
+        for (String namespace : List.copyOf(watching)) {
+            if (!desired.contains(namespace) && !hasSessions.test(namespace)) {
+                unwatch(namespace);
+            }
+        }
+        if (!futures.isEmpty()) {
+            log.info("namespaces assigned to this router. {}", watching);
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    private boolean desired(String namespace) {
+        return ring.owners(namespace, replicas).contains(self) || hasSessions.test(namespace);
+    }
+
+    /**
+     * 先添加监听再加载，Zookeeper按顺序处理请求，加载期间的变化都能收到
+     */
+    private CompletableFuture<Void> watch(String namespace) {
+        watching.add(namespace);
+        addWatch(namespace);
+        return mirror.load(namespace);
+    }
+
+    /**
+     * 监听命名空间的模块节点和实例节点
+     */
+    private void addWatch(String namespace) {
+        for (String root : List.of(moduleRoot, instanceRoot)) {
+            zooKeeper.get().addWatch(PathUtils.of(root, namespace), moduleWatcher, AddWatchMode.PERSISTENT_RECURSIVE,
+                    (rc, path, ctx) -> {
+                        if (rc != KeeperException.Code.OK.intValue()) {
+                            log.error("watch namespace error. {} {}", path, KeeperException.Code.get(rc));
+                        }
+                    }, null);
+        }
+    }
+
+    private void unwatch(String namespace) {
+        watching.remove(namespace);
+        mirror.drop(namespace);
+        for (String root : List.of(moduleRoot, instanceRoot)) {
+            zooKeeper.get().removeWatches(PathUtils.of(root, namespace), moduleWatcher, Watcher.WatcherType.Any, true,
+                    (rc, path, ctx) -> {
+                    }, null);
+        }
+        log.info("namespace {} is no longer watched by this router", namespace);
+    }
+
+    private CompletableFuture<Void> refreshRouters() {
+        var future = new CompletableFuture<Void>();
+        zooKeeper.get().getChildren(routesRoot, false, (rc, path, ctx, children) -> {
+            if (rc != KeeperException.Code.OK.intValue() && rc != KeeperException.Code.NONODE.intValue()) {
+                future.completeExceptionally(KeeperException.create(KeeperException.Code.get(rc), path));
+                return;
+            }
+            List<RegisterRouter> routers = new ArrayList<>();
+            routers.add(self);
+            if (children != null) {
+                for (String child : children) {
+                    routers.add(ZookeeperRegister.router(child));
+                }
+            }
+            this.ring = new NamespaceRing(routers, virtualNodes);
+            future.complete(null);
+        }, null);
+        return future;
+    }
+
+    private CompletableFuture<Void> refreshNamespaces() {
+        var future = new CompletableFuture<Void>();
+        zooKeeper.get().getChildren(moduleRoot, false, (rc, path, ctx, children) -> {
+            if (rc != KeeperException.Code.OK.intValue()) {
+                future.completeExceptionally(KeeperException.create(KeeperException.Code.get(rc), path));
+                return;
+            }
+            this.namespaces = Set.copyOf(children);
+            future.complete(null);
+        }, null);
+        return future;
+    }
+
+    private void routesChanged(WatchedEvent event) {
+        if (event.getType() == Watcher.Event.EventType.NodeChildrenChanged) {
+            refreshRouters().thenCompose(v -> reassign()).exceptionally(this::logError);
+        }
+    }
+
+    private void namespacesChanged(WatchedEvent event) {
+        if (event.getType() == Watcher.Event.EventType.NodeChildrenChanged) {
+            refreshNamespaces().thenCompose(v -> reassign()).exceptionally(this::logError);
+        }
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    private Void logError(Throwable ex) {
+        // 关闭时删除自己的路由节点也会触发监听，这时的请求失败可以忽略
+        if (!closed) {
+            log.error("reassign namespaces error", ex);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,15 @@
+package org.alps.rocky.server.core;
+
+/**
+ * 注册中心节点数据的写入格式，读取时两种格式都支持
+ */
+public enum NodeFormat {
+    /**
+     * 带版本头的protobuf
+     */
+    PROTOBUF,
+    /**
+     * JSON，便于直接查看节点数据
+     */
+    JSON
+}
@@ -1,24 +1,31 @@
 package org.alps.rocky.server.core;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * 信息注册
+ * 信息注册，所有方法都是异步的，写入注册中心后完成
  */
 public interface Register {
 
-    void registerInstance(RegisterInstanceInfo info) throws Exception;
+    CompletableFuture<Void> registerInstance(RegisterInstanceInfo info);
 
-    void updateInstance(String namespace, String instanceId, Map<String, String> extra, boolean active) throws Exception;
+    CompletableFuture<Void> updateInstance(String namespace, String instanceId, Map<String, String> extra, boolean active);
 
-    void updateInstance(String namespace, String instanceId, Map<String, String> extra) throws Exception;
+    CompletableFuture<Void> updateInstance(String namespace, String instanceId, Map<String, String> extra);
 
     /**
      * 删除实例
      * @param namespace 命名空间
      * @param instanceId 实例ID
-     * @throws Exception
      */
-    void removeInstance(String namespace, String instanceId) throws Exception;
+    CompletableFuture<Void> removeInstance(String namespace, String instanceId);
+
+    /**
+     * 标记实例已断开，宽限期内其他路由可以接管实例，重新写入实例状态后清除
+     */
+    default CompletableFuture<Void> suspectInstance(String namespace, String instanceId) {
+        return CompletableFuture.completedFuture(null);
+    }
 
 }
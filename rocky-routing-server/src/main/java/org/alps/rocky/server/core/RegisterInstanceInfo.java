@@ -29,3 +29,21 @@ record RegisterModuleInfo(String namespace, String moduleName, InstanceInfo inst
 record InstanceInfo(String profile, String instanceId, String ip, int port, boolean active) {
 
 }
+
+/**
+ * 实例当前需要写入注册中心的状态
+ * @param namespace 命名空间
+ * @param instanceInfo 实例信息
+ * @param modules 实例提供的模块
+ * @param extra 上报数据
+ * @param active 是否激活
+ * @param suspect 实例已断开，处于宽限期，其他路由可以接管
+ */
+record InstanceState(String namespace, InstanceInfo instanceInfo, List<String> modules, Map<String, String> extra,
+                     boolean active, boolean suspect) {
+
+    InstanceState(String namespace, InstanceInfo instanceInfo, List<String> modules, Map<String, String> extra,
+                  boolean active) {
+        this(namespace, instanceInfo, modules, extra, active, false);
+    }
+}
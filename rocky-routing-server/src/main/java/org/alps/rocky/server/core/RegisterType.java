@@ -0,0 +1,15 @@
+package org.alps.rocky.server.core;
+
+/**
+ * 注册中心的存储类型
+ */
+public enum RegisterType {
+    /**
+     * Zookeeper，多个路由共享
+     */
+    ZOOKEEPER,
+    /**
+     * 本地内存，定期保存快照和变更日志，只用于单个路由和测试
+     */
+    MEMORY
+}
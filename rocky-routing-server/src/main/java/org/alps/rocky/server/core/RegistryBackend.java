@@ -0,0 +1,23 @@
+package org.alps.rocky.server.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 注册中心的存储实现
+ */
+public interface RegistryBackend extends Register, ServerRegister {
+
+    /**
+     * 批量写入实例状态，不存在的实例忽略
+     */
+    CompletableFuture<Void> updateInstances(List<InstanceState> states);
+
+    /**
+     * @return 命名空间下所有模块的实例数据
+     */
+    Map<String, List<String>> moduleInfo(String namespace);
+
+    void close() throws Exception;
+}
@@ -0,0 +1,176 @@
+package org.alps.rocky.server.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.alps.rocky.core.proto.RoutingRegistry;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 内存注册中心的本地持久化，快照加变更日志
+ * <p>
+ * 文件为 {@code snapshot-<seq>.bin} 和 {@code changes-<seq>.log}，内容都是按长度分隔的 {@code RegistryRecord}。
+ * 生成快照时先切换到新的变更日志，快照写完后删除旧的文件；
+ * 恢复时读取最新的快照，再按顺序重放序号不小于快照的变更日志。非线程安全，由调用方加锁
+ */
+@Slf4j
+class RegistryStore {
+
+    private static final String SNAPSHOT = "snapshot-";
+    private static final String CHANGES = "changes-";
+
+    private final Path dir;
+    private long seq;
+    private FileChannel channel;
+    private OutputStream changes;
+
+    RegistryStore(Path dir) throws IOException {
+        this.dir = dir;
+        Files.createDirectories(dir);
+    }
+
+    /**
+     * 读取快照和变更日志，之后的变更写入新的日志
+     *
+     * @param consumer 按写入顺序接收记录
+     */
+    void recover(Consumer<RoutingRegistry.RegistryRecord> consumer) throws IOException {
+        long snapshot = latest(SNAPSHOT);
+        if (snapshot >= 0) {
+            read(file(SNAPSHOT, snapshot), consumer);
+        }
+        List<Long> logs = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.map(e -> seq(e, CHANGES)).filter(e -> e >= 0 && e >= snapshot).sorted().forEach(logs::add);
+        }
+        for (Long log : logs) {
+            read(file(CHANGES, log), consumer);
+        }
+        this.seq = Math.max(snapshot, logs.isEmpty() ? 0 : logs.get(logs.size() - 1));
+        rotate();
+    }
+
+    void append(RoutingRegistry.RegistryRecord record) throws IOException {
+        record.writeDelimitedTo(changes);
+    }
+
+    /**
+     * 把缓冲写入文件
+     *
+     * @return 当前变更日志的文件，调用方可以在锁外刷盘
+     */
+    FileChannel flush() throws IOException {
+        changes.flush();
+        return channel;
+    }
+
+    /**
+     * 刷盘后切换到新的变更日志
+     *
+     * @return 新日志的序号，用这个序号保存当前状态的快照
+     */
+    long rotate() throws IOException {
+        closeChanges();
+        seq++;
+        channel = FileChannel.open(file(CHANGES, seq), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        changes = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+        return seq;
+    }
+
+    /**
+     * 写入快照，写完后删除更早的快照和日志。可以在锁外调用
+     */
+    void snapshot(long seq, Collection<RoutingRegistry.RegistryRecord> records) throws IOException {
+        var tmp = dir.resolve(SNAPSHOT + seq + ".tmp");
+        try (var file = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            var output = new BufferedOutputStream(Channels.newOutputStream(file), 64 * 1024);
+            for (RoutingRegistry.RegistryRecord record : records) {
+                record.writeDelimitedTo(output);
+            }
+            output.flush();
+            // 删除旧文件之前保证快照已经落盘
+            file.force(false);
+        }
+        Files.move(tmp, file(SNAPSHOT, seq), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.toList()) {
+                long fileSeq = Math.max(seq(file, SNAPSHOT), seq(file, CHANGES));
+                if (fileSeq >= 0 && fileSeq < seq) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    void close() throws IOException {
+        closeChanges();
+    }
+
+    private void closeChanges() throws IOException {
+        if (changes != null) {
+            changes.flush();
+            channel.force(false);
+            changes.close();
+        }
+    }
+
+    private void read(Path file, Consumer<RoutingRegistry.RegistryRecord> consumer) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            RoutingRegistry.RegistryRecord record;
+            while (true) {
+                try {
+                    record = RoutingRegistry.RegistryRecord.parseDelimitedFrom(input);
+                } catch (IOException ex) {
+                    // 最后一条记录没有写完
+                    log.warn("registry file is truncated. {}", file);
+                    return;
+                }
+                if (record == null) {
+                    return;
+                }
+                consumer.accept(record);
+            }
+        }
+    }
+
+    private long latest(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.mapToLong(e -> seq(e, prefix)).max().orElse(-1);
+        }
+    }
+
+    private Path file(String prefix, long seq) {
+        return dir.resolve(prefix + seq + (prefix.equals(SNAPSHOT) ? ".bin" : ".log"));
+    }
+
+    /**
+     * @return 文件的序号，不是指定类型的文件时返回-1
+     */
+    private static long seq(Path file, String prefix) {
+        var name = file.getFileName().toString();
+        var suffix = prefix.equals(SNAPSHOT) ? ".bin" : ".log";
+        if (!name.startsWith(prefix) || !name.endsWith(suffix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name, prefix.length(), name.length() - suffix.length(), 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
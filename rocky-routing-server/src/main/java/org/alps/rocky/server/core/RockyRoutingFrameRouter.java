@@ -5,48 +5,112 @@ import com.google.protobuf.MessageLite;
 import lombok.extern.slf4j.Slf4j;
 import org.alps.core.*;
 import org.alps.core.frame.RoutingFrame;
+import org.alps.rocky.core.RawRoutingFrame;
 import org.alps.rocky.core.proto.RoutingClient;
 import org.alps.rocky.core.proto.RoutingCommon;
 import org.alps.rocky.core.proto.RoutingErrors;
+import org.alps.rocky.core.proto.RoutingServer;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 public class RockyRoutingFrameRouter implements FrameListener {
 
-    private final Map<RoutingCommon.FrameType, RouterFrameHandler<? extends MessageLite>> handlers;
-
-    RockyRoutingFrameRouter(ModuleNotification moduleNotification, Register register) {
-        this.handlers = Map.of(
-                RoutingCommon.FrameType.C_Connect, new ConnectRouterFrameHandler(moduleNotification, register),
+    /**
+     * 按帧类型编号索引的处理器
+     */
+    private final RouterFrameHandler<?>[] handlers;
+    private final RoutingDispatcher dispatcher;
+    private final RoutingMetrics metrics;
+
+    RockyRoutingFrameRouter(ModuleNotification moduleNotification, Register register, RoutingDispatcher dispatcher,
+                            ConnectAdmission admission, AccessKeyVerifier accessKeyVerifier,
+                            SuspectInstances suspectInstances, RoutingMetrics metrics) {
+        this.dispatcher = dispatcher;
+        this.metrics = metrics;
+        var connectHandler = new ConnectRouterFrameHandler(moduleNotification, register, admission, accessKeyVerifier,
+                suspectInstances);
+        this.handlers = handlerTable(Map.of(
+                RoutingCommon.FrameType.C_Connect, connectHandler,
                 RoutingCommon.FrameType.C_HealthIdle, new HealthRouterFrameHandler(register),
                 RoutingCommon.FrameType.C_Active, new ActiveRouterFrameHandler(register),
-                RoutingCommon.FrameType.C_Disable, new InactiveRouterFrameHandler(register)
-        );
+                RoutingCommon.FrameType.C_Disable, new InactiveRouterFrameHandler(register),
+                RoutingCommon.FrameType.C_Batch, new BatchRouterFrameHandler(connectHandler, register, moduleNotification,
+                        metrics),
+                RoutingCommon.FrameType.C_Ack, new AckRouterFrameHandler(moduleNotification),
+                RoutingCommon.FrameType.C_Resync, new ResyncRouterFrameHandler(moduleNotification),
+                RoutingCommon.FrameType.C_Subscribe, new SubscribeRouterFrameHandler(moduleNotification)
+        ));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public void listen(AlpsSession session, Frame frame) {
-        Thread.startVirtualThread(() -> {
-            var rFrame = (RoutingFrame) frame;
-            var data = rFrame.frameData();
-            if (data == null) {
-                return;
-            }
-            try {
-                var routingFrame = RoutingCommon.RoutingFrame.parseFrom(data);
-                if (!handlers.containsKey(routingFrame.getType())) {
-                    log.error("router receive an unknown frame type. {}", routingFrame.getType());
-                    return;
-                }
-                var routerFrameHandler = (RouterFrameHandler<MessageLite>) handlers.get(routingFrame.getType());
-                routerFrameHandler.handle(session, routerFrameHandler.decode(routingFrame.getFrame()));
-            } catch (Exception ex) {
-                log.error("router receive error", ex);
+        var data = ((RoutingFrame) frame).frameData();
+        if (data == null) {
+            return;
+        }
+        RawRoutingFrame routingFrame;
+        try {
+            routingFrame = RawRoutingFrame.parse(data);
+        } catch (Exception ex) {
+            log.error("router receive error", ex);
+            metrics.error(-1, ex);
+            return;
+        }
+        int type = routingFrame.type();
+        // 连接和批量帧包含实例的注册信息，队列满时不丢弃
+        boolean discardable = type != RoutingCommon.FrameType.C_Connect_VALUE
+                && type != RoutingCommon.FrameType.C_Batch_VALUE;
+        dispatcher.dispatchAsync(session, () -> handle(session, routingFrame), discardable);
+    }
+
+    private CompletableFuture<Void> handle(AlpsSession session, RawRoutingFrame routingFrame) {
+        int type = routingFrame.type();
+        try {
+            metrics.received(type);
+            var routerFrameHandler = handler(type);
+            if (routerFrameHandler == null) {
+                log.error("router receive an unknown frame type. {}", type);
+                metrics.error(type, "UnknownFrameType");
+                return RouterFrameHandler.DONE;
             }
-        });
+            long start = System.nanoTime();
+            var message = routerFrameHandler.decode(routingFrame.payload());
+            long decoded = System.nanoTime();
+            metrics.decoded(type, decoded - start);
+            return routerFrameHandler.handle(session, message)
+                    .whenComplete((v, ex) -> metrics.handled(type, System.nanoTime() - decoded))
+                    .exceptionally(ex -> {
+                        log.error("router receive error", ex);
+                        metrics.error(type, ex);
+                        return null;
+                    });
+        } catch (Exception ex) {
+            log.error("router receive error", ex);
+            metrics.error(type, ex);
+            return RouterFrameHandler.DONE;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RouterFrameHandler<MessageLite> handler(int type) {
+        if (type < 0 || type >= handlers.length) {
+            return null;
+        }
+        return (RouterFrameHandler<MessageLite>) handlers[type];
+    }
+
+    private static RouterFrameHandler<?>[] handlerTable(Map<RoutingCommon.FrameType, RouterFrameHandler<?>> handlers) {
+        int max = handlers.keySet().stream().mapToInt(RoutingCommon.FrameType::getNumber).max().orElse(-1);
+        var table = new RouterFrameHandler<?>[max + 1];
+        handlers.forEach((type, handler) -> table[type.getNumber()] = handler);
+        return table;
     }
 }
 
@@ -54,20 +118,33 @@ interface RouterFrameHandler<T extends MessageLite> {
     String INSTANCE_KEY = "InstanceKey";
     String NAMESPACE_KEY = "NamespaceKey";
     String MODULE_KEY = "ModuleKey";
+    String REGISTER_KEY = "RegisterKey";
+    CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
 
     T decode(ByteString data) throws Exception;
 
-    void handle(AlpsSession session, T frame) throws Exception;
+    /**
+     * @return 处理完成，完成前不会处理同一个session的后续帧
+     */
+    CompletableFuture<Void> handle(AlpsSession session, T frame) throws Exception;
 }
 
+@Slf4j
 class ConnectRouterFrameHandler implements RouterFrameHandler<RoutingClient.ServiceInfo> {
 
     private final ModuleNotification moduleNotification;
     private final Register register;
+    private final ConnectAdmission admission;
+    private final AccessKeyVerifier accessKeyVerifier;
+    private final SuspectInstances suspectInstances;
 
-    ConnectRouterFrameHandler(ModuleNotification moduleNotification, Register register) {
+    ConnectRouterFrameHandler(ModuleNotification moduleNotification, Register register, ConnectAdmission admission,
+                              AccessKeyVerifier accessKeyVerifier, SuspectInstances suspectInstances) {
         this.moduleNotification = moduleNotification;
         this.register = register;
+        this.admission = admission;
+        this.accessKeyVerifier = accessKeyVerifier;
+        this.suspectInstances = suspectInstances;
     }
 
     @Override
@@ -76,33 +153,100 @@ class ConnectRouterFrameHandler implements RouterFrameHandler<RoutingClient.Serv
     }
 
     @Override
-    public void handle(AlpsSession session, RoutingClient.ServiceInfo frame) throws Exception {
+    public CompletableFuture<Void> handle(AlpsSession session, RoutingClient.ServiceInfo frame) throws Exception {
         var accessKey = frame.getAccessKey();
-        if (!isValid(accessKey)) {
+        if (!isValid(frame.getNamespace(), accessKey)) {
             ((AlpsEnhancedSession) session).error()
                     .code(RoutingErrors.Code.ACCESS_KEY_INVALID_VALUE)
                     .send();
-            return;
+            return DONE;
+        }
+        var previous = suspectInstances.recover(frame.getNamespace(), frame.getInstanceId());
+        if (previous != null) {
+            return reattach(session, frame, previous);
         }
+        var reconnect = admission.isReconnect(frame.getNamespace(), frame.getInstanceId());
+        return admission.acquire(reconnect)
+                .thenCompose(v -> {
+                    admission.admitted(frame.getNamespace(), frame.getInstanceId());
+                    return suspectInstances.removed(frame.getNamespace(), frame.getInstanceId());
+                })
+                .thenCompose(v -> connect(session, frame))
+                .exceptionally(ex -> {
+                    var cause = ex instanceof CompletionException ? ex.getCause() : ex;
+                    if (cause instanceof ConnectAdmission.AdmissionRejectedException rejected) {
+                        retryLater(session, rejected.retryAfterMillis());
+                        return null;
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    private CompletableFuture<Void> connect(AlpsSession session, RoutingClient.ServiceInfo frame) {
+        var info = attach(session, frame);
+        return register.registerInstance(info);
+    }
+
+    /**
+     * 宽限期内重连，注册信息没有变化时只更新上报数据
+     */
+    private CompletableFuture<Void> reattach(AlpsSession session, RoutingClient.ServiceInfo frame,
+                                            RegisterInstanceInfo previous) {
+        var info = attach(session, frame);
+        if (info.instanceInfo().equals(previous.instanceInfo()) && info.modules().equals(previous.modules())) {
+            return register.updateInstance(info.namespace(), frame.getInstanceId(), info.extra());
+        }
+        return register.removeInstance(info.namespace(), frame.getInstanceId())
+                .thenCompose(v -> register.registerInstance(info));
+    }
+
+    private RegisterInstanceInfo attach(AlpsSession session, RoutingClient.ServiceInfo frame) {
         var instanceId = frame.getInstanceId();
         var namespace = frame.getNamespace();
         var instance = new InstanceInfo(frame.getProfile(), instanceId, frame.getIp(), frame.getPort(), false);
         var modules = frame.getModulesList().stream().toList();
+        var info = new RegisterInstanceInfo(namespace, instance, modules, frame.getMsgMap());
         session.attr(INSTANCE_KEY, instanceId);
         session.attr(NAMESPACE_KEY, namespace);
         session.attr(MODULE_KEY, modules);
+        session.attr(REGISTER_KEY, info);
+        session.attr(ModuleNotification.ACKED_KEY, new ConcurrentHashMap<String, Long>());
+        if (frame.getCompression()) {
+            session.attr(ModuleNotification.COMPRESSION_KEY, Boolean.TRUE);
+        }
+        if (frame.getSubscribe()) {
+            Set<String> subscriptions = ConcurrentHashMap.newKeySet();
+            subscriptions.addAll(frame.getSubscriptionsList());
+            session.attr(ModuleNotification.SUBSCRIPTIONS_KEY, subscriptions);
+        }
         moduleNotification.register(namespace, instanceId, session);
-        register.registerInstance(new RegisterInstanceInfo(namespace, instance, modules, frame.getMsgMap()));
+        if (frame.getSubscribe()) {
+            // 订阅的模块不等下次变化，连接后立即推送
+            moduleNotification.resync(namespace, session, frame.getSubscriptionsList());
+        }
+        return info;
+    }
+
+    /**
+     * 通知客户端稍后重新连接
+     */
+    private void retryLater(AlpsSession session, long retryAfterMillis) {
+        log.warn("too many connections, ask client retry after {}ms", retryAfterMillis);
+        var errorInfo = RoutingServer.ErrorInfo.newBuilder()
+                .setCode(RoutingErrors.Code.CONNECT_RETRY_LATER)
+                .setRetryAfterMillis(retryAfterMillis)
+                .build();
+        session.send(RoutingPackets.packet(RoutingCommon.FrameType.S_Error, errorInfo));
     }
 
     /**
      * 验证是否可以连接
      *
+     * @param namespace 命名空间
      * @param accessKey 密钥
      */
-    private boolean isValid(String accessKey) {
-        // TODO
-        return true;
+    private boolean isValid(String namespace, String accessKey) {
+        return accessKeyVerifier.verify(namespace, accessKey);
     }
 
 }
@@ -121,13 +265,13 @@ class HealthRouterFrameHandler implements RouterFrameHandler<RoutingClient.Healt
     }
 
     @Override
-    public void handle(AlpsSession session, RoutingClient.HealthIdleInfo frame) throws Exception {
+    public CompletableFuture<Void> handle(AlpsSession session, RoutingClient.HealthIdleInfo frame) throws Exception {
         String instanceId = session.attr(INSTANCE_KEY);
         if (instanceId == null) {
-            return;
+            return DONE;
         }
         String namespace = session.attr(NAMESPACE_KEY);
-        register.updateInstance(namespace, instanceId, frame.getMsgMap());
+        return register.updateInstance(namespace, instanceId, frame.getMsgMap());
     }
 }
 
@@ -145,13 +289,13 @@ class ActiveRouterFrameHandler implements RouterFrameHandler<RoutingClient.UpSer
     }
 
     @Override
-    public void handle(AlpsSession session, RoutingClient.UpServiceInfo frame) throws Exception {
+    public CompletableFuture<Void> handle(AlpsSession session, RoutingClient.UpServiceInfo frame) throws Exception {
         String instanceId = session.attr(INSTANCE_KEY);
         if (instanceId == null) {
-            return;
+            return DONE;
         }
         String namespace = session.attr(NAMESPACE_KEY);
-        register.updateInstance(namespace, instanceId, frame.getMsgMap(), true);
+        return register.updateInstance(namespace, instanceId, frame.getMsgMap(), true);
     }
 }
 
@@ -169,13 +313,196 @@ class InactiveRouterFrameHandler implements RouterFrameHandler<RoutingClient.Dow
     }
 
     @Override
-    public void handle(AlpsSession session, RoutingClient.DownServiceInfo frame) throws Exception {
+    public CompletableFuture<Void> handle(AlpsSession session, RoutingClient.DownServiceInfo frame) throws Exception {
         String instanceId = session.attr(INSTANCE_KEY);
         if (instanceId == null) {
-            return;
+            return DONE;
         }
         String namespace = session.attr(NAMESPACE_KEY);
-        register.updateInstance(namespace, instanceId, frame.getMsgMap(), false);
+        return register.updateInstance(namespace, instanceId, frame.getMsgMap(), false);
+    }
+}
+
+class AckRouterFrameHandler implements RouterFrameHandler<RoutingClient.ModuleAck> {
+
+    private final ModuleNotification moduleNotification;
+
+    AckRouterFrameHandler(ModuleNotification moduleNotification) {
+        this.moduleNotification = moduleNotification;
+    }
+
+    @Override
+    public RoutingClient.ModuleAck decode(ByteString data) throws Exception {
+        return RoutingClient.ModuleAck.parseFrom(data);
+    }
+
+    @Override
+    public CompletableFuture<Void> handle(AlpsSession session, RoutingClient.ModuleAck frame) throws Exception {
+        moduleNotification.ack(session.attr(NAMESPACE_KEY), session, frame.getModuleName(), frame.getRevision());
+        return DONE;
+    }
+}
+
+/**
+ * 客户端发现版本不连续，推送模块的全量信息
+ */
+class ResyncRouterFrameHandler implements RouterFrameHandler<RoutingClient.ResyncInfo> {
+
+    private final ModuleNotification moduleNotification;
+
+    ResyncRouterFrameHandler(ModuleNotification moduleNotification) {
+        this.moduleNotification = moduleNotification;
+    }
+
+    @Override
+    public RoutingClient.ResyncInfo decode(ByteString data) throws Exception {
+        return RoutingClient.ResyncInfo.parseFrom(data);
+    }
+
+    @Override
+    public CompletableFuture<Void> handle(AlpsSession session, RoutingClient.ResyncInfo frame) throws Exception {
+        String namespace = session.attr(NAMESPACE_KEY);
+        if (namespace != null) {
+            moduleNotification.resync(namespace, session, frame.getModuleNamesList());
+        }
+        return DONE;
+    }
+}
+
+class SubscribeRouterFrameHandler implements RouterFrameHandler<RoutingClient.SubscribeInfo> {
+
+    private final ModuleNotification moduleNotification;
+
+    SubscribeRouterFrameHandler(ModuleNotification moduleNotification) {
+        this.moduleNotification = moduleNotification;
+    }
+
+    @Override
+    public RoutingClient.SubscribeInfo decode(ByteString data) throws Exception {
+        return RoutingClient.SubscribeInfo.parseFrom(data);
+    }
+
+    @Override
+    public CompletableFuture<Void> handle(AlpsSession session, RoutingClient.SubscribeInfo frame) throws Exception {
+        String namespace = session.attr(NAMESPACE_KEY);
+        if (namespace != null) {
+            moduleNotification.subscribe(namespace, session, frame.getModuleNamesList());
+        }
+        return DONE;
+    }
+}
+
+/**
+ * 批量操作，按顺序执行，连续的状态更新合并为一次注册中心写入
+ */
+@Slf4j
+class BatchRouterFrameHandler implements RouterFrameHandler<RoutingClient.BatchInfo> {
+
+    private final ConnectRouterFrameHandler connectHandler;
+    private final Register register;
+    private final ModuleNotification moduleNotification;
+    private final RoutingMetrics metrics;
+
+    BatchRouterFrameHandler(ConnectRouterFrameHandler connectHandler, Register register,
+                            ModuleNotification moduleNotification, RoutingMetrics metrics) {
+        this.connectHandler = connectHandler;
+        this.register = register;
+        this.moduleNotification = moduleNotification;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public RoutingClient.BatchInfo decode(ByteString data) throws Exception {
+        return RoutingClient.BatchInfo.parseFrom(data);
+    }
+
+    @Override
+    public CompletableFuture<Void> handle(AlpsSession session, RoutingClient.BatchInfo frame) throws Exception {
+        return handle(session, frame.getFramesList(), 0);
+    }
+
+    private CompletableFuture<Void> handle(AlpsSession session, List<RoutingCommon.RoutingFrame> frames, int from) throws Exception {
+        var update = new PendingUpdate();
+        for (int i = from; i < frames.size(); i++) {
+            var routingFrame = frames.get(i);
+            metrics.batched(routingFrame.getTypeValue());
+            switch (routingFrame.getType()) {
+                case C_Connect -> {
+                    var connectInfo = connectHandler.decode(routingFrame.getFrame());
+                    int next = i + 1;
+                    // 连接可能需要排队，等连接完成后再处理剩下的帧
+                    return update.apply(session, register)
+                            .thenCompose(v -> {
+                                try {
+                                    return connectHandler.handle(session, connectInfo);
+                                } catch (Exception ex) {
+                                    return CompletableFuture.failedFuture(ex);
+                                }
+                            })
+                            .thenCompose(v -> {
+                                try {
+                                    return handle(session, frames, next);
+                                } catch (Exception ex) {
+                                    return CompletableFuture.failedFuture(ex);
+                                }
+                            });
+                }
+                case C_HealthIdle -> update.extra = RoutingClient.HealthIdleInfo.parseFrom(routingFrame.getFrame()).getMsgMap();
+                case C_Active -> {
+                    update.extra = RoutingClient.UpServiceInfo.parseFrom(routingFrame.getFrame()).getMsgMap();
+                    update.active = Boolean.TRUE;
+                }
+                case C_Disable -> {
+                    update.extra = RoutingClient.DownServiceInfo.parseFrom(routingFrame.getFrame()).getMsgMap();
+                    update.active = Boolean.FALSE;
+                }
+                case C_Ack -> {
+                    var ack = RoutingClient.ModuleAck.parseFrom(routingFrame.getFrame());
+                    moduleNotification.ack(session.attr(NAMESPACE_KEY), session, ack.getModuleName(), ack.getRevision());
+                }
+                case C_Resync -> {
+                    String namespace = session.attr(NAMESPACE_KEY);
+                    if (namespace != null) {
+                        moduleNotification.resync(namespace, session,
+                                RoutingClient.ResyncInfo.parseFrom(routingFrame.getFrame()).getModuleNamesList());
+                    }
+                }
+                case C_Subscribe -> {
+                    String namespace = session.attr(NAMESPACE_KEY);
+                    if (namespace != null) {
+                        moduleNotification.subscribe(namespace, session,
+                                RoutingClient.SubscribeInfo.parseFrom(routingFrame.getFrame()).getModuleNamesList());
+                    }
+                }
+                default -> log.error("batch frame contains an unsupported frame type. {}", routingFrame.getType());
+            }
+        }
+        return update.apply(session, register);
+    }
+
+    /**
+     * 合并后的实例状态
+     */
+    private static class PendingUpdate {
+        private Map<String, String> extra;
+        private Boolean active;
+
+        CompletableFuture<Void> apply(AlpsSession session, Register register) {
+            if (extra == null) {
+                return DONE;
+            }
+            String instanceId = session.attr(INSTANCE_KEY);
+            var future = DONE;
+            if (instanceId != null) {
+                String namespace = session.attr(NAMESPACE_KEY);
+                future = active == null
+                        ? register.updateInstance(namespace, instanceId, extra)
+                        : register.updateInstance(namespace, instanceId, extra, active);
+            }
+            extra = null;
+            active = null;
+            return future;
+        }
     }
 }
 
@@ -185,12 +512,20 @@ class RockySessionListener implements SessionListener {
 
     static final String INSTANCE_KEY = "InstanceKey";
     static final String NAMESPACE_KEY = "NamespaceKey";
+    static final String REGISTER_KEY = "RegisterKey";
     private final Register register;
     private final ModuleNotification moduleNotification;
+    private final RoutingDispatcher dispatcher;
+    private final ConnectAdmission admission;
+    private final SuspectInstances suspectInstances;
 
-    RockySessionListener(Register register, ModuleNotification moduleNotification) {
+    RockySessionListener(Register register, ModuleNotification moduleNotification, RoutingDispatcher dispatcher,
+                         ConnectAdmission admission, SuspectInstances suspectInstances) {
         this.register = register;
         this.moduleNotification = moduleNotification;
+        this.dispatcher = dispatcher;
+        this.admission = admission;
+        this.suspectInstances = suspectInstances;
     }
 
     @Override
@@ -200,15 +535,24 @@ class RockySessionListener implements SessionListener {
 
     @Override
     public void disconnect(AlpsSession session) {
-        Thread.startVirtualThread(() -> {
+        // 与该session的路由帧走同一个邮箱，保证断开处理在之前的帧之后执行
+        dispatcher.release(session, () -> {
             try {
                 String instanceId = session.attr(INSTANCE_KEY);
                 if (instanceId == null) {
                     return;
                 }
                 String namespace = session.attr(NAMESPACE_KEY);
-                register.removeInstance(namespace, instanceId);
+                RegisterInstanceInfo info = session.attr(REGISTER_KEY);
                 moduleNotification.unRegister(namespace, instanceId);
+                // 标记断开后实例才能在宽限期内被其他路由接管
+                register.suspectInstance(namespace, instanceId).exceptionally(ex -> {
+                    log.warn("suspect instance failed. {} {}", namespace, instanceId, ex);
+                    return null;
+                });
+                // 宽限期内重连时不删除实例
+                suspectInstances.suspect(namespace, instanceId, info, () -> register.removeInstance(namespace, instanceId)
+                        .thenRun(() -> admission.departed(namespace, instanceId)));
             } catch (Exception ex) {
                 log.error("监听断开事件异常", ex);
             }
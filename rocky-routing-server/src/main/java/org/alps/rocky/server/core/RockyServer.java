@@ -10,17 +10,31 @@ public class RockyServer {
     private final FrameListeners frameListeners;
     private final ModuleNotification moduleNotification;
     private final Register register;
+    private final RoutingDispatcher dispatcher;
+    private final ConnectAdmission admission;
+    private final AccessKeyVerifier accessKeyVerifier;
+    private final SuspectInstances suspectInstances;
+    private final RoutingMetrics metrics;
 
-    public RockyServer(AlpsServer alpsServer, FrameListeners frameListeners, ModuleNotification moduleNotification, Register register) {
+    public RockyServer(AlpsServer alpsServer, FrameListeners frameListeners, ModuleNotification moduleNotification,
+                       Register register, RoutingDispatcher dispatcher, ConnectAdmission admission,
+                       AccessKeyVerifier accessKeyVerifier, SuspectInstances suspectInstances,
+                       RoutingMetrics metrics) {
         this.alpsServer = alpsServer;
         this.frameListeners = frameListeners;
         this.moduleNotification = moduleNotification;
         this.register = register;
+        this.dispatcher = dispatcher;
+        this.admission = admission;
+        this.accessKeyVerifier = accessKeyVerifier;
+        this.suspectInstances = suspectInstances;
+        this.metrics = metrics;
     }
 
     void start() {
         alpsServer.start();
-        frameListeners.addFrameListener(RoutingFrame.class, new RockyRoutingFrameRouter(moduleNotification, register));
+        frameListeners.addFrameListener(RoutingFrame.class, new RockyRoutingFrameRouter(moduleNotification, register,
+                dispatcher, admission, accessKeyVerifier, suspectInstances, metrics));
     }
 
     void close() {
@@ -0,0 +1,12 @@
+package org.alps.rocky.server.core;
+
+/**
+ * 路由的负载，由路由定期写入自己的路由节点
+ *
+ * @param sessions    连接到路由的实例数
+ * @param utilization 事件循环线程和分发线程的利用率，0到1
+ */
+public record RouterLoad(int sessions, double utilization) {
+
+    public static final RouterLoad EMPTY = new RouterLoad(0, 0);
+}
@@ -0,0 +1,125 @@
+package org.alps.rocky.server.core;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 定期统计当前路由的连接数和处理线程的利用率，发布到注册中心
+ * <p>
+ * 利用率为两次统计之间事件循环线程和分发线程的CPU时间占比，线程等待IO时不占用CPU
+ */
+@Slf4j
+public class RouterLoadMonitor {
+
+    private final ServerRegister serverRegister;
+    private final ModuleNotification moduleNotification;
+    private final List<EventLoopGroup> groups;
+    private final RoutingDispatcher dispatcher;
+    private final long intervalMillis;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("rocky-router-load").daemon().factory());
+    /**
+     * 事件循环线程的ID，第一次统计时获取
+     */
+    private long[] threadIds;
+    /**
+     * 上次统计时每个线程的CPU时间，分发线程可能被替换，按线程分别计算
+     */
+    private Map<Long, Long> lastCpuTimes = new HashMap<>();
+    private long lastSampleTime;
+
+    /**
+     * @param groups     统计利用率的事件循环
+     * @param dispatcher 统计利用率的分发线程
+     * @param interval   发布间隔
+     */
+    public RouterLoadMonitor(ServerRegister serverRegister, ModuleNotification moduleNotification,
+                             List<EventLoopGroup> groups, RoutingDispatcher dispatcher, Duration interval) {
+        this.serverRegister = serverRegister;
+        this.moduleNotification = moduleNotification;
+        this.groups = groups;
+        this.dispatcher = dispatcher;
+        this.intervalMillis = interval.toMillis();
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::publish, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void publish() {
+        try {
+            serverRegister.publishLoad(new RouterLoad(moduleNotification.sessions(), utilization()));
+        } catch (Exception ex) {
+            log.error("publish router load error", ex);
+        }
+    }
+
+    /**
+     * @return 保留两位小数的利用率，负载没有明显变化时客户端的ETag不变
+     */
+    double utilization() throws Exception {
+        if (!threadMXBean.isThreadCpuTimeSupported()) {
+            return 0;
+        }
+        if (threadIds == null) {
+            threadIds = threadIds();
+        }
+        Map<Long, Long> cpuTimes = new HashMap<>();
+        sample(threadIds, cpuTimes);
+        sample(dispatcher.threadIds(), cpuTimes);
+        long used = 0;
+        for (Map.Entry<Long, Long> entry : cpuTimes.entrySet()) {
+            used += entry.getValue() - lastCpuTimes.getOrDefault(entry.getKey(), entry.getValue());
+        }
+        long now = System.nanoTime();
+        double utilization = 0;
+        if (lastSampleTime != 0 && !cpuTimes.isEmpty()) {
+            utilization = (double) used / ((now - lastSampleTime) * cpuTimes.size());
+        }
+        lastCpuTimes = cpuTimes;
+        lastSampleTime = now;
+        return Math.round(Math.min(Math.max(utilization, 0), 1) * 100) / 100.0;
+    }
+
+    /**
+     * 读取线程的CPU时间，已经结束的线程不统计
+     */
+    private void sample(long[] ids, Map<Long, Long> cpuTimes) {
+        for (long threadId : ids) {
+            long cpuTime = threadMXBean.getThreadCpuTime(threadId);
+            if (cpuTime >= 0) {
+                cpuTimes.put(threadId, cpuTime);
+            }
+        }
+    }
+
+    /**
+     * 在每个事件循环中执行任务获取线程ID
+     */
+    private long[] threadIds() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (EventLoopGroup group : groups) {
+            for (EventExecutor executor : group) {
+                ids.add(executor.submit(() -> Thread.currentThread().threadId()).get(1, TimeUnit.SECONDS));
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,59 @@
+package org.alps.rocky.server.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 路由列表的不可变快照
+ *
+ * @param routers    路由列表
+ * @param loads      路由的负载，没有上报负载的路由不在其中
+ * @param statuses   带负载的路由列表
+ * @param etag       按路由列表计算的ETag，内容相同的列表在所有路由上得到相同的值
+ * @param statusEtag 按带负载的路由列表计算的ETag
+ */
+public record RouterSnapshot(List<RegisterRouter> routers, Map<RegisterRouter, RouterLoad> loads,
+                             List<RouterStatus> statuses, String etag, String statusEtag) {
+
+    public static RouterSnapshot of(List<RegisterRouter> routers) {
+        return of(routers, Map.of());
+    }
+
+    public static RouterSnapshot of(List<RegisterRouter> routers, Map<RegisterRouter, RouterLoad> loads) {
+        var crc = new CRC32();
+        for (RegisterRouter router : routers) {
+            crc.update((router.ip() + "_" + router.port() + ",").getBytes(StandardCharsets.UTF_8));
+        }
+        var etag = Long.toHexString(crc.getValue());
+        var statuses = routers.stream()
+                .map(e -> RouterStatus.of(e, loads.getOrDefault(e, RouterLoad.EMPTY)))
+                .toList();
+        for (RouterStatus status : statuses) {
+            crc.update((status.sessions() + "_" + status.utilization() + ",").getBytes(StandardCharsets.UTF_8));
+        }
+        return new RouterSnapshot(List.copyOf(routers), Map.copyOf(loads), statuses,
+                "\"" + etag + "\"", "\"" + Long.toHexString(crc.getValue()) + "\"");
+    }
+
+    /**
+     * @return 替换一个路由的负载，路由不在列表中时返回当前快照
+     */
+    public RouterSnapshot withLoad(RegisterRouter router, RouterLoad load) {
+        if (!routers.contains(router) || load.equals(loads.get(router))) {
+            return this;
+        }
+        var copy = new HashMap<>(loads);
+        copy.put(router, load);
+        return of(routers, copy);
+    }
+
+    /**
+     * @return 只包含指定路由的快照，负载沿用当前快照
+     */
+    public RouterSnapshot subset(List<RegisterRouter> owners) {
+        return of(owners, loads);
+    }
+}
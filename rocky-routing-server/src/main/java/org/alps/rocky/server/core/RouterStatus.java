@@ -0,0 +1,16 @@
+package org.alps.rocky.server.core;
+
+/**
+ * 带负载的路由地址，客户端按负载选择路由
+ *
+ * @param ip          路由地址
+ * @param port        路由端口
+ * @param sessions    连接到路由的实例数
+ * @param utilization 事件循环线程和分发线程的利用率，0到1
+ */
+public record RouterStatus(String ip, int port, int sessions, double utilization) {
+
+    static RouterStatus of(RegisterRouter router, RouterLoad load) {
+        return new RouterStatus(router.ip(), router.port(), load.sessions(), load.utilization());
+    }
+}
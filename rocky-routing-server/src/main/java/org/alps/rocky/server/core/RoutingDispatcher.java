@@ -0,0 +1,64 @@
+package org.alps.rocky.server.core;
+
+import org.alps.core.AlpsSession;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * 路由帧的分发阶段
+ */
+public interface RoutingDispatcher {
+
+    /**
+     * 提交任务，同一个session的任务按照提交顺序串行执行
+     *
+     * @param session 会话
+     * @param task    任务
+     */
+    void dispatch(AlpsSession session, Runnable task);
+
+    /**
+     * 提交异步任务，返回的CompletionStage完成之前不会执行该session的后续任务，也不会占用线程
+     *
+     * @param session 会话
+     * @param task    任务
+     */
+    default void dispatchAsync(AlpsSession session, Supplier<? extends CompletionStage<?>> task) {
+        dispatchAsync(session, task, true);
+    }
+
+    /**
+     * 提交异步任务
+     *
+     * @param session     会话
+     * @param task        任务
+     * @param discardable 队列满时是否可以丢弃，不可丢弃的任务超出队列长度也会执行
+     */
+    void dispatchAsync(AlpsSession session, Supplier<? extends CompletionStage<?>> task, boolean discardable);
+
+    /**
+     * 释放session占用的资源，已提交的任务仍然会执行，之后提交的任务被忽略
+     *
+     * @param session   会话
+     * @param lastTask  最后执行的任务(不受队列长度限制)
+     */
+    void release(AlpsSession session, Runnable lastTask);
+
+    /**
+     * @return 等待执行的任务数
+     */
+    int queueDepth();
+
+    /**
+     * @return 队列满时丢弃的任务数
+     */
+    long discarded();
+
+    /**
+     * @return 执行任务的线程ID，用于统计路由的利用率
+     */
+    long[] threadIds();
+
+    void close();
+}
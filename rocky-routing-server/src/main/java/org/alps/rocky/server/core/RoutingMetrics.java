@@ -0,0 +1,198 @@
+package org.alps.rocky.server.core;
+
+import io.micrometer.core.instrument.*;
+import org.alps.rocky.core.proto.RoutingCommon;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 路由处理过程的指标
+ * <p>
+ * 按帧类型的指标在创建时按帧类型编号预先生成，热点路径上不需要查找
+ */
+public class RoutingMetrics {
+
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final MeterRegistry registry;
+    private final Counter[] frames;
+    private final Counter[] batchedFrames;
+    private final Timer[] decodeTimers;
+    private final Timer[] handleTimers;
+
+    public RoutingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        int size = 0;
+        for (RoutingCommon.FrameType type : frameTypes()) {
+            size = Math.max(size, type.getNumber() + 1);
+        }
+        this.frames = new Counter[size];
+        this.batchedFrames = new Counter[size];
+        this.decodeTimers = new Timer[size];
+        this.handleTimers = new Timer[size];
+        for (RoutingCommon.FrameType type : frameTypes()) {
+            int i = type.getNumber();
+            var name = type.name();
+            frames[i] = Counter.builder("rocky.router.frames")
+                    .description("收到的路由帧")
+                    .tag("type", name)
+                    .register(registry);
+            batchedFrames[i] = Counter.builder("rocky.router.batched.frames")
+                    .description("批量帧中包含的路由帧")
+                    .tag("type", name)
+                    .register(registry);
+            decodeTimers[i] = Timer.builder("rocky.router.decode")
+                    .description("解析路由帧的耗时")
+                    .tag("type", name)
+                    .register(registry);
+            handleTimers[i] = Timer.builder("rocky.router.handle")
+                    .description("处理路由帧的耗时，包含等待连接准入和注册中心的时间")
+                    .tag("type", name)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+
+    void received(int type) {
+        if (valid(type)) {
+            frames[type].increment();
+        }
+    }
+
+    void batched(int type) {
+        if (valid(type)) {
+            batchedFrames[type].increment();
+        }
+    }
+
+    void decoded(int type, long nanos) {
+        if (valid(type)) {
+            decodeTimers[type].record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void handled(int type, long nanos) {
+        if (valid(type)) {
+            handleTimers[type].record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void error(int type, Throwable ex) {
+        var cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        error(type, cause.getClass().getSimpleName());
+    }
+
+    void error(int type, String cause) {
+        registry.counter("rocky.router.errors", "type", typeName(type), "cause", cause).increment();
+    }
+
+    /**
+     * 命名空间当前连接的实例数
+     */
+    void namespaceSessions(String namespace, Map<?, ?> sessions) {
+        Gauge.builder("rocky.namespace.sessions", sessions, Map::size)
+                .description("命名空间连接的实例数")
+                .tag("namespace", namespace)
+                .register(registry);
+    }
+
+    /**
+     * @return 命名空间每次推送的session数
+     */
+    DistributionSummary fanout(String namespace) {
+        return DistributionSummary.builder("rocky.notify.fanout")
+                .description("每次推送模块变化的session数")
+                .tag("namespace", namespace)
+                .register(registry);
+    }
+
+    /**
+     * @return 命名空间每次推送的耗时
+     */
+    Timer fanoutTimer(String namespace) {
+        return Timer.builder("rocky.notify.duration")
+                .description("推送模块变化的耗时")
+                .tag("namespace", namespace)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * @param kind full或者delta
+     * @return 命名空间推送的模块信息帧数
+     */
+    Counter notifyFrames(String namespace, String kind) {
+        return Counter.builder("rocky.notify.frames")
+                .description("推送的模块信息帧数，按全量和增量区分")
+                .tag("namespace", namespace)
+                .tag("kind", kind)
+                .register(registry);
+    }
+
+    /**
+     * @param kind coalesced或者dropped
+     * @return 命名空间暂停推送期间合并和丢弃的模块变化数
+     */
+    Counter outboundUpdates(String namespace, String kind) {
+        return Counter.builder("rocky.notify.outbound")
+                .description("客户端处理不过来时合并和断开时丢弃的模块变化数")
+                .tag("namespace", namespace)
+                .tag("kind", kind)
+                .register(registry);
+    }
+
+    /**
+     * @return 命名空间因为长时间不确认推送被断开的session数
+     */
+    Counter slowSessions(String namespace) {
+        return Counter.builder("rocky.notify.slow.sessions")
+                .description("暂停推送后超过确认超时被断开的session数")
+                .tag("namespace", namespace)
+                .register(registry);
+    }
+
+    /**
+     * @return 收到的模块变化事件数
+     */
+    Counter notifyEvents() {
+        return Counter.builder("rocky.notify.events")
+                .description("收到的模块变化事件数")
+                .register(registry);
+    }
+
+    /**
+     * @return 合并后实际推送的模块变化数
+     */
+    Counter notifyPushes() {
+        return Counter.builder("rocky.notify.pushes")
+                .description("合并后推送的模块变化数")
+                .register(registry);
+    }
+
+    /**
+     * @return Zookeeper会话过期后恢复的耗时，从收到过期事件到所有实例重新注册完成
+     */
+    Timer sessionRecovery() {
+        return Timer.builder("rocky.zookeeper.recovery")
+                .description("Zookeeper会话过期后恢复的耗时")
+                .register(registry);
+    }
+
+    private boolean valid(int type) {
+        return type >= 0 && type < frames.length && frames[type] != null;
+    }
+
+    private static String typeName(int type) {
+        var frameType = RoutingCommon.FrameType.forNumber(type);
+        return frameType == null ? UNKNOWN : frameType.name();
+    }
+
+    private static RoutingCommon.FrameType[] frameTypes() {
+        return Arrays.stream(RoutingCommon.FrameType.values())
+                .filter(e -> e != RoutingCommon.FrameType.UNRECOGNIZED)
+                .toArray(RoutingCommon.FrameType[]::new);
+    }
+}
@@ -0,0 +1,114 @@
+package org.alps.rocky.server.core;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.WireFormat;
+import org.alps.core.AlpsPacket;
+import org.alps.core.datacoder.AlpsProtobufDataCoder;
+import org.alps.core.frame.RoutingFrame;
+import org.alps.core.proto.AlpsProtocol;
+import org.alps.core.support.AlpsDataBuilder;
+import org.alps.core.support.AlpsMetadataBuilder;
+import org.alps.rocky.core.proto.RoutingCommon;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.Deflater;
+
+/**
+ * 将路由帧封装为可以发送的数据包
+ * <p>
+ * 帧内容直接序列化到RoutingFrame的数组中，不经过中间的ByteString和RoutingFrame消息。
+ * 数据包不可变，广播时所有session共用一个
+ */
+final class RoutingPackets {
+
+    private static final AlpsProtobufDataCoder PROTOBUF_DATA_CODER = new AlpsProtobufDataCoder();
+    private static final int TYPE_FIELD = RoutingCommon.RoutingFrame.TYPE_FIELD_NUMBER;
+    private static final int FRAME_FIELD = RoutingCommon.RoutingFrame.FRAME_FIELD_NUMBER;
+
+    private RoutingPackets() {
+    }
+
+    static AlpsPacket packet(RoutingCommon.FrameType type, MessageLite frame) {
+        return packet(routingFrame(type, frame));
+    }
+
+    /**
+     * @param payload 已经编码的帧内容，例如压缩后的模块信息
+     */
+    static AlpsPacket packet(RoutingCommon.FrameType type, byte[] payload) {
+        return packet(routingFrame(type, payload.length, output -> output.writeRawBytes(payload)));
+    }
+
+    private static AlpsPacket packet(byte[] routingFrame) {
+        byte[] frameBytes = RoutingFrame.toBytes(routingFrame);
+        var alpsMetadata = new AlpsMetadataBuilder()
+                .frameType((byte) AlpsProtocol.AlpsPacket.FrameType.ROUTING_VALUE)
+                .frame(frameBytes)
+                .coder(PROTOBUF_DATA_CODER)
+                .build();
+        var alpsData = new AlpsDataBuilder()
+                .coder(PROTOBUF_DATA_CODER)
+                .build();
+        return new AlpsPacket(AlpsProtocol.AlpsPacket.ConnectType.ROUTEING_VALUE, AlpsPacket.ZERO_MODULE, alpsMetadata, alpsData, null);
+    }
+
+    /**
+     * @return 和{@code RoutingFrame{type, frame}.toByteArray()}相同的字节
+     */
+    static byte[] routingFrame(RoutingCommon.FrameType type, MessageLite frame) {
+        return routingFrame(type, frame.getSerializedSize(), frame::writeTo);
+    }
+
+    /**
+     * Deflate压缩，数据包广播时所有session共用，每次推送只压缩一次
+     */
+    static byte[] deflate(byte[] bytes) {
+        var deflater = new Deflater();
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            var output = new ByteArrayOutputStream(bytes.length / 4 + 64);
+            var buffer = new byte[8192];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] routingFrame(RoutingCommon.FrameType type, int frameSize, FrameWriter writer) {
+        // proto3不序列化默认值
+        int size = 0;
+        if (type.getNumber() != 0) {
+            size += CodedOutputStream.computeEnumSize(TYPE_FIELD, type.getNumber());
+        }
+        if (frameSize != 0) {
+            size += CodedOutputStream.computeTagSize(FRAME_FIELD) + CodedOutputStream.computeUInt32SizeNoTag(frameSize)
+                    + frameSize;
+        }
+        var bytes = new byte[size];
+        var output = CodedOutputStream.newInstance(bytes);
+        try {
+            if (type.getNumber() != 0) {
+                output.writeEnum(TYPE_FIELD, type.getNumber());
+            }
+            if (frameSize != 0) {
+                output.writeTag(FRAME_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                output.writeUInt32NoTag(frameSize);
+                writer.write(output);
+            }
+            output.checkNoSpaceLeft();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return bytes;
+    }
+
+    private interface FrameWriter {
+        void write(CodedOutputStream output) throws IOException;
+    }
+}
@@ -9,8 +9,28 @@ public interface ServerRegister {
      */
     void registerSelf();
 
+    /**
+     * 发布当前路由的负载
+     */
+    default void publishLoad(RouterLoad load) {
+    }
+
     /**
      * 所有可用的服务
      */
     List<RegisterRouter> all();
+
+    /**
+     * 所有可用的服务，带ETag
+     */
+    default RouterSnapshot routers() {
+        return RouterSnapshot.of(all());
+    }
+
+    /**
+     * 命名空间的实例应该连接的路由
+     */
+    default List<RegisterRouter> owners(String namespace) {
+        return all();
+    }
 }
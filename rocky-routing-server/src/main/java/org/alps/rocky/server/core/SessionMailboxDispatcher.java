@@ -0,0 +1,243 @@
+package org.alps.rocky.server.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.alps.core.AlpsSession;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 每个session一个串行邮箱，邮箱由固定大小的线程池轮流消费
+ */
+@Slf4j
+public class SessionMailboxDispatcher implements RoutingDispatcher {
+
+    private final Map<AlpsSession, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService carriers;
+    private final int mailboxCapacity;
+    /**
+     * 单次最多消费的任务数，避免一个session长期占用线程
+     */
+    private final int drainBatch;
+    private final MailboxOverflowPolicy overflowPolicy;
+    private final LongAdder discarded = new LongAdder();
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+    public SessionMailboxDispatcher(int carrierThreads, int mailboxCapacity, int drainBatch,
+                                    MailboxOverflowPolicy overflowPolicy) {
+        if (carrierThreads <= 0 || mailboxCapacity <= 0 || drainBatch <= 0) {
+            throw new IllegalArgumentException("dispatcher参数必须大于0");
+        }
+        var factory = Thread.ofPlatform().name("rocky-dispatcher-", 0).factory();
+        this.carriers = Executors.newFixedThreadPool(carrierThreads, r -> {
+            var thread = factory.newThread(r);
+            threads.add(thread);
+            return thread;
+        });
+        this.mailboxCapacity = mailboxCapacity;
+        this.drainBatch = drainBatch;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @Override
+    public void dispatch(AlpsSession session, Runnable task) {
+        dispatchAsync(session, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    @Override
+    public void dispatchAsync(AlpsSession session, Supplier<? extends CompletionStage<?>> task, boolean discardable) {
+        var mailbox = mailboxes.get(session);
+        if (mailbox == null) {
+            // 释放后邮箱已被删除，不再为断开的session创建邮箱
+            if (session.isClose()) {
+                log.debug("session is closed, ignore task");
+                return;
+            }
+            mailbox = mailboxes.computeIfAbsent(session, e -> new Mailbox());
+        }
+        mailbox.offer(new Task(task, discardable), false);
+    }
+
+    @Override
+    public void release(AlpsSession session, Runnable lastTask) {
+        var mailbox = mailboxes.computeIfAbsent(session, e -> new Mailbox());
+        mailbox.offer(new Task(() -> {
+            try {
+                lastTask.run();
+            } finally {
+                mailboxes.remove(session, mailbox);
+            }
+            return null;
+        }, false), true);
+    }
+
+    @Override
+    public int queueDepth() {
+        int depth = 0;
+        for (Mailbox mailbox : mailboxes.values()) {
+            depth += mailbox.size.get();
+        }
+        return depth;
+    }
+
+    @Override
+    public long discarded() {
+        return discarded.sum();
+    }
+
+    @Override
+    public long[] threadIds() {
+        threads.removeIf(e -> e.getState() == Thread.State.TERMINATED);
+        return threads.stream().mapToLong(Thread::threadId).toArray();
+    }
+
+    @Override
+    public void close() {
+        carriers.shutdown();
+        try {
+            if (!carriers.awaitTermination(5, TimeUnit.SECONDS)) {
+                carriers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            carriers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 队列中的任务，按引用比较，丢弃最早的任务时只删除这一个
+     */
+    private static final class Task {
+        private final Supplier<? extends CompletionStage<?>> supplier;
+        private final boolean discardable;
+
+        Task(Supplier<? extends CompletionStage<?>> supplier, boolean discardable) {
+            this.supplier = supplier;
+            this.discardable = discardable;
+        }
+    }
+
+    private class Mailbox implements Runnable {
+        private final Queue<Task> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        /**
+         * 已提交给线程池，或者正在等待异步任务完成
+         */
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        /**
+         * 已提交释放任务，之后的任务被忽略
+         */
+        private volatile boolean closed;
+
+        /**
+         * @param last 释放任务，不受队列长度限制
+         */
+        void offer(Task task, boolean last) {
+            if (closed) {
+                log.debug("session mailbox is released, ignore task");
+                return;
+            }
+            if (last) {
+                closed = true;
+                size.incrementAndGet();
+            } else if (!reserve()) {
+                if (overflowPolicy == MailboxOverflowPolicy.DISCARD_OLDEST && discardOldest()) {
+                    // 丢弃的任务让出的位置给新任务
+                    log.warn("session mailbox is full, discard the oldest task. capacity: {}", mailboxCapacity);
+                } else if (task.discardable) {
+                    log.warn("session mailbox is full, discard the newest task. capacity: {}", mailboxCapacity);
+                    discarded.increment();
+                    return;
+                } else {
+                    size.incrementAndGet();
+                }
+            }
+            queue.offer(task);
+            if (scheduled.compareAndSet(false, true)) {
+                execute();
+            }
+        }
+
+        /**
+         * 队列未满时占用一个位置，并发提交时不会超过队列长度
+         */
+        private boolean reserve() {
+            int current;
+            do {
+                current = size.get();
+                if (current >= mailboxCapacity) {
+                    return false;
+                }
+            } while (!size.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        /**
+         * 删除最早的可丢弃任务，和消费线程同时取到同一个任务时只有一方成功
+         */
+        private boolean discardOldest() {
+            for (Task task : queue) {
+                if (task.discardable && queue.remove(task)) {
+                    discarded.increment();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void execute() {
+            try {
+                carriers.execute(this);
+            } catch (RejectedExecutionException ex) {
+                scheduled.set(false);
+                log.warn("dispatcher is closed, ignore task");
+            }
+        }
+
+        @Override
+        public void run() {
+            Task task;
+            int count = 0;
+            while (count < drainBatch && (task = queue.poll()) != null) {
+                size.decrementAndGet();
+                count++;
+                CompletableFuture<?> future = null;
+                try {
+                    var stage = task.supplier.get();
+                    future = stage == null ? null : stage.toCompletableFuture();
+                } catch (Throwable ex) {
+                    log.error("dispatch task error", ex);
+                }
+                if (future != null && !future.isDone()) {
+                    // 等异步任务完成后继续消费，期间scheduled保持为true
+                    future.whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.error("dispatch task error", ex);
+                        }
+                        execute();
+                    });
+                    return;
+                }
+                if (future != null && future.isCompletedExceptionally()) {
+                    future.exceptionally(ex -> {
+                        log.error("dispatch task error", ex);
+                        return null;
+                    });
+                }
+            }
+            scheduled.set(false);
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                execute();
+            }
+        }
+    }
+}
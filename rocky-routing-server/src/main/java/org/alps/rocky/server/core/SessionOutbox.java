@@ -0,0 +1,128 @@
+package org.alps.rocky.server.core;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * session的推送流控，路由看不到连接的可写状态，用客户端的确认代替
+ * <p>
+ * 已发送还没有确认的字节超过高水位后暂停推送，期间变化的模块只记录模块名，同一个模块多次变化只保留一次，
+ * 确认后低于低水位时再按最新状态推送。内存只和模块数有关，和变化次数无关。
+ * 暂停后超过确认超时仍然没有收到确认的session视为处理不过来，包括不确认的旧版本客户端，由调用方断开
+ */
+class SessionOutbox {
+
+    private final int lowWaterMark;
+    private final int highWaterMark;
+    private final long ackTimeoutNanos;
+    private final Counter coalesced;
+    private final Counter dropped;
+    /**
+     * 每个模块最后发送的版本和还没有确认的字节数
+     */
+    private final Map<String, long[]> unackedModules = new HashMap<>();
+    private final LinkedHashSet<String> pending = new LinkedHashSet<>();
+    private long unacked;
+    private boolean paused;
+    /**
+     * 开始暂停或者最后一次收到确认的时间
+     */
+    private long progressNanos;
+
+    SessionOutbox(int lowWaterMark, int highWaterMark, Duration ackTimeout, Counter coalesced, Counter dropped) {
+        this.lowWaterMark = lowWaterMark;
+        this.highWaterMark = highWaterMark;
+        this.ackTimeoutNanos = ackTimeout.toNanos();
+        this.coalesced = coalesced;
+        this.dropped = dropped;
+    }
+
+    /**
+     * @return 暂停时记录模块等待确认后推送，返回true；没有暂停时返回false，由调用方立即推送
+     */
+    synchronized boolean defer(String moduleName) {
+        if (!paused) {
+            return false;
+        }
+        if (!pending.add(moduleName)) {
+            coalesced.increment();
+        }
+        return true;
+    }
+
+    /**
+     * 记录已发送的模块版本
+     */
+    synchronized void sent(String moduleName, long revision, int bytes) {
+        var module = unackedModules.computeIfAbsent(moduleName, e -> new long[2]);
+        module[0] = revision;
+        module[1] += bytes;
+        unacked += bytes;
+        if (unacked > highWaterMark && !paused) {
+            paused = true;
+            progressNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * @return 最后发送还没有确认的模块版本，没有时为-1
+     */
+    synchronized long sentRevision(String moduleName) {
+        var module = unackedModules.get(moduleName);
+        return module == null ? -1 : module[0];
+    }
+
+    /**
+     * @return 恢复推送时需要推送的模块
+     */
+    synchronized List<String> acked(String moduleName, long revision) {
+        progressNanos = System.nanoTime();
+        var module = unackedModules.get(moduleName);
+        if (module != null && revision >= module[0]) {
+            unacked -= module[1];
+            unackedModules.remove(moduleName);
+        }
+        if (!paused || unacked > lowWaterMark) {
+            return List.of();
+        }
+        paused = false;
+        var drain = List.copyOf(pending);
+        pending.clear();
+        return drain;
+    }
+
+    /**
+     * session断开，丢弃等待推送的模块
+     */
+    synchronized void close() {
+        if (!pending.isEmpty()) {
+            dropped.increment(pending.size());
+            pending.clear();
+        }
+        unackedModules.clear();
+        unacked = 0;
+    }
+
+    /**
+     * @return 暂停后超过确认超时没有收到确认
+     */
+    synchronized boolean stalled(long now) {
+        return paused && now - progressNanos >= ackTimeoutNanos;
+    }
+
+    /**
+     * @return 等待推送的模块数
+     */
+    synchronized int pending() {
+        return pending.size();
+    }
+
+    synchronized boolean paused() {
+        return paused;
+    }
+}
@@ -0,0 +1,172 @@
+package org.alps.rocky.server.core;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 断开连接的实例先标记为可疑，宽限期内使用相同实例ID重连时直接恢复，不修改注册中心；
+ * 超过宽限期仍未重连才删除实例
+ */
+@Slf4j
+public class SuspectInstances {
+
+    private final long graceMillis;
+    private final Map<String, Suspect> suspects = new ConcurrentHashMap<>();
+    /**
+     * 正在从注册中心删除的实例
+     */
+    private final Map<String, CompletableFuture<Void>> removing = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("rocky-suspect-instances").daemon().factory());
+
+    /**
+     * @param grace 宽限期，小于等于0时断开后立即删除
+     */
+    public SuspectInstances(Duration grace) {
+        this.graceMillis = grace.toMillis();
+    }
+
+    /**
+     * 标记实例为可疑
+     *
+     * @param info    实例的注册信息，为空时立即删除
+     * @param removal 宽限期结束后删除实例
+     */
+    void suspect(String namespace, String instanceId, RegisterInstanceInfo info, Removal removal) {
+        var key = key(namespace, instanceId);
+        if (graceMillis <= 0 || info == null) {
+            remove(key, removal);
+            return;
+        }
+        var suspect = new Suspect(info, removal);
+        var previous = suspects.put(key, suspect);
+        if (previous != null) {
+            previous.cancel();
+        }
+        try {
+            suspect.future = scheduler.schedule(() -> expire(key, suspect), graceMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception ex) {
+            expire(key, suspect);
+        }
+    }
+
+    /**
+     * 实例重连
+     *
+     * @return 宽限期内重连时返回之前的注册信息，否则返回null
+     */
+    RegisterInstanceInfo recover(String namespace, String instanceId) {
+        var suspect = suspects.remove(key(namespace, instanceId));
+        if (suspect == null) {
+            return null;
+        }
+        suspect.cancel();
+        return suspect.info;
+    }
+
+    /**
+     * @return 实例正在删除时，删除完成后完成，避免删除晚于重新注册执行
+     */
+    CompletableFuture<Void> removed(String namespace, String instanceId) {
+        return removing.getOrDefault(key(namespace, instanceId), CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * @return 宽限期内的实例数
+     */
+    public int size() {
+        return suspects.size();
+    }
+
+    /**
+     * 路由关闭时实例的临时节点随Zookeeper会话一起删除，这里不需要再删除
+     */
+    public void close() {
+        scheduler.shutdownNow();
+        suspects.clear();
+    }
+
+    /**
+     * 在map的锁内只登记删除，重连时要么恢复实例，要么能看到正在进行的删除。
+     * 删除注册中心的实例在锁外执行
+     */
+    private void expire(String key, Suspect suspect) {
+        var done = new CompletableFuture<Void>();
+        var claimed = new AtomicBoolean();
+        suspects.computeIfPresent(key, (k, v) -> {
+            if (v != suspect) {
+                return v;
+            }
+            removing.put(key, done);
+            claimed.set(true);
+            return null;
+        });
+        if (claimed.get()) {
+            start(suspect.removal).whenComplete((v, ex) -> {
+                removing.remove(key, done);
+                done.complete(null);
+            });
+        }
+    }
+
+    private void remove(String key, Removal removal) {
+        var future = start(removal);
+        if (!future.isDone()) {
+            removing.put(key, future);
+            future.whenComplete((v, ex) -> removing.remove(key, future));
+        }
+    }
+
+    /**
+     * @return 删除完成后完成，不会失败
+     */
+    private static CompletableFuture<Void> start(Removal removal) {
+        try {
+            return removal.remove().handle((v, ex) -> {
+                if (ex != null) {
+                    log.error("remove instance error", ex);
+                }
+                return null;
+            });
+        } catch (Exception ex) {
+            log.error("remove instance error", ex);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private static String key(String namespace, String instanceId) {
+        return namespace + "/" + instanceId;
+    }
+
+    @FunctionalInterface
+    interface Removal {
+        CompletableFuture<?> remove();
+    }
+
+    private static class Suspect {
+        private final RegisterInstanceInfo info;
+        private final Removal removal;
+        private volatile ScheduledFuture<?> future;
+
+        Suspect(RegisterInstanceInfo info, Removal removal) {
+            this.info = info;
+            this.removal = removal;
+        }
+
+        void cancel() {
+            var f = future;
+            if (f != null) {
+                f.cancel(false);
+            }
+        }
+    }
+}
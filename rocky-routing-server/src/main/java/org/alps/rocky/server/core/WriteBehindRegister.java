@@ -0,0 +1,244 @@
+package org.alps.rocky.server.core;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 心跳数据先写入内存表，只有上报数据变化或超过最大延迟时才批量写入注册中心
+ */
+@Slf4j
+public class WriteBehindRegister implements Register {
+
+    private final RegistryBackend delegate;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    /**
+     * 保证批量写入和立即写入按取得状态的顺序提交，注册中心按提交顺序执行，避免旧数据覆盖新数据
+     */
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("rocky-heartbeat-flusher").daemon().factory());
+    private final long maxStalenessNanos;
+    private final int maxBatchSize;
+
+    public WriteBehindRegister(RegistryBackend delegate, Duration flushInterval, Duration maxStaleness,
+                               int maxBatchSize) {
+        this.delegate = delegate;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        long interval = flushInterval.toMillis();
+        this.flusher.scheduleWithFixedDelay(this::flushAndWait, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public CompletableFuture<Void> registerInstance(RegisterInstanceInfo info) {
+        return delegate.registerInstance(info)
+                .thenRun(() -> entries.put(key(info.namespace(), info.instanceInfo().instanceId()), new Entry(info)));
+    }
+
+    /**
+     * 激活状态变化立即写入，已知实例的模块时不需要先读取节点
+     */
+    @Override
+    public CompletableFuture<Void> updateInstance(String namespace, String instanceId, Map<String, String> extra, boolean active) {
+        var entry = entries.get(key(namespace, instanceId));
+        if (entry == null) {
+            return delegate.updateInstance(namespace, instanceId, extra, active);
+        }
+        return writeNow(entry, () -> entry.update(extra, active));
+    }
+
+    /**
+     * 断开后重连的实例立即写入，清除断开标记
+     */
+    @Override
+    public CompletableFuture<Void> updateInstance(String namespace, String instanceId, Map<String, String> extra) {
+        var entry = entries.get(key(namespace, instanceId));
+        if (entry == null) {
+            return delegate.updateInstance(namespace, instanceId, extra);
+        }
+        if (entry.heartbeat(extra)) {
+            return writeNow(entry, entry::state);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * 断开的实例不再批量写入，避免清除断开标记
+     */
+    @Override
+    public CompletableFuture<Void> suspectInstance(String namespace, String instanceId) {
+        var entry = entries.get(key(namespace, instanceId));
+        writeLock.lock();
+        try {
+            if (entry != null) {
+                entry.suspect();
+            }
+            return delegate.suspectInstance(namespace, instanceId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private CompletableFuture<Void> writeNow(Entry entry, Supplier<InstanceState> update) {
+        CompletableFuture<Void> future;
+        long now = System.nanoTime();
+        InstanceState state;
+        writeLock.lock();
+        try {
+            state = update.get();
+            future = delegate.updateInstances(List.of(state));
+        } finally {
+            writeLock.unlock();
+        }
+        return future.thenRun(() -> entry.flushed(state.extra(), now));
+    }
+
+    @Override
+    public CompletableFuture<Void> removeInstance(String namespace, String instanceId) {
+        entries.remove(key(namespace, instanceId));
+        writeLock.lock();
+        try {
+            return delegate.removeInstance(namespace, instanceId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 将需要更新的实例批量写入
+     *
+     * @return 所有批次写入完成
+     */
+    CompletableFuture<Void> flush() {
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        writeLock.lock();
+        try {
+            long now = System.nanoTime();
+            List<Entry> dirty = new ArrayList<>();
+            List<InstanceState> states = new ArrayList<>();
+            for (Entry entry : entries.values()) {
+                var state = entry.stateToFlush(now, maxStalenessNanos);
+                if (state == null) {
+                    continue;
+                }
+                dirty.add(entry);
+                states.add(state);
+                if (states.size() >= maxBatchSize) {
+                    futures.add(write(dirty, states, now));
+                    dirty = new ArrayList<>();
+                    states = new ArrayList<>();
+                }
+            }
+            if (!states.isEmpty()) {
+                futures.add(write(dirty, states, now));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * 等待上一次写入完成后再开始下一次，避免重复写入同一批实例
+     */
+    private void flushAndWait() {
+        try {
+            flush().get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            log.error("flush heartbeat error", ex);
+        }
+    }
+
+    private CompletableFuture<Void> write(List<Entry> dirty, List<InstanceState> states, long now) {
+        return delegate.updateInstances(states).thenRun(() -> {
+            for (int i = 0; i < dirty.size(); i++) {
+                dirty.get(i).flushed(states.get(i).extra(), now);
+            }
+        });
+    }
+
+    public void close() {
+        flusher.shutdown();
+        flushAndWait();
+    }
+
+    private static String key(String namespace, String instanceId) {
+        return namespace + "/" + instanceId;
+    }
+
+    private static class Entry {
+        private final RegisterInstanceInfo info;
+        private Map<String, String> extra = Collections.emptyMap();
+        private Map<String, String> flushedExtra = Collections.emptyMap();
+        private boolean active;
+        private boolean heartbeatSinceFlush;
+        private boolean suspect;
+        private long lastFlushNanos;
+
+        Entry(RegisterInstanceInfo info) {
+            this.info = info;
+            this.lastFlushNanos = System.nanoTime();
+        }
+
+        /**
+         * @return 实例是否断开后重连
+         */
+        synchronized boolean heartbeat(Map<String, String> extra) {
+            this.extra = extra;
+            this.heartbeatSinceFlush = true;
+            var recovered = suspect;
+            suspect = false;
+            return recovered;
+        }
+
+        synchronized void suspect() {
+            this.suspect = true;
+        }
+
+        synchronized InstanceState state() {
+            return new InstanceState(info.namespace(), info.instanceInfo(), info.modules(), extra, active);
+        }
+
+        /**
+         * 激活状态变化
+         *
+         * @return 需要立即写入的状态
+         */
+        synchronized InstanceState update(Map<String, String> extra, boolean active) {
+            this.extra = extra;
+            this.active = active;
+            this.heartbeatSinceFlush = true;
+            this.suspect = false;
+            return new InstanceState(info.namespace(), info.instanceInfo(), info.modules(), extra, active);
+        }
+
+        /**
+         * 批量写入后更新状态，写入期间收到的新心跳保留到下次写入
+         */
+        synchronized void flushed(Map<String, String> extra, long now) {
+            this.flushedExtra = extra;
+            this.heartbeatSinceFlush = this.extra != extra;
+            this.lastFlushNanos = now;
+        }
+
+        /**
+         * @return 需要写入的状态，不需要写入时返回null
+         */
+        synchronized InstanceState stateToFlush(long now, long maxStalenessNanos) {
+            if (!heartbeatSinceFlush || suspect) {
+                return null;
+            }
+            if (Objects.equals(extra, flushedExtra) && now - lastFlushNanos < maxStalenessNanos) {
+                return null;
+            }
+            return new InstanceState(info.namespace(), info.instanceInfo(), info.modules(), extra, active);
+        }
+    }
+}
@@ -1,22 +1,34 @@
 package org.alps.rocky.server.core;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import org.alps.rocky.server.common.Jsons;
 import org.alps.rocky.server.common.PathUtils;
 import org.alps.rocky.server.config.RockyServerProperties;
 import org.apache.zookeeper.*;
 import org.apache.zookeeper.data.ACL;
+import org.apache.zookeeper.data.Stat;
 
 import java.net.Inet4Address;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
-public class ZookeeperRegister implements Register, ServerRegister {
+public class ZookeeperRegister implements RegistryBackend {
+
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+    private static final byte[] EMPTY = new byte[0];
 
     /**
      * 模块注册根路径
@@ -26,201 +38,901 @@ public class ZookeeperRegister implements Register, ServerRegister {
      * 实例化的根路径
      */
     private final String instanceRoot;
+    /**
+     * 会话过期后替换为新的客户端
+     */
     @Getter
-    private final ZooKeeper zooKeeper;
+    private volatile ZooKeeper zooKeeper;
+    private volatile AsyncZooKeeper asyncZooKeeper;
+    /**
+     * 已经存在的父节点
+     */
+    private final Set<String> knownParents = ConcurrentHashMap.newKeySet();
     private final ModuleNotification moduleNotification;
     private final RockyServerProperties properties;
+    private final ModuleMirror mirror;
+    private final ModuleNodeCodec codec;
+    /**
+     * 合并模块变化后推送，不占用Zookeeper的事件线程
+     */
+    private final ModuleChangeCoalescer coalescer;
+    /**
+     * 按命名空间分片，不分片时为空
+     */
+    private final NamespaceSharding sharding;
+    private final RegisterRouter self;
+    private final String routesRoot;
+    private final String routePath;
+    private final Watcher moduleWatcher = this::watchModuleChange;
+    private final Watcher routesWatcher = this::routesChanged;
+    /**
+     * 路由列表，由路由节点的持久监听更新，查询时不需要读取Zookeeper
+     */
+    private volatile RouterSnapshot routers = RouterSnapshot.of(List.of());
+    /**
+     * 最后发布的负载，重新注册路由节点时写入
+     */
+    private volatile RouterLoad load = RouterLoad.EMPTY;
+    /**
+     * 通过当前路由注册的实例最后写入的状态，会话过期后按这些状态重新创建临时节点
+     */
+    private final Map<String, InstanceState> registered = new ConcurrentHashMap<>();
+    /**
+     * 当前会话拥有的实例节点最后写入后的版本，写入时带上版本，节点被其他路由接管后不会被覆盖
+     */
+    private final Map<String, Integer> versions = new ConcurrentHashMap<>();
+    private final Timer recoveryTimer;
+    private final ExecutorService recoveryExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("rocky-zookeeper-recovery").daemon().factory());
+    private volatile boolean disconnected;
+    private volatile boolean closed;
 
-    public ZookeeperRegister(RockyServerProperties properties,
-                             ModuleNotification moduleNotification) throws Exception {
+    public ZookeeperRegister(RockyServerProperties properties, ModuleNotification moduleNotification,
+                             RoutingMetrics metrics) throws Exception {
         this.properties = properties;
         var zookeeper = properties.getZookeeper();
         this.moduleRoot = PathUtils.of(zookeeper.getWatchRoot(), "infos/modules");
+        this.routesRoot = PathUtils.of(zookeeper.getWatchRoot(), "routes");
         this.instanceRoot = PathUtils.of(zookeeper.getWatchRoot(), "infos/instances");
         this.moduleNotification = moduleNotification;
-        this.zooKeeper = new ZooKeeper(zookeeper.getHosts(), zookeeper.getSessionTimeout(), event -> {
-        });
+        this.codec = new ModuleNodeCodec(zookeeper.getNodeFormat());
+        this.recoveryTimer = metrics.sessionRecovery();
+        this.zooKeeper = new ZooKeeper(zookeeper.getHosts(), zookeeper.getSessionTimeout(), this::stateChanged);
+        this.asyncZooKeeper = new AsyncZooKeeper(this.zooKeeper, zookeeper.getMaxInFlight());
+        createRoots();
+        var notification = properties.getNotification();
+        this.coalescer = new ModuleChangeCoalescer(notification.getDebounce(), notification.getMaxDelay(),
+                this::notifyModuleChange, metrics);
+        this.self = new RegisterRouter(Inet4Address.getLocalHost().getHostAddress(), properties.getPort());
+        this.routePath = PathUtils.of(routesRoot, self.ip() + "_" + self.port());
+        var shardingProperties = properties.getSharding();
+        this.mirror = new ModuleMirror(this::getZooKeeper, this.moduleRoot, this.instanceRoot,
+                !shardingProperties.isEnabled(), coalescer::changed);
+        moduleNotification.moduleSource(mirror::module);
+        if (shardingProperties.isEnabled()) {
+            this.sharding = new NamespaceSharding(this::getZooKeeper, this.mirror, this.moduleWatcher, this.moduleRoot,
+                    this.instanceRoot, this.routesRoot, this.self, shardingProperties.getReplicas(),
+                    shardingProperties.getVirtualNodes(), moduleNotification::hasSessions);
+            this.sharding.start().get(zookeeper.getSessionTimeout(), TimeUnit.MILLISECONDS);
+        } else {
+            this.sharding = null;
+            this.zooKeeper.addWatch(moduleRoot, moduleWatcher, AddWatchMode.PERSISTENT_RECURSIVE);
+            this.zooKeeper.addWatch(instanceRoot, moduleWatcher, AddWatchMode.PERSISTENT_RECURSIVE);
+            this.mirror.load().get(zookeeper.getSessionTimeout(), TimeUnit.MILLISECONDS);
+        }
+        this.zooKeeper.addWatch(routesRoot, routesWatcher, AddWatchMode.PERSISTENT_RECURSIVE);
+        refreshRouters().get(zookeeper.getSessionTimeout(), TimeUnit.MILLISECONDS);
+    }
+
+    private void createRoots() throws Exception {
         if (this.zooKeeper.exists(this.moduleRoot, false) == null) {
             create(this.moduleRoot, new byte[0], ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
         }
         if (this.zooKeeper.exists(this.instanceRoot, false) == null) {
             create(this.instanceRoot, new byte[0], ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
         }
-        this.zooKeeper.addWatch(moduleRoot, this::watchModuleChange, AddWatchMode.PERSISTENT_RECURSIVE);
+        knownParents.add(this.moduleRoot);
+        knownParents.add(this.instanceRoot);
     }
 
-    void watchModuleChange(WatchedEvent event) {
-        if (event == null || event.getState() == Watcher.Event.KeeperState.Closed) {
-            return;
+    /**
+     * 重新连接后全量加载镜像，断开期间持久监听的事件不会补发；会话过期后创建新的会话
+     */
+    void stateChanged(WatchedEvent event) {
+        if (event.getState() == Watcher.Event.KeeperState.Expired) {
+            disconnected = false;
+            if (!closed) {
+                recoveryExecutor.execute(this::recoverSession);
+            }
+        } else if (event.getState() == Watcher.Event.KeeperState.Disconnected) {
+            disconnected = true;
+        } else if (event.getState() == Watcher.Event.KeeperState.SyncConnected && disconnected && mirror != null) {
+            disconnected = false;
+            log.info("zookeeper reconnected, reload modules");
+            refreshRouters().exceptionally(ex -> {
+                log.error("reload routers error", ex);
+                return null;
+            });
+            (sharding == null ? mirror.load() : sharding.reload()).exceptionally(ex -> {
+                log.error("reload modules error", ex);
+                return null;
+            });
         }
-        var path = event.getPath().substring(this.moduleRoot.length() + 1);
-        var array = path.split("/");
-        if (array.length < 2) {
-            return;
+    }
+
+    /**
+     * 会话过期后临时节点和监听都已被删除，创建新的会话后重新注册路由、添加监听、加载镜像，
+     * 再按本地记录的状态批量重新创建所有实例的节点。失败时等待后重试
+     */
+    private void recoverSession() {
+        long start = System.nanoTime();
+        log.warn("zookeeper session expired, recreate session");
+        while (!closed) {
+            try {
+                recreateSession();
+                long nanos = System.nanoTime() - start;
+                recoveryTimer.record(nanos, TimeUnit.NANOSECONDS);
+                log.info("zookeeper session recovered in {} ms, {} instances replayed",
+                        TimeUnit.NANOSECONDS.toMillis(nanos), registered.size());
+                return;
+            } catch (Exception ex) {
+                log.error("recover zookeeper session error, retry later", ex);
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void recreateSession() throws Exception {
+        var zookeeper = properties.getZookeeper();
+        var oldZooKeeper = this.zooKeeper;
+        var oldAsyncZooKeeper = this.asyncZooKeeper;
+        this.zooKeeper = new ZooKeeper(zookeeper.getHosts(), zookeeper.getSessionTimeout(), this::stateChanged);
+        this.asyncZooKeeper = new AsyncZooKeeper(this.zooKeeper, zookeeper.getMaxInFlight());
+        oldZooKeeper.close();
+        oldAsyncZooKeeper.close();
+        knownParents.clear();
+        versions.clear();
+        createRoots();
+        registerSelf();
+        if (sharding == null) {
+            this.zooKeeper.addWatch(moduleRoot, moduleWatcher, AddWatchMode.PERSISTENT_RECURSIVE);
+            this.zooKeeper.addWatch(instanceRoot, moduleWatcher, AddWatchMode.PERSISTENT_RECURSIVE);
+            mirror.load().get(zookeeper.getSessionTimeout(), TimeUnit.MILLISECONDS);
+        } else {
+            sharding.recover().get(zookeeper.getSessionTimeout(), TimeUnit.MILLISECONDS);
         }
-        var namespace = array[0];
-        var module = array[1];
+        this.zooKeeper.addWatch(routesRoot, routesWatcher, AddWatchMode.PERSISTENT_RECURSIVE);
+        refreshRouters().get(zookeeper.getSessionTimeout(), TimeUnit.MILLISECONDS);
+        replay().join();
+    }
+
+    /**
+     * 按本地记录的状态重新创建所有实例的节点，每批实例合并为一次multi请求。
+     * 每批完成后检查其中的实例是否已被删除
+     */
+    private CompletableFuture<Void> replay() {
+        int batchSize = Math.max(1, properties.getZookeeper().getReplayBatchSize());
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        List<InstanceState> batch = new ArrayList<>(batchSize);
+        for (InstanceState state : registered.values()) {
+            batch.add(state);
+            if (batch.size() >= batchSize) {
+                futures.add(replay(batch));
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            futures.add(replay(batch));
+        }
+        return allOf(futures);
+    }
+
+    private CompletableFuture<Void> replay(List<InstanceState> states) {
+        List<Op> ops = new ArrayList<>();
+        List<String> parents = new ArrayList<>();
         try {
-            if (event.getType() == Watcher.Event.EventType.NodeChildrenChanged) {
-                notifyModuleChange(namespace, module);
-            } else if (event.getType() == Watcher.Event.EventType.NodeDeleted) {
-                notifyModuleDelete(namespace, module);
+            for (InstanceState state : states) {
+                ops.addAll(createOps(state, parents));
+            }
+        } catch (Exception ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        return ensureParents(parents)
+                .thenCompose(v -> asyncZooKeeper.multi(ops))
+                .<CompletableFuture<Void>>handle((results, ex) -> {
+                    if (ex == null) {
+                        states.forEach(state -> versions.put(key(state), 0));
+                        return DONE;
+                    }
+                    if (!(unwrap(ex) instanceof KeeperException)) {
+                        return CompletableFuture.failedFuture(unwrap(ex));
+                    }
+                    // 批量中有实例已经重新注册，逐个实例重试，忽略已存在的实例
+                    log.warn("replay instances failed, retry one by one. {}", unwrap(ex).getMessage());
+                    List<CompletableFuture<?>> futures = new ArrayList<>(states.size());
+                    for (InstanceState state : states) {
+                        try {
+                            futures.add(asyncZooKeeper.multi(createOps(state, new ArrayList<>())).handle((r, e) -> {
+                                if (e == null) {
+                                    versions.put(key(state), 0);
+                                    return null;
+                                }
+                                if (unwrap(e) instanceof KeeperException.NodeExistsException) {
+                                    return null;
+                                }
+                                throw new CompletionException(unwrap(e));
+                            }));
+                        } catch (Exception e) {
+                            futures.add(CompletableFuture.failedFuture(e));
+                        }
+                    }
+                    return allOf(futures);
+                })
+                .thenCompose(e -> e)
+                .thenCompose(v -> removeStale(states));
+    }
+
+    /**
+     * 重放期间删除的实例，删除时节点还没有重新创建，重放又创建了节点，这里再删除一次
+     */
+    private CompletableFuture<Void> removeStale(List<InstanceState> states) {
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (InstanceState state : states) {
+            var namespace = state.namespace();
+            var instanceId = state.instanceInfo().instanceId();
+            if (!registered.containsKey(key(namespace, instanceId))) {
+                log.info("instance removed during replay, delete again. {} {}", namespace, instanceId);
+                futures.add(removeInstance(namespace, instanceId));
+            }
+        }
+        return allOf(futures);
+    }
+
+    /**
+     * 路由节点增删时重新读取列表，节点数据变化时只读取变化的路由的负载
+     */
+    private void routesChanged(WatchedEvent event) {
+        if (event.getState() == Watcher.Event.KeeperState.Closed || event.getPath() == null) {
+            return;
+        }
+        CompletableFuture<Void> future = switch (event.getType()) {
+            case NodeCreated, NodeDeleted -> refreshRouters();
+            case NodeDataChanged -> event.getPath().equals(routesRoot) ? DONE : refreshLoad(event.getPath());
+            default -> DONE;
+        };
+        future.exceptionally(ex -> {
+            if (!closed) {
+                log.error("reload routers error", ex);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 读取路由节点和节点中的负载后替换快照，回调在事件线程中按顺序执行，不会用旧的列表覆盖新的列表
+     */
+    private CompletableFuture<Void> refreshRouters() {
+        var future = new CompletableFuture<Void>();
+        var zooKeeper = this.zooKeeper;
+        zooKeeper.getChildren(routesRoot, false, (rc, path, ctx, children) -> {
+            if (rc == KeeperException.Code.NONODE.intValue()) {
+                children = Collections.emptyList();
+            } else if (rc != KeeperException.Code.OK.intValue()) {
+                future.completeExceptionally(KeeperException.create(KeeperException.Code.get(rc), path));
+                return;
+            }
+            var names = children.stream().sorted().toList();
+            if (names.isEmpty()) {
+                this.routers = RouterSnapshot.of(List.of());
+                future.complete(null);
+                return;
             }
+            var loads = new RouterLoad[names.size()];
+            var remaining = new int[]{names.size()};
+            for (int i = 0; i < names.size(); i++) {
+                int index = i;
+                zooKeeper.getData(PathUtils.of(routesRoot, names.get(i)), false, (code, p, c, data, stat) -> {
+                    if (code == KeeperException.Code.OK.intValue()) {
+                        loads[index] = decodeLoad(p, data);
+                    } else if (code != KeeperException.Code.NONODE.intValue()) {
+                        future.completeExceptionally(KeeperException.create(KeeperException.Code.get(code), p));
+                    }
+                    if (--remaining[0] > 0 || future.isDone()) {
+                        return;
+                    }
+                    // 读取期间被删除的路由不在列表中，删除事件会再次刷新
+                    List<RegisterRouter> list = new ArrayList<>();
+                    Map<RegisterRouter, RouterLoad> map = new HashMap<>();
+                    for (int j = 0; j < names.size(); j++) {
+                        if (loads[j] != null) {
+                            var router = router(names.get(j));
+                            list.add(router);
+                            map.put(router, loads[j]);
+                        }
+                    }
+                    this.routers = RouterSnapshot.of(list, map);
+                    future.complete(null);
+                }, null);
+            }
+        }, null);
+        return future;
+    }
+
+    private CompletableFuture<Void> refreshLoad(String path) {
+        var future = new CompletableFuture<Void>();
+        this.zooKeeper.getData(path, false, (rc, p, ctx, data, stat) -> {
+            if (rc == KeeperException.Code.OK.intValue()) {
+                this.routers = this.routers.withLoad(router(p.substring(p.lastIndexOf('/') + 1)), decodeLoad(p, data));
+            } else if (rc != KeeperException.Code.NONODE.intValue()) {
+                future.completeExceptionally(KeeperException.create(KeeperException.Code.get(rc), p));
+                return;
+            }
+            future.complete(null);
+        }, null);
+        return future;
+    }
+
+    private static RouterLoad decodeLoad(String path, byte[] data) {
+        try {
+            return ModuleNodeCodec.decodeLoad(data);
         } catch (Exception ex) {
-            log.error("notify error", ex);
+            log.warn("decode router load error, path: {}", path, ex);
+            return RouterLoad.EMPTY;
         }
+    }
 
+    void watchModuleChange(WatchedEvent event) {
+        if (event == null || event.getState() == Watcher.Event.KeeperState.Closed) {
+            return;
+        }
+        mirror.process(event);
     }
 
+    @Override
     public void close() throws Exception {
+        closed = true;
+        recoveryExecutor.shutdownNow();
+        if (sharding != null) {
+            sharding.close();
+        }
         zooKeeper.close();
+        asyncZooKeeper.close();
+        coalescer.close();
     }
 
+    /**
+     * 实例节点和所有模块节点在一次multi中创建，客户端不会看到只注册了一部分的实例
+     */
     @Override
-    public void registerInstance(RegisterInstanceInfo info) throws Exception {
-        for (String module : info.modules()) {
-            registerModule(new RegisterModuleInfo(info.namespace(), module, info.instanceInfo(), Collections.emptyMap(), false));
+    public CompletableFuture<Void> registerInstance(RegisterInstanceInfo info) {
+        if (sharding != null) {
+            sharding.touch(info.namespace());
+        }
+        return registerInstance(info, true);
+    }
+
+    private CompletableFuture<Void> registerInstance(RegisterInstanceInfo info, boolean retry) {
+        var state = new InstanceState(info.namespace(), info.instanceInfo(), info.modules(), Collections.emptyMap(), false);
+        List<Op> ops;
+        List<String> parents = new ArrayList<>(info.modules().size() + 1);
+        try {
+            ops = createOps(state, parents);
+        } catch (Exception ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        if (ops.isEmpty()) {
+            return DONE;
         }
+        return ensureParents(parents)
+                .thenCompose(v -> asyncZooKeeper.multi(ops))
+                .<CompletableFuture<Void>>handle((results, ex) -> {
+                    if (ex == null) {
+                        registered.put(key(state), state);
+                        versions.put(key(state), 0);
+                        return DONE;
+                    }
+                    var cause = unwrap(ex);
+                    if (cause instanceof KeeperException.NodeExistsException) {
+                        return takeOver(state, ops);
+                    }
+                    if (retry && cause instanceof KeeperException.NoNodeException) {
+                        // 缓存的容器节点已被Zookeeper清理，重新创建后重试一次
+                        parents.forEach(knownParents::remove);
+                        return registerInstance(info, false);
+                    }
+                    return CompletableFuture.failedFuture(cause);
+                })
+                .thenCompose(e -> e);
+    }
+
+    /**
+     * 实例在其他路由的宽限期内重连到当前路由时，旧节点还属于其他路由的会话，在一次multi中删除旧节点并创建新节点。
+     * 只接管已被原路由标记为断开的节点，节点属于当前会话或者原路由还连着实例时是重复注册
+     */
+    private CompletableFuture<Void> takeOver(InstanceState state, List<Op> createOps) {
+        var instancePath = instancePath(state);
+        long sessionId = zooKeeper.getSessionId();
+        return asyncZooKeeper.getNode(instancePath).thenCompose(node -> {
+            List<Op> ops = new ArrayList<>();
+            if (node != null) {
+                long owner = node.stat().getEphemeralOwner();
+                if (owner == sessionId) {
+                    return CompletableFuture.failedFuture(new IllegalStateException("节点已存在"));
+                }
+                InstanceState previous;
+                try {
+                    previous = ModuleNodeCodec.decode(node.data());
+                } catch (Exception ex) {
+                    return CompletableFuture.failedFuture(ex);
+                }
+                if (!previous.suspect()) {
+                    return CompletableFuture.failedFuture(new IllegalStateException("节点已存在"));
+                }
+                for (String module : previous.modules()) {
+                    ops.add(Op.delete(PathUtils.of(this.moduleRoot, state.namespace(), module,
+                            state.instanceInfo().instanceId()), -1));
+                }
+                ops.add(Op.delete(instancePath, node.stat().getVersion()));
+                log.info("take over instance nodes from session 0x{}. {}", Long.toHexString(owner), instancePath);
+            }
+            ops.addAll(createOps);
+            return asyncZooKeeper.multi(ops).<Void>handle((results, ex) -> {
+                if (ex != null) {
+                    // 同时有其他路由接管或者重新注册
+                    throw new CompletionException(unwrap(ex) instanceof KeeperException
+                            ? new IllegalStateException("节点已存在") : unwrap(ex));
+                }
+                registered.put(key(state), state);
+                versions.put(key(state), 0);
+                return null;
+            });
+        });
+    }
+
+    /**
+     * 创建实例所有节点的操作，实例节点保存实例的数据，模块节点是没有数据的成员标记
+     *
+     * @param parents 收集需要的父节点
+     */
+    private List<Op> createOps(InstanceState state, List<String> parents) throws Exception {
+        if (state.modules().isEmpty()) {
+            return Collections.emptyList();
+        }
+        var instanceId = state.instanceInfo().instanceId();
+        List<Op> ops = new ArrayList<>(state.modules().size() + 1);
+        parents.add(PathUtils.of(this.instanceRoot, state.namespace()));
+        ops.add(Op.create(PathUtils.of(this.instanceRoot, state.namespace(), instanceId), codec.encode(state),
+                ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.EPHEMERAL));
+        for (String module : state.modules()) {
+            var moduleParent = PathUtils.of(this.moduleRoot, state.namespace(), module);
+            parents.add(moduleParent);
+            ops.add(Op.create(PathUtils.of(moduleParent, instanceId), EMPTY, ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.EPHEMERAL));
+        }
+        return ops;
     }
 
     @Override
-    public void updateInstance(String namespace, String instanceId, Map<String, String> extra, boolean active) throws Exception {
-        updateInstance0(namespace, instanceId, extra, active, false);
+    public CompletableFuture<Void> updateInstance(String namespace, String instanceId, Map<String, String> extra, boolean active) {
+        return updateInstance0(namespace, instanceId, extra, active, false);
     }
 
     @Override
-    public void updateInstance(String namespace, String instanceId, Map<String, String> extra) throws Exception {
-        updateInstance0(namespace, instanceId, extra, false, true);
+    public CompletableFuture<Void> updateInstance(String namespace, String instanceId, Map<String, String> extra) {
+        return updateInstance0(namespace, instanceId, extra, false, true);
     }
 
-    public void updateInstance0(String namespace, String instanceId, Map<String, String> extra, boolean active, boolean ignoreActive) throws Exception {
-        var instancePath = PathUtils.of(this.instanceRoot, namespace, instanceId);
-        if (this.zooKeeper.exists(instancePath, false) == null) {
-            return;
+    /**
+     * 只写入实例节点，和实例的模块数无关。当前状态依次从本地记录、镜像、Zookeeper中取得
+     */
+    public CompletableFuture<Void> updateInstance0(String namespace, String instanceId, Map<String, String> extra, boolean active, boolean ignoreActive) {
+        var state = registered.get(key(namespace, instanceId));
+        if (state == null) {
+            state = mirror.instance(namespace, instanceId);
         }
-        var children = this.zooKeeper.getChildren(instancePath, false);
-        if (children == null || children.isEmpty()) {
-            return;
+        if (state == null) {
+            return readInstance(namespace, instanceId).thenCompose(e -> e == null ? DONE
+                    : writeInstance(e, extra, active, ignoreActive));
         }
-        for (String child : children) {
-            var path = PathUtils.of(instancePath, child);
-            var data = Jsons.MAPPER.readValue(this.zooKeeper.getData(path, false, null), RegisterModuleInfo.class);
-            data = new RegisterModuleInfo(data.namespace(), data.moduleName(), data.instanceInfo(), extra, ignoreActive ? data.active() : active);
-            var modulePath = PathUtils.of(this.moduleRoot, namespace, data.moduleName(), instanceId);
-            var bytes = Jsons.MAPPER.writeValueAsBytes(data);
-            this.zooKeeper.setData(modulePath, bytes, -1);
-            this.zooKeeper.setData(path, bytes, -1);
+        return writeInstance(state, extra, active, ignoreActive);
+    }
+
+    /**
+     * @return 实例节点的数据，不存在时返回null
+     */
+    private CompletableFuture<InstanceState> readInstance(String namespace, String instanceId) {
+        return asyncZooKeeper.getData(PathUtils.of(this.instanceRoot, namespace, instanceId)).thenApply(bytes -> {
+            if (bytes == null) {
+                return null;
+            }
+            try {
+                return ModuleNodeCodec.decode(bytes);
+            } catch (Exception ex) {
+                throw new CompletionException(ex);
+            }
+        });
+    }
+
+    private CompletableFuture<Void> writeInstance(InstanceState state, Map<String, String> extra, boolean active, boolean ignoreActive) {
+        var data = new InstanceState(state.namespace(), state.instanceInfo(), state.modules(), extra,
+                ignoreActive ? state.active() : active);
+        registered.computeIfPresent(key(data), (k, v) -> data);
+        try {
+            return setOwned(data, codec.encode(data));
+        } catch (Exception ex) {
+            return CompletableFuture.failedFuture(ex);
         }
     }
 
-    void registerModule(RegisterModuleInfo info) throws Exception {
-        // todo 方法原子化？
-        var modulePath = PathUtils.of(this.moduleRoot, info.namespace(), info.moduleName(), info.instanceInfo().instanceId());
-        var instancePath = PathUtils.of(this.instanceRoot, info.namespace(), info.instanceInfo().instanceId(), info.moduleName());
-        if (this.zooKeeper.exists(modulePath, false) != null) {
-            // module exist
-            throw new IllegalStateException("节点已存在");
+    /**
+     * 实例断开时在节点中写入标记，宽限期内实例重连到其他路由时可以接管节点。本地记录不变，会话过期时按原状态重放
+     */
+    @Override
+    public CompletableFuture<Void> suspectInstance(String namespace, String instanceId) {
+        var state = registered.get(key(namespace, instanceId));
+        if (state == null) {
+            return DONE;
         }
+        var data = new InstanceState(state.namespace(), state.instanceInfo(), state.modules(), state.extra(),
+                state.active(), true);
+        try {
+            return setOwned(data, codec.encode(data));
+        } catch (Exception ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
 
-        var data = Jsons.MAPPER.writeValueAsBytes(info);
-        create(modulePath, data, ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.EPHEMERAL);
-        create(instancePath, data, ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.EPHEMERAL);
+    /**
+     * 按最后写入的版本写入实例节点。版本不一致或者未知时重新读取节点，节点仍属于当前会话则按读到的版本重试，
+     * 已被其他路由接管时不再写入，并且不再重放这个实例
+     */
+    private CompletableFuture<Void> setOwned(InstanceState state, byte[] data) {
+        var key = key(state);
+        var path = instancePath(state);
+        var version = versions.get(key);
+        var future = version == null ? CompletableFuture.<Stat>failedFuture(new KeeperException.BadVersionException(path))
+                : asyncZooKeeper.setData(path, data, version);
+        return future.<CompletableFuture<Void>>handle((stat, ex) -> {
+            if (ex == null) {
+                versions.put(key, stat.getVersion());
+                return DONE;
+            }
+            if (!(unwrap(ex) instanceof KeeperException.BadVersionException)) {
+                return CompletableFuture.failedFuture(unwrap(ex));
+            }
+            long sessionId = zooKeeper.getSessionId();
+            return asyncZooKeeper.getNode(path).thenCompose(node -> {
+                if (node == null) {
+                    return CompletableFuture.failedFuture(new KeeperException.NoNodeException(path));
+                }
+                if (node.stat().getEphemeralOwner() != sessionId) {
+                    registered.remove(key);
+                    versions.remove(key);
+                    log.warn("instance node is owned by session 0x{}, skip writing. {}",
+                            Long.toHexString(node.stat().getEphemeralOwner()), path);
+                    return CompletableFuture.failedFuture(new IllegalStateException("节点已被其他路由接管"));
+                }
+                return asyncZooKeeper.setData(path, data, node.stat().getVersion())
+                        .thenAccept(s -> versions.put(key, s.getVersion()));
+            });
+        }).thenCompose(e -> e);
     }
 
+    private String instancePath(InstanceState state) {
+        return PathUtils.of(this.instanceRoot, state.namespace(), state.instanceInfo().instanceId());
+    }
 
+    /**
+     * 批量写入实例状态，每个实例只写入实例节点，已知版本的实例合并为一次multi请求，其他实例逐个写入
+     */
     @Override
-    public void removeInstance(String namespace, String instanceId) throws Exception {
-        // todo 方法原子化？
-        var instancePath = PathUtils.of(this.instanceRoot, namespace, instanceId);
-        if (this.zooKeeper.exists(instancePath, false) == null) {
-            return;
+    public CompletableFuture<Void> updateInstances(List<InstanceState> states) {
+        List<Op> ops = new ArrayList<>();
+        List<InstanceState> batched = new ArrayList<>(states.size());
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        try {
+            for (InstanceState state : states) {
+                registered.computeIfPresent(key(state), (k, v) -> state);
+                var version = versions.get(key(state));
+                if (version == null) {
+                    futures.add(updateOne(state));
+                } else {
+                    ops.add(Op.setData(instancePath(state), codec.encode(state), version));
+                    batched.add(state);
+                }
+            }
+        } catch (Exception ex) {
+            return CompletableFuture.failedFuture(ex);
         }
-        var children = this.zooKeeper.getChildren(instancePath, false);
-        if (children == null || children.isEmpty()) {
-            this.zooKeeper.delete(instancePath, -1);
-            return;
+        if (ops.isEmpty()) {
+            return allOf(futures);
         }
+        futures.add(asyncZooKeeper.multi(ops).<CompletableFuture<Void>>handle((results, ex) -> {
+            if (ex == null) {
+                for (int i = 0; i < results.size(); i++) {
+                    if (results.get(i) instanceof OpResult.SetDataResult result) {
+                        versions.put(key(batched.get(i)), result.getStat().getVersion());
+                    }
+                }
+                return DONE;
+            }
+            if (!(unwrap(ex) instanceof KeeperException)) {
+                return CompletableFuture.failedFuture(unwrap(ex));
+            }
+            // 批量中有实例已被删除或者接管，逐个实例重试，忽略不存在的实例
+            log.warn("batch update instances failed, retry one by one. {}", unwrap(ex).getMessage());
+            List<CompletableFuture<?>> retries = new ArrayList<>(batched.size());
+            for (InstanceState state : batched) {
+                retries.add(updateOne(state));
+            }
+            return allOf(retries);
+        }).thenCompose(e -> e));
+        return allOf(futures);
+    }
 
-        for (String module : children) {
-            removeModule(namespace, module, instanceId);
-            var modulePath = PathUtils.of(instancePath, module);
-            this.zooKeeper.delete(modulePath, -1);
+    private CompletableFuture<Void> updateOne(InstanceState state) {
+        try {
+            return setOwned(state, codec.encode(state)).exceptionally(e -> {
+                if (unwrap(e) instanceof KeeperException.NoNodeException) {
+                    return null;
+                }
+                throw new CompletionException(unwrap(e));
+            });
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
         }
-        this.zooKeeper.delete(instancePath, -1);
     }
 
-    void removeModule(String namespace, String module, String instanceId) throws Exception {
-        var modulePath = PathUtils.of(this.moduleRoot, namespace, module, instanceId);
-        if (this.zooKeeper.exists(modulePath, false) == null) {
-            return;
-        }
-        this.zooKeeper.delete(modulePath, -1);
-        // 如果服务没有实例，则删除节点
-        var children = this.zooKeeper.getChildren(PathUtils.of(this.moduleRoot, namespace, module), false);
-        if (children == null || children.isEmpty()) {
-            this.zooKeeper.delete(PathUtils.of(this.moduleRoot, namespace, module), -1);
-            return;
+    /**
+     * 读取实例节点中的模块后在一次multi中删除实例的所有节点，再删除没有实例的模块节点。
+     * 节点已经被其他路由接管时不删除
+     */
+    @Override
+    public CompletableFuture<Void> removeInstance(String namespace, String instanceId) {
+        registered.remove(key(namespace, instanceId));
+        versions.remove(key(namespace, instanceId));
+        var instancePath = PathUtils.of(this.instanceRoot, namespace, instanceId);
+        long sessionId = zooKeeper.getSessionId();
+        var future = asyncZooKeeper.getNode(instancePath).thenCompose(node -> {
+            if (node == null || node.stat().getEphemeralOwner() != sessionId) {
+                return DONE;
+            }
+            InstanceState state;
+            try {
+                state = ModuleNodeCodec.decode(node.data());
+            } catch (Exception ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+            var modules = state.modules();
+            List<Op> ops = new ArrayList<>(modules.size() + 1);
+            for (String module : modules) {
+                ops.add(Op.delete(PathUtils.of(this.moduleRoot, namespace, module, instanceId), -1));
+            }
+            ops.add(Op.delete(instancePath, node.stat().getVersion()));
+            return asyncZooKeeper.multi(ops)
+                    .<CompletableFuture<Void>>handle((results, ex) -> {
+                        if (ex == null) {
+                            return DONE;
+                        }
+                        if (!(unwrap(ex) instanceof KeeperException)) {
+                            return CompletableFuture.failedFuture(unwrap(ex));
+                        }
+                        // 部分节点已不存在(例如会话过期)或者已被其他路由接管，逐个删除仍属于当前会话的节点
+                        log.warn("remove instance failed, delete owned nodes one by one. {}", unwrap(ex).getMessage());
+                        List<CompletableFuture<?>> futures = new ArrayList<>(ops.size());
+                        for (Op op : ops) {
+                            futures.add(deleteOwned(op.getPath(), sessionId));
+                        }
+                        return allOf(futures);
+                    })
+                    .thenCompose(e -> e)
+                    .thenCompose(v -> {
+                        List<CompletableFuture<?>> futures = new ArrayList<>(modules.size());
+                        for (String module : modules) {
+                            futures.add(removeModule(namespace, module));
+                        }
+                        return allOf(futures);
+                    });
+        });
+        if (sharding == null) {
+            return future;
         }
+        return future.whenComplete((v, ex) -> sharding.release(namespace));
     }
 
     /**
-     * 模块更新
+     * 重新读取节点，节点仍属于指定会话时按读到的版本删除
      */
-    void notifyModuleChange(String namespace, String module) throws Exception {
+    private CompletableFuture<Void> deleteOwned(String path, long sessionId) {
+        return asyncZooKeeper.getNode(path).thenCompose(node -> {
+            if (node == null || node.stat().getEphemeralOwner() != sessionId) {
+                return DONE;
+            }
+            return asyncZooKeeper.delete(path, node.stat().getVersion()).exceptionally(ex -> {
+                if (unwrap(ex) instanceof KeeperException.NoNodeException
+                        || unwrap(ex) instanceof KeeperException.BadVersionException) {
+                    return null;
+                }
+                throw new CompletionException(unwrap(ex));
+            });
+        });
+    }
+
+    /**
+     * 如果模块没有实例，则删除模块节点
+     */
+    CompletableFuture<Void> removeModule(String namespace, String module) {
         var modulePath = PathUtils.of(this.moduleRoot, namespace, module);
-        if (this.zooKeeper.exists(modulePath, false) == null) {
-            return;
-        }
-        var children = this.zooKeeper.getChildren(modulePath, false);
-        if (children == null || children.isEmpty()) {
-            notifyModuleDelete(namespace, module);
-            return;
-        }
+        return asyncZooKeeper.delete(modulePath, -1)
+                .thenRun(() -> knownParents.remove(modulePath))
+                .exceptionally(ex -> {
+                    // 模块还有其他实例，或者已经被删除
+                    if (unwrap(ex) instanceof KeeperException.NotEmptyException
+                            || unwrap(ex) instanceof KeeperException.NoNodeException) {
+                        return null;
+                    }
+                    throw new CompletionException(unwrap(ex));
+                });
+    }
 
-        List<InstanceInfo> instances = new ArrayList<>();
-        for (String child : children) {
-            String path = PathUtils.of(modulePath, child);
-            var data = this.zooKeeper.getData(path, false, null);
-            if (data == null) {
-                continue;
-            }
-            var moduleInfo = Jsons.MAPPER.readValue(data, RegisterModuleInfo.class);
-            instances.add(moduleInfo.instanceInfo());
+    /**
+     * 模块更新，从镜像中取得模块的所有实例，不需要读取Zookeeper
+     */
+    void notifyModuleChange(String namespace, String module) {
+        moduleNotification.notifyModule(namespace, module, mirror.module(namespace, module));
+    }
+
+    /**
+     * 分片时不在镜像中的命名空间直接读取Zookeeper
+     */
+    @Override
+    @SneakyThrows
+    public Map<String, List<String>> moduleInfo(String namespace) {
+        if (mirror.mirrors(namespace)) {
+            return ModuleNodeCodec.toJson(mirror.namespace(namespace));
         }
-        moduleNotification.notifyModule(new ModuleNotifyInfo(namespace, module, Collections.unmodifiableList(instances), OpsType.Modify));
+        return ModuleNodeCodec.toJson(readNamespace(namespace)
+                .get(properties.getZookeeper().getSessionTimeout(), TimeUnit.MILLISECONDS));
     }
 
     /**
-     * 模块删除通知
+     * 读取命名空间下的所有实例节点，按实例的模块分组
      */
-    private void notifyModuleDelete(String namespace, String module) {
-        moduleNotification.notifyModule(new ModuleNotifyInfo(namespace, module, Collections.emptyList(), OpsType.Delete));
+    private CompletableFuture<Map<String, List<RegisterModuleInfo>>> readNamespace(String namespace) {
+        var zk = asyncZooKeeper;
+        return zk.getChildren(PathUtils.of(instanceRoot, namespace)).thenCompose(ids -> {
+            if (ids == null) {
+                return CompletableFuture.completedFuture(Collections.emptyMap());
+            }
+            List<CompletableFuture<byte[]>> futures = new ArrayList<>(ids.size());
+            for (String instanceId : ids) {
+                futures.add(zk.getData(PathUtils.of(instanceRoot, namespace, instanceId)));
+            }
+            return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(v -> {
+                Map<String, List<RegisterModuleInfo>> result = new HashMap<>();
+                for (CompletableFuture<byte[]> future : futures) {
+                    var data = future.join();
+                    // 读取期间删除的实例跳过
+                    if (data == null) {
+                        continue;
+                    }
+                    InstanceState state;
+                    try {
+                        state = ModuleNodeCodec.decode(data);
+                    } catch (Exception ex) {
+                        throw new CompletionException(ex);
+                    }
+                    for (String module : state.modules()) {
+                        result.computeIfAbsent(module, k -> new ArrayList<>()).add(new RegisterModuleInfo(namespace,
+                                module, state.instanceInfo(), state.extra(), state.active()));
+                    }
+                }
+                return result;
+            });
+        });
     }
 
     @Override
     @SneakyThrows
     public void registerSelf() {
-        var host = Inet4Address.getLocalHost().getHostAddress();
-        int port = properties.getPort();
-        var routePath = PathUtils.of(properties.getZookeeper().getWatchRoot(), "routes", host + "_" + port);
         if (this.zooKeeper.exists(routePath, false) != null) {
             return;
         }
-        create(routePath, new byte[0], ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.EPHEMERAL);
+        create(routePath, ModuleNodeCodec.encodeLoad(load), ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.EPHEMERAL);
+    }
+
+    /**
+     * 写入路由节点的数据，节点不存在时等待会话恢复后重新注册
+     */
+    @Override
+    public void publishLoad(RouterLoad load) {
+        this.load = load;
+        asyncZooKeeper.setData(routePath, ModuleNodeCodec.encodeLoad(load), -1).exceptionally(ex -> {
+            if (!closed && !(unwrap(ex) instanceof KeeperException.NoNodeException)) {
+                log.error("publish router load error", ex);
+            }
+            return null;
+        });
     }
 
-    @SneakyThrows
     @Override
     public List<RegisterRouter> all() {
-        var routePath = PathUtils.of(properties.getZookeeper().getWatchRoot(), "routes");
-        var children = this.zooKeeper.getChildren(routePath, false);
-        if (children == null || children.isEmpty()) {
-            return Collections.emptyList();
+        return routers.routers();
+    }
+
+    @Override
+    public RouterSnapshot routers() {
+        return routers;
+    }
+
+    /**
+     * 分片时只返回命名空间所属的路由
+     */
+    @Override
+    public List<RegisterRouter> owners(String namespace) {
+        return sharding == null ? all() : sharding.owners(namespace);
+    }
+
+    /**
+     * @param name 路由节点名，格式为 ip_port
+     */
+    static RegisterRouter router(String name) {
+        var array = name.split("_");
+        return new RegisterRouter(array[0], Integer.parseInt(array[1]));
+    }
+
+    /**
+     * 创建缺少的父节点，已创建过的节点缓存在本地，之后不再请求
+     * <p>
+     * 命名空间、模块、实例节点都是容器节点，没有子节点后由Zookeeper自动删除
+     */
+    private CompletableFuture<Void> ensureParents(List<String> parents) {
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (String parent : parents) {
+            if (!knownParents.contains(parent)) {
+                futures.add(ensureParent(parent));
+            }
         }
-        return children.stream()
-                .map(e -> e.split("_"))
-                .map(e -> new RegisterRouter(e[0], Integer.parseInt(e[1])))
-                .toList();
+        return futures.isEmpty() ? DONE : allOf(futures);
+    }
+
+    private CompletableFuture<Void> ensureParent(String path) {
+        if (knownParents.contains(path)) {
+            return DONE;
+        }
+        return asyncZooKeeper.create(path, new byte[0], ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.CONTAINER)
+                .<CompletableFuture<Void>>handle((name, ex) -> {
+                    var cause = ex == null ? null : unwrap(ex);
+                    if (cause == null || cause instanceof KeeperException.NodeExistsException) {
+                        knownParents.add(path);
+                        return DONE;
+                    }
+                    if (cause instanceof KeeperException.NoNodeException) {
+                        return ensureParent(path.substring(0, path.lastIndexOf('/')))
+                                .thenCompose(v -> ensureParent(path));
+                    }
+                    return CompletableFuture.failedFuture(cause);
+                })
+                .thenCompose(e -> e);
+    }
+
+    private static String key(InstanceState state) {
+        return key(state.namespace(), state.instanceInfo().instanceId());
+    }
+
+    private static String key(String namespace, String instanceId) {
+        return namespace + "/" + instanceId;
+    }
+
+    private static CompletableFuture<Void> allOf(List<CompletableFuture<?>> futures) {
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
     }
 
     void create(final String path, byte[] data, List<ACL> acl, CreateMode createMode) throws Exception {
@@ -1,20 +1,17 @@
 package org.alps.rocky.server.outer;
 
 import lombok.RequiredArgsConstructor;
-import org.alps.rocky.server.common.PathUtils;
-import org.alps.rocky.server.config.RockyServerProperties;
-import org.alps.rocky.server.core.RegisterRouter;
+import org.alps.rocky.server.core.RegistryBackend;
 import org.alps.rocky.server.core.ServerRegister;
-import org.alps.rocky.server.core.ZookeeperRegister;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -26,48 +23,34 @@ import java.util.Map;
 public class OuterController {
 
     private final ServerRegister serverRegister;
-    private final RockyServerProperties properties;
-    private final ZookeeperRegister zookeeperRegister;
+    private final RegistryBackend registryBackend;
 
     /**
-     * 获取所有可用服务器
+     * 获取所有可用服务器，指定命名空间时只返回命名空间所属的服务器，load为true时返回路由的负载
+     * <p>
+     * 返回本地缓存的路由列表，请求的If-None-Match和当前列表的ETag相同时返回304
      */
     @GetMapping("/rocky/routers")
-    public Flux<RegisterRouter> query(ServerWebExchange exchange) {
+    public Flux<?> query(@RequestParam(required = false) String namespace,
+                         @RequestParam(defaultValue = "false") boolean load, ServerWebExchange exchange) {
         // todo 做检查，类似IP白名单
-        return Flux.defer(() -> Flux.fromIterable(serverRegister.all()));
+        var snapshot = serverRegister.routers();
+        if (namespace != null && !namespace.isEmpty()) {
+            snapshot = snapshot.subset(serverRegister.owners(namespace));
+        }
+        if (exchange.checkNotModified(load ? snapshot.statusEtag() : snapshot.etag())) {
+            return Flux.empty();
+        }
+        return Flux.fromIterable(load ? snapshot.statuses() : snapshot.routers());
     }
 
+    /**
+     * 命名空间下所有模块的实例，从本地镜像读取，分片时不在镜像中的命名空间需要读取Zookeeper
+     */
     @GetMapping("/rocky/module/{namespace}")
-    public Mono<Map<String, List<String>>> moduleInfo(@PathVariable String namespace) throws Exception {
-        return Mono.create(sink -> {
-            var zooKeeper = zookeeperRegister.getZooKeeper();
-            var namespacePath = PathUtils.of(properties.getZookeeper().getWatchRoot(), "infos/modules", namespace);
-            List<String> children = null;
-            try {
-                children = zooKeeper.getChildren(namespacePath, false);
-                if (children == null || children.isEmpty()) {
-                    sink.success();
-                    return;
-                }
-                Map<String, List<String>> map = new HashMap<>();
-                for (String child : children) {
-                    List<String> ls = new ArrayList<>();
-                    var modulePath = PathUtils.of(namespacePath, child);
-                    var instanceChildren = zooKeeper.getChildren(modulePath, false);
-                    ;
-                    for (String instanceChild : instanceChildren) {
-                        var instancePath = PathUtils.of(modulePath, instanceChild);
-                        var data = zooKeeper.getData(instancePath, false, null);
-                        ls.add(new String(data));
-                    }
-                    map.put(child, ls);
-                }
-                sink.success(map);
-            } catch (Exception e) {
-                sink.error(new RuntimeException(e));
-            }
-
-        });
+    public Mono<Map<String, List<String>>> moduleInfo(@PathVariable String namespace) {
+        return Mono.fromSupplier(() -> registryBackend.moduleInfo(namespace))
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(e -> !e.isEmpty());
     }
 }
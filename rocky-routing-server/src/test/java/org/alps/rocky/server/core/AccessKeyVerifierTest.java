@@ -0,0 +1,70 @@
+package org.alps.rocky.server.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccessKeyVerifierTest {
+
+    @Test
+    void verify() {
+        var verifier = new AccessKeyVerifier(Map.of("k1", "secret"), null, 16, Duration.ofSeconds(30));
+        long future = System.currentTimeMillis() / 1000 + 3600;
+        var accessKey = AccessKeyVerifier.sign("k1", "secret", "game", future);
+        assertTrue(verifier.verify("game", accessKey));
+        // 缓存命中
+        assertTrue(verifier.verify("game", accessKey));
+        assertFalse(verifier.verify("other", accessKey));
+        assertFalse(verifier.verify("game", AccessKeyVerifier.sign("k1", "wrong", "game", future)));
+        assertFalse(verifier.verify("game", AccessKeyVerifier.sign("k2", "secret", "game", future)));
+        assertFalse(verifier.verify("game", AccessKeyVerifier.sign("k1", "secret", "game", 1)));
+        assertFalse(verifier.verify("game", "k1.0"));
+        assertFalse(verifier.verify("game", ""));
+        verifier.close();
+    }
+
+    @Test
+    void rotateKeyFile(@TempDir Path dir) throws Exception {
+        var keyFile = dir.resolve("keys.properties");
+        Files.writeString(keyFile, "k1=secret1\n");
+        var verifier = new AccessKeyVerifier(Map.of(), keyFile.toString(), 16, Duration.ofHours(1));
+        var oldKey = AccessKeyVerifier.sign("k1", "secret1", "game", 0);
+        var newKey = AccessKeyVerifier.sign("k2", "secret2", "game", 0);
+        assertTrue(verifier.verify("game", oldKey));
+        assertFalse(verifier.verify("game", newKey));
+
+        Files.writeString(keyFile, "k2=secret2\n");
+        Files.setLastModifiedTime(keyFile, FileTime.fromMillis(System.currentTimeMillis() + 1000));
+        verifier.reload();
+        // 移除的密钥即使已缓存也不能再使用
+        assertFalse(verifier.verify("game", oldKey));
+        assertTrue(verifier.verify("game", newKey));
+        verifier.close();
+    }
+
+    @Test
+    void reloadWhileVerifying(@TempDir Path dir) throws Exception {
+        var keyFile = dir.resolve("keys.properties");
+        Files.writeString(keyFile, "k1=secret1\n");
+        var verifier = new AccessKeyVerifier(Map.of(), keyFile.toString(), 16, Duration.ofHours(1));
+        var oldKey = AccessKeyVerifier.sign("k1", "secret1", "game", 0);
+        // 验证开始时读取的密钥
+        var verifying = verifier.keySet();
+
+        Files.writeString(keyFile, "k2=secret2\n");
+        Files.setLastModifiedTime(keyFile, FileTime.fromMillis(System.currentTimeMillis() + 1000));
+        verifier.reload();
+        // 重新加载之后才写入缓存的旧结果不影响新的密钥
+        assertTrue(verifying.verify("game", oldKey));
+        assertFalse(verifier.verify("game", oldKey));
+        verifier.close();
+    }
+}
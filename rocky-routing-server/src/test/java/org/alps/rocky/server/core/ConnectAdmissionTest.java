@@ -0,0 +1,44 @@
+package org.alps.rocky.server.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectAdmissionTest {
+
+    @Test
+    void queueAndReject() throws Exception {
+        var admission = new ConnectAdmission(1, 1, 1, Duration.ofSeconds(60));
+        assertTrue(admission.acquire(false).isDone());
+
+        var queued = admission.acquire(false);
+        assertFalse(queued.isDone());
+
+        var rejected = admission.acquire(false);
+        var ex = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(ConnectAdmission.AdmissionRejectedException.class, ex.getCause());
+
+        // 重连优先，挤掉排队的新实例
+        var reconnect = admission.acquire(true);
+        assertThrows(ExecutionException.class, queued::get);
+        reconnect.get(3, TimeUnit.SECONDS);
+        admission.close();
+    }
+
+    @Test
+    void reconnect() {
+        var admission = new ConnectAdmission(1, 1, 1, Duration.ofSeconds(60));
+        assertFalse(admission.isReconnect("ns", "1"));
+        admission.departed("ns", "1");
+        assertTrue(admission.isReconnect("ns", "1"));
+        // 被拒绝后重试时仍然优先
+        assertTrue(admission.isReconnect("ns", "1"));
+        admission.admitted("ns", "1");
+        assertFalse(admission.isReconnect("ns", "1"));
+        admission.close();
+    }
+}
@@ -0,0 +1,103 @@
+package org.alps.rocky.server.core;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.alps.rocky.core.proto.RoutingRegistry;
+import org.alps.rocky.server.config.RockyServerProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoryRegisterTest {
+
+    @Test
+    void registerUpdateRemove(@TempDir Path dir) throws Exception {
+        var register = create(dir, new SuspectInstances(Duration.ofHours(1)));
+        register.registerInstance(instance("1", List.of("User", "Order"))).join();
+        assertThrows(CompletionException.class, () -> register.registerInstance(instance("1", List.of("User"))).join());
+
+        register.updateInstance("ns", "1", Map.of("online", "1"), true).join();
+        var user = register.module("ns", "User");
+        assertEquals(1, user.size());
+        assertEquals(Map.of("online", "1"), user.get(0).extra());
+        assertTrue(user.get(0).active());
+        assertEquals(2, register.moduleInfo("ns").size());
+
+        register.removeInstance("ns", "1").join();
+        assertTrue(register.module("ns", "User").isEmpty());
+        assertTrue(register.moduleInfo("ns").isEmpty());
+        register.close();
+    }
+
+    @Test
+    void recoverAfterRestart(@TempDir Path dir) throws Exception {
+        var register = create(dir, new SuspectInstances(Duration.ofHours(1)));
+        register.registerInstance(instance("1", List.of("User"))).join();
+        register.registerInstance(instance("2", List.of("User"))).join();
+        register.snapshot();
+        // 快照之后的变更只在日志中
+        register.updateInstance("ns", "1", Map.of("online", "1"), true).join();
+        register.removeInstance("ns", "2").join();
+        register.registerInstance(instance("3", List.of("Order"))).join();
+        register.close();
+
+        var suspects = new SuspectInstances(Duration.ofHours(1));
+        var recovered = create(dir, suspects);
+        var user = recovered.module("ns", "User");
+        assertEquals(1, user.size());
+        assertEquals(Map.of("online", "1"), user.get(0).extra());
+        assertEquals(1, recovered.module("ns", "Order").size());
+        // 恢复的实例等待重连
+        assertEquals(2, suspects.size());
+        assertNotNull(suspects.recover("ns", "1"));
+        recovered.close();
+        suspects.close();
+    }
+
+    @Test
+    void appendOneRecordPerInstance(@TempDir Path dir) throws Exception {
+        var register = create(dir, new SuspectInstances(Duration.ofHours(1)));
+        register.registerInstance(instance("1", List.of("User", "Order", "Mail"))).join();
+        for (int i = 0; i < 5; i++) {
+            register.updateInstance("ns", "1", Map.of("online", String.valueOf(i))).join();
+        }
+        register.flush();
+        // 心跳每次只追加一条实例记录，和模块数无关
+        List<RoutingRegistry.RegistryRecord> records = new ArrayList<>();
+        try (var files = Files.list(dir)) {
+            for (Path file : files.filter(e -> e.getFileName().toString().startsWith("changes-")).toList()) {
+                try (var input = Files.newInputStream(file)) {
+                    RoutingRegistry.RegistryRecord record;
+                    while ((record = RoutingRegistry.RegistryRecord.parseDelimitedFrom(input)) != null) {
+                        records.add(record);
+                    }
+                }
+            }
+        }
+        assertEquals(6, records.size());
+        assertTrue(records.stream().allMatch(RoutingRegistry.RegistryRecord::hasInstance));
+        var last = records.get(5).getInstance();
+        assertEquals(List.of("User", "Order", "Mail"), last.getModulesList());
+        assertEquals(Map.of("online", "4"), last.getExtraMap());
+        register.close();
+    }
+
+    private static MemoryRegister create(Path dir, SuspectInstances suspects) throws Exception {
+        var properties = new RockyServerProperties();
+        properties.getRegister().setDataDir(dir.toString());
+        return new MemoryRegister(properties, new ModuleNotification(new RoutingMetrics(new SimpleMeterRegistry())),
+                new RoutingMetrics(new SimpleMeterRegistry()), suspects);
+    }
+
+    private static RegisterInstanceInfo instance(String id, List<String> modules) {
+        return new RegisterInstanceInfo("ns", new InstanceInfo("prod", id, "127.0.0.1", 8080, false), modules, Map.of());
+    }
+}
@@ -0,0 +1,48 @@
+package org.alps.rocky.server.core;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModuleChangeCoalescerTest {
+
+    @Test
+    void coalesceBurst() throws Exception {
+        var registry = new SimpleMeterRegistry();
+        List<String> pushed = Collections.synchronizedList(new ArrayList<>());
+        var coalescer = new ModuleChangeCoalescer(Duration.ofMillis(100), Duration.ofSeconds(5),
+                (namespace, module) -> pushed.add(namespace + "/" + module), new RoutingMetrics(registry));
+        for (int i = 0; i < 100; i++) {
+            coalescer.changed("ns", "A");
+            coalescer.changed("ns", "B");
+        }
+        Thread.sleep(500);
+        assertEquals(2, pushed.size());
+        assertTrue(pushed.containsAll(List.of("ns/A", "ns/B")));
+        assertEquals(200, registry.counter("rocky.notify.events").count());
+        assertEquals(2, registry.counter("rocky.notify.pushes").count());
+        coalescer.close();
+    }
+
+    @Test
+    void pushAfterMaxDelay() throws Exception {
+        List<String> pushed = Collections.synchronizedList(new ArrayList<>());
+        var coalescer = new ModuleChangeCoalescer(Duration.ofMillis(100), Duration.ofMillis(200),
+                (namespace, module) -> pushed.add(module), new RoutingMetrics(new SimpleMeterRegistry()));
+        // 持续变化时防抖时间一直不结束，到达最大延迟后也要推送
+        long end = System.currentTimeMillis() + 1000;
+        while (System.currentTimeMillis() < end) {
+            coalescer.changed("ns", "A");
+            Thread.sleep(10);
+        }
+        assertTrue(pushed.size() >= 3, "pushed " + pushed.size());
+        coalescer.close();
+    }
+}
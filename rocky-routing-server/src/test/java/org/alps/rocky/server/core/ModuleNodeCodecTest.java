@@ -0,0 +1,38 @@
+package org.alps.rocky.server.core;
+
+import org.alps.rocky.server.common.Jsons;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModuleNodeCodecTest {
+
+    private final InstanceState info = new InstanceState("game",
+            new InstanceInfo("prod", "i1", "10.0.0.1", 7788, true), List.of("User", "Order"), Map.of("load", "12"), true);
+
+    @Test
+    void protobuf() throws Exception {
+        var bytes = new ModuleNodeCodec(NodeFormat.PROTOBUF).encode(info);
+        assertEquals(ModuleNodeCodec.MAGIC, bytes[0]);
+        assertEquals(ModuleNodeCodec.VERSION, bytes[1]);
+        assertTrue(bytes.length < Jsons.MAPPER.writeValueAsBytes(info).length);
+        assertEquals(info, ModuleNodeCodec.decode(bytes));
+    }
+
+    @Test
+    void json() throws Exception {
+        var bytes = new ModuleNodeCodec(NodeFormat.JSON).encode(info);
+        assertArrayEquals(Jsons.MAPPER.writeValueAsBytes(info), bytes);
+        assertEquals(info, ModuleNodeCodec.decode(bytes));
+    }
+
+    @Test
+    void unknownVersion() throws Exception {
+        var bytes = new ModuleNodeCodec(NodeFormat.PROTOBUF).encode(info);
+        bytes[1] = 99;
+        assertThrows(IllegalArgumentException.class, () -> ModuleNodeCodec.decode(bytes));
+    }
+}
@@ -0,0 +1,137 @@
+package org.alps.rocky.server.core;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.alps.core.AlpsEnhancedSession;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ModuleNotificationTest {
+
+    @Test
+    void subscribers() {
+        var namespace = new ModuleNotification.Namespace("ns", new RoutingMetrics(new SimpleMeterRegistry()), 8,
+                512, 1024, Duration.ofSeconds(30), -1);
+        var all = session((String[]) null);
+        var user = session("User");
+        var none = session();
+        namespace.register("all", all);
+        namespace.register("user", user);
+        namespace.register("none", none);
+
+        assertEquals(Set.of(all, user), Set.copyOf(namespace.subscribers("User")));
+        assertEquals(Set.of(all), Set.copyOf(namespace.subscribers("Order")));
+
+        namespace.subscribe(none, List.of("Order"));
+        namespace.subscribe(all, List.of("Order"));
+        assertEquals(Set.of(all, none), Set.copyOf(namespace.subscribers("Order")));
+        assertEquals(2, namespace.subscribers("Order").size());
+
+        namespace.unregister("user");
+        namespace.unregister("none");
+        assertEquals(List.of(all), namespace.subscribers("User"));
+        assertEquals(List.of(all), namespace.subscribers("Order"));
+    }
+
+    @Test
+    void neverAckedSession() {
+        var namespace = new ModuleNotification.Namespace("ns", new RoutingMetrics(new SimpleMeterRegistry()), 8,
+                512, 1024, Duration.ofMinutes(1), -1);
+        var legacy = statefulSession();
+        namespace.register("legacy", legacy);
+        SessionOutbox outbox = legacy.attr(ModuleNotification.OUTBOX_KEY);
+
+        var modules = List.of("User", "Order", "Mail");
+        for (int i = 0; i < 100; i++) {
+            for (String module : modules) {
+                namespace.notifyModule(notifyInfo(module, i));
+            }
+        }
+        // 超过高水位后只记录模块名，和变化次数无关
+        assertTrue(outbox.paused());
+        assertEquals(modules.size(), outbox.pending());
+        verify(legacy, never()).close();
+    }
+
+    @Test
+    void closeStalledSession() {
+        var namespace = new ModuleNotification.Namespace("ns", new RoutingMetrics(new SimpleMeterRegistry()), 8,
+                512, 1024, Duration.ZERO, -1);
+        var legacy = statefulSession();
+        namespace.register("legacy", legacy);
+        SessionOutbox outbox = legacy.attr(ModuleNotification.OUTBOX_KEY);
+
+        int round = 0;
+        while (!outbox.paused()) {
+            namespace.notifyModule(notifyInfo("User", round++));
+        }
+        verify(legacy, never()).close();
+        // 暂停后超过确认超时，下次推送时断开
+        namespace.notifyModule(notifyInfo("User", round));
+        verify(legacy).close();
+    }
+
+    @Test
+    void skipUnchangedForUnackedSession() {
+        var registry = new SimpleMeterRegistry();
+        var namespace = new ModuleNotification.Namespace("ns", new RoutingMetrics(registry), 8,
+                512 * 1024, 1024 * 1024, Duration.ofMinutes(1), -1);
+        var session = statefulSession();
+        namespace.register("i1", session);
+        var fullFrames = registry.counter("rocky.notify.frames", "namespace", "ns", "kind", "full");
+
+        namespace.notifyModule(notifyInfo("User", 0));
+        assertEquals(1, fullFrames.count());
+        // 心跳刷新时实例没有变化，确认还没有到达也不再推送
+        namespace.notifyModule(notifyInfo("User", 0));
+        namespace.notifyModule(notifyInfo("User", 0));
+        assertEquals(1, fullFrames.count());
+
+        namespace.notifyModule(notifyInfo("User", 1));
+        assertEquals(2, fullFrames.count());
+    }
+
+    private static ModuleNotifyInfo notifyInfo(String module, int round) {
+        List<InstanceInfo> instances = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            instances.add(new InstanceInfo("prod", module + i, "127.0.0.1", 7000 + i, (round + i) % 2 == 0));
+        }
+        return new ModuleNotifyInfo("ns", module, instances, OpsType.Modify);
+    }
+
+    /**
+     * 保存属性的session，和客户端连接时一样设置确认的版本
+     */
+    private static AlpsEnhancedSession statefulSession() {
+        var session = mock(AlpsEnhancedSession.class);
+        Map<String, Object> attrs = new ConcurrentHashMap<>();
+        attrs.put(ModuleNotification.ACKED_KEY, new ConcurrentHashMap<String, Long>());
+        when(session.attr(anyString(), any())).thenAnswer(e -> {
+            attrs.put(e.getArgument(0), e.getArgument(1));
+            return session;
+        });
+        when(session.attr(anyString())).thenAnswer(e -> attrs.get(e.<String>getArgument(0)));
+        return session;
+    }
+
+    private static AlpsEnhancedSession session(String... modules) {
+        var session = mock(AlpsEnhancedSession.class);
+        if (modules != null) {
+            Set<String> subscriptions = ConcurrentHashMap.newKeySet();
+            subscriptions.addAll(List.of(modules));
+            when(session.attr(ModuleNotification.SUBSCRIPTIONS_KEY)).thenReturn(subscriptions);
+        }
+        return session;
+    }
+}
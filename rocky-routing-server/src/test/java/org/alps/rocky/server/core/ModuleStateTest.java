@@ -0,0 +1,96 @@
+package org.alps.rocky.server.core;
+
+import org.alps.rocky.core.proto.RoutingServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModuleStateTest {
+
+    @Test
+    void delta() {
+        var state = new ModuleState("ns", "User", 2);
+        assertTrue(state.apply(modify(instance("1", true), instance("2", true), instance("3", true))));
+        assertTrue(state.apply(modify(instance("1", true), instance("2", false), instance("3", true))));
+        assertEquals(2, state.revision());
+        // 实例没有变化时版本不变
+        assertFalse(state.apply(modify(instance("1", true), instance("2", false), instance("3", true))));
+
+        var delta = state.delta(1);
+        assertTrue(delta.getDelta());
+        assertEquals(1, delta.getBaseRevision());
+        assertEquals(2, delta.getRevision());
+        assertEquals(0, delta.getAddedCount());
+        assertEquals("2", delta.getUpdated(0).getInstanceId());
+        // 合并多个版本时保留最早的变化类型
+        assertEquals(3, state.delta(0).getAddedCount());
+        assertEquals(0, state.delta(0).getUpdatedCount());
+
+        assertTrue(state.apply(modify(instance("1", true), instance("4", true))));
+        delta = state.delta(2);
+        assertEquals(List.of("2", "3"), delta.getRemovedList().stream().sorted().toList());
+        assertEquals("4", delta.getAdded(0).getInstanceId());
+        // 只保留2个版本
+        assertTrue(state.canDelta(1));
+        assertFalse(state.canDelta(0));
+        assertFalse(state.canDelta(-1));
+        assertFalse(state.canDelta(3));
+        assertEquals(2, state.full().getInstancesCount());
+        // 版本不变时共用全量数据包
+        var push = state.fullPush(false);
+        assertSame(push, state.fullPush(false));
+        // 没有设置压缩阈值时不压缩
+        assertSame(push, state.fullPush(true));
+        state.apply(modify(instance("1", false), instance("4", true)));
+        assertNotSame(push, state.fullPush(false));
+    }
+
+    @Test
+    void compression() throws Exception {
+        var state = new ModuleState("ns", "User", 8, 1024);
+        state.apply(modify(instance("1", true)));
+        // 小于阈值时不压缩
+        assertSame(state.fullPush(false), state.fullPush(true));
+
+        state.apply(modify(IntStream.range(0, 200).mapToObj(i -> instance(String.valueOf(i), true))
+                .toArray(InstanceInfo[]::new)));
+        var plain = state.fullPush(false);
+        var compressed = state.fullPush(true);
+        assertSame(compressed, state.fullPush(true));
+        assertTrue(compressed.size() < plain.size() / 4);
+        var inflated = RoutingServer.ModuleInfo.parseFrom(new InflaterInputStream(
+                new ByteArrayInputStream(RoutingPackets.deflate(state.full().toByteArray()))));
+        assertEquals(state.full(), inflated);
+        assertEquals(plain.size(), state.full().getSerializedSize());
+    }
+
+    @Test
+    void deleteAndReappear() {
+        var state = new ModuleState("ns", "User", 8);
+        state.apply(modify(instance("1", true)));
+        assertTrue(state.apply(new ModuleNotifyInfo("ns", "User", List.of(), OpsType.Delete)));
+        assertFalse(state.apply(new ModuleNotifyInfo("ns", "User", List.of(), OpsType.Delete)));
+        assertEquals(RoutingServer.OpsType.Delete, state.full().getType());
+        assertEquals(2, state.revision());
+
+        // 删除后重新出现，之前的版本都需要全量
+        assertTrue(state.apply(modify(instance("1", true))));
+        assertFalse(state.canDelta(1));
+        assertFalse(state.canDelta(2));
+        assertTrue(state.apply(modify(instance("1", false))));
+        assertTrue(state.canDelta(3));
+    }
+
+    private static ModuleNotifyInfo modify(InstanceInfo... instances) {
+        return new ModuleNotifyInfo("ns", "User", List.of(instances), OpsType.Modify);
+    }
+
+    private static InstanceInfo instance(String id, boolean active) {
+        return new InstanceInfo("prod", id, "127.0.0.1", 8080, active);
+    }
+}
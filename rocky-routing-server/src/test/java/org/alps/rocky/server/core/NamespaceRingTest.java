@@ -0,0 +1,51 @@
+package org.alps.rocky.server.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NamespaceRingTest {
+
+    private static List<RegisterRouter> routers(int count) {
+        List<RegisterRouter> routers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            routers.add(new RegisterRouter("10.0.0." + i, 5678));
+        }
+        return routers;
+    }
+
+    @Test
+    void distinctReplicas() {
+        var ring = new NamespaceRing(routers(3), 100);
+        var owners = ring.owners("game", 2);
+        assertEquals(2, owners.size());
+        assertNotEquals(owners.get(0), owners.get(1));
+        // 副本数超过路由数时返回所有路由
+        assertEquals(3, ring.owners("game", 5).size());
+        assertTrue(new NamespaceRing(List.of(), 100).owners("game", 2).isEmpty());
+    }
+
+    @Test
+    void moveFewNamespacesWhenRouterAdded() {
+        var before = new NamespaceRing(routers(4), 100);
+        var after = new NamespaceRing(routers(5), 100);
+        Map<RegisterRouter, Integer> counts = new HashMap<>();
+        int moved = 0;
+        for (int i = 0; i < 10000; i++) {
+            var namespace = "namespace-" + i;
+            var owner = after.owners(namespace, 1).get(0);
+            counts.merge(owner, 1, Integer::sum);
+            if (!before.owners(namespace, 1).get(0).equals(owner)) {
+                moved++;
+            }
+        }
+        // 理想情况下移动1/5的命名空间
+        assertTrue(moved < 3000, "moved " + moved);
+        counts.values().forEach(e -> assertTrue(e > 1000 && e < 3000, "count " + e));
+    }
+}
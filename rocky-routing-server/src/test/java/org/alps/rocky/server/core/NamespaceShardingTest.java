@@ -0,0 +1,82 @@
+package org.alps.rocky.server.core;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.alps.rocky.server.config.RockyServerProperties;
+import org.apache.zookeeper.server.ServerCnxnFactory;
+import org.apache.zookeeper.server.ZooKeeperServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.net.Inet4Address;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NamespaceShardingTest {
+
+    @TempDir
+    File dataDir;
+    private ServerCnxnFactory factory;
+    private final List<ZookeeperRegister> registers = new ArrayList<>();
+
+    @BeforeEach
+    void startZookeeper() throws Exception {
+        factory = ServerCnxnFactory.createFactory(0, 100);
+        factory.startup(new ZooKeeperServer(dataDir, dataDir, 2000));
+    }
+
+    @AfterEach
+    void stopZookeeper() throws Exception {
+        for (ZookeeperRegister register : registers) {
+            register.close();
+        }
+        factory.shutdown();
+    }
+
+    @Test
+    void moduleInfoOfOtherRouters() throws Exception {
+        var router1 = register(8001);
+        router1.registerSelf();
+        for (int i = 0; i < 10; i++) {
+            var instance = new InstanceInfo("prod", "i" + i, "127.0.0.1", 7000 + i, false);
+            router1.registerInstance(new RegisterInstanceInfo("ns" + i, instance, List.of("A"), Map.of())).join();
+        }
+
+        // router2启动时只加载自己负责的命名空间
+        var router2 = register(8002);
+        var self = new RegisterRouter(Inet4Address.getLocalHost().getHostAddress(), 8002);
+        int others = 0;
+        for (int i = 0; i < 10; i++) {
+            var owners = router2.owners("ns" + i);
+            assertEquals(1, owners.size());
+            if (!owners.contains(self)) {
+                others++;
+            }
+            var modules = router2.moduleInfo("ns" + i);
+            assertEquals(List.of("A"), List.copyOf(modules.keySet()));
+            assertEquals(1, modules.get("A").size());
+            assertTrue(modules.get("A").get(0).contains("\"i" + i + "\""));
+        }
+        assertTrue(others > 0);
+        assertTrue(router2.moduleInfo("missing").isEmpty());
+    }
+
+    private ZookeeperRegister register(int port) throws Exception {
+        var properties = new RockyServerProperties();
+        properties.setPort(port);
+        properties.getZookeeper().setHosts("127.0.0.1:" + factory.getLocalPort());
+        properties.getZookeeper().setWatchRoot("/rocky");
+        properties.getZookeeper().setSessionTimeout(10000);
+        properties.getSharding().setEnabled(true);
+        properties.getSharding().setReplicas(1);
+        var metrics = new RoutingMetrics(new SimpleMeterRegistry());
+        var register = new ZookeeperRegister(properties, new ModuleNotification(metrics), metrics);
+        registers.add(register);
+        return register;
+    }
+}
@@ -0,0 +1,34 @@
+package org.alps.rocky.server.core;
+
+import org.alps.rocky.core.proto.RoutingCommon;
+import org.alps.rocky.core.proto.RoutingServer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class RoutingPacketsTest {
+
+    @Test
+    void sameBytesAsRoutingFrame() {
+        var state = new ModuleState("ns", "User", 32);
+        state.apply(new ModuleNotifyInfo("ns", "User",
+                List.of(new InstanceInfo("prod", "1", "127.0.0.1", 8080, true)), OpsType.Modify));
+        var moduleInfo = state.full();
+        for (var type : List.of(RoutingCommon.FrameType.S_ChangeService, RoutingCommon.FrameType.C_Connect)) {
+            var expected = RoutingCommon.RoutingFrame.newBuilder()
+                    .setType(type)
+                    .setFrame(moduleInfo.toByteString())
+                    .build()
+                    .toByteArray();
+            assertArrayEquals(expected, RoutingPackets.routingFrame(type, moduleInfo));
+        }
+        var expected = RoutingCommon.RoutingFrame.newBuilder()
+                .setType(RoutingCommon.FrameType.S_Error)
+                .build()
+                .toByteArray();
+        assertArrayEquals(expected, RoutingPackets.routingFrame(RoutingCommon.FrameType.S_Error,
+                RoutingServer.ErrorInfo.getDefaultInstance()));
+    }
+}
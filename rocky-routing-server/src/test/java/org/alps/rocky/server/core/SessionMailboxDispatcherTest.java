@@ -0,0 +1,147 @@
+package org.alps.rocky.server.core;
+
+import org.alps.core.AlpsSession;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SessionMailboxDispatcherTest {
+
+    @Test
+    void keepOrderPerSession() throws Exception {
+        var dispatcher = new SessionMailboxDispatcher(4, 10_000, 8, MailboxOverflowPolicy.DISCARD_NEWEST);
+        var first = mock(AlpsSession.class);
+        var second = mock(AlpsSession.class);
+        List<Integer> firstResult = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> secondResult = Collections.synchronizedList(new ArrayList<>());
+        var latch = new CountDownLatch(2);
+        for (int i = 0; i < 1000; i++) {
+            int index = i;
+            dispatcher.dispatch(first, () -> firstResult.add(index));
+            dispatcher.dispatch(second, () -> secondResult.add(index));
+        }
+        dispatcher.release(first, latch::countDown);
+        dispatcher.release(second, latch::countDown);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, firstResult.get(i));
+            assertEquals(i, secondResult.get(i));
+        }
+        dispatcher.close();
+    }
+
+    @Test
+    void discardWhenFull() throws Exception {
+        var dispatcher = new SessionMailboxDispatcher(1, 2, 8, MailboxOverflowPolicy.DISCARD_NEWEST);
+        var session = mock(AlpsSession.class);
+        var blocker = new CountDownLatch(1);
+        var other = mock(AlpsSession.class);
+        // 占住唯一的线程
+        dispatcher.dispatch(other, () -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 5; i++) {
+            int index = i;
+            dispatcher.dispatch(session, () -> result.add(index));
+        }
+        var latch = new CountDownLatch(1);
+        dispatcher.release(session, latch::countDown);
+        blocker.countDown();
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(0, 1), result);
+        dispatcher.close();
+    }
+
+    @Test
+    void keepUndiscardableWhenFull() throws Exception {
+        var dispatcher = new SessionMailboxDispatcher(1, 2, 8, MailboxOverflowPolicy.DISCARD_OLDEST);
+        var session = mock(AlpsSession.class);
+        var blocker = new CountDownLatch(1);
+        dispatcher.dispatch(mock(AlpsSession.class), () -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        List<String> result = Collections.synchronizedList(new ArrayList<>());
+        dispatcher.dispatchAsync(session, () -> complete(result, "connect"), false);
+        for (int i = 0; i < 3; i++) {
+            int index = i;
+            dispatcher.dispatch(session, () -> result.add("health" + index));
+        }
+        dispatcher.dispatchAsync(session, () -> complete(result, "batch"), false);
+        var latch = new CountDownLatch(1);
+        dispatcher.release(session, latch::countDown);
+        blocker.countDown();
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        // 只丢弃可丢弃的任务，连接和批量帧始终保留
+        assertEquals(List.of("connect", "batch"), result);
+        assertEquals(3, dispatcher.discarded());
+        dispatcher.close();
+    }
+
+    @Test
+    void ignoreAfterRelease() throws Exception {
+        var dispatcher = new SessionMailboxDispatcher(1, 16, 8, MailboxOverflowPolicy.DISCARD_NEWEST);
+        var session = mock(AlpsSession.class);
+        var latch = new CountDownLatch(1);
+        List<String> result = Collections.synchronizedList(new ArrayList<>());
+        dispatcher.release(session, latch::countDown);
+        dispatcher.dispatch(session, () -> result.add("late"));
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        // 邮箱删除后不再为已断开的session创建邮箱
+        when(session.isClose()).thenReturn(true);
+        dispatcher.dispatch(session, () -> result.add("closed"));
+        assertEquals(0, dispatcher.queueDepth());
+        var other = new CountDownLatch(1);
+        dispatcher.dispatch(mock(AlpsSession.class), other::countDown);
+        assertTrue(other.await(5, TimeUnit.SECONDS));
+        assertTrue(result.isEmpty());
+        dispatcher.close();
+    }
+
+    private static CompletableFuture<Void> complete(List<String> result, String value) {
+        result.add(value);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Test
+    void waitAsyncTask() throws Exception {
+        var dispatcher = new SessionMailboxDispatcher(1, 16, 8, MailboxOverflowPolicy.DISCARD_NEWEST);
+        var session = mock(AlpsSession.class);
+        var other = mock(AlpsSession.class);
+        var future = new CompletableFuture<Void>();
+        List<String> result = Collections.synchronizedList(new ArrayList<>());
+        dispatcher.dispatchAsync(session, () -> future);
+        dispatcher.dispatch(session, () -> result.add("next"));
+        // 等待异步任务时不占用线程，其他session可以继续执行
+        var latch = new CountDownLatch(1);
+        dispatcher.dispatch(other, latch::countDown);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(result.isEmpty());
+
+        var released = new CountDownLatch(1);
+        dispatcher.release(session, released::countDown);
+        future.complete(null);
+        assertTrue(released.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("next"), result);
+        dispatcher.close();
+    }
+}
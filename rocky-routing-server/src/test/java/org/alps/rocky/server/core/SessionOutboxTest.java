@@ -0,0 +1,75 @@
+package org.alps.rocky.server.core;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionOutboxTest {
+
+    @Test
+    void coalesceUntilAcked() {
+        var registry = new SimpleMeterRegistry();
+        var coalesced = registry.counter("coalesced");
+        var dropped = registry.counter("dropped");
+        var outbox = new SessionOutbox(100, 200, Duration.ofMinutes(1), coalesced, dropped);
+
+        // 还没有收到确认时也控制
+        outbox.sent("User", 1, 1000);
+        assertTrue(outbox.paused());
+        assertTrue(outbox.defer("User"));
+
+        assertEquals(List.of("User"), outbox.acked("User", 1));
+        assertFalse(outbox.paused());
+        outbox.sent("User", 2, 150);
+        outbox.sent("Order", 1, 100);
+        assertTrue(outbox.paused());
+        assertTrue(outbox.defer("User"));
+        assertTrue(outbox.defer("User"));
+        assertTrue(outbox.defer("Order"));
+        assertEquals(1, coalesced.count());
+
+        // 确认旧版本不释放
+        assertEquals(List.of(), outbox.acked("User", 1));
+        // 降到低水位后恢复，按变化顺序返回合并后的模块
+        assertEquals(List.of(), outbox.acked("Order", 1));
+        assertTrue(outbox.paused());
+        assertEquals(List.of("User", "Order"), outbox.acked("User", 2));
+        assertFalse(outbox.paused());
+
+        outbox.sent("User", 3, 300);
+        outbox.defer("User");
+        outbox.defer("Order");
+        outbox.close();
+        assertEquals(2, dropped.count());
+    }
+
+    @Test
+    void stalledWithoutAck() {
+        var registry = new SimpleMeterRegistry();
+        var outbox = new SessionOutbox(100, 200, Duration.ofSeconds(10), registry.counter("coalesced"),
+                registry.counter("dropped"));
+        long start = System.nanoTime();
+        outbox.sent("User", 1, 150);
+        assertFalse(outbox.stalled(start + TimeUnit.MINUTES.toNanos(1)));
+
+        outbox.sent("User", 2, 150);
+        assertTrue(outbox.paused());
+        // 不确认的客户端暂停后只记录模块名
+        for (int i = 0; i < 100; i++) {
+            outbox.defer("User");
+            outbox.defer("Order");
+        }
+        assertEquals(2, outbox.pending());
+        assertFalse(outbox.stalled(System.nanoTime()));
+        assertTrue(outbox.stalled(System.nanoTime() + TimeUnit.SECONDS.toNanos(11)));
+
+        // 收到确认后重新计时
+        outbox.acked("Order", 1);
+        assertFalse(outbox.stalled(System.nanoTime() + TimeUnit.SECONDS.toNanos(5)));
+    }
+}
@@ -0,0 +1,99 @@
+package org.alps.rocky.server.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuspectInstancesTest {
+
+    private final RegisterInstanceInfo info = new RegisterInstanceInfo("game",
+            new InstanceInfo("prod", "i1", "127.0.0.1", 7788, false), List.of("User"), Map.of());
+
+    @Test
+    void recoverInGrace() throws Exception {
+        var suspects = new SuspectInstances(Duration.ofMillis(200));
+        var removed = new AtomicInteger();
+        suspects.suspect("game", "i1", info, () -> {
+            removed.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        });
+        assertEquals(info, suspects.recover("game", "i1"));
+        Thread.sleep(400);
+        assertEquals(0, removed.get());
+        assertNull(suspects.recover("game", "i1"));
+        suspects.close();
+    }
+
+    @Test
+    void removeAfterGrace() throws Exception {
+        var suspects = new SuspectInstances(Duration.ofMillis(50));
+        var removed = new CountDownLatch(1);
+        suspects.suspect("game", "i1", info, () -> {
+            removed.countDown();
+            return CompletableFuture.completedFuture(null);
+        });
+        assertTrue(removed.await(5, TimeUnit.SECONDS));
+        assertNull(suspects.recover("game", "i1"));
+        assertEquals(0, suspects.size());
+        suspects.close();
+    }
+
+    @Test
+    void expireOutsideLock() throws Exception {
+        var suspects = new SuspectInstances(Duration.ofMillis(50));
+        var removal = new CompletableFuture<Void>();
+        var started = new CountDownLatch(1);
+        var claimed = new AtomicInteger(-1);
+        suspects.suspect("game", "i1", info, () -> {
+            // 删除开始时已经移出可疑实例，不再持有map的锁
+            claimed.set(suspects.size());
+            started.countDown();
+            return removal;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(0, claimed.get());
+        assertNull(suspects.recover("game", "i1"));
+        var removed = suspects.removed("game", "i1");
+        assertFalse(removed.isDone());
+        removal.complete(null);
+        // 删除的回调在定时线程上注册，可能晚于complete执行
+        removed.get(5, TimeUnit.SECONDS);
+        assertTrue(suspects.removed("game", "i1").isDone());
+        suspects.close();
+    }
+
+    @Test
+    void removeImmediatelyWithoutGrace() {
+        var suspects = new SuspectInstances(Duration.ZERO);
+        var removed = new AtomicInteger();
+        suspects.suspect("game", "i1", info, () -> {
+            removed.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        });
+        assertEquals(1, removed.get());
+        assertNull(suspects.recover("game", "i1"));
+        suspects.close();
+    }
+
+    @Test
+    void waitRemoval() {
+        var suspects = new SuspectInstances(Duration.ZERO);
+        var removal = new CompletableFuture<Void>();
+        suspects.suspect("game", "i1", info, () -> removal);
+        // 删除完成前重新注册需要等待
+        var removed = suspects.removed("game", "i1");
+        assertFalse(removed.isDone());
+        removal.complete(null);
+        assertTrue(removed.isDone());
+        assertTrue(suspects.removed("game", "i1").isDone());
+        suspects.close();
+    }
+}
@@ -0,0 +1,42 @@
+package org.alps.rocky.server.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class WriteBehindRegisterTest {
+
+    @Test
+    void onlyFlushChangedInstances() throws Exception {
+        var zookeeperRegister = mock(ZookeeperRegister.class);
+        when(zookeeperRegister.registerInstance(any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(zookeeperRegister.updateInstances(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+        var register = new WriteBehindRegister(zookeeperRegister, Duration.ofHours(1), Duration.ofHours(1), 100);
+        var instance = new InstanceInfo("prod", "1", "127.0.0.1", 8080, false);
+        register.registerInstance(new RegisterInstanceInfo("ns", instance, List.of("User"), Map.of())).join();
+
+        // 上报数据没有变化，不写入
+        register.updateInstance("ns", "1", Map.of());
+        register.flush().join();
+        verify(zookeeperRegister, never()).updateInstances(anyList());
+
+        register.updateInstance("ns", "1", Map.of("online", "1"));
+        register.updateInstance("ns", "1", Map.of("online", "2"));
+        register.flush().join();
+        verify(zookeeperRegister, times(1)).updateInstances(argThat(states -> states.size() == 1
+                && states.get(0).extra().equals(Map.of("online", "2"))));
+
+        register.updateInstance("ns", "1", Map.of("online", "2"));
+        register.flush().join();
+        verify(zookeeperRegister, times(1)).updateInstances(anyList());
+        register.close();
+    }
+}
@@ -1,12 +1,44 @@
 package org.alps.rocky.server.core;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.alps.rocky.server.common.PathUtils;
+import org.alps.rocky.server.config.RockyServerProperties;
+import org.apache.zookeeper.server.ServerCnxnFactory;
+import org.apache.zookeeper.server.ZooKeeperServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class ZookeeperRegisterTest {
 
+    @TempDir
+    File dataDir;
+    private ServerCnxnFactory factory;
+    private final List<ZookeeperRegister> registers = new ArrayList<>();
+
+    @BeforeEach
+    void startZookeeper() throws Exception {
+        factory = ServerCnxnFactory.createFactory(0, 100);
+        factory.startup(new ZooKeeperServer(dataDir, dataDir, 2000));
+    }
+
+    @AfterEach
+    void stopZookeeper() throws Exception {
+        for (ZookeeperRegister register : registers) {
+            register.close();
+        }
+        factory.shutdown();
+    }
+
     @Test
     void test() {
         assertEquals("/a/b/c", PathUtils.of("/a", "b/c"));
@@ -15,4 +47,72 @@ class ZookeeperRegisterTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void takeOverFromOtherRouter() throws Exception {
+        var router1 = register(8001);
+        var router2 = register(8002);
+        var zk = router1.getZooKeeper();
+        var instance = new InstanceInfo("prod", "i1", "127.0.0.1", 7000, false);
+        router1.registerInstance(new RegisterInstanceInfo("ns", instance, List.of("A", "B"), Map.of())).join();
+
+        // router1还连着实例时不能接管
+        var exists = assertThrows(CompletionException.class, () -> router2.registerInstance(
+                new RegisterInstanceInfo("ns", instance, List.of("A", "C"), Map.of())).join());
+        assertEquals("节点已存在", exists.getCause().getMessage());
+
+        // 实例在router1的宽限期内重连到router2，旧节点还属于router1的会话
+        router1.suspectInstance("ns", "i1").join();
+        router2.registerInstance(new RegisterInstanceInfo("ns", instance, List.of("A", "C"), Map.of())).join();
+        var stat = zk.exists("/rocky/infos/instances/ns/i1", false);
+        assertEquals(router2.getZooKeeper().getSessionId(), stat.getEphemeralOwner());
+        assertEquals(List.of("A", "C"), ModuleNodeCodec.decode(zk.getData("/rocky/infos/instances/ns/i1", false, null)).modules());
+        assertNull(zk.exists("/rocky/infos/modules/ns/B/i1", false));
+        assertNotNull(zk.exists("/rocky/infos/modules/ns/C/i1", false));
+
+        // 同一个路由重复注册仍然失败
+        var ex = assertThrows(CompletionException.class, () -> router2.registerInstance(
+                new RegisterInstanceInfo("ns", instance, List.of("A"), Map.of())).join());
+        assertEquals("节点已存在", ex.getCause().getMessage());
+
+        // router1不能覆盖router2接管的节点
+        var taken = assertThrows(CompletionException.class, () -> router1.updateInstance("ns", "i1", Map.of("k", "v")).join());
+        assertEquals("节点已被其他路由接管", taken.getCause().getMessage());
+        assertEquals(Map.of(), ModuleNodeCodec.decode(zk.getData("/rocky/infos/instances/ns/i1", false, null)).extra());
+
+        // router1的宽限期结束，不能删除router2接管的节点
+        router1.removeInstance("ns", "i1").join();
+        assertNotNull(zk.exists("/rocky/infos/instances/ns/i1", false));
+        assertNotNull(zk.exists("/rocky/infos/modules/ns/A/i1", false));
+
+        router2.removeInstance("ns", "i1").join();
+        assertNull(zk.exists("/rocky/infos/instances/ns/i1", false));
+        assertNull(zk.exists("/rocky/infos/modules/ns/A/i1", false));
+    }
+
+    @Test
+    void removeInstanceWithMissingNode() throws Exception {
+        var router = register(8001);
+        var zk = router.getZooKeeper();
+        var instance = new InstanceInfo("prod", "i1", "127.0.0.1", 7000, false);
+        router.registerInstance(new RegisterInstanceInfo("ns", instance, List.of("A", "B"), Map.of())).join();
+        router.updateInstance("ns", "i1", Map.of("k", "v")).join();
+        zk.delete("/rocky/infos/modules/ns/B/i1", -1);
+
+        // multi失败后逐个删除仍属于当前会话的节点
+        router.removeInstance("ns", "i1").join();
+        assertNull(zk.exists("/rocky/infos/instances/ns/i1", false));
+        assertNull(zk.exists("/rocky/infos/modules/ns/A/i1", false));
+    }
+
+    private ZookeeperRegister register(int port) throws Exception {
+        var properties = new RockyServerProperties();
+        properties.setPort(port);
+        properties.getZookeeper().setHosts("127.0.0.1:" + factory.getLocalPort());
+        properties.getZookeeper().setWatchRoot("/rocky");
+        properties.getZookeeper().setSessionTimeout(10000);
+        var metrics = new RoutingMetrics(new SimpleMeterRegistry());
+        var register = new ZookeeperRegister(properties, new ModuleNotification(metrics), metrics);
+        registers.add(register);
+        return register;
+    }
+}
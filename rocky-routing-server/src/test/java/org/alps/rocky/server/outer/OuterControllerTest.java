@@ -0,0 +1,53 @@
+package org.alps.rocky.server.outer;
+
+import org.alps.rocky.server.core.RegisterRouter;
+import org.alps.rocky.server.core.RegistryBackend;
+import org.alps.rocky.server.core.RouterLoad;
+import org.alps.rocky.server.core.RouterSnapshot;
+import org.alps.rocky.server.core.ServerRegister;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OuterControllerTest {
+
+    @Test
+    void notModified() {
+        var serverRegister = mock(ServerRegister.class);
+        var snapshot = RouterSnapshot.of(List.of(new RegisterRouter("10.0.0.1", 5678)));
+        when(serverRegister.routers()).thenReturn(snapshot);
+        var client = WebTestClient.bindToController(new OuterController(serverRegister, mock(RegistryBackend.class))).build();
+
+        client.get().uri("/rocky/routers").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", snapshot.etag())
+                .expectBody().jsonPath("$[0].ip").isEqualTo("10.0.0.1");
+        client.get().uri("/rocky/routers").header("If-None-Match", snapshot.etag()).exchange()
+                .expectStatus().isNotModified();
+        client.get().uri("/rocky/routers").header("If-None-Match", "\"0\"").exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void load() {
+        var serverRegister = mock(ServerRegister.class);
+        var router = new RegisterRouter("10.0.0.1", 5678);
+        var snapshot = RouterSnapshot.of(List.of(router)).withLoad(router, new RouterLoad(12, 0.25));
+        when(serverRegister.routers()).thenReturn(snapshot);
+        var client = WebTestClient.bindToController(new OuterController(serverRegister, mock(RegistryBackend.class))).build();
+
+        client.get().uri("/rocky/routers?load=true").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", snapshot.statusEtag())
+                .expectBody()
+                .jsonPath("$[0].sessions").isEqualTo(12)
+                .jsonPath("$[0].utilization").isEqualTo(0.25);
+        // 负载变化不影响不带负载的列表
+        client.get().uri("/rocky/routers").header("If-None-Match", RouterSnapshot.of(List.of(router)).etag()).exchange()
+                .expectStatus().isNotModified();
+    }
+}